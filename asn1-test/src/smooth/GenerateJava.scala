@@ -23,10 +23,9 @@ object GenerateJava extends Asn1Parser {
       file.isFile && file.name.endsWith(".asn1")
     }
     
-    var model = (JavaModel.empty /: children) { (model, child) =>
-      println("Loading: " + child.name)
-      model.load(child)
-    }.copy(namespace = Some("moo"))
+    children foreach { child => println("Loading: " + child.name) }
+    var model = JavaModel.empty.copy(namespace = Some("moo"), incremental = true, threads = Parallel.defaultThreads)
+      .loadAll(children.toList)
     
     model.modules foreach { case (name, module) =>
       module.types foreach { case (name, namedType) =>
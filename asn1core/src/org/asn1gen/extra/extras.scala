@@ -79,6 +79,27 @@ case class ExtraFile(file: File) {
     this.withPrintWriter { _.withIndentWriter(f) }
   }
   
+  /**
+   * Renders the file in memory and only writes it when the content differs
+   * from what is already on disk, leaving the timestamp of an unchanged file
+   * alone.  Returns whether the file was written.
+   */
+  def writeIfChanged(f: IndentWriter => Unit): Boolean = {
+    val writer = new java.io.StringWriter
+    writer.withIndentWriter(f)
+    val bytes = writer.toString.getBytes("UTF-8")
+    val unchanged = file.isFile && file.length == bytes.length && {
+      val existing = new Array[Byte](bytes.length)
+      val in = new java.io.DataInputStream(new java.io.FileInputStream(file))
+      try in.readFully(existing) finally in.close()
+      java.util.Arrays.equals(existing, bytes)
+    }
+    if (!unchanged) {
+      this.withOutputStream { _.write(bytes) }
+    }
+    !unchanged
+  }
+  
   def apply(path: String): File = new File(file, path)
 
   def openOutputStream[T](f: OutputStream => T): T = {
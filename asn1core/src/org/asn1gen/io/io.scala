@@ -6,43 +6,149 @@ import java.io.PrintStream
 import java.io.PrintWriter
 import java.io.Writer
 import java.io._
+import java.nio.ByteBuffer
 import scala.util.control.Breaks
 
 abstract class ByteStreamer(val length: Int) extends (List[Byte] => List[Byte]) {
-  def ::(byte: Byte) = new ByteStreamer(this.length + 1) {
-    def apply(tail: List[Byte]): List[Byte] = byte :: tail
-  }
+  def prependTo(builder: ByteBuilder): Unit
+  
+  def ::(byte: Byte): ByteStreamer = ByteStreamer.byte(byte & 0xff) ::: this
   
   def :::(head: ByteStreamer): ByteStreamer = {
     val tail = this
-    new ByteStreamer(tail.length + head.length) {
-      def apply(rest: List[Byte]): List[Byte] = head(tail(rest))
+    if (head.length == 0) {
+      tail
+    } else if (tail.length == 0) {
+      head
+    } else {
+      new ByteStreamer(head.length + tail.length) {
+        def prependTo(builder: ByteBuilder): Unit = {
+          tail.prependTo(builder)
+          head.prependTo(builder)
+        }
+      }
     }
   }
+  
+  def apply(tail: List[Byte]): List[Byte] = toByteArray.toList ::: tail
+  
+  def toBuilder: ByteBuilder = new ByteBuilder(length).prepend(this)
+  
+  def toByteArray: Array[Byte] = toBuilder.toByteArray
+  
+  def writeTo(out: OutputStream): Unit = toBuilder.writeTo(out)
+  
+  def writeTo(buffer: ByteBuffer): Unit = toBuilder.writeTo(buffer)
 }
 
 object ByteStreamer {
   object nil extends ByteStreamer(0) {
-    def apply(tail: List[Byte]): List[Byte] = tail
+    def prependTo(builder: ByteBuilder): Unit = ()
   }
 
   private val byteValues = {
     0.to(0xff).map { value =>
       new ByteStreamer(1) {
-        def apply(tail: List[Byte]): List[Byte] = value.toByte :: tail
+        def prependTo(builder: ByteBuilder): Unit = builder.prepend(value)
       }
     }
   }
   
   def byte(value: Long) = byteValues(value.toInt)
 
-  def bytes(values: List[Byte]) = new ByteStreamer(values.length) {
-    def apply(tail: List[Byte]): List[Byte] = values ::: tail
+  def bytes(values: List[Byte]): ByteStreamer = bytes(values.toArray)
+  
+  def bytes(values: Byte*): ByteStreamer = bytes(values.toArray)
+  
+  def bytes(values: Array[Byte]): ByteStreamer = bytes(values, 0, values.length)
+  
+  def bytes(values: Array[Byte], offset: Int, count: Int): ByteStreamer = {
+    new ByteStreamer(count) {
+      def prependTo(builder: ByteBuilder): Unit = builder.prepend(values, offset, count)
+    }
+  }
+  
+  def fixed(value: Long, count: Int): ByteStreamer = {
+    assert(count >= 0 && count <= 8)
+    if (count == 1) {
+      byte(value & 0xff)
+    } else {
+      new ByteStreamer(count) {
+        def prependTo(builder: ByteBuilder): Unit = builder.prependFixed(value, count)
+      }
+    }
   }
+}
+
+class ByteBuilder(initialCapacity: Int) {
+  private var buffer = new Array[Byte](initialCapacity max 16)
+  private var start = buffer.length
+  
+  def this() = this(256)
+  
+  def length: Int = buffer.length - start
+  
+  def clear(): this.type = {
+    start = buffer.length
+    this
+  }
+  
+  private def reserve(extra: Int): Unit = {
+    if (extra > start) {
+      val used = length
+      val newBuffer = new Array[Byte]((buffer.length * 2) max (used + extra))
+      System.arraycopy(buffer, start, newBuffer, newBuffer.length - used, used)
+      buffer = newBuffer
+      start = newBuffer.length - used
+    }
+  }
+  
+  def prepend(value: Int): this.type = {
+    reserve(1)
+    start -= 1
+    buffer(start) = value.toByte
+    this
+  }
+  
+  def prepend(values: Array[Byte], offset: Int, count: Int): this.type = {
+    reserve(count)
+    start -= count
+    System.arraycopy(values, offset, buffer, start, count)
+    this
+  }
+  
+  def prepend(values: Array[Byte]): this.type = prepend(values, 0, values.length)
+  
+  def prepend(streamer: ByteStreamer): this.type = {
+    reserve(streamer.length)
+    streamer.prependTo(this)
+    this
+  }
+  
+  def prependFixed(value: Long, count: Int): this.type = {
+    reserve(count)
+    var remainder = value
+    var i = 0
+    while (i < count) {
+      start -= 1
+      buffer(start) = remainder.toByte
+      remainder >>= 8
+      i += 1
+    }
+    this
+  }
+  
+  def toByteArray: Array[Byte] = {
+    val result = new Array[Byte](length)
+    System.arraycopy(buffer, start, result, 0, result.length)
+    result
+  }
+  
+  def toByteStreamer: ByteStreamer = ByteStreamer.bytes(toByteArray)
   
-  def bytes(values: Byte*): ByteStreamer = bytes(values.toList)
+  def writeTo(out: OutputStream): Unit = out.write(buffer, start, length)
   
-  def bytes(values: Array[Byte]): ByteStreamer = bytes(values.toList)
+  def writeTo(target: ByteBuffer): Unit = target.put(buffer, start, length)
 }
 
 sealed class EndLn
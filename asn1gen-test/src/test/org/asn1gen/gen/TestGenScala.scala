@@ -86,5 +86,75 @@ package test.org.asn1gen.gen {
         case x => fail("Parse failed: " + x)
       }
     }
+    
+    @Test def test5() {
+      val text = """
+        ModuleName DEFINITIONS ::= BEGIN
+          MySequence ::= SEQUENCE {
+            field1 [0] INTEGER OPTIONAL,
+            field2 [1] REAL,
+            field3 [2] PrintableString,
+            field4 [3] MyChoice
+          }
+          MyChoice ::= CHOICE {
+            choice0 [0] NULL,
+            choice1 [1] INTEGER
+          }
+        END
+        """
+      Asn1.parse(text) match {
+        case Asn1.Success(moduleDefinition, _) => {
+          val writer = new _root_.java.io.StringWriter
+          val genScala = new GenScalaAsyncDecoder("test.asn1.genruntime", new IndentWriter(writer))
+          val module = Module.from(moduleDefinition)
+          genScala.generate(module)
+          val generated = writer.toString
+          assertTrue(generated.contains("case class OnMySequence("))
+          assertTrue(generated.contains("val index = state match {"))
+          assertTrue(generated.contains("if (key == 0x20000000 /* [0] */) 0"))
+          assertTrue(generated.contains("decodeExplicit(is, fieldLength) { this.field2.decode(is, _) }"))
+          assertTrue(generated.contains("def decodeElement(is: _codec_.DecodingInputStream, header: Long)"))
+        }
+        case x => fail("Parse failed: " + x)
+      }
+    }
+    
+    @Test def test6() {
+      val text = """
+        ModuleName DEFINITIONS ::= BEGIN
+          MySequence ::= SEQUENCE {
+            field0 [0] INTEGER OPTIONAL,
+            field1 [1] REAL,
+            field2 [2] PrintableString,
+            field3 [3] MyChoice
+          }
+          MyChoice ::= CHOICE {
+            choice0 [0] NULL,
+            choice1 [1] INTEGER,
+            choice2 [2] REAL
+          }
+        END
+        """
+      Asn1.parse(text) match {
+        case Asn1.Success(moduleDefinition, _) => {
+          val writer = new _root_.java.io.StringWriter
+          val genScala = new GenScalaBerEncoder("test.asn1.genruntime", new IndentWriter(writer))
+          val module = Module.from(moduleDefinition)
+          genScala.generate(module)
+          writer.flush()
+          val generated = writer.toString
+          // The encoder checked in to TestGeneratedCode in asn1runtime-test is this output.
+          assertTrue(generated.contains("import test.asn1.genruntime.{ModuleName => _m_}"))
+          assertTrue(generated.contains("def encode(out: _io_.ByteBuilder, value: _m_.MySequence): Int =\n" +
+            "    encodeHeader(out, _codec_.TagClass.Universal, _codec_.TagConstructed, 16, encodeData(out, value))"))
+          assertTrue(generated.contains("    if (value.field0.isDefined) {\n" +
+            "      length += encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 0, encode(out, value.field0.get))"))
+          assertTrue(generated.contains("encodeString(out, value.field2.value, 19)"))
+          assertTrue(generated.contains("      case choice: _m_.MyChoice_choice1 =>\n" +
+            "        encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 1, encode(out, choice._element))"))
+        }
+        case x => fail("Parse failed: " + x)
+      }
+    }
   }
 }
@@ -0,0 +1,47 @@
+import _root_.org.junit._
+import _root_.org.junit.Assert._
+import _root_.junit.framework.TestCase
+import _root_.org.asn1gen.gen._
+import _root_.org.asn1gen.extra.Extras._
+import _root_.java.io.File
+
+package test.org.asn1gen.gen {
+  class TestGenerationManifest extends TestCase {
+    def tempFile(): File = {
+      val file = File.createTempFile("asn1gen", ".txt")
+      file.deleteOnExit()
+      file
+    }
+    
+    @Test def test_roundTrip() {
+      val file = tempFile()
+      val manifest = GenerationManifest.empty.updated("B", "bb").updated("A", "aa")
+      manifest.saveTo(file)
+      assertEquals(manifest, GenerationManifest.load(file))
+      assertEquals(Some("aa"), GenerationManifest.load(file).get("A"))
+      assertEquals(None, manifest.retain(_ == "A").get("B"))
+    }
+    
+    @Test def test_missingOrMalformed() {
+      val file = tempFile()
+      file.delete()
+      assertEquals(GenerationManifest.empty, GenerationManifest.load(file))
+      file.writeIfChanged { _.println("not a manifest line") }
+      assertEquals(GenerationManifest.empty, GenerationManifest.load(file))
+    }
+    
+    @Test def test_writeIfChanged() {
+      val file = tempFile()
+      assertTrue(file.writeIfChanged { _.println("hello") })
+      file.setLastModified(1000000L)
+      assertFalse(file.writeIfChanged { _.println("hello") })
+      assertEquals(1000000L, file.lastModified)
+      assertTrue(file.writeIfChanged { _.println("world") })
+    }
+    
+    @Test def test_fingerprint() {
+      assertEquals(GenerationManifest.fingerprint(List("a", "b")), GenerationManifest.fingerprint(List("a", "b")))
+      assertFalse(GenerationManifest.fingerprint(List("ab")) == GenerationManifest.fingerprint(List("a", "b")))
+    }
+  }
+}
@@ -0,0 +1,37 @@
+import _root_.org.junit._
+import _root_.org.junit.Assert._
+import _root_.junit.framework.TestCase
+import _root_.org.asn1gen.gen.java._
+import _root_.org.asn1gen.extra.Extras._
+import _root_.java.io.File
+
+package test.org.asn1gen.gen {
+  class TestJavaModelLoad extends TestCase {
+    def moduleFile(name: String): File = {
+      val file = File.createTempFile("asn1gen", ".asn1")
+      file.deleteOnExit()
+      file.writeIfChanged { out =>
+        out.println(name + " DEFINITIONS ::= BEGIN")
+        out.println("  MyChoice ::= CHOICE { choice1 [0] INTEGER, choice2 [1] INTEGER }")
+        out.println("END")
+      }
+      file
+    }
+    
+    @Test def test_loadAll() {
+      val files = List("ModuleA", "ModuleB", "ModuleC") map moduleFile
+      val model = JavaModel.empty.copy(threads = 3).loadAll(files)
+      assertEquals(Set("ModuleA", "ModuleB", "ModuleC"), model.modules.keySet)
+      assertEquals((JavaModel.empty /: files)(_ load _).modules.keySet, model.modules.keySet)
+    }
+    
+    @Test def test_loadAllDuplicate() {
+      try {
+        JavaModel.empty.copy(threads = 2).loadAll(List(moduleFile("ModuleA"), moduleFile("ModuleA")))
+        fail("Expected ModuleLoadException")
+      } catch {
+        case e: ModuleLoadException => assertEquals("Module ModuleA already exists", e.getMessage)
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+import _root_.org.junit._
+import _root_.org.junit.Assert._
+import _root_.junit.framework.TestCase
+import _root_.org.asn1gen.gen._
+
+package test.org.asn1gen.gen {
+  class TestParallel extends TestCase {
+    @Test def test_mapKeepsOrder() {
+      val items = (1 to 100).toList
+      assertEquals(items map (_ * 2), Parallel.map(items, 4) { item =>
+        Thread.sleep((100 - item) % 7)
+        item * 2
+      })
+      assertEquals(items map (_ * 2), Parallel.map(items, 1)(_ * 2))
+    }
+    
+    @Test def test_firstFailureRethrown() {
+      try {
+        Parallel.map(List(1, 2, 3), 3) { item =>
+          if (item > 1) throw new AsnCodeGenerationException("item " + item)
+          item
+        }
+        fail("Expected AsnCodeGenerationException")
+      } catch {
+        case e: AsnCodeGenerationException => assertEquals("item 2", e.getMessage)
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package org.asn1gen.gen
+
+import _root_.java.io.File
+import _root_.java.io.InputStream
+import _root_.java.security.MessageDigest
+import _root_.org.asn1gen.extra.Extras._
+import _root_.scala.collection.immutable.TreeMap
+import _root_.scala.io.Source
+
+/**
+ * Records the fingerprint each module was last generated from, so that a
+ * later run can skip modules whose fingerprint is unchanged.  The manifest is
+ * a plain text file of "fingerprint module" lines sorted by module name.
+ */
+case class GenerationManifest(entries: TreeMap[String, String]) {
+  def get(moduleName: String): Option[String] = entries.get(moduleName)
+  
+  def updated(moduleName: String, fingerprint: String): GenerationManifest =
+    GenerationManifest(entries + (moduleName -> fingerprint))
+  
+  def retain(moduleNames: String => Boolean): GenerationManifest =
+    GenerationManifest(entries.filter { case (name, _) => moduleNames(name) })
+  
+  def saveTo(file: File): Unit = {
+    file.writeIfChanged { out =>
+      entries foreach { case (moduleName, fingerprint) =>
+        out.println(fingerprint + " " + moduleName)
+      }
+    }
+  }
+}
+
+object GenerationManifest {
+  val FileName = ".asn1gen-manifest"
+  
+  val empty = GenerationManifest(TreeMap[String, String]())
+  
+  /**
+   * Loads a manifest, treating a missing or malformed file as empty so that
+   * everything is regenerated.
+   */
+  def load(file: File): GenerationManifest = {
+    if (!file.isFile) {
+      empty
+    } else {
+      val source = Source.fromFile(file)
+      try {
+        (empty /: source.getLines()) { (manifest, line) =>
+          line.trim.split(" ") match {
+            case Array(fingerprint, moduleName) => manifest.updated(moduleName, fingerprint)
+            case _ => return empty
+          }
+        }
+      } finally {
+        source.close()
+      }
+    }
+  }
+  
+  def fingerprint(parts: Seq[String]): String = {
+    val digest = MessageDigest.getInstance("SHA-256")
+    parts foreach { part =>
+      digest.update(part.getBytes("UTF-8"))
+      digest.update(0: Byte)
+    }
+    digest.digest.map { b => "%02x".format(b & 0xff) }.mkString
+  }
+  
+  /**
+   * Fingerprints the compiled generator classes so that a new generator
+   * invalidates every module generated by the old one.
+   */
+  def fingerprintOf(classes: Class[_]*): String = {
+    fingerprint(classes map { clazz =>
+      val resource = clazz.getName.substring(clazz.getName.lastIndexOf('.') + 1) + ".class"
+      val is = clazz.getResourceAsStream(resource)
+      if (is == null) clazz.getName else try readHex(is) finally is.close()
+    })
+  }
+  
+  private def readHex(is: InputStream): String = {
+    val digest = MessageDigest.getInstance("SHA-256")
+    val buffer = new Array[Byte](8192)
+    var bytesRead = is.read(buffer)
+    while (bytesRead != -1) {
+      digest.update(buffer, 0, bytesRead)
+      bytesRead = is.read(buffer)
+    }
+    digest.digest.map { b => "%02x".format(b & 0xff) }.mkString
+  }
+}
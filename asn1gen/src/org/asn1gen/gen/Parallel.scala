@@ -0,0 +1,48 @@
+package org.asn1gen.gen
+
+import _root_.java.util.concurrent.Callable
+import _root_.java.util.concurrent.ExecutionException
+import _root_.java.util.concurrent.Executors
+import _root_.java.util.concurrent.Future
+import _root_.java.util.concurrent.ThreadFactory
+
+/**
+ * Runs independent pieces of generator work on a fixed pool of daemon
+ * threads.  Results come back in input order, so output does not depend on
+ * scheduling, and the first failure in input order is rethrown unwrapped.
+ */
+object Parallel {
+  def defaultThreads: Int = Runtime.getRuntime.availableProcessors
+  
+  def map[A, B](items: Seq[A], threads: Int)(f: A => B): List[B] = {
+    if (threads <= 1 || items.length <= 1) {
+      items.toList map f
+    } else {
+      val pool = Executors.newFixedThreadPool(threads min items.length, new ThreadFactory {
+        def newThread(runnable: Runnable): Thread = {
+          val thread = new Thread(runnable, "asn1gen-worker")
+          thread.setDaemon(true)
+          thread
+        }
+      })
+      try {
+        val futures: List[Future[B]] = items.toList map { item =>
+          pool.submit(new Callable[B] {
+            def call(): B = f(item)
+          })
+        }
+        futures map { future =>
+          try {
+            future.get
+          } catch {
+            case e: ExecutionException => throw e.getCause
+          }
+        }
+      } finally {
+        pool.shutdownNow()
+      }
+    }
+  }
+  
+  def foreach[A](items: Seq[A], threads: Int)(f: A => Unit): Unit = map(items, threads)(f)
+}
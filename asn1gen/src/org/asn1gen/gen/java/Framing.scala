@@ -0,0 +1,11 @@
+package org.asn1gen.gen.java
+
+import org.asn1gen.parsing.asn1.{ast => ast}
+
+sealed abstract class Framing
+
+case object Untagged extends Framing
+
+case class Explicit(tag: WireTag, inner: ast.Type) extends Framing
+
+case class Implicit(tag: WireTag, inner: ast.Type) extends Framing
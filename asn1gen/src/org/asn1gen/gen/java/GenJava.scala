@@ -21,30 +21,48 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
   def valuePackage(module: Module) = model.namespace.foldRight("value")(_ + "." + _)
   
   def generate(implicit module: Module): Unit = {
-    module.types.foreach { case (_, namedType: NamedType) =>
-      val typeFile = modelPath.make.child(namedType.name + ".java")
-      typeFile.withIndentWriter { out =>
-        generateType(namedType)(module, out)
-        println("Writing to " + typeFile)
-      }
+    outputs(module) foreach { case (file, f) =>
+      writeFile(file)(f)
     }
+  }
+  
+  /**
+   * The files generated for a module, each paired with the function that
+   * writes it.  The functions only read the model, so they may run in any
+   * order or concurrently.
+   */
+  def outputs(implicit module: Module): List[(File, IndentWriter => Unit)] = {
+    modelPath.make
     valuePath.make
-    valueFile.withIndentWriter { out =>
-      generateValues(module, out)
-      println("Writing to " + valueFile)
-    }
     codecPath.make
-    (codecPath / "AsnToBer.java").withIndentWriter { out =>
-      generateAsnToBer(module, out)
-    }
-    (codecPath / "AsnToBerShadow.java").withIndentWriter { out =>
-      generateAsnToBerShadow(module, out)
+    val typeOutputs = module.types.toList map { case (_, namedType: NamedType) =>
+      (modelPath / (namedType.name + ".java"), { out: IndentWriter => generateType(namedType)(module, out) })
     }
-    (codecPath / "BerToAsn.java").withIndentWriter { out =>
-      generateBerToAsn(module, out)
+    typeOutputs ::: List(
+      (valueFile, { out: IndentWriter => generateValues(module, out) }),
+      (codecPath / "AsnToBer.java", { out: IndentWriter => generateAsnToBer(module, out) }),
+      (codecPath / "AsnToBerShadow.java", { out: IndentWriter => generateAsnToBerShadow(module, out) }),
+      (codecPath / "BerToAsn.java", { out: IndentWriter => generateBerToAsn(module, out) }),
+      (codecPath / "BerToAsnShadow.java", { out: IndentWriter => generateBerToAsnShadow(module, out) }))
+  }
+  
+  /**
+   * Writes a generated file unless it already holds the same content, so
+   * unchanged output keeps its timestamp and downstream builds stay
+   * incremental.
+   */
+  def writeFile(file: File)(f: IndentWriter => Unit): Unit = {
+    if (file.writeIfChanged(f)) {
+      println("Writing to " + file)
     }
-    (codecPath / "BerToAsnShadow.java").withIndentWriter { out =>
-      generateBerToAsnShadow(module, out)
+  }
+  
+  /**
+   * Whether the files written for a module by a previous run are present.
+   */
+  def outputExists(module: Module): Boolean = {
+    valueFile.isFile && (codecPath / "BerToAsnShadow.java").isFile && module.types.forall {
+      case (_, namedType) => (modelPath / (namedType.name + ".java")).isFile
     }
   }
   
@@ -154,7 +172,7 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
   def generate(namedValue: NamedValue)(implicit module: Module, out: IndentWriter): Unit = {
     namedValue match {
       case NamedValue(name, ast.Type(ast.INTEGER(None), _), ast.SignedNumber(negative, ast.Number(magnitude))) => {
-        out << "public static final AsnInteger " << name << " = new AsnInteger("
+        out << "public static final AsnInteger " << name << " = AsnInteger.valueOf("
         if (negative) {
           out << "-"
         }
@@ -401,7 +419,10 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             list foreach {
               case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value) => {
                 out << delim << EndLn
-                out << safeId(asnTypeOf(_type, value)) << ".EMPTY"
+                value match {
+                  case ast.Optional => out << "org.asn1gen.runtime.java.None.<" << safeId(asnTypeOf(_type)) << ">instance()"
+                  case _ => out << safeId(asnTypeOf(_type, value)) << ".EMPTY"
+                }
                 delim = ","
               }
             }
@@ -415,6 +436,9 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             }
           }
           out << EndLn
+          out << "private int _hash;" << EndLn
+          out << EndLn
+          generateDescriptor(safeAssignmentName, list)
           out << "public " << safeAssignmentName << "(" << EndLn
           out.indent(2) {
             out.indent(2) {
@@ -486,24 +510,35 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             }
             out << "}" << EndLn
             out << EndLn
-            out << "return true;" << EndLn
+            out << "return false;" << EndLn
           }
           out << "}" << EndLn
           out << EndLn
           out << "@Override" << EndLn
           out << "public int hashCode() {" << EndLn
           out.indent(2) {
-            out << "return (0"
+            out << "int hash = this._hash;" << EndLn
+            out << EndLn
+            out << "if (hash == 0) {" << EndLn
             out.indent(2) {
+              out << "hash = org.asn1gen.runtime.java.Hashing.SEED;" << EndLn
               list foreach {
                 case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _), value) => {
-                  out << EndLn << "^ this." << safeId(identifier) << ".hashCode()"
+                  out << "hash = org.asn1gen.runtime.java.Hashing.mix(hash, this." << safeId(identifier) << ");" << EndLn
                 }
               }
+              out << "hash = org.asn1gen.runtime.java.Hashing.finish(hash, " << list.size << ");" << EndLn
+              out << "this._hash = hash;" << EndLn
             }
-            out << ");" << EndLn
+            out << "}" << EndLn
+            out << EndLn
+            out << "return hash;" << EndLn
           }
           out << "}" << EndLn
+          if (hasMutable(assignmentName)) {
+            out << EndLn
+            generateMutable(assignmentName, list)
+          }
         }
         out << "}" << EndLn
         out << EndLn
@@ -561,33 +596,33 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
           }
           out << "}" << EndLn
           out << EndLn
+          generateEnumeratedLookup(enumerations, assignmentName)
+          out << EndLn
           out << "public static " << safeId(assignmentName) << " of(final int value) {" << EndLn
           out.indent(2) {
-            out << "switch (value) {" << EndLn
+            out << "final " << safeId(assignmentName) << " result = lookup(value);" << EndLn
+            out << EndLn
+            out << "return result != null ? result : new " << safeId(assignmentName) << "(value);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "@Override" << EndLn
+          out << "public boolean equals(final Object that) {" << EndLn
+          out.indent(2) {
+            out << "if (that instanceof " << safeAssignmentName << ") {" << EndLn
             out.indent(2) {
-              enumerations match {
-                case ast.Enumerations(ast.RootEnumeration(ast.Enumeration(items)), extension) => {
-                  var index = 0
-                  items foreach {
-                    case ast.Identifier(item) => {
-                      out << "case " << index << ": return " << safeId(item) << ";" << EndLn
-                      index = index + 1
-                    }
-                    case ast.NamedNumber(ast.Identifier(item), ast.SignedNumber(sign, ast.Number(n))) => {
-                      val value = if (sign) n * -1 else n
-                      out << "case " << value << ": return " << safeId(item) << ";" << EndLn
-                      index = index + 1
-                    }
-                  }
-                  extension match {
-                    case None => {}
-                    case _ => out << extension << EndLn
-                  }
-                }
-              }
-              out << "default: return new " << safeId(assignmentName) << "(value);" << EndLn
+              out << "return this.value == ((" << safeAssignmentName << ")that).value;" << EndLn
             }
             out << "}" << EndLn
+            out << EndLn
+            out << "return false;" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "@Override" << EndLn
+          out << "public int hashCode() {" << EndLn
+          out.indent(2) {
+            out << "return (int)(this.value ^ (this.value >>> 32));" << EndLn
           }
           out << "}" << EndLn
         }
@@ -799,6 +834,38 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
           out << "return decode_(value, window, consumed);" << EndLn
         }
         out << "}" << EndLn
+        if (hasMutable(assignmentName)) {
+          out << EndLn
+          out << "public static " << safeAssignmentName << " decode(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {" << EndLn
+          out.indent(2) {
+            out << "return decode_(value, window, consumed, interner);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "public static " << safeAssignmentName << ".Mutable decodeInto(final " << safeAssignmentName << ".Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
+          out.indent(2) {
+            out << "return decodeInto_(target, window, consumed);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "public static " << safeAssignmentName << ".Mutable decodeInto(final " << safeAssignmentName << ".Mutable target, final TlvCursor frame) throws AsnException {" << EndLn
+          out.indent(2) {
+            out << "return decodeInto_(target, frame);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "public static " << safeAssignmentName << ".Mutable decodePartInto(final " << safeAssignmentName << ".Mutable target, final TlvCursor frame) throws AsnException {" << EndLn
+          out.indent(2) {
+            out << "return decodePartInto_(target, frame);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "public static boolean tryDecodeInto(final " << safeAssignmentName << ".Mutable target, final ByteArrayWindow window, final AsnResult result) {" << EndLn
+          out.indent(2) {
+            out << "return tryDecodeInto_(target, window, result);" << EndLn
+          }
+          out << "}" << EndLn
+        }
       }
       case ast.EnumeratedType(enumerations) => {
         out << "public static " << safeAssignmentName << " decodePart(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
@@ -866,6 +933,9 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out << "// Unmatched " << safeAssignmentName << ": " << unmatched << EndLn
       }
     }
+     if (hasValidator(builtinType)) {
+      generateValidateDelegates(builtinType, assignmentName)
+    }
   }
   
   def generateAsnToBerShadow(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
@@ -941,7 +1011,15 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             list foreach {
               case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value) => {
                 out << EndLn
-                out << ".then(encode(value." << safeId(identifier) << "))"
+                value match {
+                  case ast.Optional => {
+                    ( out
+                      << ".then(value." << safeId(identifier) << ".empty() ? BerWriter.EMPTY : encode(value."
+                      << safeId(identifier) << ".value()))"
+                    )
+                  }
+                  case _ => out << ".then(encode(value." << safeId(identifier) << "))"
+                }
               }
             }
             out << ";" << EndLn
@@ -978,6 +1056,9 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out.indent(2) {
           val safeAssignmentName = safeId(assignmentName)
           setOfType match {
+            case ast.SetOfType(ast.Type(elementType, _)) if primitiveList(elementType) != None => {
+              out << "return encodePart(value.items);" << EndLn
+            }
             case ast.SetOfType(ast.Type(elementType, _)) => {
               elementType match {
                 case ast.TypeReference(referencedType) => {
@@ -1103,7 +1184,51 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out << EndLn
         out << "public static " << safeAssignmentName << " decode_(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
         out.indent(2) {
-          out << "return " << safeAssignmentName << ".EMPTY;" << EndLn
+          out << "final TlvCursor frame = new TlvCursor().reset(window);" << EndLn
+          out << EndLn
+          out << "if (!frame.next()) {" << EndLn
+          out.indent(2) {
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "consumed.value = frame.consumed();" << EndLn
+          out << EndLn
+          out << "final TlvCursor cursor = new TlvCursor().enter(frame);" << EndLn
+          out << EndLn
+          out.trace("/*", "*/")
+          out << "switch (frame.tagKey()) {" << EndLn
+          rootAlternativeTypeList.namedTypes foreach { case ast.NamedType(ast.Identifier(name), alternativeType) =>
+            val safeChoiceChoice = safeId(assignmentName + "_" + name)
+            framingOf(alternativeType) match {
+              case Implicit(tag, _type) if tag.key != None => {
+                val safeElementType = safeId(asnTypeOf(_type))
+                out << "case " << hexKey(tag.key.get) << ":" << EndLn
+                out.indent(2) {
+                  out << "return new " << safeChoiceChoice << "(decodePart(" << safeElementType << ".EMPTY, frame.valueWindow(), ReturnInteger.IGNORE));" << EndLn
+                }
+              }
+              case Explicit(tag, _type) if tag.key != None => {
+                val safeElementType = safeId(asnTypeOf(_type))
+                out << "case " << hexKey(tag.key.get) << ":" << EndLn
+                out.indent(2) {
+                  out << "if (!cursor.next()) {" << EndLn
+                  out.indent(2) {
+                    out << "throw cursor.unexpected();" << EndLn
+                  }
+                  out << "}" << EndLn
+                  out << EndLn
+                  out << "return new " << safeChoiceChoice << "(decode(" << safeElementType << ".EMPTY, cursor.window(), ReturnInteger.IGNORE));" << EndLn
+                }
+              }
+              case _ => ()
+            }
+          }
+          out << "default:" << EndLn
+          out.indent(2) {
+            out << "throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ALTERNATIVE, frame.tlvStart);" << EndLn
+          }
+          out << "}" << EndLn
         }
         out << "}" << EndLn
       }
@@ -1142,28 +1267,38 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out << EndLn
         out << "public static " << safeAssignmentName << " decode_(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
         out.indent(2) {
-          out << "return " << safeAssignmentName << ".EMPTY;" << EndLn
+          if (hasMutable(assignmentName)) {
+            out << "return decode_(value, window, consumed, null);" << EndLn
+          } else {
+            out << "throw new AsnDecodeException(AsnErrorCode.UNSUPPORTED_DEFAULT, window.start);" << EndLn
+          }
         }
         out << "}" << EndLn
+        if (hasMutable(assignmentName)) {
+          out << EndLn
+          out << "public static " << safeAssignmentName << " decode_(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {" << EndLn
+          out.indent(2) {
+            out << "return decodeInto(new " << safeAssignmentName << ".Mutable(), window, consumed).toImmutable(interner);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          generateDecodeInto(assignmentName, (list1.toList:::list2.toList).map { componentTypeList =>
+            componentTypeList.componentTypes
+          }.flatten, extension != None)
+        }
       }
       case ast.EnumeratedType(enumerations) => {
         out << "public static " << safeAssignmentName << " decodePart_(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
         out.indent(2) {
-          out << "final long intValue = TLV.longValue(window);" << EndLn
+          out << "final " << safeAssignmentName << " result = " << safeAssignmentName << ".lookup(TLV.longValue(window));" << EndLn
           out << EndLn
-          out << "if (intValue == BookCover.hardCover.value) {" << EndLn
-          out.indent(2) {
-            out << "return BookCover.hardCover;" << EndLn
-          }
-          out << "} else if (intValue == BookCover.paperBack.value) {" << EndLn
-          out.indent(2) {
-            out << "return BookCover.paperBack;" << EndLn
-          }
-          out << "} else {" << EndLn
+          out << "if (result == null) {" << EndLn
           out.indent(2) {
-            out << "throw new AsnException();" << EndLn
+            out << "throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, window.start);" << EndLn
           }
           out << "}" << EndLn
+          out << EndLn
+          out << "return result;" << EndLn
         }
         out << "}" << EndLn
         out << EndLn
@@ -1176,19 +1311,19 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
           out << EndLn
           out << "if (frame.tagClass != TagClass.UNIVERSAL) {" << EndLn
           out.indent(2) {
-            out << "throw new AsnException();" << EndLn
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);" << EndLn
           }
           out << "}" << EndLn
           out << EndLn
           out << "if (frame.tagForm != TagForm.PRIMITIVE) {" << EndLn
           out.indent(2) {
-            out << "throw new AsnException();" << EndLn
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);" << EndLn
           }
           out << "}" << EndLn
           out << EndLn
           out << "if (frame.tagNo != 10) {" << EndLn
           out.indent(2) {
-            out << "throw new AsnException();" << EndLn
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);" << EndLn
           }
           out << "}" << EndLn
           out << EndLn
@@ -1201,22 +1336,28 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out.indent(2) {
           val safeAssignmentName = safeId(assignmentName)
           setOfType match {
+            case ast.SetOfType(ast.Type(elementType, _)) if primitiveList(elementType) != None => {
+              out << "return new " << safeAssignmentName << "(decodePart(" << safeAssignmentName << ".EMPTY.items, window, consumed));" << EndLn
+            }
             case ast.SetOfType(ast.Type(elementType, _)) => {
               elementType match {
                 case ast.TypeReference(referencedType) => {
                   val safeReferenceType = safeId(referencedType)
                   
                   out << "ByteArrayWindow myWindow = window;" << EndLn
-                  out << "ConsList<" << referencedType << "> children = ConsList.<" << referencedType << ">nil();" << EndLn
+                  out << "final ReturnInteger childConsumed = new ReturnInteger();" << EndLn
+                  out << "final ImmutableList.Builder<" << referencedType << "> children = ImmutableList.<" << referencedType << ">builder(TLV.count(window));" << EndLn
                   out << EndLn
                   out << "while (myWindow.length > 0) {" << EndLn
                   out.indent(2) {
-                    out << "children = children.prepend(decode(" << referencedType << ".EMPTY, myWindow, consumed));" << EndLn
-                    out << "myWindow = myWindow.from(consumed.value);" << EndLn
+                    out << "children.add(decode(" << referencedType << ".EMPTY, myWindow, childConsumed));" << EndLn
+                    out << "myWindow = myWindow.from(childConsumed.value);" << EndLn
                   }
                   out << "}" << EndLn
                   out << EndLn
-                  out << "return new " << assignmentName << "(children);" << EndLn
+                  out << "consumed.value = window.length;" << EndLn
+                  out << EndLn
+                  out << "return new " << assignmentName << "(children.build());" << EndLn
                 }
                 case sequenceType: ast.SequenceType => {
                   assert(false)
@@ -1237,7 +1378,23 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out << EndLn
         out << "public static " << safeAssignmentName << " decode_(final " << safeAssignmentName << " value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
         out.indent(2) {
-          out << "return " << safeAssignmentName << ".EMPTY;" << EndLn
+          out << "final TlvCursor frame = new TlvCursor().reset(window);" << EndLn
+          out << EndLn
+          out << "if (!frame.next()) {" << EndLn
+          out.indent(2) {
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "if (frame.identifier != 0x31) {" << EndLn
+          out.indent(2) {
+            out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "consumed.value = frame.consumed();" << EndLn
+          out << EndLn
+          out << "return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);" << EndLn
         }
         out << "}" << EndLn
       }
@@ -1281,6 +1438,9 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
         out << "// Unmatched " << safeAssignmentName << ": " << unmatched << EndLn
       }
     }
+     if (hasValidator(builtinType)) {
+      generateValidate(builtinType, assignmentName)
+    }
   }
   
   def generateEnumeratedValues(enumerations: ast.Enumerations, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
@@ -1293,8 +1453,8 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             index = index + 1
           }
           case ast.NamedNumber(ast.Identifier(item), ast.SignedNumber(sign, ast.Number(n))) => {
-            val value = if (sign) n * -1 else n
-            out << "public static final " << safeId(assignmentName) << safeId(item) << " = new " << safeId(assignmentName) << "(" << value << ");" << EndLn
+            val value = if (sign) -n.toLong else n.toLong
+            out << "public static final " << safeId(assignmentName) << " " << safeId(item) << " = new " << safeId(assignmentName) << "(" << value << ");" << EndLn
             index = index + 1
           }
         }
@@ -1306,9 +1466,1266 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
     }
   }
   
-  def generate(assignmentName: String, setOfType: ast.SetOfType)(implicit module: Module, out: IndentWriter): Unit = {
+  def enumerationItems(enumerations: ast.Enumerations): List[(String, Long)] = {
+    enumerations match {
+      case ast.Enumerations(ast.RootEnumeration(ast.Enumeration(items)), extension) => {
+        var index = -1L
+        items map {
+          case ast.Identifier(item) => {
+            index = index + 1
+            (item, index)
+          }
+          case ast.NamedNumber(ast.Identifier(item), ast.SignedNumber(sign, ast.Number(n))) => {
+            index = index + 1
+            (item, if (sign) -n.toLong else n.toLong)
+          }
+        }
+      }
+    }
+  }
+  
+  def enumerationValues(enumerations: ast.Enumerations): List[Long] =
+    enumerationItems(enumerations).map(_._2)
+  
+  def generateEnumeratedLookup(enumerations: ast.Enumerations, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
     val safeAssignmentName = safeId(assignmentName)
-    setOfType match {
+    val items = enumerationItems(enumerations)
+    val values = items.map(_._2)
+    val minValue = if (values.isEmpty) 0L else values.min
+    val maxValue = if (values.isEmpty) -1L else values.max
+    if (maxValue - minValue < 4L * items.length + 16) {
+      val byValue = (minValue to maxValue).map { v =>
+        items.find(_._2 == v).map(item => safeId(item._1)).getOrElse("null")
+      }
+      out << "private static final " << safeAssignmentName << "[] byValue = { " << byValue.mkString(", ") << " };" << EndLn
+      out << EndLn
+      out << "public static " << safeAssignmentName << " lookup(final long value) {" << EndLn
+      out.indent(2) {
+        out << "final long index = value - " << minValue << "L;" << EndLn
+        out << EndLn
+        out << "if (index >= 0 && index < byValue.length) {" << EndLn
+        out.indent(2) {
+          out << "return byValue[(int)index];" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "return null;" << EndLn
+      }
+      out << "}" << EndLn
+    } else {
+      out << "public static " << safeAssignmentName << " lookup(final long value) {" << EndLn
+      out.indent(2) {
+        out << "if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {" << EndLn
+        out.indent(2) {
+          out << "return null;" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "switch ((int)value) {" << EndLn
+        out.indent(2) {
+          items foreach { case (item, value) =>
+            out << "case " << value << ": return " << safeId(item) << ";" << EndLn
+          }
+          out << "default: return null;" << EndLn
+        }
+        out << "}" << EndLn
+      }
+      out << "}" << EndLn
+    }
+  }
+  
+  def primitiveList(elementType: ast.TypeKind)(implicit module: Module): Option[(String, String)] = {
+    elementType match {
+      case ast.INTEGER(None) => Some(("ImmutableLongList", "ImmutableLongList.EMPTY"))
+      case ast.BOOLEAN => Some(("ImmutableBooleanList", "ImmutableBooleanList.EMPTY"))
+      case ast.TypeReference(referencedType) => {
+        module.types.get(referencedType) match {
+          case Some(NamedType(_, ast.Type(ast.EnumeratedType(enumerations), _))) => {
+            val values = enumerationValues(enumerations)
+            if (values.forall(v => v >= Byte.MinValue && v <= Byte.MaxValue)) {
+              Some(("ImmutableOrdinalList", "ImmutableOrdinalList.EMPTY"))
+            } else if (values.forall(v => v >= Short.MinValue && v <= Short.MaxValue)) {
+              Some(("ImmutableOrdinalList", "ImmutableOrdinalList.EMPTY_WIDE"))
+            } else {
+              None
+            }
+          }
+          case _ => None
+        }
+      }
+      case _ => None
+    }
+  }
+  
+  def generatePrimitiveList(assignmentName: String, elementType: ast.TypeKind)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    val Some((listType, emptyList)) = primitiveList(elementType)
+    val (elementJavaType, getter) = elementType match {
+      case ast.TypeReference(referencedType) => (safeId(referencedType), safeId(referencedType) + ".of(this.items.get(index))")
+      case ast.BOOLEAN => ("boolean", "this.items.get(index)")
+      case _ => ("long", "this.items.get(index)")
+    }
+    out.ensureEmptyLines(1)
+    out << "@SuppressWarnings(\"unused\")" << EndLn
+    out << "public class " << safeAssignmentName << " extends org.asn1gen.runtime.java.AsnList {" << EndLn
+    out.indent(2) {
+      out << "public static " << safeAssignmentName << " EMPTY = new " << safeAssignmentName << "(org.asn1gen.runtime.java." << emptyList << ");" << EndLn
+      out << EndLn
+      out << "public final org.asn1gen.runtime.java." << listType << " items;" << EndLn
+      out << EndLn
+      out << "public " << safeAssignmentName << "(final org.asn1gen.runtime.java." << listType << " items) {" << EndLn
+      out.indent(2) {
+        out << "this.items = items;" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public " << safeAssignmentName << " withItems(final org.asn1gen.runtime.java." << listType << " value) {" << EndLn
+      out.indent(2) {
+        out << "return new " << safeAssignmentName << "(value);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public int size() {" << EndLn
+      out.indent(2) {
+        out << "return this.items.size();" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public " << elementJavaType << " get(final int index) {" << EndLn
+      out.indent(2) {
+        out << "return " << getter << ";" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public boolean equals(final " << safeAssignmentName << " that) {" << EndLn
+      out.indent(2) {
+        out << "assert that != null;" << EndLn
+        out << EndLn
+        out << "return this.items.equals(that.items);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public boolean equals(final Object that) {" << EndLn
+      out.indent(2) {
+        out << "if (that instanceof " << safeAssignmentName << ") {" << EndLn
+        out.indent(2) {
+          out << "return this.equals((" + safeAssignmentName + ")that);" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "return false;" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "@Override" << EndLn
+      out << "public int hashCode() {" << EndLn
+      out.indent(2) {
+        out << "return this.items.hashCode();" << EndLn
+      }
+      out << "}" << EndLn
+    }
+    out << "}" << EndLn << EndLn
+  }
+  
+  def generateDescriptor(safeAssignmentName: String, list: List[ast.ComponentType])(implicit module: Module, out: IndentWriter): Unit = {
+    out << "public static final org.asn1gen.runtime.java.AsnDescriptor<" << safeAssignmentName << "> DESCRIPTOR =" << EndLn
+    out.indent(4) {
+      out << "new org.asn1gen.runtime.java.AsnDescriptor<" << safeAssignmentName << ">(" << safeAssignmentName.inspect
+      list.zipWithIndex foreach {
+        case (ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value), index) => {
+          out << "," << EndLn
+          ( out
+            << "new org.asn1gen.runtime.java.AsnField<" << safeAssignmentName << ">("
+            << safeId(identifier).inspect << ", " << index << ", " << (value == ast.Optional) << ") {" << EndLn
+          )
+          out.indent(2) {
+            out << "public Object get(final " << safeAssignmentName << " value) {" << EndLn
+            out.indent(2) {
+              out << "return value." << safeId(identifier) << ";" << EndLn
+            }
+            out << "}" << EndLn
+          }
+          out << "}"
+        }
+      }
+      out << ");" << EndLn
+    }
+    out << EndLn
+    out << "@Override" << EndLn
+    out << "public org.asn1gen.runtime.java.AsnDescriptor<" << safeAssignmentName << "> descriptor() {" << EndLn
+    out.indent(2) {
+      out << "return DESCRIPTOR;" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+  }
+  
+  def untaggedTypeOf(_type: ast.Type): ast.Type = {
+    _type match {
+      case ast.Type(ast.TaggedType(_, _, taggedType), _) => untaggedTypeOf(taggedType)
+      case _ => _type
+    }
+  }
+  
+  def mutableFieldOf(sequenceName: String, _type: ast.Type)(implicit module: Module): MutableField = {
+    untaggedTypeOf(_type) match {
+      case ast.Type(ast.OctetStringType, _) => OctetsField
+      case ast.Type(ast.UTF8String, _) => Utf8Field
+      case ast.Type(ast.BOOLEAN, _) => BooleanField
+      case ast.Type(ast.INTEGER(None), _) => IntegerField
+      case ast.Type(ast.TypeReference(referencedType), _) => {
+        module.types.get(referencedType) match {
+          case Some(NamedType(_, ast.Type(ast.EnumeratedType(_), _))) => {
+            EnumField(safeId(referencedType))
+          }
+          case Some(NamedType(_, ast.Type(ast.SequenceType(ast.ComponentTypeLists(_, _, _)), _)))
+              if !reachesSequence(referencedType, sequenceName, Set()) && hasMutable(referencedType) => {
+            SequenceField(safeId(referencedType))
+          }
+          case _ => ImmutableField(safeId(referencedType))
+        }
+      }
+      case untaggedType => ImmutableField(safeId(asnTypeOf(untaggedType)))
+    }
+  }
+  
+  def defaultOf(field: MutableField, value: ast.Value): Option[String] = {
+    (field, value) match {
+      case (IntegerField, ast.SignedNumber(negative, ast.Number(magnitude))) => {
+        Some((if (negative) "-" else "") + magnitude + "L")
+      }
+      case (IntegerField, ast.Number(magnitude)) => Some(magnitude + "L")
+      case (BooleanField, ast.BooleanValue(booleanValue)) => Some(booleanValue.toString)
+      case (EnumField(typeName), ast.ValueReference(name)) => Some(typeName + "." + safeId(name))
+      case (OctetsField, ast.CString(stringValue)) => Some(byteArrayOf(stringValue))
+      case (Utf8Field, ast.CString(stringValue)) => Some(byteArrayOf(stringValue))
+      case _ => None
+    }
+  }
+  
+  def byteArrayOf(text: String): String = {
+    text.getBytes("UTF-8").map { b =>
+      if (b < 0) "(byte)0x%02x".format(b & 0xff) else "0x%02x".format(b)
+    }.mkString("new byte[] { ", ", ", " }")
+  }
+  
+  def hasMutable(sequenceName: String)(implicit module: Module): Boolean = {
+    sequenceComponents(sequenceName) forall {
+      case ast.NamedComponentType(ast.NamedType(_, _type), ast.Default(value)) => {
+        defaultOf(mutableFieldOf(sequenceName, _type), value) != None
+      }
+      case _ => true
+    }
+  }
+  
+  def sequenceComponents(sequenceName: String)(implicit module: Module): List[ast.ComponentType] = {
+    module.types.get(sequenceName) match {
+      case Some(NamedType(_, ast.Type(ast.SequenceType(ast.ComponentTypeLists(list1, _, list2)), _))) => {
+        (list1.toList:::list2.toList).map { componentTypeList =>
+          componentTypeList.componentTypes
+        }.flatten
+      }
+      case _ => Nil
+    }
+  }
+  
+  def reachesSequence(from: String, to: String, visited: Set[String])(implicit module: Module): Boolean = {
+    from == to || (!visited.contains(from) && sequenceComponents(from).exists {
+      case ast.NamedComponentType(ast.NamedType(_, _type), _) => {
+        untaggedTypeOf(_type) match {
+          case ast.Type(ast.TypeReference(referencedType), _) => reachesSequence(referencedType, to, visited + from)
+          case _ => false
+        }
+      }
+      case _ => false
+    })
+  }
+  
+  def generateMutable(assignmentName: String, list: List[ast.ComponentType])(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    val fields = list map {
+      case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value) => {
+        (safeId(identifier), mutableFieldOf(assignmentName, _type))
+      }
+    }
+    val optionalTypes = (list collect {
+      case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), ast.Optional) => {
+        (safeId(identifier), safeId(asnTypeOf(_type)))
+      }
+    }).toMap
+    val defaults = (list flatMap {
+      case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), ast.Default(value)) => {
+        defaultOf(mutableFieldOf(assignmentName, _type), value).map(safeId(identifier) -> _)
+      }
+      case _ => None
+    }).toMap
+    val types = list map {
+      case ast.NamedComponentType(ast.NamedType(_, _type), _) => _type
+    }
+    out << "public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {" << EndLn
+    out.indent(2) {
+      out.trace("/*", "*/")
+      if (needsInnerCursor(types)) {
+        out << "public final org.asn1gen.runtime.java.TlvCursor inner = new org.asn1gen.runtime.java.TlvCursor();" << EndLn
+        out << EndLn
+      }
+      fields foreach {
+        case (name, OctetsField | Utf8Field) if defaults contains name => {
+          out << "private static final byte[] " << name << "Default = " << defaults(name) << ";" << EndLn
+        }
+        case _ => ()
+      }
+      if (fields exists { case (name, field) => (field == OctetsField || field == Utf8Field) && (defaults contains name) }) {
+        out << EndLn
+      }
+      fields foreach {
+        case (name, OctetsField | Utf8Field) if defaults contains name => {
+          ( out
+            << "public final org.asn1gen.runtime.java.OctetBuffer " << name
+            << " = new org.asn1gen.runtime.java.OctetBuffer().set(" << name << "Default, 0, " << name << "Default.length);" << EndLn
+          )
+        }
+        case (name, OctetsField) => {
+          out << "public final org.asn1gen.runtime.java.OctetBuffer " << name << " = new org.asn1gen.runtime.java.OctetBuffer();" << EndLn
+        }
+        case (name, Utf8Field) => {
+          out << "public final org.asn1gen.runtime.java.OctetBuffer " << name << " = new org.asn1gen.runtime.java.OctetBuffer();" << EndLn
+        }
+        case (name, BooleanField) => {
+          out << "public boolean " << name << " = " << defaults.getOrElse(name, "false") << ";" << EndLn
+        }
+        case (name, IntegerField) => {
+          out << "public long " << name << " = " << defaults.getOrElse(name, "0") << ";" << EndLn
+        }
+        case (name, EnumField(typeName)) => {
+          out << "public " << typeName << " " << name << " = " << defaults.getOrElse(name, typeName + ".EMPTY") << ";" << EndLn
+        }
+        case (name, SequenceField(typeName)) => {
+          out << "public final " << typeName << ".Mutable " << name << " = new " << typeName << ".Mutable();" << EndLn
+        }
+        case (name, ImmutableField(typeName)) => {
+          out << "public " << typeName << " " << name << " = " << typeName << ".EMPTY;" << EndLn
+        }
+      }
+      fields foreach { case (name, _) =>
+        if (optionalTypes contains name) {
+          out << "public boolean has" << name.capitalise << " = false;" << EndLn
+        }
+      }
+      out << EndLn
+      out << "@Override" << EndLn
+      out << "public Mutable reset() {" << EndLn
+      out.indent(2) {
+        fields foreach {
+          case (name, OctetsField | Utf8Field) if defaults contains name => {
+            out << "this." << name << ".set(" << name << "Default, 0, " << name << "Default.length);" << EndLn
+          }
+          case (name, OctetsField) => out << "this." << name << ".clear();" << EndLn
+          case (name, Utf8Field) => out << "this." << name << ".clear();" << EndLn
+          case (name, BooleanField) => out << "this." << name << " = " << defaults.getOrElse(name, "false") << ";" << EndLn
+          case (name, IntegerField) => out << "this." << name << " = " << defaults.getOrElse(name, "0") << ";" << EndLn
+          case (name, EnumField(typeName)) => {
+            out << "this." << name << " = " << defaults.getOrElse(name, typeName + ".EMPTY") << ";" << EndLn
+          }
+          case (name, SequenceField(typeName)) => out << "this." << name << ".reset();" << EndLn
+          case (name, ImmutableField(typeName)) => out << "this." << name << " = " << typeName << ".EMPTY;" << EndLn
+        }
+        fields foreach { case (name, _) =>
+          if (optionalTypes contains name) {
+            out << "this.has" << name.capitalise << " = false;" << EndLn
+          }
+        }
+        out << EndLn
+        out << "return this;" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public " << safeAssignmentName << " toImmutable() {" << EndLn
+      out.indent(2) {
+        out << "return toImmutable(null);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "public " << safeAssignmentName << " toImmutable(final AsnInterner interner) {" << EndLn
+      out.indent(2) {
+        out << "return new " << safeAssignmentName << "("
+        out.indent(2) {
+          var delim = ""
+          fields foreach { case (name, field) =>
+            out << delim << EndLn
+            if (optionalTypes contains name) {
+              out << "this.has" << name.capitalise << " ? some("
+            }
+            field match {
+              case OctetsField => out << "this." << name << ".toAsnOctetString()"
+              case Utf8Field => out << "this." << name << ".toAsnUtf8String(interner)"
+              case BooleanField => {
+                out << "this." << name << " ? org.asn1gen.runtime.java.AsnBoolean.TRUE : org.asn1gen.runtime.java.AsnBoolean.FALSE"
+              }
+              case IntegerField => out << "org.asn1gen.runtime.java.AsnInteger.valueOf(this." << name << ")"
+              case SequenceField(_) => out << "this." << name << ".toImmutable(interner)"
+              case _ => out << "this." << name
+            }
+            optionalTypes.get(name) foreach { typeName =>
+              out << ") : org.asn1gen.runtime.java.None.<" << typeName << ">instance()"
+            }
+            delim = ","
+          }
+        }
+        out << ");" << EndLn
+      }
+      out << "}" << EndLn
+    }
+    out << "}" << EndLn
+  }
+  
+  def generateDecodeInto(
+      assignmentName: String, list: List[ast.ComponentType], extensible: Boolean)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    out << "public static " << safeAssignmentName << ".Mutable decodeInto_(final " << safeAssignmentName << ".Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {" << EndLn
+    out.indent(2) {
+      out << "target.cursor.reset(window);" << EndLn
+      out << EndLn
+      out << "if (!target.cursor.next()) {" << EndLn
+      out.indent(2) {
+        out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "consumed.value = target.cursor.consumed();" << EndLn
+      out << EndLn
+      out << "return decodeInto(target, target.cursor);" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+    out << "public static " << safeAssignmentName << ".Mutable decodeInto_(final " << safeAssignmentName << ".Mutable target, final TlvCursor frame) throws AsnException {" << EndLn
+    out.indent(2) {
+      out << "if (frame.identifier != 0x30) {" << EndLn
+      out.indent(2) {
+        out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "return decodePartInto(target, frame);" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+    out << "public static " << safeAssignmentName << ".Mutable decodePartInto_(final " << safeAssignmentName << ".Mutable target, final TlvCursor frame) throws AsnException {" << EndLn
+    out.indent(2) {
+      if (dispatchesOnTag(list)) {
+        generateDispatchedDecodeInto(assignmentName, list, extensible)
+      } else {
+        generateSequentialDecodeInto(assignmentName, list, extensible)
+      }
+    }
+    out << "}" << EndLn
+    out << EndLn
+    out << "public static boolean tryDecodeInto_(final " << safeAssignmentName << ".Mutable target, final ByteArrayWindow window, final AsnResult result) {" << EndLn
+    out.indent(2) {
+      out << "try {" << EndLn
+      out.indent(2) {
+        out << "decodeInto(target, window, result);" << EndLn
+        out << EndLn
+        out << "return result.succeed();" << EndLn
+      }
+      out << "} catch (final AsnException e) {" << EndLn
+      out.indent(2) {
+        out << "return result.fail(e, window);" << EndLn
+      }
+      out << "}" << EndLn
+    }
+    out << "}" << EndLn
+  }
+  
+  def mismatchOf(cursor: String, tags: List[WireTag]): String = {
+    tags match {
+      case List(tag) => tag.mismatch(cursor)
+      case _ => tags.map(_.mismatchTerm(cursor)).mkString(" && ")
+    }
+  }
+  
+  def absenceOf(cursor: String, list: List[ast.ComponentType], index: Int)(implicit module: Module): String = {
+    val _type = list(index) match {
+      case ast.NamedComponentType(ast.NamedType(_, _type), _) => _type
+    }
+    wireTagsOf(_type) match {
+      case Some(tags) => mismatchOf(cursor, tags)
+      case None => cursor + ".identifier == -1"
+    }
+  }
+  
+  def generateSequentialDecodeInto(
+      assignmentName: String, list: List[ast.ComponentType], extensible: Boolean)(implicit module: Module, out: IndentWriter): Unit = {
+    val types = list map {
+      case ast.NamedComponentType(ast.NamedType(_, _type), _) => _type
+    }
+    out << "final TlvCursor cursor = target.cursor;" << EndLn
+    if (needsInnerCursor(types)) {
+      out << "final TlvCursor inner = target.inner;" << EndLn
+    }
+    out << EndLn
+    out << "target.reset();" << EndLn
+    out << "cursor.enter(frame);" << EndLn
+    out << "cursor.next();" << EndLn
+    out.trace("/*", "*/")
+    list.zipWithIndex foreach {
+      case (ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value), index) => {
+        val name = safeId(identifier)
+        val field = mutableFieldOf(assignmentName, _type)
+        out << EndLn
+        if (value == ast.Empty) {
+          out << "if (" << absenceOf("cursor", list, index) << ") {" << EndLn
+          out.indent(2) {
+            out << "throw cursor.unexpected();" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          generateDecodeMember(name, field, _type)
+          out << "cursor.next();" << EndLn
+        } else {
+          out << "if (" << presenceOf("cursor", list, index) << ") {" << EndLn
+          out.indent(2) {
+            generateDecodeMember(name, field, _type)
+            if (value == ast.Optional) {
+              out << "target.has" << name.capitalise << " = true;" << EndLn
+            }
+            out << "cursor.next();" << EndLn
+          }
+          out << "}" << EndLn
+        }
+      }
+    }
+    if (!extensible) {
+      out << EndLn
+      out << "if (cursor.identifier != -1) {" << EndLn
+      out.indent(2) {
+        out << "throw cursor.unexpected();" << EndLn
+      }
+      out << "}" << EndLn
+    }
+    out << EndLn
+    out << "return target;" << EndLn
+  }
+  
+  val dispatchThreshold = 8
+  
+  def tagKeysOf(_type: ast.Type)(implicit module: Module): Option[List[Int]] = {
+    wireTagsOf(_type) flatMap { tags =>
+      val keys = tags.map(_.key)
+      if (keys contains None) None else Some(keys.flatten)
+    }
+  }
+  
+  def hexKey(key: Int): String = "0x%08x".format(key)
+  
+  def dispatchesOnTag(list: List[ast.ComponentType])(implicit module: Module): Boolean = {
+    val optionalCount = list count {
+      case ast.NamedComponentType(_, value) => value != ast.Empty
+      case _ => false
+    }
+    val keys = list map {
+      case ast.NamedComponentType(ast.NamedType(_, _type), _) => tagKeysOf(_type)
+      case _ => None
+    }
+    optionalCount >= dispatchThreshold && !keys.contains(None) && {
+      val allKeys = keys.flatten.flatten
+      allKeys.distinct.length == allKeys.length
+    }
+  }
+  
+  def generateDispatchedDecodeInto(
+      assignmentName: String, list: List[ast.ComponentType], extensible: Boolean)(implicit module: Module, out: IndentWriter): Unit = {
+    val components = list.zipWithIndex map {
+      case (ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value), index) => {
+        (safeId(identifier), _type, value, index)
+      }
+    }
+    val words = (components.length + 63) / 64
+    out << "final TlvCursor cursor = target.cursor;" << EndLn
+    if (needsInnerCursor(components.map(_._2))) {
+      out << "final TlvCursor inner = target.inner;" << EndLn
+    }
+    (0 until words) foreach { word =>
+      out << "long present" << word << " = 0L;" << EndLn
+    }
+    out << "int index;" << EndLn
+    out << "int last = -1;" << EndLn
+    out << EndLn
+    out << "target.reset();" << EndLn
+    out << "cursor.enter(frame);" << EndLn
+    out << EndLn
+    out << "while (cursor.next()) {" << EndLn
+    out.indent(2) {
+      out.trace("/*", "*/")
+      out << "switch (cursor.tagKey()) {" << EndLn
+      components foreach { case (name, _type, value, index) =>
+        tagKeysOf(_type).get foreach { key =>
+          out << "case " << hexKey(key) << ":" << EndLn
+        }
+        out.indent(2) {
+          out << "index = " << index << ";" << EndLn
+          out << EndLn
+          out << "if (" << mismatchOf("cursor", wireTagsOf(_type).get) << ") {" << EndLn
+          out.indent(2) {
+            out << "throw cursor.unexpected();" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          generateDecodeMember(name, mutableFieldOf(assignmentName, _type), _type)
+          if (value == ast.Optional) {
+            out << "target.has" << name.capitalise << " = true;" << EndLn
+          }
+          out << "present" << (index / 64) << " |= 0x" << (1L << (index % 64)).toHexString << "L;" << EndLn
+          out << "break;" << EndLn
+        }
+      }
+      out << "default:" << EndLn
+      out.indent(2) {
+        if (extensible) {
+          out << "continue;" << EndLn
+        } else {
+          out << "throw cursor.unexpected();" << EndLn
+        }
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "if (index <= last) {" << EndLn
+      out.indent(2) {
+        out << "throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, cursor.tlvStart);" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "last = index;" << EndLn
+    }
+    out << "}" << EndLn
+    (0 until words) foreach { word =>
+      val mandatory = (0L /: components) { case (mask, (_, _, value, index)) =>
+        if (value == ast.Empty && index / 64 == word) mask | (1L << (index % 64)) else mask
+      }
+      if (mandatory != 0L) {
+        val literal = "0x" + mandatory.toHexString + "L"
+        out << EndLn
+        out << "if ((present" << word << " & " << literal << ") != " << literal << ") {" << EndLn
+        out.indent(2) {
+          out << "throw new AsnDecodeException(AsnErrorCode.MISSING_COMPONENT, cursor.tlvStart);" << EndLn
+        }
+        out << "}" << EndLn
+      }
+    }
+    out << EndLn
+    out << "return target;" << EndLn
+  }
+  
+  def generateDecodeMember(name: String, field: MutableField, _type: ast.Type)(implicit module: Module, out: IndentWriter): Unit = {
+    framingOf(_type) match {
+      case Untagged => generateDecodeIntoField(name, field, "cursor", false)
+      case Implicit(_, _) => generateDecodeIntoField(name, field, "cursor", true)
+      case Explicit(_, taggedType) => {
+        val mismatch = wireTagsOf(taggedType) match {
+          case Some(List(tag)) => " || " + tag.mismatch("inner")
+          case Some(tags) => " || (" + mismatchOf("inner", tags) + ")"
+          case None => ""
+        }
+        val implicitly = framingOf(taggedType) match {
+          case Implicit(_, _) => true
+          case _ => false
+        }
+        out << "inner.enter(cursor);" << EndLn
+        out << EndLn
+        out << "if (!inner.next()" << mismatch << ") {" << EndLn
+        out.indent(2) {
+          out << "throw inner.unexpected();" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        generateDecodeIntoField(name, field, "inner", implicitly)
+        out << EndLn
+        out << "if (inner.next()) {" << EndLn
+        out.indent(2) {
+          out << "throw inner.unexpected();" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+      }
+    }
+  }
+  
+  def generateDecodeIntoField(
+      name: String, field: MutableField, cursor: String, implicitly: Boolean)(implicit module: Module, out: IndentWriter): Unit = {
+    field match {
+      case OctetsField => {
+        out << "target." << name << ".set(" << cursor << ".array, " << cursor << ".valueStart, " << cursor << ".valueLength);" << EndLn
+      }
+      case Utf8Field => {
+        out << "target." << name << ".set(" << cursor << ".array, " << cursor << ".valueStart, " << cursor << ".valueLength);" << EndLn
+      }
+      case BooleanField => {
+        generateLengthCheck(cursor, cursor + ".valueLength != 1")
+        out << "target." << name << " = " << cursor << ".booleanValue();" << EndLn
+      }
+      case IntegerField => {
+        generateLengthCheck(cursor, cursor + ".valueLength < 1 || " + cursor + ".valueLength > 8")
+        out << "target." << name << " = " << cursor << ".longValue();" << EndLn
+      }
+      case EnumField(typeName) => {
+        generateLengthCheck(cursor, cursor + ".valueLength < 1 || " + cursor + ".valueLength > 8")
+        out << "final " << typeName << " " << name << " = " << typeName << ".lookup(" << cursor << ".longValue());" << EndLn
+        out << EndLn
+        out << "if (" << name << " == null) {" << EndLn
+        out.indent(2) {
+          out << "throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, " << cursor << ".tlvStart);" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "target." << name << " = " << name << ";" << EndLn
+      }
+      case SequenceField(typeName) if implicitly => {
+        out << "decodePartInto(target." << name << ", " << cursor << ");" << EndLn
+      }
+      case SequenceField(typeName) => {
+        out << "decodeInto(target." << name << ", " << cursor << ");" << EndLn
+      }
+      case ImmutableField(typeName) if implicitly => {
+        out << "target." << name << " = decodePart(" << typeName << ".EMPTY, " << cursor << ".valueWindow(), ReturnInteger.IGNORE);" << EndLn
+      }
+      case ImmutableField(typeName) => {
+        out << "target." << name << " = decode(" << typeName << ".EMPTY, " << cursor << ".window(), ReturnInteger.IGNORE);" << EndLn
+      }
+    }
+  }
+  
+  def generateLengthCheck(cursor: String, badLength: String)(implicit out: IndentWriter): Unit = {
+    out << "if (" << badLength << ") {" << EndLn
+    out.indent(2) {
+      out << "throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, " << cursor << ".tlvStart);" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+  }
+  
+  def hasValidator(builtinType: ast.BuiltinType): Boolean = {
+    builtinType match {
+      case ast.ChoiceType(_) => true
+      case ast.SequenceType(_) => true
+      case ast.EnumeratedType(_) => true
+      case ast.SetOfType(_) => true
+      case _ => false
+    }
+  }
+  
+  def validatedReference(_type: ast.Type)(implicit module: Module): Option[String] = {
+    _type match {
+      case ast.Type(ast.TypeReference(referencedType), _) => {
+        module.types.get(referencedType) match {
+          case Some(NamedType(_, ast.Type(builtinType: ast.BuiltinType, _))) if hasValidator(builtinType) => {
+            Some(safeId(referencedType))
+          }
+          case Some(NamedType(_, aliasedType@ast.Type(ast.TypeReference(_), _))) => validatedReference(aliasedType)
+          case _ => None
+        }
+      }
+      case _ => None
+    }
+  }
+  
+  def tagNumberOf(tag: ast.Tag): Option[Long] = {
+    tag.classNumber match {
+      case ast.Number(tagNumber) if BigInt(tagNumber) < (BigInt(1) << 56) => Some(tagNumber.toLong)
+      case _ => None
+    }
+  }
+  
+  def tagClassBits(tag: ast.Tag): Int = {
+    tag._class match {
+      case ast.Universal => 0x00
+      case ast.Application => 0x40
+      case ast.Private => 0xc0
+      case _ => 0x80
+    }
+  }
+  
+  def resolvedType(_type: ast.Type)(implicit module: Module): ast.Type = {
+    _type match {
+      case ast.Type(ast.TypeReference(referencedType), _) if module.types.contains(referencedType) => {
+        resolvedType(module.types(referencedType)._type)
+      }
+      case _ => _type
+    }
+  }
+  
+  def framingOf(_type: ast.Type)(implicit module: Module): Framing = {
+    _type match {
+      case ast.Type(ast.TaggedType(tag, taggedKind, taggedType), _) => {
+        tagNumberOf(tag) match {
+          case Some(tagNo) => {
+            val innerTags = resolvedType(taggedType) match {
+              case ast.Type(ast.ChoiceType(_), _) => None
+              case _ if taggedKind == ast.Implicit => wireTagsOf(taggedType)
+              case _ => None
+            }
+            innerTags match {
+              case Some(List(innerTag)) => Implicit(WireTag(tagClassBits(tag) | (innerTag.classAndForm & 0x20), tagNo), taggedType)
+              case _ => Explicit(WireTag(tagClassBits(tag) | 0x20, tagNo), taggedType)
+            }
+          }
+          case None => Untagged
+        }
+      }
+      case _ => Untagged
+    }
+  }
+  
+  def wireTagsOf(_type: ast.Type)(implicit module: Module): Option[List[WireTag]] = {
+    _type match {
+      case ast.Type(ast.OctetStringType, _) => Some(List(WireTag(0x00, 4)))
+      case ast.Type(ast.UTF8String, _) => Some(List(WireTag(0x00, 12)))
+      case ast.Type(ast.BOOLEAN, _) => Some(List(WireTag(0x00, 1)))
+      case ast.Type(ast.INTEGER(_), _) => Some(List(WireTag(0x00, 2)))
+      case ast.Type(ast.NULL, _) => Some(List(WireTag(0x00, 5)))
+      case ast.Type(ast.REAL, _) => Some(List(WireTag(0x00, 9)))
+      case ast.Type(ast.EnumeratedType(_), _) => Some(List(WireTag(0x00, 10)))
+      case ast.Type(ast.SequenceType(_), _) => Some(List(WireTag(0x20, 16)))
+      case ast.Type(ast.SequenceOfType(_), _) => Some(List(WireTag(0x20, 16)))
+      case ast.Type(ast.SetType(_), _) => Some(List(WireTag(0x20, 17)))
+      case ast.Type(ast.SetOfType(_), _) => Some(List(WireTag(0x20, 17)))
+      case ast.Type(ast.TaggedType(_, _, _), _) => {
+        framingOf(_type) match {
+          case Explicit(tag, _) => Some(List(tag))
+          case Implicit(tag, _) => Some(List(tag))
+          case Untagged => None
+        }
+      }
+      case ast.Type(ast.ChoiceType(ast.AlternativeTypeLists(rootAlternativeTypeList, _, _, _)), _) => {
+        val alternatives = rootAlternativeTypeList.namedTypes map { namedType =>
+          wireTagsOf(namedType._type)
+        }
+        if (alternatives contains None) None else Some(alternatives.flatten.flatten)
+      }
+      case ast.Type(ast.TypeReference(referencedType), _) => {
+        module.types.get(referencedType) match {
+          case Some(NamedType(_, referencedType)) => wireTagsOf(referencedType)
+          case None => None
+        }
+      }
+      case _ => None
+    }
+  }
+  
+  def hex(identifier: Int): String = "0x%02x".format(identifier)
+  
+  def hasValidatePart(builtinType: ast.BuiltinType): Boolean = {
+    builtinType match {
+      case ast.ChoiceType(_) => false
+      case _ => hasValidator(builtinType)
+    }
+  }
+  
+  def generateValidateDelegates(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    out << EndLn
+    out << "public static int validate(final " << safeAssignmentName << " value, final ByteArrayWindow window) {" << EndLn
+    out.indent(2) {
+      out << "return validate_(value, window);" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+    out << "public static int validate(final " << safeAssignmentName << " value, final TlvCursor frame) {" << EndLn
+    out.indent(2) {
+      out << "return validate_(value, frame);" << EndLn
+    }
+    out << "}" << EndLn
+    if (hasValidatePart(builtinType)) {
+      out << EndLn
+      out << "public static int validatePart(final " << safeAssignmentName << " value, final TlvCursor frame) {" << EndLn
+      out.indent(2) {
+        out << "return validatePart_(value, frame);" << EndLn
+      }
+      out << "}" << EndLn
+    }
+  }
+  
+  def validatedTypeOf(_type: ast.Type)(implicit module: Module): ast.Type = {
+    framingOf(_type) match {
+      case Explicit(_, innerType) => innerType
+      case Implicit(_, innerType) => innerType
+      case Untagged => _type
+    }
+  }
+  
+  def needsErrorOffset(types: List[ast.Type])(implicit module: Module): Boolean = {
+    types exists { _type => validatedReference(validatedTypeOf(_type)) != None }
+  }
+  
+  def needsInnerCursor(types: List[ast.Type])(implicit module: Module): Boolean = {
+    types exists { _type =>
+      framingOf(_type) match {
+        case Explicit(_, _) => true
+        case _ => false
+      }
+    }
+  }
+  
+  def presenceOf(cursor: String, list: List[ast.ComponentType], index: Int)(implicit module: Module): String = {
+    val components = list map {
+      case ast.NamedComponentType(ast.NamedType(_, _type), value) => (_type, value)
+    }
+    wireTagsOf(components(index)._1) match {
+      case Some(tags) => tags.map(_.condition(cursor)).mkString(" || ")
+      case None => {
+        val (optionals, rest) = components.drop(index + 1).span(_._2 != ast.Empty)
+        val following = (optionals ::: rest.take(1)) flatMap { case (_type, _) =>
+          wireTagsOf(_type).getOrElse(Nil)
+        }
+        (cursor + ".identifier != -1" :: following.map(_.mismatchTerm(cursor))).mkString(" && ")
+      }
+    }
+  }
+  
+  def generateValidate(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    out << EndLn
+    out << "public static int validate_(final " << safeAssignmentName << " value, final ByteArrayWindow window) {" << EndLn
+    out.indent(2) {
+      out << "final TlvCursor cursor = new TlvCursor().reset(window);" << EndLn
+      out << EndLn
+      out << "if (!cursor.tryNext()) {" << EndLn
+      out.indent(2) {
+        out << "return cursor.tlvStart - window.start;" << EndLn
+      }
+      out << "}" << EndLn
+      out << EndLn
+      out << "final int errorOffset = validate(value, cursor);" << EndLn
+      out << EndLn
+      out << "return errorOffset < 0 ? -1 : errorOffset - window.start;" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+    out << "public static int validate_(final " << safeAssignmentName << " value, final TlvCursor frame) {" << EndLn
+    out.indent(2) {
+      out.trace("/*", "*/")
+      builtinType match {
+        case ast.ChoiceType(ast.AlternativeTypeLists(rootAlternativeTypeList, _, _, _)) => {
+          val alternatives = rootAlternativeTypeList.namedTypes map { namedType =>
+            namedType._type
+          }
+          out << "final TlvCursor cursor = new TlvCursor().enter(frame);" << EndLn
+          if (needsErrorOffset(alternatives)) {
+            out << "int errorOffset;" << EndLn
+          }
+          out << EndLn
+          out << "switch (frame.tagKey()) {" << EndLn
+          alternatives foreach { _type =>
+            framingOf(_type) match {
+              case Explicit(tag, taggedType) if tag.key != None => {
+                out << "case " << hexKey(tag.key.get) << ":" << EndLn
+                out.indent(2) {
+                  out << "if (" << tag.mismatch("frame") << ") {" << EndLn
+                  out.indent(2) {
+                    out << "return frame.tlvStart;" << EndLn
+                  }
+                  out << "}" << EndLn
+                  out << EndLn
+                  out << "cursor.tryNext();" << EndLn
+                  out << EndLn
+                  generateValidateElement("cursor", taggedType)
+                  out << EndLn
+                  out << "return cursor.tryNext() ? cursor.tlvStart : cursor.errorOffset;" << EndLn
+                }
+              }
+              case Implicit(tag, taggedType) if tag.key != None => {
+                out << "case " << hexKey(tag.key.get) << ":" << EndLn
+                out.indent(2) {
+                  generateValidateMember("frame", _type, false)
+                  out << EndLn
+                  out << "return -1;" << EndLn
+                }
+              }
+              case _ => {
+                tagKeysOf(_type) match {
+                  case Some(keys) => {
+                    keys foreach { key =>
+                      out << "case " << hexKey(key) << ":" << EndLn
+                    }
+                    out.indent(2) {
+                      generateValidateElement("frame", _type)
+                      out << EndLn
+                      out << "return -1;" << EndLn
+                    }
+                  }
+                  case None => ()
+                }
+              }
+            }
+          }
+          out << "default:" << EndLn
+          out.indent(2) {
+            if (alternatives exists { _type => tagKeysOf(_type) == None }) {
+              out << "return -1;" << EndLn
+            } else {
+              out << "return frame.tlvStart;" << EndLn
+            }
+          }
+          out << "}" << EndLn
+        }
+        case _ => {
+          val identifier = builtinType match {
+            case ast.EnumeratedType(_) => 0x0a
+            case ast.SetOfType(_) => 0x31
+            case _ => 0x30
+          }
+          out << "if (frame.identifier != " << hex(identifier) << ") {" << EndLn
+          out.indent(2) {
+            out << "return frame.tlvStart;" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "return validatePart(value, frame);" << EndLn
+        }
+      }
+    }
+    out << "}" << EndLn
+    if (hasValidatePart(builtinType)) {
+      out << EndLn
+      out << "public static int validatePart_(final " << safeAssignmentName << " value, final TlvCursor frame) {" << EndLn
+      out.indent(2) {
+        out.trace("/*", "*/")
+        generateValidatePart(builtinType, assignmentName)
+      }
+      out << "}" << EndLn
+    }
+  }
+  
+  def generateValidatePart(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    builtinType match {
+      case ast.EnumeratedType(_) => {
+        out << "if (frame.valueLength < 1 || frame.valueLength > 8 || " << safeAssignmentName << ".lookup(frame.longValue()) == null) {" << EndLn
+        out.indent(2) {
+          out << "return frame.tlvStart;" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "return -1;" << EndLn
+      }
+      case ast.SequenceType(ast.Empty) => {
+        out << "if (frame.valueLength != 0) {" << EndLn
+        out.indent(2) {
+          out << "return frame.tlvStart;" << EndLn
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "return -1;" << EndLn
+      }
+      case ast.SequenceType(ast.ComponentTypeLists(list1, extension, list2)) => {
+        val list = (list1.toList:::list2.toList).map { componentTypeList =>
+          componentTypeList.componentTypes
+        }.flatten
+        val types = list map {
+          case ast.NamedComponentType(ast.NamedType(_, _type), _) => _type
+        }
+        out << "final TlvCursor cursor = new TlvCursor().enter(frame);" << EndLn
+        if (needsInnerCursor(types)) {
+          out << "final TlvCursor inner = new TlvCursor();" << EndLn
+        }
+        if (needsErrorOffset(types)) {
+          out << "int errorOffset;" << EndLn
+        }
+        out << EndLn
+        out << "cursor.tryNext();" << EndLn
+        list.zipWithIndex foreach {
+          case (ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value), index) => {
+            out << EndLn
+            if (value == ast.Empty) {
+              generateValidateMember("cursor", _type, false)
+              out << EndLn
+              out << "cursor.tryNext();" << EndLn
+            } else {
+              out << "if (" << presenceOf("cursor", list, index) << ") {" << EndLn
+              out.indent(2) {
+                if (generateValidateMember("cursor", _type, wireTagsOf(_type) != None)) {
+                  out << EndLn
+                }
+                out << "cursor.tryNext();" << EndLn
+              }
+              out << "}" << EndLn
+            }
+          }
+        }
+        out << EndLn
+        extension match {
+          case Some(_) => {
+            out << "while (cursor.identifier != -1) {" << EndLn
+            out.indent(2) {
+              out << "cursor.tryNext();" << EndLn
+            }
+            out << "}" << EndLn
+            out << EndLn
+            out << "return cursor.errorOffset;" << EndLn
+          }
+          case None => {
+            out << "return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;" << EndLn
+          }
+        }
+      }
+      case ast.SetOfType(elementType) => {
+        out << "final TlvCursor cursor = new TlvCursor().enter(frame);" << EndLn
+        if (needsInnerCursor(List(elementType))) {
+          out << "final TlvCursor inner = new TlvCursor();" << EndLn
+        }
+        if (needsErrorOffset(List(elementType))) {
+          out << "int errorOffset;" << EndLn
+        }
+        out << EndLn
+        out << "while (cursor.tryNext()) {" << EndLn
+        out.indent(2) {
+          generateValidateMember("cursor", elementType, false)
+        }
+        out << "}" << EndLn
+        out << EndLn
+        out << "return cursor.errorOffset;" << EndLn
+      }
+      case _ => {
+        out << "return -1;" << EndLn
+      }
+    }
+  }
+  
+  /**
+   * Generates the checks for one member at cursor and returns whether any
+   * code was emitted.  When matched is set, the caller has already compared
+   * the identifier against every wire tag of the member, so the tag itself
+   * is not tested again.
+   */
+  def generateValidateMember(
+      cursor: String, _type: ast.Type, matched: Boolean)(implicit module: Module, out: IndentWriter): Boolean = {
+    framingOf(_type) match {
+      case Untagged if matched && validatedReference(_type) == None => {
+        generateValidateContent(cursor, _type)
+      }
+      case Untagged => {
+        generateValidateElement(cursor, _type)
+        true
+      }
+      case Explicit(tag, taggedType) => {
+        if (!matched) {
+          out << "if (" << tag.mismatch(cursor) << ") {" << EndLn
+          out.indent(2) {
+            out << "return " << cursor << ".tlvStart;" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+        }
+        out << "inner.enter(" << cursor << ");" << EndLn
+        out << "inner.tryNext();" << EndLn
+        out << EndLn
+        generateValidateElement("inner", taggedType)
+        out << EndLn
+        out << "if (inner.tryNext() || inner.errorOffset >= 0) {" << EndLn
+        out.indent(2) {
+          out << "return inner.tlvStart;" << EndLn
+        }
+        out << "}" << EndLn
+        true
+      }
+      case Implicit(tag, taggedType) if matched => {
+        generateValidateContent(cursor, taggedType)
+      }
+      case Implicit(tag, taggedType) => {
+        out << "if (" << tag.mismatch(cursor) << ") {" << EndLn
+        out.indent(2) {
+          out << "return " << cursor << ".tlvStart;" << EndLn
+        }
+        out << "}" << EndLn
+        if (hasValidateContent(taggedType)) {
+          out << EndLn
+          generateValidateContent(cursor, taggedType)
+        }
+        true
+      }
+    }
+  }
+  
+  def contentCheckOf(cursor: String, _type: ast.Type)(implicit module: Module): Option[String] = {
+    resolvedType(_type) match {
+      case ast.Type(ast.BOOLEAN, _) => Some(cursor + ".valueLength != 1")
+      case ast.Type(ast.INTEGER(_), _) => Some(cursor + ".valueLength < 1 || " + cursor + ".valueLength > 8")
+      case _ => None
+    }
+  }
+  
+  def hasValidateContent(_type: ast.Type)(implicit module: Module): Boolean = {
+    validatedReference(_type) != None || contentCheckOf("", _type) != None
+  }
+  
+  def generateValidateContent(cursor: String, _type: ast.Type)(implicit module: Module, out: IndentWriter): Boolean = {
+    validatedReference(_type) match {
+      case Some(typeName) => {
+        out << "errorOffset = validatePart(" << typeName << ".EMPTY, " << cursor << ");" << EndLn
+        out << EndLn
+        out << "if (errorOffset >= 0) {" << EndLn
+        out.indent(2) {
+          out << "return errorOffset;" << EndLn
+        }
+        out << "}" << EndLn
+        true
+      }
+      case None => {
+        val check = contentCheckOf(cursor, _type)
+        check foreach { check =>
+          out << "if (" << check << ") {" << EndLn
+          out.indent(2) {
+            out << "return " << cursor << ".tlvStart;" << EndLn
+          }
+          out << "}" << EndLn
+        }
+        check != None
+      }
+    }
+  }
+  
+  def generateValidateElement(cursor: String, _type: ast.Type)(implicit module: Module, out: IndentWriter): Unit = {
+    validatedReference(_type) match {
+      case Some(typeName) => {
+        out << "errorOffset = validate(" << typeName << ".EMPTY, " << cursor << ");" << EndLn
+        out << EndLn
+        out << "if (errorOffset >= 0) {" << EndLn
+        out.indent(2) {
+          out << "return errorOffset;" << EndLn
+        }
+        out << "}" << EndLn
+      }
+      case None => {
+        _type match {
+          case ast.Type(ast.TypeReference(referencedType), _) if module.types.contains(referencedType) => {
+            generateValidateElement(cursor, module.types(referencedType)._type)
+          }
+          case _ => {
+            val check = _type match {
+              case ast.Type(ast.OctetStringType, _) => cursor + ".identifier != 0x04"
+              case ast.Type(ast.UTF8String, _) => cursor + ".identifier != 0x0c"
+              case ast.Type(ast.BOOLEAN, _) => cursor + ".identifier != 0x01 || " + cursor + ".valueLength != 1"
+              case ast.Type(ast.INTEGER(_), _) => {
+                cursor + ".identifier != 0x02 || " + cursor + ".valueLength < 1 || " + cursor + ".valueLength > 8"
+              }
+              case _ => cursor + ".identifier == -1"
+            }
+            out << "if (" << check << ") {" << EndLn
+            out.indent(2) {
+              out << "return " << cursor << ".tlvStart;" << EndLn
+            }
+            out << "}" << EndLn
+          }
+        }
+      }
+    }
+  }
+  
+  def generate(assignmentName: String, setOfType: ast.SetOfType)(implicit module: Module, out: IndentWriter): Unit = {
+    val safeAssignmentName = safeId(assignmentName)
+    setOfType match {
+      case ast.SetOfType(ast.Type(elementType, _)) if primitiveList(elementType) != None => {
+        generatePrimitiveList(assignmentName, elementType)
+      }
       case ast.SetOfType(ast.Type(elementType, _)) => {
         elementType match {
           case ast.TypeReference(referencedType) => {
@@ -1317,17 +2734,17 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
             out << "@SuppressWarnings(\"unused\")" << EndLn
             out << "public class " << safeAssignmentName << " extends org.asn1gen.runtime.java.AsnList {" << EndLn
             out.indent(2) {
-              out << "public static " << safeAssignmentName << " EMPTY = new " << safeAssignmentName << "(org.asn1gen.runtime.java.ConsList.<" << safeReferenceType << ">nil());" << EndLn
+              out << "public static " << safeAssignmentName << " EMPTY = new " << safeAssignmentName << "(org.asn1gen.runtime.java.ImmutableList.<" << safeReferenceType << ">nil());" << EndLn
               out << EndLn
-              out << "public final org.asn1gen.runtime.java.ConsList<" << safeReferenceType << "> items;" << EndLn
+              out << "public final org.asn1gen.runtime.java.ImmutableList<" << safeReferenceType << "> items;" << EndLn
               out << EndLn
-              out << "public " << safeAssignmentName << "(final org.asn1gen.runtime.java.ConsList<" << safeReferenceType << "> items) {" << EndLn
+              out << "public " << safeAssignmentName << "(final org.asn1gen.runtime.java.ImmutableList<" << safeReferenceType << "> items) {" << EndLn
               out.indent(2) {
                 out << "this.items = items;" << EndLn
               }
               out << "}" << EndLn
               out << EndLn
-              out << "public " << safeAssignmentName << " withItems(final org.asn1gen.runtime.java.ConsList<" << safeReferenceType << "> value) {" << EndLn
+              out << "public " << safeAssignmentName << " withItems(final org.asn1gen.runtime.java.ImmutableList<" << safeReferenceType << "> value) {" << EndLn
               out.indent(2) {
                 out << "return new " << safeAssignmentName << "(value);" << EndLn
               }
@@ -1349,7 +2766,7 @@ class GenJava(model: JavaModel, outDirectory: File, namespace: Option[String], m
                 }
                 out << "}" << EndLn
                 out << EndLn
-                out << "return true;" << EndLn
+                out << "return false;" << EndLn
               }
               out << "}" << EndLn
               out << EndLn
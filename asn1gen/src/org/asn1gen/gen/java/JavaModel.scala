@@ -2,6 +2,8 @@ package org.asn1gen.gen.java
 
 import java.io.File
 import org.asn1gen.extra.Extras._
+import org.asn1gen.gen.GenerationManifest
+import org.asn1gen.gen.Parallel
 import org.asn1gen.io.IndentWriter
 import org.asn1gen.parsing.asn1.Asn1Parser
 import org.asn1gen.parsing.asn1.{ast => ast}
@@ -11,24 +13,31 @@ import scala.io.Source
 case class JavaModel(
     modules: HashMap[String, Module], 
     namespace: Option[String] = None, 
-    pathOut: File = new File(".")) extends Asn1Parser {
+    pathOut: File = new File("."),
+    incremental: Boolean = false,
+    threads: Int = 1) extends Asn1Parser {
   def parse[N](root: Parser[N], input: String) =
     phrase(root)(new lexical.Scanner(input))
   
-  def load(file: File): JavaModel = {
-    val text = Source.fromFile(file).mkString
-    parse(root, text) match {
-      case Success(moduleDefinition, _) =>
-        val refactoredModuleDefinition = AnonymousTypeNamer.process(moduleDefinition)
-        //GenJavaAst.generate(new IndentWriter(System.out), refactoredModuleDefinition)
-        val name = refactoredModuleDefinition.name
-        if (modules.contains(name)) {
-          throw new ModuleLoadException("Module " + name + " already exists")
-        }
-        JavaModel(modules + (refactoredModuleDefinition.name -> Module.from(refactoredModuleDefinition)))
-      case failure =>
-        throw new ModuleLoadException("Parse failure: " + failure)
+  def load(file: File): JavaModel = add(JavaModel.parseModule(file))
+  
+  /**
+   * Loads several files at once.  Files are parsed and their anonymous types
+   * named on up to threads workers, each with its own parser, and the modules
+   * are then added in file order, so duplicates are reported just as a fold
+   * over load would report them.
+   */
+  def loadAll(files: Seq[File]): JavaModel = {
+    val moduleDefinitions = Parallel.map(files, threads)(JavaModel.parseModule)
+    (this /: moduleDefinitions) { (model, moduleDefinition) => model.add(moduleDefinition) }
+  }
+  
+  def add(moduleDefinition: ast.ModuleDefinition): JavaModel = {
+    val name = moduleDefinition.name
+    if (modules.contains(name)) {
+      throw new ModuleLoadException("Module " + name + " already exists")
     }
+    this.copy(modules = modules + (name -> Module.from(moduleDefinition)))
   }
   
   def genJava(file: File): Unit = {
@@ -37,14 +46,88 @@ case class JavaModel(
     }
   }
   
+  /**
+   * Generates every module, or in incremental mode only the modules whose
+   * fingerprint differs from the one recorded in the manifest under pathOut.
+   * Files whose content is unchanged are never rewritten either way.  With
+   * more than one thread the files of all stale modules are written
+   * concurrently; each file is rendered on its own, so the output is the same
+   * as a serial run.  The manifest is only saved once every file is written.
+   */
   def write(): Unit = {
-    modules foreach { case (moduleName, module) =>
+    val manifestFile = pathOut.make / GenerationManifest.FileName
+    val previous = if (incremental) GenerationManifest.load(manifestFile) else GenerationManifest.empty
+    val fingerprints = this.fingerprints
+    val stale = modules.toList.sortBy(_._1) filter { case (moduleName, module) =>
       val genJava = new GenJava(this, pathOut.make, namespace, moduleName)
-      genJava.generate(module)
+      previous.get(moduleName) != Some(fingerprints(moduleName)) || !genJava.outputExists(module)
+    }
+    val outputs = stale flatMap { case (moduleName, module) =>
+      val genJava = new GenJava(this, pathOut.make, namespace, moduleName)
+      genJava.outputs(module) map { case (file, f) => (genJava, file, f) }
+    }
+    Parallel.foreach(outputs, threads) { case (genJava, file, f) =>
+      genJava.writeFile(file)(f)
+    }
+    val manifest = (previous.retain(modules.contains) /: modules.keys) { (manifest, moduleName) =>
+      manifest.updated(moduleName, fingerprints(moduleName))
+    }
+    manifest.saveTo(manifestFile)
+  }
+  
+  /**
+   * Fingerprints each module from its resolved AST, the generator options and
+   * the fingerprints of the modules it imports, so a change to an imported
+   * module also regenerates its importers.
+   */
+  def fingerprints: Map[String, String] = {
+    val results = new scala.collection.mutable.HashMap[String, String]
+    def fingerprintOf(moduleName: String, visiting: Set[String]): String = {
+      results.get(moduleName) match {
+        case Some(fingerprint) => fingerprint
+        case None if visiting.contains(moduleName) => "cycle:" + moduleName
+        case None => modules.get(moduleName) match {
+          case None => "external:" + moduleName
+          case Some(module) => {
+            val imports = module.imports map { symbolsFromModule =>
+              symbolsFromModule.module + "=" + fingerprintOf(symbolsFromModule.module, visiting + moduleName)
+            }
+            val types = module.types.toList.sortBy(_._1) map { case (name, namedType) => name + "=" + namedType._type }
+            val values = module.values.toList.sortBy(_._1) map { case (name, namedValue) => name + "=" + namedValue }
+            val fingerprint = GenerationManifest.fingerprint(
+                List(JavaModel.generatorFingerprint, namespace.toString, module.name) :::
+                imports ::: types ::: values)
+            results(moduleName) = fingerprint
+            fingerprint
+          }
+        }
+      }
     }
+    HashMap(modules.keys.toList map { moduleName => moduleName -> fingerprintOf(moduleName, Set.empty) }: _*)
   }
 }
 
 object JavaModel {
   def empty = JavaModel(HashMap[String, Module]())
+  
+  private class ModuleParser extends Asn1Parser {
+    def parseModule(text: String): ast.ModuleDefinition = {
+      phrase(root)(new lexical.Scanner(text)) match {
+        case Success(moduleDefinition, _) => moduleDefinition
+        case failure => throw new ModuleLoadException("Parse failure: " + failure)
+      }
+    }
+  }
+  
+  /**
+   * Parses a module file and names its anonymous types.  Uses a parser of its
+   * own, so it is safe to call from several threads at once.
+   */
+  def parseModule(file: File): ast.ModuleDefinition = {
+    val text = Source.fromFile(file).mkString
+    AnonymousTypeNamer.process(new ModuleParser().parseModule(text))
+  }
+  
+  lazy val generatorFingerprint: String =
+    GenerationManifest.fingerprintOf(classOf[GenJava], NameOf.getClass)
 }
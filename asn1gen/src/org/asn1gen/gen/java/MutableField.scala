@@ -0,0 +1,17 @@
+package org.asn1gen.gen.java
+
+sealed abstract class MutableField
+
+case object OctetsField extends MutableField
+
+case object Utf8Field extends MutableField
+
+case object BooleanField extends MutableField
+
+case object IntegerField extends MutableField
+
+case class EnumField(typeName: String) extends MutableField
+
+case class SequenceField(typeName: String) extends MutableField
+
+case class ImmutableField(typeName: String) extends MutableField
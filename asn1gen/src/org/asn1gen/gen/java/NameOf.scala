@@ -23,7 +23,7 @@ object NameOf {
       case ast.Default(value) =>
         return asnTypeOf(_type)
       case ast.Optional =>
-        return "Option[" + asnTypeOf(_type) + "]"
+        return "org.asn1gen.runtime.java.Option<" + asnTypeOf(_type) + ">"
     }
   }  
 
@@ -45,7 +45,7 @@ object NameOf {
       case ast.Default(value) =>
         return rawTypeOf(_type)
       case ast.Optional =>
-        return "Option[" + rawTypeOf(_type) + "]"
+        return "org.asn1gen.runtime.java.Option<" + rawTypeOf(_type) + ">"
     }
   }
 
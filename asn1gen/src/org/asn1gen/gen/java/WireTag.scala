@@ -0,0 +1,31 @@
+package org.asn1gen.gen.java
+
+case class WireTag(classAndForm: Int, tagNo: Long) {
+  val identifier: Int = if (tagNo < 31) classAndForm | tagNo.toInt else classAndForm | 0x1f
+  
+  def constructed: Boolean = (classAndForm & 0x20) != 0
+  
+  def condition(cursor: String): String = {
+    if (tagNo < 31) {
+      cursor + ".identifier == " + "0x%02x".format(identifier)
+    } else {
+      cursor + ".identifier == " + "0x%02x".format(identifier) + " && " + cursor + ".tagNo == " + tagNo + "L"
+    }
+  }
+  
+  def mismatch(cursor: String): String = {
+    if (tagNo < 31) {
+      cursor + ".identifier != " + "0x%02x".format(identifier)
+    } else {
+      cursor + ".identifier != " + "0x%02x".format(identifier) + " || " + cursor + ".tagNo != " + tagNo + "L"
+    }
+  }
+  
+  def mismatchTerm(cursor: String): String = {
+    if (tagNo < 31) mismatch(cursor) else "(" + mismatch(cursor) + ")"
+  }
+  
+  def key: Option[Int] = {
+    if (tagNo < 0x20000000L) Some(((classAndForm & 0xc0) << 23) | tagNo.toInt) else None
+  }
+}
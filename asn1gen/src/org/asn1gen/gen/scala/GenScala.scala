@@ -236,16 +236,26 @@ class GenScala(packageName: String, out: IndentWriter) {
           }
           out << "}" << EndLn
           out << EndLn
-          out << "override def hashCode(): Int = return (" << EndLn
+          out << "private[this] var _hash = 0" << EndLn
+          out << EndLn
+          out << "override def hashCode(): Int = {" << EndLn
           out.indent(2) {
-            out << "0" << EndLn
-            list foreach {
-              case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _), value) => {
-                out << "^ this." << safeId(identifier) << ".hashCode" << EndLn
+            out << "var hash = _hash" << EndLn
+            out << "if (hash == 0) {" << EndLn
+            out.indent(2) {
+              out << "hash = _rt_.Hashing.Seed" << EndLn
+              list foreach {
+                case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _), value) => {
+                  out << "hash = _rt_.Hashing.mix(hash, this." << safeId(identifier) << ")" << EndLn
+                }
               }
+              out << "hash = _rt_.Hashing.finish(hash, " << list.size << ")" << EndLn
+              out << "_hash = hash" << EndLn
             }
+            out << "}" << EndLn
+            out << "hash" << EndLn
           }
-          out << ")" << EndLn << EndLn
+          out << "}" << EndLn << EndLn
           generateSequenceImmutableSetters(assignmentName, list)
           out << EndLn << EndLn << "override def _child(name: String): Any = name match {"
           out.indent(2) {
@@ -258,6 +268,18 @@ class GenScala(packageName: String, out: IndentWriter) {
             out << "\"Member '\" + name + \"' does not exist.\")" << EndLn
           }
           out << "}" << EndLn
+          out << EndLn
+          out << "override def _child(index: Int): Any = index match {" << EndLn
+          out.indent(2) {
+            list.zipWithIndex foreach {
+              case (ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _), value), index) => {
+                out << "case " << index << " => " << safeId(identifier) << EndLn
+              }
+            }
+            out << "case _ => throw new Exception("
+            out << "\"Member index \" + index + \" does not exist.\")" << EndLn
+          }
+          out << "}" << EndLn
         }
         out << "}" << EndLn
         out << EndLn
@@ -530,7 +552,7 @@ class GenScala(packageName: String, out: IndentWriter) {
             out.ensureEmptyLines(1)
             ( out
               << "case class " << safeAssignmentName
-              << "(items: List[" << safeReferenceType << "]) "
+              << "(items: _rt_.ImmutableSeq[" << safeReferenceType << "]) "
               << "extends _rt_.AsnList {" << EndLn
             )
             out.indent(2) {
@@ -538,7 +560,7 @@ class GenScala(packageName: String, out: IndentWriter) {
                 << "override def _desc: _meta_." << safeAssignmentName
                 << " = _meta_." << safeAssignmentName << EndLn
                 << EndLn
-                << "def items(f: (List[" << safeReferenceType << ("] => List[")
+                << "def items(f: (_rt_.ImmutableSeq[" << safeReferenceType << ("] => _rt_.ImmutableSeq[")
                 << safeReferenceType << "])): " << safeAssignmentName
                 << " =" << EndLn
               )
@@ -549,13 +571,13 @@ class GenScala(packageName: String, out: IndentWriter) {
             ( out
               << "}" << EndLn << EndLn
               << "object " << safeAssignmentName
-              << " extends " << safeAssignmentName << "(Nil) {" << EndLn
+              << " extends " << safeAssignmentName << "(_rt_.ImmutableSeq.empty) {" << EndLn
             )
             out.indent(2) {
               ( out
                 << "def apply(items: " << safeReferenceType
                 << "*): " << safeAssignmentName << " = "
-                << safeAssignmentName << "(items.toList)" << EndLn
+                << safeAssignmentName << "(_rt_.ImmutableSeq(items: _*))" << EndLn
               )
             }
             out << "}" << EndLn
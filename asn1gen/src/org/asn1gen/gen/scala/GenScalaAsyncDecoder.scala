@@ -0,0 +1,497 @@
+package org.asn1gen.gen.scala
+
+import org.asn1gen.extra.Extras._
+import org.asn1gen.io._
+import org.asn1gen.parsing.asn1.{ast => ast}
+import org.asn1gen.gen.scala.NameOf._
+
+/**
+ * Generates push-style handlers that dispatch a callback per SEQUENCE
+ * component, CHOICE alternative or SET OF item as each triplet is read, so
+ * that consumers receive typed values without building model objects.
+ */
+class GenScalaAsyncDecoder(packageName: String, out: IndentWriter) {
+  def generate(implicit module: Module): Unit = {
+    ( out
+      << "/* This file was generated by asn1gen */" << EndLn
+      << EndLn
+      << "package " << packageName << ".codec.async" << EndLn
+      << EndLn
+      << "import org.asn1gen.runtime.{codec => _codec_}" << EndLn
+      << "import org.asn1gen.runtime.codec.{async => _async_}" << EndLn
+      << EndLn
+      << "object " << safeId(module.name) << " {" << EndLn
+    )
+    out.indent(2) {
+      module.types.foreach { case (_, namedType: NamedType) =>
+        generate(namedType)
+      }
+    }
+    out << "}" << EndLn
+  }
+
+  def generate(namedType: NamedType)(implicit module: Module): Unit = {
+    namedType._type match {
+      case ast.Type(builtinType: ast.BuiltinType, _) => {
+        generate(builtinType, namedType.name)
+      }
+      case _type@ast.Type(ast.TypeReference(name), _) if handlerOf(_type).isDefined => {
+        val handlerName = safeId("On" + namedType.name)
+        out.ensureEmptyLines(1)
+        out << "type " << handlerName << " = " << safeId("On" + name) << EndLn
+        out << EndLn
+        out << "val " << handlerName << ": " << handlerName << " = " << safeId("On" + name) << EndLn
+      }
+      case t@ast.Type(_, _) => {
+        ( out
+          << "/* unknown: " << namedType.name << EndLn
+          << t << EndLn
+          << "*/" << EndLn
+        )
+      }
+    }
+  }
+
+  def generate(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module): Unit = {
+    val handlerName = safeId("On" + assignmentName)
+    builtinType match {
+      case ast.ChoiceType(
+        ast.AlternativeTypeLists(ast.RootAlternativeTypeList(ast.AlternativeTypeList(namedTypes)), _, _, _))
+      => {
+        val alternatives = namedTypes flatMap {
+          case ast.NamedType(
+            ast.Identifier(name),
+            _type@ast.Type(ast.TaggedType(ast.Tag(_, ast.Number(_)), _, _), _))
+          => {
+            handlerOf(_type) map { handler => (safeId(name), _type, handler) }
+          }
+          case _ => None
+        }
+        out.ensureEmptyLines(1)
+        out << "// Choice type" << EndLn
+        generateHandlerClass(handlerName, alternatives)
+        out.indent(2) {
+          out << "def accepts(header: Long): Boolean =" << EndLn
+          out.indent(2) {
+            if (alternatives.isEmpty) {
+              out << "false" << EndLn
+            } else {
+              alternatives.zipWithIndex foreach { case ((_, _type, _), index) =>
+                out << "_codec_.PackedTriplet.tagKey(header) == " << tagKeyLiteral(_type)
+                if (index < alternatives.length - 1) {
+                  out << " ||"
+                }
+                out << EndLn
+              }
+            }
+          }
+          out << EndLn
+          out << "def decode(is: _codec_.DecodingInputStream, length: Int): Unit = {" << EndLn
+          out.indent(2) {
+            out << "decodeComponents(is, length) { components =>" << EndLn
+            out.indent(2) {
+              out << "components.choice(false, accepts) { decodeElement(is, _) }" << EndLn
+            }
+            out << "}" << EndLn
+          }
+          out << "}" << EndLn
+          out << EndLn
+          out << "def decodeElement(is: _codec_.DecodingInputStream, header: Long): Unit = {" << EndLn
+          out.indent(2) {
+            alternatives foreach { case (name, _type, _) =>
+              ( out
+                << "if (_codec_.PackedTriplet.tagKey(header) == " << tagKeyLiteral(_type) << ") {"
+                << EndLn
+              )
+              out.indent(2) {
+                out << decodeStatement(_type, "this." + name, "_codec_.PackedTriplet.length(header)") << EndLn
+              }
+              out << "} else "
+            }
+            out << "{" << EndLn
+            out.indent(2) {
+              ( out
+                << "throw new _codec_.DecodingException(\"Unknown " << assignmentName
+                << " alternative with tag \" + _codec_.PackedTriplet.tagType(header))" << EndLn
+              )
+            }
+            out << "}" << EndLn
+          }
+          out << "}" << EndLn
+        }
+        out << "}" << EndLn
+        generateHandlerObject(handlerName, alternatives)
+      }
+      case ast.SequenceType(ast.Empty) => {
+        out.ensureEmptyLines(1)
+        out << "// Empty sequence type" << EndLn
+        generateSequence(handlerName, Nil)
+      }
+      case ast.SequenceType(ast.ComponentTypeLists(list1, extension, list2)) => {
+        val list = (list1.toList:::list2.toList).map { componentTypeList =>
+          componentTypeList.componentTypes
+        }.flatten
+        val components = list flatMap {
+          case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value) => {
+            List((safeId(identifier), _type, value))
+          }
+          case _ => Nil
+        }
+        out.ensureEmptyLines(1)
+        out << "// Sequence type" << EndLn
+        generateSequence(handlerName, components)
+      }
+      case ast.SetOfType(elementType@ast.Type(ast.TypeReference(_), _)) => {
+        val items = handlerOf(elementType).toList map { handler => ("_item", elementType, handler) }
+        out.ensureEmptyLines(1)
+        out << "// Set of type" << EndLn
+        generateHandlerClass(handlerName, items, true)
+        out.indent(2) {
+          out << "def decode(is: _codec_.DecodingInputStream, length: Int): Unit = {" << EndLn
+          out.indent(2) {
+            out << "this._begin()" << EndLn
+            out << "decodeComponents(is, length) { components =>" << EndLn
+            out.indent(2) {
+              out << "while (components.hasNext) {" << EndLn
+              out.indent(2) {
+                items foreach { case (name, _type, _) =>
+                  out << decodeComponent(_type, "this." + name, false) << EndLn
+                }
+                if (items.isEmpty) {
+                  out << "components.skip()" << EndLn
+                }
+              }
+              out << "}" << EndLn
+            }
+            out << "}" << EndLn
+            out << "this._end()" << EndLn
+          }
+          out << "}" << EndLn
+        }
+        out << "}" << EndLn
+        generateHandlerObject(handlerName, items, true)
+      }
+      case ast.EnumeratedType(_) | ast.INTEGER(_) | ast.BOOLEAN | ast.NULL | ast.REAL |
+          ast.OctetStringType | ast.BitStringType(_) | ast.TaggedType(_, _, _) | _: ast.CharacterStringType => {
+        handlerOf(ast.Type(builtinType, Nil)) foreach { case (handlerType, handlerDefault) =>
+          out.ensureEmptyLines(1)
+          out << "type " << handlerName << " = " << handlerType << EndLn
+          out << EndLn
+          out << "val " << handlerName << ": " << handlerName << " = " << handlerDefault << EndLn
+        }
+      }
+      case unmatched => {
+        out.ensureEmptyLines(1)
+        out << "// Unmatched " << handlerName << ": " << unmatched << EndLn
+      }
+    }
+  }
+
+  /**
+   * Generates a SEQUENCE handler as a state machine.  The state is the index
+   * of the first component that may still appear, so each header is matched
+   * only against the components acceptable at that position: the next
+   * mandatory component and any OPTIONAL components before it.  Unknown
+   * components, such as extension additions, are skipped.
+   */
+  def generateSequence(
+      handlerName: String,
+      components: List[(String, ast.Type, ast.OptionalDefault[ast.Value])])(implicit module: Module): Unit = {
+    val fields = components flatMap { case (name, _type, value) =>
+      handlerOf(_type).toList map { handler => (name, _type, handler, value != ast.Empty) }
+    }
+    val requiredState = fields.lastIndexWhere { case (_, _, _, optional) => !optional } + 1
+    generateHandlerClass(handlerName, fields map { case (name, _type, handler, _) => (name, _type, handler) }, true)
+    out.indent(2) {
+      out << "def decode(is: _codec_.DecodingInputStream, length: Int): Unit = {" << EndLn
+      out.indent(2) {
+        components foreach { case (name, _type, _) =>
+          if (handlerOf(_type).isEmpty) {
+            out << "// " << name << ": " << rawTypeOf(_type) << " not supported and skipped" << EndLn
+          }
+        }
+        out << "this._begin()" << EndLn
+        out << "val oldLimit = is.pushLimit(length)" << EndLn
+        out << "var state = 0" << EndLn
+        out << "while (!is.atLimit) {" << EndLn
+        out.indent(2) {
+          out << "val header = readHeader(is)" << EndLn
+          out << "val key = _codec_.PackedTriplet.tagKey(header)" << EndLn
+          out << "val index = state match {" << EndLn
+          out.indent(2) {
+            fields.indices foreach { state =>
+              val nextMandatory = fields.indexWhere({ case (_, _, _, optional) => !optional }, state)
+              val candidates = state to (if (nextMandatory < 0) fields.length - 1 else nextMandatory)
+              out << "case " << state << " =>" << EndLn
+              out.indent(2) {
+                candidates foreach { index =>
+                  val (name, _type, _, _) = fields(index)
+                  tagOf(_type) match {
+                    case Some(_) => out << "if (key == " << tagKeyLiteral(_type) << ") " << index << EndLn
+                    case None => out << "if (this." << name << ".accepts(header)) " << index << EndLn
+                  }
+                  out << "else "
+                }
+                out << "-1" << EndLn
+              }
+            }
+            out << "case _ => -1" << EndLn
+          }
+          out << "}" << EndLn
+          out << "val fieldLength = _codec_.PackedTriplet.length(header)" << EndLn
+          out << "val fieldLimit = is.pushLimit(fieldLength)" << EndLn
+          out << "index match {" << EndLn
+          out.indent(2) {
+            fields.zipWithIndex foreach { case ((name, _type, _, _), index) =>
+              out << "case " << index << " =>" << EndLn
+              out.indent(2) {
+                tagOf(_type) match {
+                  case Some(_) => out << decodeStatement(_type, "this." + name, "fieldLength") << EndLn
+                  case None => out << "this." << name << ".decodeElement(is, header)" << EndLn
+                }
+              }
+            }
+            out << "case _ =>" << EndLn
+            out.indent(2) {
+              out << "is.skipFully(fieldLength)" << EndLn
+            }
+          }
+          out << "}" << EndLn
+          out << "is.popLimit(fieldLimit)" << EndLn
+          out << "if (index >= 0) {" << EndLn
+          out.indent(2) {
+            out << "state = index + 1" << EndLn
+          }
+          out << "}" << EndLn
+        }
+        out << "}" << EndLn
+        out << "is.popLimit(oldLimit)" << EndLn
+        if (requiredState > 0) {
+          out << "if (state < " << requiredState << ") {" << EndLn
+          out.indent(2) {
+            ( out
+              << "throw new _codec_.DecodingException(\"Missing mandatory component of "
+              << handlerName << " after state \" + state)" << EndLn
+            )
+          }
+          out << "}" << EndLn
+        }
+        out << "this._end()" << EndLn
+      }
+      out << "}" << EndLn
+    }
+    out << "}" << EndLn
+    generateHandlerObject(handlerName, fields map { case (name, _type, handler, _) => (name, _type, handler) }, true)
+  }
+
+  def generateHandlerClass(
+      handlerName: String,
+      fields: List[(String, ast.Type, (String, String))],
+      delimited: Boolean = false): Unit = {
+    out.ensureEmptyLines(1)
+    out << "case class " << handlerName << "(" << EndLn
+    out.indent(4) {
+      val parameters = (
+        fields.map { case (name, _, (handlerType, _)) => name + ": " + handlerType } :::
+        (if (delimited) List("_begin: () => Unit", "_end: () => Unit") else Nil)
+      )
+      parameters.zipWithIndex foreach { case (parameter, index) =>
+        out << parameter
+        if (index < parameters.length - 1) {
+          out << "," << EndLn
+        }
+      }
+    }
+    out << ") extends _async_.Decodable {" << EndLn
+    out.indent(2) {
+      fields foreach { case (name, _, (handlerType, _)) =>
+        ( out
+          << "def " << name << "(transform: " << handlerType << " => " << handlerType << "): "
+          << handlerName << " =" << EndLn
+        )
+        out.indent(2) {
+          out << "this.copy(" << name << " = transform(this." << name << "))" << EndLn
+        }
+        out << EndLn
+      }
+      if (delimited) {
+        List("_begin", "_end") foreach { name =>
+          ( out
+            << "def " << name << "(transform: (() => Unit) => (() => Unit)): " << handlerName << " =" << EndLn
+          )
+          out.indent(2) {
+            out << "this.copy(" << name << " = transform(this." << name << "))" << EndLn
+          }
+          out << EndLn
+        }
+      }
+    }
+  }
+
+  def generateHandlerObject(
+      handlerName: String,
+      fields: List[(String, ast.Type, (String, String))],
+      delimited: Boolean = false): Unit = {
+    out << EndLn
+    out << "object " << handlerName << " extends " << handlerName << "("
+    val arguments = (
+      fields.map { case (_, _, (_, handlerDefault)) => handlerDefault } :::
+      (if (delimited) List("{ () => }", "{ () => }") else Nil)
+    )
+    out << arguments.mkString(", ") << ")" << EndLn
+  }
+
+  def decodeComponent(_type: ast.Type, handler: String, optional: Boolean)(implicit module: Module): String = {
+    tagOf(_type) match {
+      case Some((tagClassValue, tagNumber)) => {
+        ( "components.field(" + tagClassName(tagClassValue) + ", " + tagNumber + ", " + optional + ") { length => "
+          + decodeStatement(_type, handler, "length") + " }" )
+      }
+      case None => {
+        "components.choice(" + optional + ", " + handler + ".accepts) { " + handler + ".decodeElement(is, _) }"
+      }
+    }
+  }
+
+  def decodeStatement(_type: ast.Type, handler: String, length: String)(implicit module: Module): String = {
+    _type match {
+      case ast.Type(ast.TaggedType(_, taggedKind, underlyingType), _) => {
+        if (taggedKind != ast.Implicit && !isChoice(underlyingType)) {
+          "decodeExplicit(is, " + length + ") { " + handler + ".decode(is, _) }"
+        } else {
+          handler + ".decode(is, " + length + ")"
+        }
+      }
+      case _ => handler + ".decode(is, " + length + ")"
+    }
+  }
+
+  def handlerOf(_type: ast.Type)(implicit module: Module): Option[(String, String)] = {
+    _type match {
+      case ast.Type(ast.TaggedType(_, _, underlyingType), _) => handlerOf(underlyingType)
+      case ast.Type(ast.TypeReference(name), _) if module.types.contains(name) => {
+        val hasHandler = resolve(_type) match {
+          case ast.Type(ast.SequenceType(_) | ast.ChoiceType(_), _) => true
+          case ast.Type(ast.SetOfType(ast.Type(ast.TypeReference(_), _)), _) => true
+          case ast.Type(ast.TypeReference(_), _) => false
+          case resolved => handlerOf(resolved).isDefined
+        }
+        if (hasHandler) Some((safeId("On" + name), safeId("On" + name))) else None
+      }
+      case ast.Type(ast.INTEGER(_), _) => Some(("_async_.OnAsnInteger", "_async_.OnAsnInteger"))
+      case ast.Type(ast.BOOLEAN, _) => Some(("_async_.OnAsnBoolean", "_async_.OnAsnBoolean"))
+      case ast.Type(ast.NULL, _) => Some(("_async_.OnAsnNull", "_async_.OnAsnNull"))
+      case ast.Type(ast.REAL, _) => Some(("_async_.OnAsnReal", "_async_.OnAsnReal"))
+      case ast.Type(ast.EnumeratedType(_), _) => Some(("_async_.OnAsnEnumeration", "_async_.OnAsnEnumeration"))
+      case ast.Type(ast.OctetStringType, _) => Some(("_async_.OnAsnOctetString", "_async_.OnAsnOctetString"))
+      case ast.Type(ast.BitStringType(_), _) => Some(("_async_.OnAsnBitString", "_async_.OnAsnBitString"))
+      case ast.Type(characterString: ast.CharacterStringType, _) => {
+        val charset = characterString match {
+          case ast.UTF8String => ".utf8"
+          case ast.BMPString => ".bmp"
+          case ast.UniversalString => ".universal"
+          case _ => ""
+        }
+        universalTagOf(characterString) map { _ =>
+          ("_async_.OnAsnCharacterString", "_async_.OnAsnCharacterString" + charset)
+        }
+      }
+      case _ => None
+    }
+  }
+
+  /**
+   * The tag class and number that introduce a value of the type, or None for
+   * an untagged CHOICE, whose alternatives carry their own tags.
+   */
+  def tagOf(_type: ast.Type)(implicit module: Module): Option[(Int, Long)] = {
+    _type match {
+      case ast.Type(ast.TaggedType(ast.Tag(tagClass, ast.Number(tagNumber)), _, _), _) => {
+        val tagClassValue = tagClass match {
+          case ast.Universal => 0
+          case ast.Application => 1
+          case ast.Private => 3
+          case _ => 2
+        }
+        Some((tagClassValue, tagNumber.toLong))
+      }
+      case _ => {
+        resolve(_type) match {
+          case resolved@ast.Type(ast.TaggedType(_, _, _), _) => tagOf(resolved)
+          case resolved => universalTagOf(resolved) map { tagNumber => (0, tagNumber) }
+        }
+      }
+    }
+  }
+
+  def tagClassName(tagClassValue: Int): String = {
+    tagClassValue match {
+      case 0 => "_codec_.TagClass.Universal"
+      case 1 => "_codec_.TagClass.Application"
+      case 3 => "_codec_.TagClass.Private"
+      case _ => "_codec_.TagClass.ContextSpecific"
+    }
+  }
+
+  /**
+   * The PackedTriplet.tagKey of the tag introducing the type, as a literal
+   * with the tag spelt out in a comment.
+   */
+  def tagKeyLiteral(_type: ast.Type)(implicit module: Module): String = {
+    val (tagClassValue, tagNumber) = tagOf(_type).get
+    val prefix = List("UNIVERSAL ", "APPLICATION ", "", "PRIVATE ")(tagClassValue)
+    "0x%08x /* [%s%d] */".format((tagClassValue.toLong << 28) | tagNumber, prefix, tagNumber)
+  }
+
+  def universalTagOf(_type: ast.Type): Option[Long] = {
+    _type match {
+      case ast.Type(ast.BOOLEAN, _) => Some(1)
+      case ast.Type(ast.INTEGER(_), _) => Some(2)
+      case ast.Type(ast.BitStringType(_), _) => Some(3)
+      case ast.Type(ast.OctetStringType, _) => Some(4)
+      case ast.Type(ast.NULL, _) => Some(5)
+      case ast.Type(ast.REAL, _) => Some(9)
+      case ast.Type(ast.EnumeratedType(_), _) => Some(10)
+      case ast.Type(ast.SequenceType(_) | ast.SequenceOfType(_), _) => Some(16)
+      case ast.Type(ast.SetType(_) | ast.SetOfType(_), _) => Some(17)
+      case ast.Type(characterString: ast.CharacterStringType, _) => universalTagOf(characterString)
+      case _ => None
+    }
+  }
+
+  def resolve(_type: ast.Type)(implicit module: Module): ast.Type = {
+    _type match {
+      case ast.Type(ast.TypeReference(name), _) => {
+        module.types.get(name) match {
+          case Some(NamedType(_, referencedType)) => resolve(referencedType)
+          case None => _type
+        }
+      }
+      case _ => _type
+    }
+  }
+
+  def isChoice(_type: ast.Type)(implicit module: Module): Boolean = {
+    resolve(_type) match {
+      case ast.Type(ast.ChoiceType(_), _) => true
+      case _ => false
+    }
+  }
+
+  def universalTagOf(characterString: ast.CharacterStringType): Option[Long] = {
+    characterString match {
+      case ast.UTF8String => Some(12)
+      case ast.NumericString => Some(18)
+      case ast.PrintableString => Some(19)
+      case ast.TeletexString | ast.T61String => Some(20)
+      case ast.VideotexString => Some(21)
+      case ast.IA5String => Some(22)
+      case ast.GraphicString => Some(25)
+      case ast.VisibleString | ast.ISO646String => Some(26)
+      case ast.GeneralString => Some(27)
+      case ast.UniversalString => Some(28)
+      case ast.BMPString => Some(30)
+      case _ => None
+    }
+  }
+}
@@ -9,16 +9,17 @@ import org.asn1gen.gen.scala.NameOf._
 
 class GenScalaBerEncoder(packageName: String, out: IndentWriter) {
   val keywords = Set("yield", "type", "null", "final")
-  
-  def generate(module: Module): Unit = {
+
+  def generate(implicit module: Module): Unit = {
     ( out
       << "/* This file was generated by asn1gen */" << EndLn
       << EndLn
       << "package " << packageName << ".codec.ber" << EndLn
       << EndLn
       << "import org.asn1gen.{runtime => _rt_}" << EndLn
+      << "import org.asn1gen.runtime.{codec => _codec_}" << EndLn
       << "import org.asn1gen.{io => _io_}" << EndLn
-      << "import moo.{ASNEXAMPLES => _m_}" << EndLn
+      << "import " << packageName << ".{" << safeId(module.name) << " => _m_}" << EndLn
       << EndLn
       << "trait " << safeId(module.name) << " extends org.asn1gen.runtime.codec.BerEncoder {" << EndLn
       << EndLn
@@ -34,8 +35,8 @@ class GenScalaBerEncoder(packageName: String, out: IndentWriter) {
     }
     out << "}" << EndLn
   }
-  
-  def generate(namedType: NamedType): Unit = {
+
+  def generate(namedType: NamedType)(implicit module: Module): Unit = {
     namedType._type match {
       case ast.Type(builtinType: ast.BuiltinType, _) => {
         generate(builtinType, namedType.name)
@@ -49,58 +50,59 @@ class GenScalaBerEncoder(packageName: String, out: IndentWriter) {
       }
     }
   }
-  
-  def generate(builtinType: ast.BuiltinType, assignmentName: String): Unit = {
+
+  def generate(builtinType: ast.BuiltinType, assignmentName: String)(implicit module: Module): Unit = {
     val safeAssignmentName = "_m_." + safeId(assignmentName)
     builtinType match {
       case ast.ChoiceType(
-        ast.AlternativeTypeLists(rootAlternativeTypeList, _, _, _))
+        ast.AlternativeTypeLists(ast.RootAlternativeTypeList(ast.AlternativeTypeList(namedTypes)), _, _, _))
       => {
+        out.ensureEmptyLines(1)
         out << "// Choice type" << EndLn
-        out << "def encode("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
+        out << "def encode(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int = {" << EndLn
         out.indent(2) {
-          out << "_io_.ByteStreamer.nil" << EndLn
+          out << "value match {" << EndLn
+          out.indent(2) {
+            namedTypes foreach {
+              case ast.NamedType(
+                ast.Identifier(name),
+                _type@ast.Type(ast.TaggedType(ast.Tag(_, ast.Number(_)), _, _), _))
+              => {
+                ( out
+                  << "case choice: _m_." << safeId(assignmentName + "_" + name) << " =>" << EndLn
+                )
+                out.indent(2) {
+                  out << encodeExpression(_type, "choice._element") << EndLn
+                }
+              }
+              case _ => ()
+            }
+            out << "case _ =>" << EndLn
+            out.indent(2) {
+              ( out
+                << "throw new _codec_.EncodingException(\"Unknown "
+                << assignmentName << " alternative: \" + value._choiceName)" << EndLn
+              )
+            }
+          }
+          out << "}" << EndLn
         }
         out << "}" << EndLn
         out << EndLn
-        out << "def encodeData("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
+        out << "def encodeData(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int =" << EndLn
         out.indent(2) {
-          rootAlternativeTypeList match {
-            case ast.RootAlternativeTypeList(ast.AlternativeTypeList(namedTypes)) => {
-              namedTypes foreach { namedType =>
-                out << "// 1 -> " << namedType << EndLn
-              }
-            }
-          }
-          out << "_io_.ByteStreamer.nil" << EndLn
+          out << "encode(out, value)" << EndLn
         }
-        out << "}"
         out << EndLn
+        generateStreamer(safeAssignmentName)
       }
       case ast.SequenceType(ast.Empty) => {
         out.ensureEmptyLines(1)
         out << "// Empty sequence type" << EndLn
-        out << "def encode("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
-        out.indent(2) {
-          out << "_io_.ByteStreamer.nil" << EndLn
-        }
-        out << "}" << EndLn
-        out << EndLn
-        out << "def encodeData("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
-        out.indent(2) {
-          out << "// 2 -> Empty"
-          out << "_io_.ByteStreamer.nil" << EndLn
-        }
-        out << "}" << EndLn
+        generateConstructed(safeAssignmentName, 16)
+        out << "def encodeData(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int = 0" << EndLn
         out << EndLn
+        generateStreamer(safeAssignmentName)
       }
       case ast.SequenceType(ast.ComponentTypeLists(list1, extension, list2)) => {
         val list = (list1.toList:::list2.toList).map { componentTypeList =>
@@ -108,48 +110,66 @@ class GenScalaBerEncoder(packageName: String, out: IndentWriter) {
         }.flatten
         out.ensureEmptyLines(1)
         out << "// Sequence type" << EndLn
-        out << "def encode("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
+        generateConstructed(safeAssignmentName, 16)
+        out << "def encodeData(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int = {" << EndLn
         out.indent(2) {
-          out << "encodeSequence(encodeData(value))" << EndLn
+          out << "var length = 0" << EndLn
+          list.reverse foreach {
+            case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), ast.Optional) => {
+              out << "if (value." << safeId(identifier) << ".isDefined) {" << EndLn
+              out.indent(2) {
+                ( out
+                  << "length += "
+                  << encodeExpression(_type, "value." + safeId(identifier) + ".get") << EndLn
+                )
+              }
+              out << "}" << EndLn
+            }
+            case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), _) => {
+              out << "length += " << encodeExpression(_type, "value." + safeId(identifier)) << EndLn
+            }
+          }
+          out << "length" << EndLn
         }
         out << "}" << EndLn
         out << EndLn
-        out << "def encodeData("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer = {" << EndLn
+        generateStreamer(safeAssignmentName)
+      }
+      case ast.SetOfType(elementType@ast.Type(ast.TypeReference(_), _)) => {
+        out.ensureEmptyLines(1)
+        out << "// Set of type" << EndLn
+        generateConstructed(safeAssignmentName, 17)
+        out << "def encodeData(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int = {" << EndLn
         out.indent(2) {
-          list foreach {
-            case ast.NamedComponentType(ast.NamedType(ast.Identifier(identifier), _type), value) => {
-              out << "// 3 -> " << identifier << EndLn
-              out << "encode(value." << identifier << ")" << EndLn
-            }
+          out << "var length = 0" << EndLn
+          out << "var index = value.items.length - 1" << EndLn
+          out << "while (index >= 0) {" << EndLn
+          out.indent(2) {
+            out << "length += " << encodeExpression(elementType, "value.items(index)") << EndLn
+            out << "index -= 1" << EndLn
           }
-          out << "_io_.ByteStreamer.nil" << EndLn
+          out << "}" << EndLn
+          out << "length" << EndLn
         }
         out << "}" << EndLn
         out << EndLn
+        generateStreamer(safeAssignmentName)
       }
       case ast.EnumeratedType(enumerations)
       => {
-        var firstIndex: Option[Long] = None
         out.ensureEmptyLines(1)
         out << "// Enumerated type" << EndLn
-        out << "def encode("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer =" << EndLn
+        out << "def encode(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int =" << EndLn
         out.indent(2) {
-          out << "encode(value.asInstanceOf[_rt_.AsnEnumeration])" << EndLn
+          out << "encode(out, value: _rt_.AsnEnumeration)" << EndLn
         }
         out << EndLn
-        out << "def encodeData("
-        out << "value: " << safeAssignmentName
-        out << "): _io_.ByteStreamer =" << EndLn
+        out << "def encodeData(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int =" << EndLn
         out.indent(2) {
-          out << "encodeData(value.asInstanceOf[_rt_.AsnEnumeration])" << EndLn
+          out << "encodeData(out, value: _rt_.AsnEnumeration)" << EndLn
         }
         out << EndLn
+        generateStreamer(safeAssignmentName)
       }
       case unmatched => {
         out.ensureEmptyLines(1)
@@ -157,4 +177,127 @@ class GenScalaBerEncoder(packageName: String, out: IndentWriter) {
       }
     }
   }
+
+  def generateConstructed(safeAssignmentName: String, tagNumber: Int): Unit = {
+    out << "def encode(out: _io_.ByteBuilder, value: " << safeAssignmentName << "): Int =" << EndLn
+    out.indent(2) {
+      ( out
+        << "encodeHeader(out, _codec_.TagClass.Universal, _codec_.TagConstructed, "
+        << tagNumber << ", encodeData(out, value))" << EndLn
+      )
+    }
+    out << EndLn
+  }
+
+  def generateStreamer(safeAssignmentName: String): Unit = {
+    out << "def encode(value: " << safeAssignmentName << "): _io_.ByteStreamer = {" << EndLn
+    out.indent(2) {
+      out << "val out = new _io_.ByteBuilder" << EndLn
+      out << "encode(out, value)" << EndLn
+      out << "out.toByteStreamer" << EndLn
+    }
+    out << "}" << EndLn
+    out << EndLn
+  }
+
+  def encodeExpression(_type: ast.Type, expression: String)(implicit module: Module): String = {
+    _type match {
+      case ast.Type(ast.TaggedType(ast.Tag(tagClass, ast.Number(tagNumber)), taggedKind, underlyingType), _) => {
+        val tagClassName = tagClass match {
+          case ast.Universal => "_codec_.TagClass.Universal"
+          case ast.Application => "_codec_.TagClass.Application"
+          case ast.Private => "_codec_.TagClass.Private"
+          case _ => "_codec_.TagClass.ContextSpecific"
+        }
+        if (taggedKind == ast.Implicit && !isChoice(underlyingType)) {
+          val construction = if (isConstructed(underlyingType)) "_codec_.TagConstructed" else "_codec_.TagPrimitive"
+          ( "encodeHeader(out, " + tagClassName + ", " + construction + ", " + tagNumber + ", "
+            + encodeCall(underlyingType, expression, true) + ")" )
+        } else {
+          ( "encodeHeader(out, " + tagClassName + ", _codec_.TagConstructed, " + tagNumber + ", "
+            + encodeExpression(underlyingType, expression) + ")" )
+        }
+      }
+      case _ => encodeCall(_type, expression, false)
+    }
+  }
+
+  def encodeCall(_type: ast.Type, expression: String, dataOnly: Boolean)(implicit module: Module): String = {
+    val suffix = if (dataOnly) "Data" else ""
+    resolve(_type) match {
+      case ast.Type(characterString: ast.CharacterStringType, _) => {
+        universalTagOf(characterString) match {
+          case Some(tagNumber) => {
+            val value = if (isAlias(_type)) expression else expression + ".value"
+            "encodeString" + suffix + "(out, " + value + ", " + tagNumber + ")"
+          }
+          case None => unsupported(_type)
+        }
+      }
+      case ast.Type(ast.TaggedType(_, _, _), _) => unsupported(_type)
+      case ast.Type(
+        ast.INTEGER(_) | ast.BOOLEAN | ast.NULL | ast.REAL | ast.OctetStringType |
+        ast.BitStringType(_) | ast.EnumeratedType(_), _)
+      => {
+        "encode" + suffix + "(out, " + expression + ")"
+      }
+      case ast.Type(ast.SequenceType(_) | ast.ChoiceType(_) | ast.SetOfType(_), _) if isAlias(_type) => {
+        "encode" + suffix + "(out, " + expression + ")"
+      }
+      case _ => unsupported(_type)
+    }
+  }
+
+  def unsupported(_type: ast.Type): String =
+    "throw new _codec_.EncodingException(" + ("Cannot encode " + rawTypeOf(_type)).inspect + ")"
+
+  def resolve(_type: ast.Type)(implicit module: Module): ast.Type = {
+    _type match {
+      case ast.Type(ast.TypeReference(name), _) => {
+        module.types.get(name) match {
+          case Some(NamedType(_, referencedType)) => resolve(referencedType)
+          case None => _type
+        }
+      }
+      case _ => _type
+    }
+  }
+
+  def isAlias(_type: ast.Type): Boolean = {
+    _type match {
+      case ast.Type(ast.TypeReference(_), _) => true
+      case _ => false
+    }
+  }
+
+  def isChoice(_type: ast.Type)(implicit module: Module): Boolean = {
+    resolve(_type) match {
+      case ast.Type(ast.ChoiceType(_), _) => true
+      case _ => false
+    }
+  }
+
+  def isConstructed(_type: ast.Type)(implicit module: Module): Boolean = {
+    resolve(_type) match {
+      case ast.Type(ast.SequenceType(_) | ast.SetOfType(_) | ast.SequenceOfType(_) | ast.SetType(_), _) => true
+      case _ => false
+    }
+  }
+
+  def universalTagOf(characterString: ast.CharacterStringType): Option[Int] = {
+    characterString match {
+      case ast.UTF8String => Some(12)
+      case ast.NumericString => Some(18)
+      case ast.PrintableString => Some(19)
+      case ast.TeletexString | ast.T61String => Some(20)
+      case ast.VideotexString => Some(21)
+      case ast.IA5String => Some(22)
+      case ast.GraphicString => Some(25)
+      case ast.VisibleString | ast.ISO646String => Some(26)
+      case ast.GeneralString => Some(27)
+      case ast.UniversalString => Some(28)
+      case ast.BMPString => Some(30)
+      case _ => None
+    }
+  }
 }
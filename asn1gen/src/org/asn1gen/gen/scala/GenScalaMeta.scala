@@ -70,7 +70,7 @@ class GenScalaMeta(packageName: String, out: IndentWriter) {
         out.indent(2) {
           out.println("override def name: String = \"" + safeAssignmentName + "\"")
           out.println()
-          out.println("override def children: Map[String, _meta_.AsnMember] = Map(")
+          out.println("override lazy val members: IndexedSeq[_meta_.AsnMember] = IndexedSeq(")
           out.indent(2) {
             var firstItem = true
             rootAlternativeTypeList match {
@@ -81,9 +81,7 @@ class GenScalaMeta(packageName: String, out: IndentWriter) {
                   if (!firstItem) {
                     out.println(",")
                   }
-                  out.print(
-                      "\"" + safeIdentifier + "\" -> _meta_.AsnChoiceMember(\"" +
-                      safeIdentifier + "\", " + safeType + ")")
+                  out.print("_meta_.AsnChoiceMember(\"" + safeIdentifier + "\", " + safeType + ")")
                   firstItem = false
                 }
               }
@@ -110,7 +108,7 @@ class GenScalaMeta(packageName: String, out: IndentWriter) {
         out.indent(2) {
           out.println("override def name: String = \"" + safeAssignmentName + "\"")
           out.println()
-          out.println("override def children: Map[String, _meta_.AsnMember] = Map(")
+          out.println("override lazy val members: IndexedSeq[_meta_.AsnMember] = IndexedSeq(")
           out.indent(2) {
             var firstItem = true
             list.map {
@@ -123,7 +121,7 @@ class GenScalaMeta(packageName: String, out: IndentWriter) {
                   out.println(",")
                 }
                 out.print(
-                    "\"" + safeIdentifier + "\" -> _meta_.AsnSequenceMember(\"" +
+                    "_meta_.AsnSequenceMember(\"" +
                     safeIdentifier + "\", " +
                     safeType + ", " +
                     (optionalValue == ast.Optional) + ")")
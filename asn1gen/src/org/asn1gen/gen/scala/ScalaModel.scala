@@ -51,6 +51,8 @@ case class ScalaModel(modules: HashMap[String, Module]) extends Asn1Parser {
     codecDirectory.mkdir
     val berDirectory = codecDirectory.child("ber")
     berDirectory.mkdir
+    val asyncDirectory = codecDirectory.child("async")
+    asyncDirectory.mkdir
     modules foreach { case (moduleName, module) =>
       val moduleFile = outDirectory.child(moduleName + ".scala")
       moduleFile.openPrintStream { ps =>
@@ -75,6 +77,14 @@ case class ScalaModel(modules: HashMap[String, Module]) extends Asn1Parser {
         println("Writing to " + moduleFile)
       }
     }
+    modules foreach { case (moduleName, module) =>
+      val moduleFile = asyncDirectory.child(moduleName + ".scala")
+      moduleFile.openPrintStream { ps =>
+        val genScala = new GenScalaAsyncDecoder("moo", new IndentWriter(ps))
+        genScala.generate(module)
+        println("Writing to " + moduleFile)
+      }
+    }
   }
 }
 
@@ -12,6 +12,30 @@ import static moo.codec.ASNEXAMPLES.AsnToBerShadow.*;
 @SuppressWarnings("unused")
 public class AsnToBer {
 
+  public static BerWriter encodePart(final Flags value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Flags value) throws AsnException {
+    return encode_(value);
+  }
+
+  public static BerWriter encodePart(final Catalogue value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Catalogue value) throws AsnException {
+    return encode_(value);
+  }
+
+  public static BerWriter encodePart(final Numbers value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Numbers value) throws AsnException {
+    return encode_(value);
+  }
+
   public static BerWriter encodePart(final Books value) throws AsnException {
     return encodePart_(value);
   }
@@ -20,6 +44,14 @@ public class AsnToBer {
     return encode_(value);
   }
 
+  public static BerWriter encodePart(final Tray value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Tray value) throws AsnException {
+    return encode_(value);
+  }
+
   public static BerWriter encodePart(final BookPrice value) throws AsnException {
     return encodePart_(value);
   }
@@ -36,6 +68,22 @@ public class AsnToBer {
     return encode_(value);
   }
 
+  public static BerWriter encodePart(final Rack value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Rack value) throws AsnException {
+    return encode_(value);
+  }
+
+  public static BerWriter encodePart(final Covers value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Covers value) throws AsnException {
+    return encode_(value);
+  }
+
   public static BerWriter encodePart(final BookCover value) throws AsnException {
     return encodePart_(value);
   }
@@ -44,6 +92,14 @@ public class AsnToBer {
     return encode_(value);
   }
 
+  public static BerWriter encodePart(final Shelf value) throws AsnException {
+    return encodePart_(value);
+  }
+
+  public static BerWriter encode(final Shelf value) throws AsnException {
+    return encode_(value);
+  }
+
   public static BerWriter encodePart(final Book value) throws AsnException {
     return encodePart_(value);
   }
@@ -13,6 +13,46 @@ import static moo.codec.ASNEXAMPLES.AsnToBer.*;
 @SuppressWarnings("unused")
 public class AsnToBerShadow {
 
+  public static BerWriter encodePart_(final Flags value) throws AsnException {
+    return encodePart(value.items);
+  }
+
+  public static BerWriter encode_(final Flags value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
+  public static BerWriter encodePart_(final Catalogue value) throws AsnException {
+    return BerWriter.EMPTY
+        .then(encode(value.name))
+        .then(value.count.empty() ? BerWriter.EMPTY : encode(value.count.value()))
+        .then(value.open.empty() ? BerWriter.EMPTY : encode(value.open.value()))
+        .then(value.code.empty() ? BerWriter.EMPTY : encode(value.code.value()))
+        .then(encode(value.cover))
+        .then(value.price.empty() ? BerWriter.EMPTY : encode(value.price.value()))
+        .then(value.item.empty() ? BerWriter.EMPTY : encode(value.item.value()))
+        .then(value.note.empty() ? BerWriter.EMPTY : encode(value.note.value()))
+        .then(value.size.empty() ? BerWriter.EMPTY : encode(value.size.value()))
+        .then(value.serial.empty() ? BerWriter.EMPTY : encode(value.serial.value()));
+  }
+
+  public static BerWriter encode_(final Catalogue value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
+  public static BerWriter encodePart_(final Numbers value) throws AsnException {
+    return encodePart(value.items);
+  }
+
+  public static BerWriter encode_(final Numbers value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
   public static BerWriter encodePart_(final Books value) throws AsnException {
     BerWriter dataWriter = BerWriter.EMPTY;
 
@@ -29,6 +69,18 @@ public class AsnToBerShadow {
     return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
   }
 
+  public static BerWriter encodePart_(final Tray value) throws AsnException {
+    return BerWriter.EMPTY
+        .then(encode(value.label))
+        .then(encode(value.price));
+  }
+
+  public static BerWriter encode_(final Tray value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
   public static BerWriter encodePart_(final BookPrice value) throws AsnException {
     return BerWriter.EMPTY
         .then(encode(value.isbn))
@@ -57,6 +109,31 @@ public class AsnToBerShadow {
     return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
   }
 
+  public static BerWriter encodePart_(final Rack value) throws AsnException {
+    return BerWriter.EMPTY
+        .then(encode(value.label))
+        .then(encode(value.title))
+        .then(encode(value.numbers))
+        .then(encode(value.covers))
+        .then(value.books.empty() ? BerWriter.EMPTY : encode(value.books.value()));
+  }
+
+  public static BerWriter encode_(final Rack value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
+  public static BerWriter encodePart_(final Covers value) throws AsnException {
+    return encodePart(value.items);
+  }
+
+  public static BerWriter encode_(final Covers value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
   public static BerWriter encodePart_(final BookCover value) throws AsnException {
     return encodePart(value.value);
   }
@@ -67,6 +144,24 @@ public class AsnToBerShadow {
     return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.PRIMITIVE, 10).length(dataWriter.length).then(dataWriter);
   }
 
+  public static BerWriter encodePart_(final Shelf value) throws AsnException {
+    return BerWriter.EMPTY
+        .then(encode(value.label))
+        .then(encode(value.code))
+        .then(value.capacity.empty() ? BerWriter.EMPTY : encode(value.capacity.value()))
+        .then(encode(value.cover))
+        .then(value.note.empty() ? BerWriter.EMPTY : encode(value.note.value()))
+        .then(value.item.empty() ? BerWriter.EMPTY : encode(value.item.value()))
+        .then(value.price.empty() ? BerWriter.EMPTY : encode(value.price.value()))
+        .then(encode(value.open));
+  }
+
+  public static BerWriter encode_(final Shelf value) throws AsnException {
+    final BerWriter dataWriter = encodePart(value);
+
+    return BerWriter.EMPTY.tag(AsnClass.UNIVERSAL, AsnForm.CONSTRUCTED, 17).length(dataWriter.length).then(dataWriter);
+  }
+
   public static BerWriter encodePart_(final Book value) throws AsnException {
     return BerWriter.EMPTY
         .then(encode(value.isbn))
@@ -12,6 +12,86 @@ import static moo.codec.ASNEXAMPLES.BerToAsnShadow.*;
 @SuppressWarnings("unused")
 public class BerToAsn {
 
+  public static Flags decodePart(final Flags value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Flags decode(final Flags value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static int validate(final Flags value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Flags value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Flags value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Catalogue decodePart(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Catalogue decode(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static Catalogue decode(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static Catalogue.Mutable decodeInto(final Catalogue.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static Catalogue.Mutable decodeInto(final Catalogue.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static Catalogue.Mutable decodePartInto(final Catalogue.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final Catalogue.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final Catalogue value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Catalogue value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Catalogue value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Numbers decodePart(final Numbers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Numbers decode(final Numbers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static int validate(final Numbers value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Numbers value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Numbers value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static Books decodePart(final Books value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -20,6 +100,38 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static int validate(final Books value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Books value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Books value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Tray decodePart(final Tray value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Tray decode(final Tray value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static int validate(final Tray value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Tray value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Tray value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static BookPrice decodePart(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -28,6 +140,38 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static BookPrice decode(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static BookPrice.Mutable decodeInto(final BookPrice.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static BookPrice.Mutable decodeInto(final BookPrice.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static BookPrice.Mutable decodePartInto(final BookPrice.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final BookPrice.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final BookPrice value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final BookPrice value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final BookPrice value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static BookPrices decodePart(final BookPrices value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -36,6 +180,78 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static int validate(final BookPrices value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final BookPrices value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final BookPrices value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Rack decodePart(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Rack decode(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static Rack decode(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static Rack.Mutable decodeInto(final Rack.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static Rack.Mutable decodeInto(final Rack.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static Rack.Mutable decodePartInto(final Rack.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final Rack.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final Rack value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Rack value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Rack value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Covers decodePart(final Covers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Covers decode(final Covers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static int validate(final Covers value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Covers value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Covers value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static BookCover decodePart(final BookCover value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -44,6 +260,58 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static int validate(final BookCover value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final BookCover value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final BookCover value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
+  public static Shelf decodePart(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodePart_(value, window, consumed);
+  }
+
+  public static Shelf decode(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed);
+  }
+
+  public static Shelf decode(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static Shelf.Mutable decodeInto(final Shelf.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static Shelf.Mutable decodeInto(final Shelf.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static Shelf.Mutable decodePartInto(final Shelf.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final Shelf.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final Shelf value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Shelf value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Shelf value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static Book decodePart(final Book value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -52,6 +320,38 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static Book decode(final Book value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static Book.Mutable decodeInto(final Book.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static Book.Mutable decodeInto(final Book.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static Book.Mutable decodePartInto(final Book.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final Book.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final Book value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Book value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Book value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static Journals decodePart(final Journals value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -60,6 +360,18 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static int validate(final Journals value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Journals value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Journals value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static Item decodePart(final Item value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -68,6 +380,14 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static int validate(final Item value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Item value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
   public static Journal decodePart(final Journal value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -76,6 +396,38 @@ public class BerToAsn {
     return decode_(value, window, consumed);
   }
 
+  public static Journal decode(final Journal value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decode_(value, window, consumed, interner);
+  }
+
+  public static Journal.Mutable decodeInto(final Journal.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decodeInto_(target, window, consumed);
+  }
+
+  public static Journal.Mutable decodeInto(final Journal.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodeInto_(target, frame);
+  }
+
+  public static Journal.Mutable decodePartInto(final Journal.Mutable target, final TlvCursor frame) throws AsnException {
+    return decodePartInto_(target, frame);
+  }
+
+  public static boolean tryDecodeInto(final Journal.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    return tryDecodeInto_(target, window, result);
+  }
+
+  public static int validate(final Journal value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Journal value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Journal value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
+
   public static Items decodePart(final Items value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decodePart_(value, window, consumed);
   }
@@ -83,4 +435,16 @@ public class BerToAsn {
   public static Items decode(final Items value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     return decode_(value, window, consumed);
   }
+
+  public static int validate(final Items value, final ByteArrayWindow window) {
+    return validate_(value, window);
+  }
+
+  public static int validate(final Items value, final TlvCursor frame) {
+    return validate_(value, frame);
+  }
+
+  public static int validatePart(final Items value, final TlvCursor frame) {
+    return validatePart_(value, frame);
+  }
 }
@@ -13,78 +13,1373 @@ import static moo.codec.ASNEXAMPLES.BerToAsn.*;
 @SuppressWarnings("unused")
 public class BerToAsnShadow {
 
+  public static Flags decodePart_(final Flags value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return new Flags(decodePart(Flags.EMPTY.items, window, consumed));
+  }
+
+  public static Flags decode_(final Flags value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Flags value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Flags value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Flags value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+
+    while (cursor.tryNext()) {
+      if (cursor.identifier != 0x01 || cursor.valueLength != 1) {
+        return cursor.tlvStart;
+      }
+    }
+
+    return cursor.errorOffset;
+  }
+
+  public static Catalogue decodePart_(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    /*return BerWriter.EMPTY
+        .then(decode(value.name))
+        .then(decode(value.count))
+        .then(decode(value.open))
+        .then(decode(value.code))
+        .then(decode(value.cover))
+        .then(decode(value.price))
+        .then(decode(value.item))
+        .then(decode(value.note))
+        .then(decode(value.size))
+        .then(decode(value.serial));*/
+    return Catalogue.EMPTY;
+  }
+
+  public static Catalogue decode_(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed, null);
+  }
+
+  public static Catalogue decode_(final Catalogue value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new Catalogue.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static Catalogue.Mutable decodeInto_(final Catalogue.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static Catalogue.Mutable decodeInto_(final Catalogue.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static Catalogue.Mutable decodePartInto_(final Catalogue.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+    final TlvCursor inner = target.inner;
+    long present0 = 0L;
+    int index;
+    int last = -1;
+
+    target.reset();
+    cursor.enter(frame);
+
+    while (cursor.next()) {
+      /*GenJava.scala:2059*/switch (cursor.tagKey()) {
+      case 0x40000000:
+        index = 0;
+
+        if (cursor.identifier != 0xa0) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || inner.identifier != 0x0c) {
+          throw inner.unexpected();
+        }
+
+        target.name.set(inner.array, inner.valueStart, inner.valueLength);
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        present0 |= 0x1L;
+        break;
+      case 0x40000001:
+        index = 1;
+
+        if (cursor.identifier != 0x81) {
+          throw cursor.unexpected();
+        }
+
+        if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+          throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+        }
+
+        target.count = cursor.longValue();
+        target.hasCount = true;
+        present0 |= 0x2L;
+        break;
+      case 0x40000002:
+        index = 2;
+
+        if (cursor.identifier != 0xa2) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || inner.identifier != 0x01) {
+          throw inner.unexpected();
+        }
+
+        if (inner.valueLength != 1) {
+          throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, inner.tlvStart);
+        }
+
+        target.open = inner.booleanValue();
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        target.hasOpen = true;
+        present0 |= 0x4L;
+        break;
+      case 0x40000003:
+        index = 3;
+
+        if (cursor.identifier != 0x83) {
+          throw cursor.unexpected();
+        }
+
+        target.code.set(cursor.array, cursor.valueStart, cursor.valueLength);
+        target.hasCode = true;
+        present0 |= 0x8L;
+        break;
+      case 0x40000004:
+        index = 4;
+
+        if (cursor.identifier != 0xa4) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || inner.identifier != 0x0a) {
+          throw inner.unexpected();
+        }
+
+        if (inner.valueLength < 1 || inner.valueLength > 8) {
+          throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, inner.tlvStart);
+        }
+
+        final BookCover cover = BookCover.lookup(inner.longValue());
+
+        if (cover == null) {
+          throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, inner.tlvStart);
+        }
+
+        target.cover = cover;
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        present0 |= 0x10L;
+        break;
+      case 0x40000005:
+        index = 5;
+
+        if (cursor.identifier != 0xa5) {
+          throw cursor.unexpected();
+        }
+
+        decodePartInto(target.price, cursor);
+        target.hasPrice = true;
+        present0 |= 0x20L;
+        break;
+      case 0x40000006:
+        index = 6;
+
+        if (cursor.identifier != 0xa6) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || (inner.identifier != 0xa1 && inner.identifier != 0xa2)) {
+          throw inner.unexpected();
+        }
+
+        target.item = decode(Item.EMPTY, inner.window(), ReturnInteger.IGNORE);
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        target.hasItem = true;
+        present0 |= 0x40L;
+        break;
+      case 0x40000007:
+        index = 7;
+
+        if (cursor.identifier != 0x87) {
+          throw cursor.unexpected();
+        }
+
+        target.note.set(cursor.array, cursor.valueStart, cursor.valueLength);
+        target.hasNote = true;
+        present0 |= 0x80L;
+        break;
+      case 0x40000008:
+        index = 8;
+
+        if (cursor.identifier != 0xa8) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || inner.identifier != 0x02) {
+          throw inner.unexpected();
+        }
+
+        if (inner.valueLength < 1 || inner.valueLength > 8) {
+          throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, inner.tlvStart);
+        }
+
+        target.size = inner.longValue();
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        target.hasSize = true;
+        present0 |= 0x100L;
+        break;
+      case 0x20000028:
+        index = 9;
+
+        if (cursor.identifier != 0x7f || cursor.tagNo != 40L) {
+          throw cursor.unexpected();
+        }
+
+        inner.enter(cursor);
+
+        if (!inner.next() || inner.identifier != 0x02) {
+          throw inner.unexpected();
+        }
+
+        if (inner.valueLength < 1 || inner.valueLength > 8) {
+          throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, inner.tlvStart);
+        }
+
+        target.serial = inner.longValue();
+
+        if (inner.next()) {
+          throw inner.unexpected();
+        }
+
+        target.hasSerial = true;
+        present0 |= 0x200L;
+        break;
+      default:
+        throw cursor.unexpected();
+      }
+
+      if (index <= last) {
+        throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, cursor.tlvStart);
+      }
+
+      last = index;
+    }
+
+    if ((present0 & 0x1L) != 0x1L) {
+      throw new AsnDecodeException(AsnErrorCode.MISSING_COMPONENT, cursor.tlvStart);
+    }
+
+    return target;
+  }
+
+  public static boolean tryDecodeInto_(final Catalogue.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
+  }
+
+  public static int validate_(final Catalogue value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Catalogue value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Catalogue value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    final TlvCursor inner = new TlvCursor();
+    int errorOffset;
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0xa0) {
+      return cursor.tlvStart;
+    }
+
+    inner.enter(cursor);
+    inner.tryNext();
+
+    if (inner.identifier != 0x0c) {
+      return inner.tlvStart;
+    }
+
+    if (inner.tryNext() || inner.errorOffset >= 0) {
+      return inner.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x81) {
+      if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+        return cursor.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa2) {
+      inner.enter(cursor);
+      inner.tryNext();
+
+      if (inner.identifier != 0x01 || inner.valueLength != 1) {
+        return inner.tlvStart;
+      }
+
+      if (inner.tryNext() || inner.errorOffset >= 0) {
+        return inner.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x83) {
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa4) {
+      inner.enter(cursor);
+      inner.tryNext();
+
+      errorOffset = validate(BookCover.EMPTY, inner);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      if (inner.tryNext() || inner.errorOffset >= 0) {
+        return inner.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa5) {
+      errorOffset = validatePart(BookPrice.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa6) {
+      inner.enter(cursor);
+      inner.tryNext();
+
+      errorOffset = validate(Item.EMPTY, inner);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      if (inner.tryNext() || inner.errorOffset >= 0) {
+        return inner.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x87) {
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa8) {
+      inner.enter(cursor);
+      inner.tryNext();
+
+      if (inner.identifier != 0x02 || inner.valueLength < 1 || inner.valueLength > 8) {
+        return inner.tlvStart;
+      }
+
+      if (inner.tryNext() || inner.errorOffset >= 0) {
+        return inner.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x7f && cursor.tagNo == 40L) {
+      inner.enter(cursor);
+      inner.tryNext();
+
+      if (inner.identifier != 0x02 || inner.valueLength < 1 || inner.valueLength > 8) {
+        return inner.tlvStart;
+      }
+
+      if (inner.tryNext() || inner.errorOffset >= 0) {
+        return inner.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
+  }
+
+  public static Numbers decodePart_(final Numbers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return new Numbers(decodePart(Numbers.EMPTY.items, window, consumed));
+  }
+
+  public static Numbers decode_(final Numbers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Numbers value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Numbers value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Numbers value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+
+    while (cursor.tryNext()) {
+      if (cursor.identifier != 0x02 || cursor.valueLength < 1 || cursor.valueLength > 8) {
+        return cursor.tlvStart;
+      }
+    }
+
+    return cursor.errorOffset;
+  }
+
   public static Books decodePart_(final Books value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     ByteArrayWindow myWindow = window;
-    ConsList<Book> children = ConsList.<Book>nil();
+    final ReturnInteger childConsumed = new ReturnInteger();
+    final ImmutableList.Builder<Book> children = ImmutableList.<Book>builder(TLV.count(window));
+
+    while (myWindow.length > 0) {
+      children.add(decode(Book.EMPTY, myWindow, childConsumed));
+      myWindow = myWindow.from(childConsumed.value);
+    }
+
+    consumed.value = window.length;
+
+    return new Books(children.build());
+  }
+
+  public static Books decode_(final Books value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Books value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Books value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Books value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    while (cursor.tryNext()) {
+      errorOffset = validate(Book.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+    }
+
+    return cursor.errorOffset;
+  }
+
+  public static Tray decodePart_(final Tray value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    /*return BerWriter.EMPTY
+        .then(decode(value.label))
+        .then(decode(value.price));*/
+    return Tray.EMPTY;
+  }
+
+  public static Tray decode_(final Tray value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    throw new AsnDecodeException(AsnErrorCode.UNSUPPORTED_DEFAULT, window.start);
+  }
+
+  public static int validate_(final Tray value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Tray value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Tray value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x30) {
+      errorOffset = validate(BookPrice.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
+  }
+
+  public static BookPrice decodePart_(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    /*return BerWriter.EMPTY
+        .then(decode(value.isbn))
+        .then(decode(value.price));*/
+    return BookPrice.EMPTY;
+  }
+
+  public static BookPrice decode_(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed, null);
+  }
+
+  public static BookPrice decode_(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new BookPrice.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static BookPrice.Mutable decodeInto_(final BookPrice.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static BookPrice.Mutable decodeInto_(final BookPrice.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static BookPrice.Mutable decodePartInto_(final BookPrice.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+
+    target.reset();
+    cursor.enter(frame);
+    cursor.next();
+    /*GenJava.scala:1970*/
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.isbn.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier != 0x02) {
+      throw cursor.unexpected();
+    }
+
+    if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+    }
+
+    target.price = cursor.longValue();
+    cursor.next();
+
+    if (cursor.identifier != -1) {
+      throw cursor.unexpected();
+    }
+
+    return target;
+  }
+
+  public static boolean tryDecodeInto_(final BookPrice.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
+  }
+
+  public static int validate_(final BookPrice value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final BookPrice value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final BookPrice value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x02 || cursor.valueLength < 1 || cursor.valueLength > 8) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
+  }
+
+  public static BookPrices decodePart_(final BookPrices value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    ByteArrayWindow myWindow = window;
+    final ReturnInteger childConsumed = new ReturnInteger();
+    final ImmutableList.Builder<Book> children = ImmutableList.<Book>builder(TLV.count(window));
+
+    while (myWindow.length > 0) {
+      children.add(decode(Book.EMPTY, myWindow, childConsumed));
+      myWindow = myWindow.from(childConsumed.value);
+    }
+
+    consumed.value = window.length;
+
+    return new BookPrices(children.build());
+  }
+
+  public static BookPrices decode_(final BookPrices value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final BookPrices value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final BookPrices value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final BookPrices value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    while (cursor.tryNext()) {
+      errorOffset = validate(Book.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+    }
+
+    return cursor.errorOffset;
+  }
+
+  public static Rack decodePart_(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    /*return BerWriter.EMPTY
+        .then(decode(value.label))
+        .then(decode(value.title))
+        .then(decode(value.numbers))
+        .then(decode(value.covers))
+        .then(decode(value.books));*/
+    return Rack.EMPTY;
+  }
+
+  public static Rack decode_(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed, null);
+  }
+
+  public static Rack decode_(final Rack value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new Rack.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static Rack.Mutable decodeInto_(final Rack.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static Rack.Mutable decodeInto_(final Rack.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static Rack.Mutable decodePartInto_(final Rack.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+
+    target.reset();
+    cursor.enter(frame);
+    cursor.next();
+    /*GenJava.scala:1970*/
+    if (cursor.identifier == 0x04) {
+      target.label.set(cursor.array, cursor.valueStart, cursor.valueLength);
+      cursor.next();
+    }
+
+    if (cursor.identifier == 0x0c) {
+      target.title.set(cursor.array, cursor.valueStart, cursor.valueLength);
+      cursor.next();
+    }
+
+    if (cursor.identifier != 0x31) {
+      throw cursor.unexpected();
+    }
+
+    target.numbers = decode(Numbers.EMPTY, cursor.window(), ReturnInteger.IGNORE);
+    cursor.next();
+
+    if (cursor.identifier != 0xa0) {
+      throw cursor.unexpected();
+    }
+
+    target.covers = decodePart(Covers.EMPTY, cursor.valueWindow(), ReturnInteger.IGNORE);
+    cursor.next();
+
+    if (cursor.identifier == 0x31) {
+      target.books = decode(Books.EMPTY, cursor.window(), ReturnInteger.IGNORE);
+      target.hasBooks = true;
+      cursor.next();
+    }
+
+    if (cursor.identifier != -1) {
+      throw cursor.unexpected();
+    }
+
+    return target;
+  }
+
+  public static boolean tryDecodeInto_(final Rack.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
+  }
+
+  public static int validate_(final Rack value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Rack value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Rack value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x04) {
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x0c) {
+      cursor.tryNext();
+    }
+
+    errorOffset = validate(Numbers.EMPTY, cursor);
+
+    if (errorOffset >= 0) {
+      return errorOffset;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0xa0) {
+      return cursor.tlvStart;
+    }
+
+    errorOffset = validatePart(Covers.EMPTY, cursor);
+
+    if (errorOffset >= 0) {
+      return errorOffset;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x31) {
+      errorOffset = validate(Books.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
+  }
+
+  public static Covers decodePart_(final Covers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return new Covers(decodePart(Covers.EMPTY.items, window, consumed));
+  }
+
+  public static Covers decode_(final Covers value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Covers value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Covers value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Covers value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    while (cursor.tryNext()) {
+      errorOffset = validate(BookCover.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+    }
+
+    return cursor.errorOffset;
+  }
+
+  public static BookCover decodePart_(final BookCover value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final BookCover result = BookCover.lookup(TLV.longValue(window));
+
+    if (result == null) {
+      throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, window.start);
+    }
+
+    return result;
+  }
+
+  public static BookCover decode_(final BookCover value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final DetailedTlvFrame detailedFrame = TLV.readTlv(window);
+    final TlvFrame frame = detailedFrame.frame;
+
+    if (frame.tagClass != TagClass.UNIVERSAL) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);
+    }
+
+    if (frame.tagForm != TagForm.PRIMITIVE) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);
+    }
+
+    if (frame.tagNo != 10) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);
+    }
+
+    return decodePart(value, frame.value, consumed);
+  }
+
+  public static int validate_(final BookCover value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final BookCover value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x0a) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final BookCover value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/if (frame.valueLength < 1 || frame.valueLength > 8 || BookCover.lookup(frame.longValue()) == null) {
+      return frame.tlvStart;
+    }
+
+    return -1;
+  }
+
+  public static Shelf decodePart_(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    /*return BerWriter.EMPTY
+        .then(decode(value.label))
+        .then(decode(value.code))
+        .then(decode(value.capacity))
+        .then(decode(value.cover))
+        .then(decode(value.note))
+        .then(decode(value.item))
+        .then(decode(value.price))
+        .then(decode(value.open));*/
+    return Shelf.EMPTY;
+  }
+
+  public static Shelf decode_(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode_(value, window, consumed, null);
+  }
+
+  public static Shelf decode_(final Shelf value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new Shelf.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static Shelf.Mutable decodeInto_(final Shelf.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static Shelf.Mutable decodeInto_(final Shelf.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static Shelf.Mutable decodePartInto_(final Shelf.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+    final TlvCursor inner = target.inner;
+
+    target.reset();
+    cursor.enter(frame);
+    cursor.next();
+    /*GenJava.scala:1970*/
+    if (cursor.identifier != 0xa0) {
+      throw cursor.unexpected();
+    }
+
+    inner.enter(cursor);
+
+    if (!inner.next() || inner.identifier != 0x0c) {
+      throw inner.unexpected();
+    }
+
+    target.label.set(inner.array, inner.valueStart, inner.valueLength);
+
+    if (inner.next()) {
+      throw inner.unexpected();
+    }
+
+    cursor.next();
+
+    if (cursor.identifier != 0x81) {
+      throw cursor.unexpected();
+    }
+
+    if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+    }
+
+    target.code = cursor.longValue();
+    cursor.next();
+
+    if (cursor.identifier == 0x02) {
+      if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+      }
+
+      target.capacity = cursor.longValue();
+      target.hasCapacity = true;
+      cursor.next();
+    }
+
+    if (cursor.identifier == 0x82) {
+      if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+      }
+
+      final BookCover cover = BookCover.lookup(cursor.longValue());
+
+      if (cover == null) {
+        throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, cursor.tlvStart);
+      }
+
+      target.cover = cover;
+      cursor.next();
+    }
+
+    if (cursor.identifier == 0x04) {
+      target.note.set(cursor.array, cursor.valueStart, cursor.valueLength);
+      target.hasNote = true;
+      cursor.next();
+    }
+
+    if (cursor.identifier == 0xa1 || cursor.identifier == 0xa2) {
+      target.item = decode(Item.EMPTY, cursor.window(), ReturnInteger.IGNORE);
+      target.hasItem = true;
+      cursor.next();
+    }
 
-    while (myWindow.length > 0) {
-      children = children.prepend(decode(Book.EMPTY, myWindow, consumed));
-      myWindow = myWindow.from(consumed.value);
+    if (cursor.identifier == 0xa3) {
+      decodePartInto(target.price, cursor);
+      target.hasPrice = true;
+      cursor.next();
     }
 
-    return new Books(children);
-  }
+    if (cursor.identifier == 0x01) {
+      if (cursor.valueLength != 1) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+      }
 
-  public static Books decode_(final Books value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Books.EMPTY;
-  }
+      target.open = cursor.booleanValue();
+      cursor.next();
+    }
 
-  public static BookPrice decodePart_(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    /*return BerWriter.EMPTY
-        .then(decode(value.isbn))
-        .then(decode(value.price));*/
-    return BookPrice.EMPTY;
+    if (cursor.identifier != -1) {
+      throw cursor.unexpected();
+    }
+
+    return target;
   }
 
-  public static BookPrice decode_(final BookPrice value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return BookPrice.EMPTY;
+  public static boolean tryDecodeInto_(final Shelf.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
   }
 
-  public static BookPrices decodePart_(final BookPrices value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    ByteArrayWindow myWindow = window;
-    ConsList<Book> children = ConsList.<Book>nil();
+  public static int validate_(final Shelf value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
 
-    while (myWindow.length > 0) {
-      children = children.prepend(decode(Book.EMPTY, myWindow, consumed));
-      myWindow = myWindow.from(consumed.value);
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
     }
 
-    return new BookPrices(children);
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
   }
 
-  public static BookPrices decode_(final BookPrices value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return BookPrices.EMPTY;
+  public static int validate_(final Shelf value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
   }
 
-  public static BookCover decodePart_(final BookCover value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    final long intValue = TLV.longValue(window);
+  public static int validatePart_(final Shelf value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    final TlvCursor inner = new TlvCursor();
+    int errorOffset;
 
-    if (intValue == BookCover.hardCover.value) {
-      return BookCover.hardCover;
-    } else if (intValue == BookCover.paperBack.value) {
-      return BookCover.paperBack;
-    } else {
-      throw new AsnException();
+    cursor.tryNext();
+
+    if (cursor.identifier != 0xa0) {
+      return cursor.tlvStart;
     }
-  }
 
-  public static BookCover decode_(final BookCover value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    final DetailedTlvFrame detailedFrame = TLV.readTlv(window);
-    final TlvFrame frame = detailedFrame.frame;
+    inner.enter(cursor);
+    inner.tryNext();
 
-    if (frame.tagClass != TagClass.UNIVERSAL) {
-      throw new AsnException();
+    if (inner.identifier != 0x0c) {
+      return inner.tlvStart;
     }
 
-    if (frame.tagForm != TagForm.PRIMITIVE) {
-      throw new AsnException();
+    if (inner.tryNext() || inner.errorOffset >= 0) {
+      return inner.tlvStart;
     }
 
-    if (frame.tagNo != 10) {
-      throw new AsnException();
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x81) {
+      return cursor.tlvStart;
     }
 
-    return decodePart(value, frame.value, consumed);
+    if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x02) {
+      if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+        return cursor.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x82) {
+      errorOffset = validatePart(BookCover.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x04) {
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa1 || cursor.identifier == 0xa2) {
+      errorOffset = validate(Item.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0xa3) {
+      errorOffset = validatePart(BookPrice.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier == 0x01) {
+      if (cursor.valueLength != 1) {
+        return cursor.tlvStart;
+      }
+
+      cursor.tryNext();
+    }
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
   }
 
   public static Book decodePart_(final Book value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
@@ -98,23 +1393,231 @@ public class BerToAsnShadow {
   }
 
   public static Book decode_(final Book value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Book.EMPTY;
+    return decode_(value, window, consumed, null);
+  }
+
+  public static Book decode_(final Book value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new Book.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static Book.Mutable decodeInto_(final Book.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static Book.Mutable decodeInto_(final Book.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static Book.Mutable decodePartInto_(final Book.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+
+    target.reset();
+    cursor.enter(frame);
+    cursor.next();
+    /*GenJava.scala:1970*/
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.isbn.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.title.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.author.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier == 0x0a) {
+      if (cursor.valueLength < 1 || cursor.valueLength > 8) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+      }
+
+      final BookCover cover = BookCover.lookup(cursor.longValue());
+
+      if (cover == null) {
+        throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, cursor.tlvStart);
+      }
+
+      target.cover = cover;
+      cursor.next();
+    }
+
+    if (cursor.identifier != 0x01) {
+      throw cursor.unexpected();
+    }
+
+    if (cursor.valueLength != 1) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, cursor.tlvStart);
+    }
+
+    target.isInPrint = cursor.booleanValue();
+    cursor.next();
+
+    if (cursor.identifier != -1) {
+      throw cursor.unexpected();
+    }
+
+    return target;
+  }
+
+  public static boolean tryDecodeInto_(final Book.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
+  }
+
+  public static int validate_(final Book value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Book value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Book value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier == 0x0a) {
+      errorOffset = validate(BookCover.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      cursor.tryNext();
+    }
+
+    if (cursor.identifier != 0x01 || cursor.valueLength != 1) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
   }
 
   public static Journals decodePart_(final Journals value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     ByteArrayWindow myWindow = window;
-    ConsList<Journal> children = ConsList.<Journal>nil();
+    final ReturnInteger childConsumed = new ReturnInteger();
+    final ImmutableList.Builder<Journal> children = ImmutableList.<Journal>builder(TLV.count(window));
 
     while (myWindow.length > 0) {
-      children = children.prepend(decode(Journal.EMPTY, myWindow, consumed));
-      myWindow = myWindow.from(consumed.value);
+      children.add(decode(Journal.EMPTY, myWindow, childConsumed));
+      myWindow = myWindow.from(childConsumed.value);
     }
 
-    return new Journals(children);
+    consumed.value = window.length;
+
+    return new Journals(children.build());
   }
 
   public static Journals decode_(final Journals value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Journals.EMPTY;
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Journals value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Journals value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Journals value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    while (cursor.tryNext()) {
+      errorOffset = validate(Journal.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+    }
+
+    return cursor.errorOffset;
   }
 
   public static Item decodePart_(final Item value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
@@ -130,7 +1633,82 @@ public class BerToAsnShadow {
   }
 
   public static Item decode_(final Item value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Item.EMPTY;
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = frame.consumed();
+
+    final TlvCursor cursor = new TlvCursor().enter(frame);
+
+    /*GenJava.scala:1199*/switch (frame.tagKey()) {
+    case 0x40000001:
+      if (!cursor.next()) {
+        throw cursor.unexpected();
+      }
+
+      return new Item_book(decode(Book.EMPTY, cursor.window(), ReturnInteger.IGNORE));
+    case 0x40000002:
+      if (!cursor.next()) {
+        throw cursor.unexpected();
+      }
+
+      return new Item_journal(decode(Journal.EMPTY, cursor.window(), ReturnInteger.IGNORE));
+    default:
+      throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ALTERNATIVE, frame.tlvStart);
+    }
+  }
+
+  public static int validate_(final Item value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Item value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    switch (frame.tagKey()) {
+    case 0x40000001:
+      if (frame.identifier != 0xa1) {
+        return frame.tlvStart;
+      }
+
+      cursor.tryNext();
+
+      errorOffset = validate(Book.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      return cursor.tryNext() ? cursor.tlvStart : cursor.errorOffset;
+    case 0x40000002:
+      if (frame.identifier != 0xa2) {
+        return frame.tlvStart;
+      }
+
+      cursor.tryNext();
+
+      errorOffset = validate(Journal.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+
+      return cursor.tryNext() ? cursor.tlvStart : cursor.errorOffset;
+    default:
+      return frame.tlvStart;
+    }
   }
 
   public static Journal decodePart_(final Journal value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
@@ -141,22 +1719,174 @@ public class BerToAsnShadow {
   }
 
   public static Journal decode_(final Journal value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Journal.EMPTY;
+    return decode_(value, window, consumed, null);
+  }
+
+  public static Journal decode_(final Journal value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    return decodeInto(new Journal.Mutable(), window, consumed).toImmutable(interner);
+  }
+
+  public static Journal.Mutable decodeInto_(final Journal.Mutable target, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    target.cursor.reset(window);
+
+    if (!target.cursor.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    consumed.value = target.cursor.consumed();
+
+    return decodeInto(target, target.cursor);
+  }
+
+  public static Journal.Mutable decodeInto_(final Journal.Mutable target, final TlvCursor frame) throws AsnException {
+    if (frame.identifier != 0x30) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    return decodePartInto(target, frame);
+  }
+
+  public static Journal.Mutable decodePartInto_(final Journal.Mutable target, final TlvCursor frame) throws AsnException {
+    final TlvCursor cursor = target.cursor;
+
+    target.reset();
+    cursor.enter(frame);
+    cursor.next();
+    /*GenJava.scala:1970*/
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.title.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier != 0x04) {
+      throw cursor.unexpected();
+    }
+
+    target.edition.set(cursor.array, cursor.valueStart, cursor.valueLength);
+    cursor.next();
+
+    if (cursor.identifier != -1) {
+      throw cursor.unexpected();
+    }
+
+    return target;
+  }
+
+  public static boolean tryDecodeInto_(final Journal.Mutable target, final ByteArrayWindow window, final AsnResult result) {
+    try {
+      decodeInto(target, window, result);
+
+      return result.succeed();
+    } catch (final AsnException e) {
+      return result.fail(e, window);
+    }
+  }
+
+  public static int validate_(final Journal value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Journal value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x30) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Journal value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    if (cursor.identifier != 0x04) {
+      return cursor.tlvStart;
+    }
+
+    cursor.tryNext();
+
+    return cursor.identifier == -1 ? cursor.errorOffset : cursor.tlvStart;
   }
 
   public static Items decodePart_(final Items value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
     ByteArrayWindow myWindow = window;
-    ConsList<Item> children = ConsList.<Item>nil();
+    final ReturnInteger childConsumed = new ReturnInteger();
+    final ImmutableList.Builder<Item> children = ImmutableList.<Item>builder(TLV.count(window));
 
     while (myWindow.length > 0) {
-      children = children.prepend(decode(Item.EMPTY, myWindow, consumed));
-      myWindow = myWindow.from(consumed.value);
+      children.add(decode(Item.EMPTY, myWindow, childConsumed));
+      myWindow = myWindow.from(childConsumed.value);
     }
 
-    return new Items(children);
+    consumed.value = window.length;
+
+    return new Items(children.build());
   }
 
   public static Items decode_(final Items value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
-    return Items.EMPTY;
+    final TlvCursor frame = new TlvCursor().reset(window);
+
+    if (!frame.next()) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+
+    if (frame.identifier != 0x31) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, frame.tlvStart);
+    }
+
+    consumed.value = frame.consumed();
+
+    return decodePart(value, frame.valueWindow(), ReturnInteger.IGNORE);
+  }
+
+  public static int validate_(final Items value, final ByteArrayWindow window) {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+
+    if (!cursor.tryNext()) {
+      return cursor.tlvStart - window.start;
+    }
+
+    final int errorOffset = validate(value, cursor);
+
+    return errorOffset < 0 ? -1 : errorOffset - window.start;
+  }
+
+  public static int validate_(final Items value, final TlvCursor frame) {
+    /*GenJava.scala:2405*/if (frame.identifier != 0x31) {
+      return frame.tlvStart;
+    }
+
+    return validatePart(value, frame);
+  }
+
+  public static int validatePart_(final Items value, final TlvCursor frame) {
+    /*GenJava.scala:2491*/final TlvCursor cursor = new TlvCursor().enter(frame);
+    int errorOffset;
+
+    while (cursor.tryNext()) {
+      errorOffset = validate(Item.EMPTY, cursor);
+
+      if (errorOffset >= 0) {
+        return errorOffset;
+      }
+    }
+
+    return cursor.errorOffset;
   }
 }
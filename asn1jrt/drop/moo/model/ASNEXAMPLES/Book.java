@@ -15,19 +15,54 @@ public class Book extends org.asn1gen.runtime.java.AsnSequence {
     BookCover.EMPTY,
     org.asn1gen.runtime.java.AsnBoolean.EMPTY);
 
-  /*GenJava.scala:411*/public final org.asn1gen.runtime.java.AsnOctetString isbn;
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnOctetString isbn;
   public final org.asn1gen.runtime.java.AsnOctetString title;
   public final org.asn1gen.runtime.java.AsnOctetString author;
   public final BookCover cover;
   public final org.asn1gen.runtime.java.AsnBoolean isInPrint;
 
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Book> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Book>("Book",
+      new org.asn1gen.runtime.java.AsnField<Book>("isbn", 0, false) {
+        public Object get(final Book value) {
+          return value.isbn;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Book>("title", 1, false) {
+        public Object get(final Book value) {
+          return value.title;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Book>("author", 2, false) {
+        public Object get(final Book value) {
+          return value.author;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Book>("cover", 3, false) {
+        public Object get(final Book value) {
+          return value.cover;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Book>("isInPrint", 4, false) {
+        public Object get(final Book value) {
+          return value.isInPrint;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Book> descriptor() {
+    return DESCRIPTOR;
+  }
+
   public Book(
-      /*GenJava.scala:1410*/final org.asn1gen.runtime.java.AsnOctetString isbn,
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnOctetString isbn,
       final org.asn1gen.runtime.java.AsnOctetString title,
       final org.asn1gen.runtime.java.AsnOctetString author,
       final BookCover cover,
       final org.asn1gen.runtime.java.AsnBoolean isInPrint) {
-    /*GenJava.scala:1400*/this.isbn = isbn;
+    /*GenJava.scala:2817*/this.isbn = isbn;
     this.title = title;
     this.author = author;
     this.cover = cover;
@@ -81,7 +116,7 @@ public class Book extends org.asn1gen.runtime.java.AsnSequence {
 
   public boolean equals(final Book that) {
     assert that != null;
-    /*GenJava.scala:464*/
+    /*GenJava.scala:488*/
     if (!this.isbn.equals(that.isbn)) {
       return false;
     }
@@ -111,17 +146,57 @@ public class Book extends org.asn1gen.runtime.java.AsnSequence {
       return this.equals((Book)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
   public int hashCode() {
-    return (0
-      ^ this.isbn.hashCode()
-      ^ this.title.hashCode()
-      ^ this.author.hashCode()
-      ^ this.cover.hashCode()
-      ^ this.isInPrint.hashCode());
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.isbn);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.title);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.author);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.cover);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.isInPrint);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 5);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/public final org.asn1gen.runtime.java.OctetBuffer isbn = new org.asn1gen.runtime.java.OctetBuffer();
+    public final org.asn1gen.runtime.java.OctetBuffer title = new org.asn1gen.runtime.java.OctetBuffer();
+    public final org.asn1gen.runtime.java.OctetBuffer author = new org.asn1gen.runtime.java.OctetBuffer();
+    public BookCover cover = BookCover.paperBack;
+    public boolean isInPrint = false;
+
+    @Override
+    public Mutable reset() {
+      this.isbn.clear();
+      this.title.clear();
+      this.author.clear();
+      this.cover = BookCover.paperBack;
+      this.isInPrint = false;
+
+      return this;
+    }
+
+    public Book toImmutable() {
+      return toImmutable(null);
+    }
+
+    public Book toImmutable(final AsnInterner interner) {
+      return new Book(
+        this.isbn.toAsnOctetString(),
+        this.title.toAsnOctetString(),
+        this.author.toAsnOctetString(),
+        this.cover,
+        this.isInPrint ? org.asn1gen.runtime.java.AsnBoolean.TRUE : org.asn1gen.runtime.java.AsnBoolean.FALSE);
+    }
   }
 }
 
@@ -32,11 +32,35 @@ public class BookCover extends org.asn1gen.runtime.java.AsnEnumeration {
       "Unrecogonised enumeration value + '" + name + "'");
   }
 
+  private static final BookCover[] byValue = { hardCover, paperBack };
+
+  public static BookCover lookup(final long value) {
+    final long index = value - 0L;
+
+    if (index >= 0 && index < byValue.length) {
+      return byValue[(int)index];
+    }
+
+    return null;
+  }
+
   public static BookCover of(final int value) {
-    switch (value) {
-      case 0: return hardCover;
-      case 1: return paperBack;
-      default: return new BookCover(value);
+    final BookCover result = lookup(value);
+
+    return result != null ? result : new BookCover(value);
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof BookCover) {
+      return this.value == ((BookCover)that).value;
     }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int)(this.value ^ (this.value >>> 32));
   }
 }
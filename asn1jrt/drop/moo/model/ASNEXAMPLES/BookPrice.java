@@ -12,13 +12,33 @@ public class BookPrice extends org.asn1gen.runtime.java.AsnSequence {
     org.asn1gen.runtime.java.AsnOctetString.EMPTY,
     org.asn1gen.runtime.java.AsnInteger.EMPTY);
 
-  /*GenJava.scala:411*/public final org.asn1gen.runtime.java.AsnOctetString isbn;
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnOctetString isbn;
   public final org.asn1gen.runtime.java.AsnInteger price;
 
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<BookPrice> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<BookPrice>("BookPrice",
+      new org.asn1gen.runtime.java.AsnField<BookPrice>("isbn", 0, false) {
+        public Object get(final BookPrice value) {
+          return value.isbn;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<BookPrice>("price", 1, false) {
+        public Object get(final BookPrice value) {
+          return value.price;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<BookPrice> descriptor() {
+    return DESCRIPTOR;
+  }
+
   public BookPrice(
-      /*GenJava.scala:1410*/final org.asn1gen.runtime.java.AsnOctetString isbn,
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnOctetString isbn,
       final org.asn1gen.runtime.java.AsnInteger price) {
-    /*GenJava.scala:1400*/this.isbn = isbn;
+    /*GenJava.scala:2817*/this.isbn = isbn;
     this.price = price;
   }
 
@@ -36,7 +56,7 @@ public class BookPrice extends org.asn1gen.runtime.java.AsnSequence {
 
   public boolean equals(final BookPrice that) {
     assert that != null;
-    /*GenJava.scala:464*/
+    /*GenJava.scala:488*/
     if (!this.isbn.equals(that.isbn)) {
       return false;
     }
@@ -54,14 +74,45 @@ public class BookPrice extends org.asn1gen.runtime.java.AsnSequence {
       return this.equals((BookPrice)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
   public int hashCode() {
-    return (0
-      ^ this.isbn.hashCode()
-      ^ this.price.hashCode());
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.isbn);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.price);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 2);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/public final org.asn1gen.runtime.java.OctetBuffer isbn = new org.asn1gen.runtime.java.OctetBuffer();
+    public long price = 0;
+
+    @Override
+    public Mutable reset() {
+      this.isbn.clear();
+      this.price = 0;
+
+      return this;
+    }
+
+    public BookPrice toImmutable() {
+      return toImmutable(null);
+    }
+
+    public BookPrice toImmutable(final AsnInterner interner) {
+      return new BookPrice(
+        this.isbn.toAsnOctetString(),
+        org.asn1gen.runtime.java.AsnInteger.valueOf(this.price));
+    }
   }
 }
 
@@ -8,15 +8,15 @@ import static org.asn1gen.runtime.java.Statics.*;
 
 @SuppressWarnings("unused")
 public class BookPrices extends org.asn1gen.runtime.java.AsnList {
-  public static BookPrices EMPTY = new BookPrices(org.asn1gen.runtime.java.ConsList.<Book>nil());
+  public static BookPrices EMPTY = new BookPrices(org.asn1gen.runtime.java.ImmutableList.<Book>nil());
 
-  public final org.asn1gen.runtime.java.ConsList<Book> items;
+  public final org.asn1gen.runtime.java.ImmutableList<Book> items;
 
-  public BookPrices(final org.asn1gen.runtime.java.ConsList<Book> items) {
+  public BookPrices(final org.asn1gen.runtime.java.ImmutableList<Book> items) {
     this.items = items;
   }
 
-  public BookPrices withItems(final org.asn1gen.runtime.java.ConsList<Book> value) {
+  public BookPrices withItems(final org.asn1gen.runtime.java.ImmutableList<Book> value) {
     return new BookPrices(value);
   }
 
@@ -31,7 +31,7 @@ public class BookPrices extends org.asn1gen.runtime.java.AsnList {
       return this.equals((BookPrices)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
@@ -8,15 +8,15 @@ import static org.asn1gen.runtime.java.Statics.*;
 
 @SuppressWarnings("unused")
 public class Books extends org.asn1gen.runtime.java.AsnList {
-  public static Books EMPTY = new Books(org.asn1gen.runtime.java.ConsList.<Book>nil());
+  public static Books EMPTY = new Books(org.asn1gen.runtime.java.ImmutableList.<Book>nil());
 
-  public final org.asn1gen.runtime.java.ConsList<Book> items;
+  public final org.asn1gen.runtime.java.ImmutableList<Book> items;
 
-  public Books(final org.asn1gen.runtime.java.ConsList<Book> items) {
+  public Books(final org.asn1gen.runtime.java.ImmutableList<Book> items) {
     this.items = items;
   }
 
-  public Books withItems(final org.asn1gen.runtime.java.ConsList<Book> value) {
+  public Books withItems(final org.asn1gen.runtime.java.ImmutableList<Book> value) {
     return new Books(value);
   }
 
@@ -31,7 +31,7 @@ public class Books extends org.asn1gen.runtime.java.AsnList {
       return this.equals((Books)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
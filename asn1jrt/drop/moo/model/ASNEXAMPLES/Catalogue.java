@@ -0,0 +1,400 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Catalogue extends org.asn1gen.runtime.java.AsnSequence {
+  public static final Catalogue EMPTY = new Catalogue(
+    org.asn1gen.runtime.java.AsnUtf8String.EMPTY,
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnBoolean>instance(),
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnOctetString>instance(),
+    BookCover.EMPTY,
+    org.asn1gen.runtime.java.None.<BookPrice>instance(),
+    org.asn1gen.runtime.java.None.<Item>instance(),
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnUtf8String>instance(),
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance());
+
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnUtf8String name;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> count;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnBoolean> open;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> code;
+  public final BookCover cover;
+  public final org.asn1gen.runtime.java.Option<BookPrice> price;
+  public final org.asn1gen.runtime.java.Option<Item> item;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnUtf8String> note;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> size;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> serial;
+
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Catalogue> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Catalogue>("Catalogue",
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("name", 0, false) {
+        public Object get(final Catalogue value) {
+          return value.name;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("count", 1, true) {
+        public Object get(final Catalogue value) {
+          return value.count;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("open", 2, true) {
+        public Object get(final Catalogue value) {
+          return value.open;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("code", 3, true) {
+        public Object get(final Catalogue value) {
+          return value.code;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("cover", 4, false) {
+        public Object get(final Catalogue value) {
+          return value.cover;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("price", 5, true) {
+        public Object get(final Catalogue value) {
+          return value.price;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("item", 6, true) {
+        public Object get(final Catalogue value) {
+          return value.item;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("note", 7, true) {
+        public Object get(final Catalogue value) {
+          return value.note;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("size", 8, true) {
+        public Object get(final Catalogue value) {
+          return value.size;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Catalogue>("serial", 9, true) {
+        public Object get(final Catalogue value) {
+          return value.serial;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Catalogue> descriptor() {
+    return DESCRIPTOR;
+  }
+
+  public Catalogue(
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnUtf8String name,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> count,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnBoolean> open,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> code,
+      final BookCover cover,
+      final org.asn1gen.runtime.java.Option<BookPrice> price,
+      final org.asn1gen.runtime.java.Option<Item> item,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnUtf8String> note,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> size,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> serial) {
+    /*GenJava.scala:2817*/this.name = name;
+    this.count = count;
+    this.open = open;
+    this.code = code;
+    this.cover = cover;
+    this.price = price;
+    this.item = item;
+    this.note = note;
+    this.size = size;
+    this.serial = serial;
+  }
+
+  public final Catalogue withName(final org.asn1gen.runtime.java.AsnUtf8String value) {
+    return new Catalogue(
+      value,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withCount(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> value) {
+    return new Catalogue(
+      this.name,
+      value,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withOpen(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnBoolean> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      value,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withCode(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      value,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withCover(final BookCover value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      value,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withPrice(final org.asn1gen.runtime.java.Option<BookPrice> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      value,
+      this.item,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withItem(final org.asn1gen.runtime.java.Option<Item> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      value,
+      this.note,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withNote(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnUtf8String> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      value,
+      this.size,
+      this.serial);
+  }
+
+  public final Catalogue withSize(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      value,
+      this.serial);
+  }
+
+  public final Catalogue withSerial(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> value) {
+    return new Catalogue(
+      this.name,
+      this.count,
+      this.open,
+      this.code,
+      this.cover,
+      this.price,
+      this.item,
+      this.note,
+      this.size,
+      value);
+  }
+
+  public boolean equals(final Catalogue that) {
+    assert that != null;
+    /*GenJava.scala:488*/
+    if (!this.name.equals(that.name)) {
+      return false;
+    }
+
+    if (!this.count.equals(that.count)) {
+      return false;
+    }
+
+    if (!this.open.equals(that.open)) {
+      return false;
+    }
+
+    if (!this.code.equals(that.code)) {
+      return false;
+    }
+
+    if (!this.cover.equals(that.cover)) {
+      return false;
+    }
+
+    if (!this.price.equals(that.price)) {
+      return false;
+    }
+
+    if (!this.item.equals(that.item)) {
+      return false;
+    }
+
+    if (!this.note.equals(that.note)) {
+      return false;
+    }
+
+    if (!this.size.equals(that.size)) {
+      return false;
+    }
+
+    if (!this.serial.equals(that.serial)) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof Catalogue) {
+      return this.equals((Catalogue)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.name);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.count);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.open);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.code);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.cover);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.price);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.item);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.note);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.size);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.serial);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 10);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/public final org.asn1gen.runtime.java.TlvCursor inner = new org.asn1gen.runtime.java.TlvCursor();
+
+    public final org.asn1gen.runtime.java.OctetBuffer name = new org.asn1gen.runtime.java.OctetBuffer();
+    public long count = 0;
+    public boolean open = false;
+    public final org.asn1gen.runtime.java.OctetBuffer code = new org.asn1gen.runtime.java.OctetBuffer();
+    public BookCover cover = BookCover.paperBack;
+    public final BookPrice.Mutable price = new BookPrice.Mutable();
+    public Item item = Item.EMPTY;
+    public final org.asn1gen.runtime.java.OctetBuffer note = new org.asn1gen.runtime.java.OctetBuffer();
+    public long size = 0;
+    public long serial = 0;
+    public boolean hasCount = false;
+    public boolean hasOpen = false;
+    public boolean hasCode = false;
+    public boolean hasPrice = false;
+    public boolean hasItem = false;
+    public boolean hasNote = false;
+    public boolean hasSize = false;
+    public boolean hasSerial = false;
+
+    @Override
+    public Mutable reset() {
+      this.name.clear();
+      this.count = 0;
+      this.open = false;
+      this.code.clear();
+      this.cover = BookCover.paperBack;
+      this.price.reset();
+      this.item = Item.EMPTY;
+      this.note.clear();
+      this.size = 0;
+      this.serial = 0;
+      this.hasCount = false;
+      this.hasOpen = false;
+      this.hasCode = false;
+      this.hasPrice = false;
+      this.hasItem = false;
+      this.hasNote = false;
+      this.hasSize = false;
+      this.hasSerial = false;
+
+      return this;
+    }
+
+    public Catalogue toImmutable() {
+      return toImmutable(null);
+    }
+
+    public Catalogue toImmutable(final AsnInterner interner) {
+      return new Catalogue(
+        this.name.toAsnUtf8String(interner),
+        this.hasCount ? some(org.asn1gen.runtime.java.AsnInteger.valueOf(this.count)) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+        this.hasOpen ? some(this.open ? org.asn1gen.runtime.java.AsnBoolean.TRUE : org.asn1gen.runtime.java.AsnBoolean.FALSE) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnBoolean>instance(),
+        this.hasCode ? some(this.code.toAsnOctetString()) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnOctetString>instance(),
+        this.cover,
+        this.hasPrice ? some(this.price.toImmutable(interner)) : org.asn1gen.runtime.java.None.<BookPrice>instance(),
+        this.hasItem ? some(this.item) : org.asn1gen.runtime.java.None.<Item>instance(),
+        this.hasNote ? some(this.note.toAsnUtf8String(interner)) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnUtf8String>instance(),
+        this.hasSize ? some(org.asn1gen.runtime.java.AsnInteger.valueOf(this.size)) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+        this.hasSerial ? some(org.asn1gen.runtime.java.AsnInteger.valueOf(this.serial)) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance());
+    }
+  }
+}
+
@@ -0,0 +1,50 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Covers extends org.asn1gen.runtime.java.AsnList {
+  public static Covers EMPTY = new Covers(org.asn1gen.runtime.java.ImmutableOrdinalList.EMPTY);
+
+  public final org.asn1gen.runtime.java.ImmutableOrdinalList items;
+
+  public Covers(final org.asn1gen.runtime.java.ImmutableOrdinalList items) {
+    this.items = items;
+  }
+
+  public Covers withItems(final org.asn1gen.runtime.java.ImmutableOrdinalList value) {
+    return new Covers(value);
+  }
+
+  public int size() {
+    return this.items.size();
+  }
+
+  public BookCover get(final int index) {
+    return BookCover.of(this.items.get(index));
+  }
+
+  public boolean equals(final Covers that) {
+    assert that != null;
+
+    return this.items.equals(that.items);
+  }
+
+  public boolean equals(final Object that) {
+    if (that instanceof Covers) {
+      return this.equals((Covers)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.items.hashCode();
+  }
+}
+
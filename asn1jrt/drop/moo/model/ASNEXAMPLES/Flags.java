@@ -0,0 +1,50 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Flags extends org.asn1gen.runtime.java.AsnList {
+  public static Flags EMPTY = new Flags(org.asn1gen.runtime.java.ImmutableBooleanList.EMPTY);
+
+  public final org.asn1gen.runtime.java.ImmutableBooleanList items;
+
+  public Flags(final org.asn1gen.runtime.java.ImmutableBooleanList items) {
+    this.items = items;
+  }
+
+  public Flags withItems(final org.asn1gen.runtime.java.ImmutableBooleanList value) {
+    return new Flags(value);
+  }
+
+  public int size() {
+    return this.items.size();
+  }
+
+  public boolean get(final int index) {
+    return this.items.get(index);
+  }
+
+  public boolean equals(final Flags that) {
+    assert that != null;
+
+    return this.items.equals(that.items);
+  }
+
+  public boolean equals(final Object that) {
+    if (that instanceof Flags) {
+      return this.equals((Flags)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.items.hashCode();
+  }
+}
+
@@ -8,9 +8,9 @@ import static org.asn1gen.runtime.java.Statics.*;
 
 @SuppressWarnings("unused")
 public abstract class Item extends org.asn1gen.runtime.java.AsnChoice {
-  /*GenJava.scala:348*/
+  /*GenJava.scala:366*/
   public static final Item_book EMPTY = Item_book.EMPTY;
-  /*GenJava.scala:1529*/
+  /*GenJava.scala:2946*/
   public Option<Book> getBook() {
     return None.instance();
   }
@@ -18,11 +18,11 @@ public abstract class Item extends org.asn1gen.runtime.java.AsnChoice {
   public Option<Journal> getJournal() {
     return None.instance();
   }
-  /*GenJava.scala:1505*/
+  /*GenJava.scala:2922*/
   public Item_book withBook(final Book value) {
     return new Item_book(value);}
 
   public Item_journal withJournal(final Journal value) {
     return new Item_journal(value);}
 }
-/*GenJava.scala:368*//*GenJava.scala:1426*//*GenJava.scala:1426*/
+/*GenJava.scala:386*//*GenJava.scala:2843*//*GenJava.scala:2843*/
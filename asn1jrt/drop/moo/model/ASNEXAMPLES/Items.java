@@ -8,15 +8,15 @@ import static org.asn1gen.runtime.java.Statics.*;
 
 @SuppressWarnings("unused")
 public class Items extends org.asn1gen.runtime.java.AsnList {
-  public static Items EMPTY = new Items(org.asn1gen.runtime.java.ConsList.<Item>nil());
+  public static Items EMPTY = new Items(org.asn1gen.runtime.java.ImmutableList.<Item>nil());
 
-  public final org.asn1gen.runtime.java.ConsList<Item> items;
+  public final org.asn1gen.runtime.java.ImmutableList<Item> items;
 
-  public Items(final org.asn1gen.runtime.java.ConsList<Item> items) {
+  public Items(final org.asn1gen.runtime.java.ImmutableList<Item> items) {
     this.items = items;
   }
 
-  public Items withItems(final org.asn1gen.runtime.java.ConsList<Item> value) {
+  public Items withItems(final org.asn1gen.runtime.java.ImmutableList<Item> value) {
     return new Items(value);
   }
 
@@ -31,7 +31,7 @@ public class Items extends org.asn1gen.runtime.java.AsnList {
       return this.equals((Items)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
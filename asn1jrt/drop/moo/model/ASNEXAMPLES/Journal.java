@@ -12,13 +12,33 @@ public class Journal extends org.asn1gen.runtime.java.AsnSequence {
     org.asn1gen.runtime.java.AsnOctetString.EMPTY,
     org.asn1gen.runtime.java.AsnOctetString.EMPTY);
 
-  /*GenJava.scala:411*/public final org.asn1gen.runtime.java.AsnOctetString title;
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnOctetString title;
   public final org.asn1gen.runtime.java.AsnOctetString edition;
 
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Journal> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Journal>("Journal",
+      new org.asn1gen.runtime.java.AsnField<Journal>("title", 0, false) {
+        public Object get(final Journal value) {
+          return value.title;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Journal>("edition", 1, false) {
+        public Object get(final Journal value) {
+          return value.edition;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Journal> descriptor() {
+    return DESCRIPTOR;
+  }
+
   public Journal(
-      /*GenJava.scala:1410*/final org.asn1gen.runtime.java.AsnOctetString title,
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnOctetString title,
       final org.asn1gen.runtime.java.AsnOctetString edition) {
-    /*GenJava.scala:1400*/this.title = title;
+    /*GenJava.scala:2817*/this.title = title;
     this.edition = edition;
   }
 
@@ -36,7 +56,7 @@ public class Journal extends org.asn1gen.runtime.java.AsnSequence {
 
   public boolean equals(final Journal that) {
     assert that != null;
-    /*GenJava.scala:464*/
+    /*GenJava.scala:488*/
     if (!this.title.equals(that.title)) {
       return false;
     }
@@ -54,14 +74,45 @@ public class Journal extends org.asn1gen.runtime.java.AsnSequence {
       return this.equals((Journal)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
   public int hashCode() {
-    return (0
-      ^ this.title.hashCode()
-      ^ this.edition.hashCode());
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.title);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.edition);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 2);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/public final org.asn1gen.runtime.java.OctetBuffer title = new org.asn1gen.runtime.java.OctetBuffer();
+    public final org.asn1gen.runtime.java.OctetBuffer edition = new org.asn1gen.runtime.java.OctetBuffer();
+
+    @Override
+    public Mutable reset() {
+      this.title.clear();
+      this.edition.clear();
+
+      return this;
+    }
+
+    public Journal toImmutable() {
+      return toImmutable(null);
+    }
+
+    public Journal toImmutable(final AsnInterner interner) {
+      return new Journal(
+        this.title.toAsnOctetString(),
+        this.edition.toAsnOctetString());
+    }
   }
 }
 
@@ -8,15 +8,15 @@ import static org.asn1gen.runtime.java.Statics.*;
 
 @SuppressWarnings("unused")
 public class Journals extends org.asn1gen.runtime.java.AsnList {
-  public static Journals EMPTY = new Journals(org.asn1gen.runtime.java.ConsList.<Journal>nil());
+  public static Journals EMPTY = new Journals(org.asn1gen.runtime.java.ImmutableList.<Journal>nil());
 
-  public final org.asn1gen.runtime.java.ConsList<Journal> items;
+  public final org.asn1gen.runtime.java.ImmutableList<Journal> items;
 
-  public Journals(final org.asn1gen.runtime.java.ConsList<Journal> items) {
+  public Journals(final org.asn1gen.runtime.java.ImmutableList<Journal> items) {
     this.items = items;
   }
 
-  public Journals withItems(final org.asn1gen.runtime.java.ConsList<Journal> value) {
+  public Journals withItems(final org.asn1gen.runtime.java.ImmutableList<Journal> value) {
     return new Journals(value);
   }
 
@@ -31,7 +31,7 @@ public class Journals extends org.asn1gen.runtime.java.AsnList {
       return this.equals((Journals)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
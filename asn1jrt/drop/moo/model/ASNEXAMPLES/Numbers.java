@@ -0,0 +1,50 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Numbers extends org.asn1gen.runtime.java.AsnList {
+  public static Numbers EMPTY = new Numbers(org.asn1gen.runtime.java.ImmutableLongList.EMPTY);
+
+  public final org.asn1gen.runtime.java.ImmutableLongList items;
+
+  public Numbers(final org.asn1gen.runtime.java.ImmutableLongList items) {
+    this.items = items;
+  }
+
+  public Numbers withItems(final org.asn1gen.runtime.java.ImmutableLongList value) {
+    return new Numbers(value);
+  }
+
+  public int size() {
+    return this.items.size();
+  }
+
+  public long get(final int index) {
+    return this.items.get(index);
+  }
+
+  public boolean equals(final Numbers that) {
+    assert that != null;
+
+    return this.items.equals(that.items);
+  }
+
+  public boolean equals(final Object that) {
+    if (that instanceof Numbers) {
+      return this.equals((Numbers)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return this.items.hashCode();
+  }
+}
+
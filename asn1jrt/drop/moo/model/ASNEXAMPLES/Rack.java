@@ -0,0 +1,207 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Rack extends org.asn1gen.runtime.java.AsnSequence {
+  public static final Rack EMPTY = new Rack(
+    org.asn1gen.runtime.java.AsnOctetString.EMPTY,
+    org.asn1gen.runtime.java.AsnUtf8String.EMPTY,
+    Numbers.EMPTY,
+    Covers.EMPTY,
+    org.asn1gen.runtime.java.None.<Books>instance());
+
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnOctetString label;
+  public final org.asn1gen.runtime.java.AsnUtf8String title;
+  public final Numbers numbers;
+  public final Covers covers;
+  public final org.asn1gen.runtime.java.Option<Books> books;
+
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Rack> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Rack>("Rack",
+      new org.asn1gen.runtime.java.AsnField<Rack>("label", 0, false) {
+        public Object get(final Rack value) {
+          return value.label;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Rack>("title", 1, false) {
+        public Object get(final Rack value) {
+          return value.title;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Rack>("numbers", 2, false) {
+        public Object get(final Rack value) {
+          return value.numbers;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Rack>("covers", 3, false) {
+        public Object get(final Rack value) {
+          return value.covers;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Rack>("books", 4, true) {
+        public Object get(final Rack value) {
+          return value.books;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Rack> descriptor() {
+    return DESCRIPTOR;
+  }
+
+  public Rack(
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnOctetString label,
+      final org.asn1gen.runtime.java.AsnUtf8String title,
+      final Numbers numbers,
+      final Covers covers,
+      final org.asn1gen.runtime.java.Option<Books> books) {
+    /*GenJava.scala:2817*/this.label = label;
+    this.title = title;
+    this.numbers = numbers;
+    this.covers = covers;
+    this.books = books;
+  }
+
+  public final Rack withLabel(final org.asn1gen.runtime.java.AsnOctetString value) {
+    return new Rack(
+      value,
+      this.title,
+      this.numbers,
+      this.covers,
+      this.books);
+  }
+
+  public final Rack withTitle(final org.asn1gen.runtime.java.AsnUtf8String value) {
+    return new Rack(
+      this.label,
+      value,
+      this.numbers,
+      this.covers,
+      this.books);
+  }
+
+  public final Rack withNumbers(final Numbers value) {
+    return new Rack(
+      this.label,
+      this.title,
+      value,
+      this.covers,
+      this.books);
+  }
+
+  public final Rack withCovers(final Covers value) {
+    return new Rack(
+      this.label,
+      this.title,
+      this.numbers,
+      value,
+      this.books);
+  }
+
+  public final Rack withBooks(final org.asn1gen.runtime.java.Option<Books> value) {
+    return new Rack(
+      this.label,
+      this.title,
+      this.numbers,
+      this.covers,
+      value);
+  }
+
+  public boolean equals(final Rack that) {
+    assert that != null;
+    /*GenJava.scala:488*/
+    if (!this.label.equals(that.label)) {
+      return false;
+    }
+
+    if (!this.title.equals(that.title)) {
+      return false;
+    }
+
+    if (!this.numbers.equals(that.numbers)) {
+      return false;
+    }
+
+    if (!this.covers.equals(that.covers)) {
+      return false;
+    }
+
+    if (!this.books.equals(that.books)) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof Rack) {
+      return this.equals((Rack)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.label);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.title);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.numbers);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.covers);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.books);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 5);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/private static final byte[] labelDefault = new byte[] { 0x72, 0x61, 0x63, 0x6b };
+    private static final byte[] titleDefault = new byte[] { 0x75, 0x6e, 0x74, 0x69, 0x74, 0x6c, 0x65, 0x64 };
+
+    public final org.asn1gen.runtime.java.OctetBuffer label = new org.asn1gen.runtime.java.OctetBuffer().set(labelDefault, 0, labelDefault.length);
+    public final org.asn1gen.runtime.java.OctetBuffer title = new org.asn1gen.runtime.java.OctetBuffer().set(titleDefault, 0, titleDefault.length);
+    public Numbers numbers = Numbers.EMPTY;
+    public Covers covers = Covers.EMPTY;
+    public Books books = Books.EMPTY;
+    public boolean hasBooks = false;
+
+    @Override
+    public Mutable reset() {
+      this.label.set(labelDefault, 0, labelDefault.length);
+      this.title.set(titleDefault, 0, titleDefault.length);
+      this.numbers = Numbers.EMPTY;
+      this.covers = Covers.EMPTY;
+      this.books = Books.EMPTY;
+      this.hasBooks = false;
+
+      return this;
+    }
+
+    public Rack toImmutable() {
+      return toImmutable(null);
+    }
+
+    public Rack toImmutable(final AsnInterner interner) {
+      return new Rack(
+        this.label.toAsnOctetString(),
+        this.title.toAsnUtf8String(interner),
+        this.numbers,
+        this.covers,
+        this.hasBooks ? some(this.books) : org.asn1gen.runtime.java.None.<Books>instance());
+    }
+  }
+}
+
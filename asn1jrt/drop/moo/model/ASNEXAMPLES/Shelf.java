@@ -0,0 +1,314 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Shelf extends org.asn1gen.runtime.java.AsnSequence {
+  public static final Shelf EMPTY = new Shelf(
+    org.asn1gen.runtime.java.AsnUtf8String.EMPTY,
+    org.asn1gen.runtime.java.AsnInteger.EMPTY,
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+    BookCover.EMPTY,
+    org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnOctetString>instance(),
+    org.asn1gen.runtime.java.None.<Item>instance(),
+    org.asn1gen.runtime.java.None.<BookPrice>instance(),
+    org.asn1gen.runtime.java.AsnBoolean.EMPTY);
+
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnUtf8String label;
+  public final org.asn1gen.runtime.java.AsnInteger code;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> capacity;
+  public final BookCover cover;
+  public final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> note;
+  public final org.asn1gen.runtime.java.Option<Item> item;
+  public final org.asn1gen.runtime.java.Option<BookPrice> price;
+  public final org.asn1gen.runtime.java.AsnBoolean open;
+
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Shelf> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Shelf>("Shelf",
+      new org.asn1gen.runtime.java.AsnField<Shelf>("label", 0, false) {
+        public Object get(final Shelf value) {
+          return value.label;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("code", 1, false) {
+        public Object get(final Shelf value) {
+          return value.code;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("capacity", 2, true) {
+        public Object get(final Shelf value) {
+          return value.capacity;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("cover", 3, false) {
+        public Object get(final Shelf value) {
+          return value.cover;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("note", 4, true) {
+        public Object get(final Shelf value) {
+          return value.note;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("item", 5, true) {
+        public Object get(final Shelf value) {
+          return value.item;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("price", 6, true) {
+        public Object get(final Shelf value) {
+          return value.price;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Shelf>("open", 7, false) {
+        public Object get(final Shelf value) {
+          return value.open;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Shelf> descriptor() {
+    return DESCRIPTOR;
+  }
+
+  public Shelf(
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnUtf8String label,
+      final org.asn1gen.runtime.java.AsnInteger code,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> capacity,
+      final BookCover cover,
+      final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> note,
+      final org.asn1gen.runtime.java.Option<Item> item,
+      final org.asn1gen.runtime.java.Option<BookPrice> price,
+      final org.asn1gen.runtime.java.AsnBoolean open) {
+    /*GenJava.scala:2817*/this.label = label;
+    this.code = code;
+    this.capacity = capacity;
+    this.cover = cover;
+    this.note = note;
+    this.item = item;
+    this.price = price;
+    this.open = open;
+  }
+
+  public final Shelf withLabel(final org.asn1gen.runtime.java.AsnUtf8String value) {
+    return new Shelf(
+      value,
+      this.code,
+      this.capacity,
+      this.cover,
+      this.note,
+      this.item,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withCode(final org.asn1gen.runtime.java.AsnInteger value) {
+    return new Shelf(
+      this.label,
+      value,
+      this.capacity,
+      this.cover,
+      this.note,
+      this.item,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withCapacity(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnInteger> value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      value,
+      this.cover,
+      this.note,
+      this.item,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withCover(final BookCover value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      this.capacity,
+      value,
+      this.note,
+      this.item,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withNote(final org.asn1gen.runtime.java.Option<org.asn1gen.runtime.java.AsnOctetString> value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      this.capacity,
+      this.cover,
+      value,
+      this.item,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withItem(final org.asn1gen.runtime.java.Option<Item> value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      this.capacity,
+      this.cover,
+      this.note,
+      value,
+      this.price,
+      this.open);
+  }
+
+  public final Shelf withPrice(final org.asn1gen.runtime.java.Option<BookPrice> value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      this.capacity,
+      this.cover,
+      this.note,
+      this.item,
+      value,
+      this.open);
+  }
+
+  public final Shelf withOpen(final org.asn1gen.runtime.java.AsnBoolean value) {
+    return new Shelf(
+      this.label,
+      this.code,
+      this.capacity,
+      this.cover,
+      this.note,
+      this.item,
+      this.price,
+      value);
+  }
+
+  public boolean equals(final Shelf that) {
+    assert that != null;
+    /*GenJava.scala:488*/
+    if (!this.label.equals(that.label)) {
+      return false;
+    }
+
+    if (!this.code.equals(that.code)) {
+      return false;
+    }
+
+    if (!this.capacity.equals(that.capacity)) {
+      return false;
+    }
+
+    if (!this.cover.equals(that.cover)) {
+      return false;
+    }
+
+    if (!this.note.equals(that.note)) {
+      return false;
+    }
+
+    if (!this.item.equals(that.item)) {
+      return false;
+    }
+
+    if (!this.price.equals(that.price)) {
+      return false;
+    }
+
+    if (!this.open.equals(that.open)) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof Shelf) {
+      return this.equals((Shelf)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.label);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.code);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.capacity);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.cover);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.note);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.item);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.price);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.open);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 8);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+
+  public static final class Mutable extends org.asn1gen.runtime.java.AsnMutable {
+    /*GenJava.scala:1767*/public final org.asn1gen.runtime.java.TlvCursor inner = new org.asn1gen.runtime.java.TlvCursor();
+
+    public final org.asn1gen.runtime.java.OctetBuffer label = new org.asn1gen.runtime.java.OctetBuffer();
+    public long code = 0;
+    public long capacity = 0;
+    public BookCover cover = BookCover.hardCover;
+    public final org.asn1gen.runtime.java.OctetBuffer note = new org.asn1gen.runtime.java.OctetBuffer();
+    public Item item = Item.EMPTY;
+    public final BookPrice.Mutable price = new BookPrice.Mutable();
+    public boolean open = true;
+    public boolean hasCapacity = false;
+    public boolean hasNote = false;
+    public boolean hasItem = false;
+    public boolean hasPrice = false;
+
+    @Override
+    public Mutable reset() {
+      this.label.clear();
+      this.code = 0;
+      this.capacity = 0;
+      this.cover = BookCover.hardCover;
+      this.note.clear();
+      this.item = Item.EMPTY;
+      this.price.reset();
+      this.open = true;
+      this.hasCapacity = false;
+      this.hasNote = false;
+      this.hasItem = false;
+      this.hasPrice = false;
+
+      return this;
+    }
+
+    public Shelf toImmutable() {
+      return toImmutable(null);
+    }
+
+    public Shelf toImmutable(final AsnInterner interner) {
+      return new Shelf(
+        this.label.toAsnUtf8String(interner),
+        org.asn1gen.runtime.java.AsnInteger.valueOf(this.code),
+        this.hasCapacity ? some(org.asn1gen.runtime.java.AsnInteger.valueOf(this.capacity)) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnInteger>instance(),
+        this.cover,
+        this.hasNote ? some(this.note.toAsnOctetString()) : org.asn1gen.runtime.java.None.<org.asn1gen.runtime.java.AsnOctetString>instance(),
+        this.hasItem ? some(this.item) : org.asn1gen.runtime.java.None.<Item>instance(),
+        this.hasPrice ? some(this.price.toImmutable(interner)) : org.asn1gen.runtime.java.None.<BookPrice>instance(),
+        this.open ? org.asn1gen.runtime.java.AsnBoolean.TRUE : org.asn1gen.runtime.java.AsnBoolean.FALSE);
+    }
+  }
+}
+
@@ -0,0 +1,95 @@
+/* This file was generated by asn1gen */
+
+package moo.model.ASNEXAMPLES;
+
+import org.asn1gen.runtime.java.*;
+
+import static org.asn1gen.runtime.java.Statics.*;
+
+@SuppressWarnings("unused")
+public class Tray extends org.asn1gen.runtime.java.AsnSequence {
+  public static final Tray EMPTY = new Tray(
+    org.asn1gen.runtime.java.AsnOctetString.EMPTY,
+    BookPrice.EMPTY);
+
+  /*GenJava.scala:432*/public final org.asn1gen.runtime.java.AsnOctetString label;
+  public final BookPrice price;
+
+  private int _hash;
+
+  public static final org.asn1gen.runtime.java.AsnDescriptor<Tray> DESCRIPTOR =
+      new org.asn1gen.runtime.java.AsnDescriptor<Tray>("Tray",
+      new org.asn1gen.runtime.java.AsnField<Tray>("label", 0, false) {
+        public Object get(final Tray value) {
+          return value.label;
+        }
+      },
+      new org.asn1gen.runtime.java.AsnField<Tray>("price", 1, false) {
+        public Object get(final Tray value) {
+          return value.price;
+        }
+      });
+
+  @Override
+  public org.asn1gen.runtime.java.AsnDescriptor<Tray> descriptor() {
+    return DESCRIPTOR;
+  }
+
+  public Tray(
+      /*GenJava.scala:2827*/final org.asn1gen.runtime.java.AsnOctetString label,
+      final BookPrice price) {
+    /*GenJava.scala:2817*/this.label = label;
+    this.price = price;
+  }
+
+  public final Tray withLabel(final org.asn1gen.runtime.java.AsnOctetString value) {
+    return new Tray(
+      value,
+      this.price);
+  }
+
+  public final Tray withPrice(final BookPrice value) {
+    return new Tray(
+      this.label,
+      value);
+  }
+
+  public boolean equals(final Tray that) {
+    assert that != null;
+    /*GenJava.scala:488*/
+    if (!this.label.equals(that.label)) {
+      return false;
+    }
+
+    if (!this.price.equals(that.price)) {
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof Tray) {
+      return this.equals((Tray)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.label);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.price);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 2);
+      this._hash = hash;
+    }
+
+    return hash;
+  }
+}
+
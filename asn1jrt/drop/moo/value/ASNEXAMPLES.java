@@ -20,5 +20,5 @@ public class ASNEXAMPLES {
   public static final AsnOctetString defaultOctetString = new AsnOctetString("Hello world");
   public static final AsnBoolean defaultBooleanFalse = AsnBoolean.FALSE;
   public static final AsnBoolean defaultBooleanTrue = AsnBoolean.TRUE;
-  public static final AsnInteger defaultInteger = new AsnInteger(123);
+  public static final AsnInteger defaultInteger = AsnInteger.valueOf(123);
 }
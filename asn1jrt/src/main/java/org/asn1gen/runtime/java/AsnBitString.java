@@ -1,21 +1,250 @@
 package org.asn1gen.runtime.java;
 
+import java.util.Arrays;
+
+/**
+ * An immutable bit string of any length.  Bits are packed into 64-bit words
+ * in transmission order: bit 0 of the string is the most significant bit of
+ * the first word, so each word maps directly onto eight encoded octets.  Bits
+ * past the end of the string are always zero.
+ */
 public class AsnBitString implements AsnType {
-  public final static AsnBitString EMPTY = new AsnBitString(0, 0);
+  private static final long[] NO_WORDS = new long[0];
+  
+  public final static AsnBitString EMPTY = new AsnBitString(NO_WORDS, 0, false);
   
-  public final long value;
   public final int length;
   
+  private final long[] words;
+  
+  /**
+   * Creates a bit string of at most 64 bits from the low length bits of
+   * value, the most significant of which is bit 0.
+   */
   public AsnBitString(final long value, final int length) {
+    this(wordsOf(value, length), length, false);
+  }
+  
+  private AsnBitString(final long[] words, final int length, final boolean clearTail) {
+    this.words = words;
+    this.length = length;
+    
+    if (clearTail && words.length > 0) {
+      words[words.length - 1] &= tailMask(length);
+    }
+  }
+  
+  private static long[] wordsOf(final long value, final int length) {
     if (length < 0) {
-      throw new IllegalArgumentException();
+      throw new IllegalArgumentException("Negative bit string length: " + length);
     }
     
     if (length > 64) {
-      throw new IllegalArgumentException("Currently doesn't support bit strings longer than 64-bits");
+      throw new IllegalArgumentException("Use fromWords for bit strings longer than 64 bits");
     }
     
-    this.value = value;
-    this.length = length;
+    if (length == 0) {
+      return NO_WORDS;
+    }
+    
+    return new long[] { value << (64 - length) };
+  }
+  
+  private static int wordCount(final int length) {
+    return (length + 63) >>> 6;
+  }
+  
+  private static long tailMask(final int length) {
+    final int tail = length & 63;
+    
+    return tail == 0 ? -1L : -1L << (64 - tail);
+  }
+  
+  /**
+   * Creates a bit string from words laid out in transmission order.  Words
+   * beyond those needed for length bits are ignored and missing words are
+   * taken as zero.
+   */
+  public static AsnBitString fromWords(final long[] words, final int length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Negative bit string length: " + length);
+    }
+    
+    if (length == 0) {
+      return EMPTY;
+    }
+    
+    return new AsnBitString(Arrays.copyOf(words, wordCount(length)), length, true);
+  }
+  
+  /**
+   * Creates a bit string from its encoded form: byteLength octets holding
+   * the bits in transmission order, the last unusedBits of which are padding.
+   */
+  public static AsnBitString fromBytes(final byte[] array, final int offset, final int byteLength, final int unusedBits) {
+    if (unusedBits < 0 || unusedBits > 7 || (byteLength == 0 && unusedBits != 0)) {
+      throw new IllegalArgumentException("Bad unused bit count: " + unusedBits);
+    }
+    
+    final int length = byteLength * 8 - unusedBits;
+    
+    if (length == 0) {
+      return EMPTY;
+    }
+    
+    final long[] words = new long[wordCount(length)];
+    final int wholeWords = byteLength >>> 3;
+    
+    for (int i = 0; i < wholeWords; ++i) {
+      words[i] = BigEndian.readLong(array, offset + (i << 3));
+    }
+    
+    final int tailBytes = byteLength & 7;
+    
+    if (tailBytes != 0) {
+      words[wholeWords] = BigEndian.readUnsigned(array, offset + (wholeWords << 3), tailBytes) << ((8 - tailBytes) << 3);
+    }
+    
+    return new AsnBitString(words, length, true);
+  }
+  
+  /**
+   * The bits as a right-aligned long, for bit strings of at most 64 bits.
+   */
+  public long longValue() {
+    if (length > 64) {
+      throw new IllegalStateException("Bit string of " + length + " bits does not fit in a long");
+    }
+    
+    return length == 0 ? 0 : words[0] >>> (64 - length);
+  }
+  
+  public int wordCount() {
+    return words.length;
+  }
+  
+  public long word(final int index) {
+    return words[index];
+  }
+  
+  public long[] toWords() {
+    return words.clone();
+  }
+  
+  public int byteLength() {
+    return (length + 7) >>> 3;
+  }
+  
+  public int unusedBits() {
+    return (8 - (length & 7)) & 7;
+  }
+  
+  /**
+   * Writes the byteLength() encoded octets of the bit string into array.
+   */
+  public void writeBytes(final byte[] array, final int offset) {
+    final int byteLength = byteLength();
+    final int wholeWords = byteLength >>> 3;
+    
+    for (int i = 0; i < wholeWords; ++i) {
+      BigEndian.writeLong(array, offset + (i << 3), words[i]);
+    }
+    
+    final int tailBytes = byteLength & 7;
+    
+    if (tailBytes != 0) {
+      BigEndian.writeUnsigned(array, offset + (wholeWords << 3), tailBytes, words[wholeWords] >>> ((8 - tailBytes) << 3));
+    }
+  }
+  
+  public byte[] toByteArray() {
+    final byte[] result = new byte[byteLength()];
+    
+    writeBytes(result, 0);
+    
+    return result;
+  }
+  
+  public boolean test(final int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Bit " + index + " of " + length);
+    }
+    
+    return (words[index >>> 6] << (index & 63)) < 0;
+  }
+  
+  public int cardinality() {
+    int result = 0;
+    
+    for (final long word: words) {
+      result += Long.bitCount(word);
+    }
+    
+    return result;
+  }
+  
+  /**
+   * Intersects two bit strings.  The result is as long as the longer operand,
+   * with the shorter one treated as padded with zeros.
+   */
+  public AsnBitString and(final AsnBitString that) {
+    final AsnBitString longer = this.length >= that.length ? this : that;
+    final AsnBitString shorter = longer == this ? that : this;
+    final long[] words = new long[longer.words.length];
+    
+    for (int i = 0; i < shorter.words.length; ++i) {
+      words[i] = longer.words[i] & shorter.words[i];
+    }
+    
+    return new AsnBitString(words, longer.length, false);
+  }
+  
+  /**
+   * Unites two bit strings.  The result is as long as the longer operand,
+   * with the shorter one treated as padded with zeros.
+   */
+  public AsnBitString or(final AsnBitString that) {
+    final AsnBitString longer = this.length >= that.length ? this : that;
+    final AsnBitString shorter = longer == this ? that : this;
+    final long[] words = longer.words.clone();
+    
+    for (int i = 0; i < shorter.words.length; ++i) {
+      words[i] |= shorter.words[i];
+    }
+    
+    return new AsnBitString(words, longer.length, false);
+  }
+  
+  public boolean equals(final AsnBitString that) {
+    assert that != null;
+    
+    return this.length == that.length && Arrays.equals(this.words, that.words);
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnBitString) {
+      return this.equals((AsnBitString)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(words) + length;
+  }
+  
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder(length + 3);
+    
+    sb.append('\'');
+    
+    for (int i = 0; i < length; ++i) {
+      sb.append(test(i) ? '1' : '0');
+    }
+    
+    return sb.append("'B").toString();
   }
 }
@@ -10,4 +10,24 @@ public class AsnBoolean implements AsnType {
   private AsnBoolean(final boolean value) {
     this.value = value;
   }
+  
+  public boolean equals(final AsnBoolean that) {
+    assert that != null;
+    
+    return this.value == that.value;
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnBoolean) {
+      return this.equals((AsnBoolean)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return this.value ? 1231 : 1237;
+  }
 }
@@ -4,4 +4,26 @@ public abstract class AsnChoice implements AsnType {
   public abstract AsnType element();
 
   public abstract int choiceId();
+
+  public abstract String choiceName();
+  
+  public boolean equals(final AsnChoice that) {
+    assert that != null;
+    
+    return this.getClass() == that.getClass() && this.element().equals(that.element());
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnChoice) {
+      return this.equals((AsnChoice)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return Hashing.finish(Hashing.mix(Hashing.mix(Hashing.SEED, choiceId()), element()), 2);
+  }
 }
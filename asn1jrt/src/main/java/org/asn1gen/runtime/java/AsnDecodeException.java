@@ -0,0 +1,22 @@
+package org.asn1gen.runtime.java;
+
+public class AsnDecodeException extends AsnException {
+  private static final long serialVersionUID = 2413361527350270474L;
+  
+  public static final boolean DEBUG = Boolean.getBoolean("org.asn1gen.runtime.java.debug");
+  
+  public final AsnErrorCode code;
+  public final int offset;
+  
+  public AsnDecodeException(final AsnErrorCode code, final int offset) {
+    super(null, null, false, DEBUG);
+    
+    this.code = code;
+    this.offset = offset;
+  }
+  
+  @Override
+  public String getMessage() {
+    return code + " at offset " + offset;
+  }
+}
@@ -0,0 +1,60 @@
+package org.asn1gen.runtime.java;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The member table of a generated SEQUENCE type.  Fields are held in
+ * declaration order and field(i).index == i.  Name lookups go through a map
+ * built once, so they are only needed to resolve an index up front.
+ */
+public final class AsnDescriptor<T> {
+  public final String name;
+  
+  private final AsnField<?>[] fields;
+  private final Map<String, Integer> indices = new HashMap<String, Integer>();
+  
+  @SafeVarargs
+  public AsnDescriptor(final String name, final AsnField<T>... fields) {
+    this.name = name;
+    this.fields = new AsnField<?>[fields.length];
+    
+    for (int i = 0; i < fields.length; ++i) {
+      final AsnField<T> field = fields[i];
+      
+      if (field.index != i) {
+        throw new IllegalArgumentException("Field " + field.name + " of " + name + " is out of order");
+      }
+      
+      this.fields[i] = field;
+      indices.put(field.name, i);
+    }
+  }
+  
+  public int fieldCount() {
+    return fields.length;
+  }
+  
+  @SuppressWarnings("unchecked")
+  public AsnField<T> field(final int index) {
+    return (AsnField<T>)fields[index];
+  }
+  
+  /**
+   * Returns the index of the named field, or -1 if there is no such field.
+   */
+  public int indexOf(final String fieldName) {
+    final Integer index = indices.get(fieldName);
+    
+    return index == null ? -1 : index;
+  }
+  
+  public Object get(final T value, final int index) {
+    return field(index).get(value);
+  }
+  
+  @Override
+  public String toString() {
+    return "AsnDescriptor(" + name + ")";
+  }
+}
@@ -0,0 +1,17 @@
+package org.asn1gen.runtime.java;
+
+public enum AsnErrorCode {
+  NONE,
+  UNEXPECTED_END,
+  TRUNCATED_TAG,
+  TRUNCATED_LENGTH,
+  UNSUPPORTED_LENGTH,
+  LENGTH_OVERRUN,
+  BAD_LENGTH,
+  UNEXPECTED_TAG,
+  MISSING_COMPONENT,
+  UNKNOWN_ENUMERATION,
+  UNKNOWN_ALTERNATIVE,
+  MALFORMED,
+  UNSUPPORTED_DEFAULT
+}
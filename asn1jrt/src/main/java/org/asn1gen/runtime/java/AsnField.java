@@ -0,0 +1,24 @@
+package org.asn1gen.runtime.java;
+
+/**
+ * One member of a generated SEQUENCE, with a direct getter so generic code
+ * can read the field by index instead of by name or reflection.
+ */
+public abstract class AsnField<T> {
+  public final String name;
+  public final int index;
+  public final boolean optional;
+  
+  public AsnField(final String name, final int index, final boolean optional) {
+    this.name = name;
+    this.index = index;
+    this.optional = optional;
+  }
+  
+  public abstract Object get(final T value);
+  
+  @Override
+  public String toString() {
+    return "AsnField(" + name + ", " + index + (optional ? ", optional)" : ")");
+  }
+}
@@ -3,13 +3,51 @@ package org.asn1gen.runtime.java;
 public class AsnInteger implements AsnType {
   public static final AsnInteger EMPTY = new AsnInteger(0);
   
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1023;
+  private static final AsnInteger[] cache = new AsnInteger[CACHE_HIGH - CACHE_LOW + 1];
+  
+  static {
+    for (int i = 0; i < cache.length; ++i) {
+      cache[i] = i + CACHE_LOW == 0 ? EMPTY : new AsnInteger(i + CACHE_LOW);
+    }
+  }
+  
   public final long value;
   
   public AsnInteger(final long value) {
     this.value = value;
   }
   
-  public AsnInteger withValue(final long value) {
+  public static AsnInteger valueOf(final long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return cache[(int)value - CACHE_LOW];
+    }
+    
     return new AsnInteger(value);
   }
+  
+  public AsnInteger withValue(final long value) {
+    return valueOf(value);
+  }
+  
+  public boolean equals(final AsnInteger that) {
+    assert that != null;
+    
+    return this.value == that.value;
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnInteger) {
+      return this.equals((AsnInteger)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return (int)(value ^ (value >>> 32));
+  }
 }
@@ -0,0 +1,124 @@
+package org.asn1gen.runtime.java;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A bounded, direct-mapped cache of short UTF8String contents.  Only immutable
+ * values are interned.  An interner is passed to the decoders that should use
+ * it, so each decoder chooses whether and with whom it shares values.
+ * 
+ * Each slot holds an immutable entry, so lookups read it without locking.
+ * The stripe locks are only taken to replace an entry on a miss.
+ */
+public class AsnInterner {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  
+  private static final class Entry {
+    final byte[] bytes;
+    final AsnUtf8String value;
+    
+    Entry(final byte[] bytes, final AsnUtf8String value) {
+      this.bytes = bytes;
+      this.value = value;
+    }
+  }
+  
+  public final int maxLength;
+  
+  private final int mask;
+  private final Entry[] entries;
+  private final Object[] locks;
+  
+  public AsnInterner(final int capacity, final int stripes, final int maxLength) {
+    if (capacity <= 0 || stripes <= 0) {
+      throw new IllegalArgumentException("capacity and stripes must be positive");
+    }
+    
+    int slotCount = 1;
+    
+    while (slotCount < capacity) {
+      slotCount <<= 1;
+    }
+    
+    int lockCount = 1;
+    
+    while (lockCount < stripes && lockCount < slotCount) {
+      lockCount <<= 1;
+    }
+    
+    this.maxLength = maxLength;
+    this.mask = slotCount - 1;
+    this.entries = new Entry[slotCount];
+    this.locks = new Object[lockCount];
+    
+    for (int i = 0; i < lockCount; ++i) {
+      this.locks[i] = new Object();
+    }
+  }
+  
+  public AsnInterner() {
+    this(4096, 16, 32);
+  }
+  
+  private static int hash(final byte[] array, final int start, final int length) {
+    final int end = start + length;
+    int hash = 0x811c9dc5;
+    
+    for (int i = start; i < end; ++i) {
+      hash = (hash ^ array[i]) * 0x01000193;
+    }
+    
+    return hash ^ (hash >>> 16);
+  }
+  
+  private static boolean matches(final Entry entry, final byte[] array, final int start, final int length) {
+    if (entry == null || entry.bytes.length != length) {
+      return false;
+    }
+    
+    final byte[] bytes = entry.bytes;
+    
+    for (int i = 0; i < length; ++i) {
+      if (bytes[i] != array[start + i]) {
+        return false;
+      }
+    }
+    
+    return true;
+  }
+  
+  private Object lockFor(final int slot) {
+    return locks[slot & (locks.length - 1)];
+  }
+  
+  public AsnUtf8String utf8String(final ByteArrayWindow window) {
+    return utf8String(window.array, window.start, window.length);
+  }
+  
+  public AsnUtf8String utf8String(final byte[] array, final int start, final int length) {
+    if (length > maxLength) {
+      return new AsnUtf8String(new String(array, start, length, UTF8));
+    }
+    
+    final int slot = hash(array, start, length) & mask;
+    final Entry cached = entries[slot];
+    
+    if (matches(cached, array, start, length)) {
+      return cached.value;
+    }
+    
+    synchronized (lockFor(slot)) {
+      final Entry current = entries[slot];
+      
+      if (current != cached && matches(current, array, start, length)) {
+        return current.value;
+      }
+      
+      final byte[] bytes = Arrays.copyOfRange(array, start, start + length);
+      final Entry fresh = new Entry(bytes, new AsnUtf8String(new String(bytes, UTF8)));
+      entries[slot] = fresh;
+      return fresh.value;
+    }
+  }
+}
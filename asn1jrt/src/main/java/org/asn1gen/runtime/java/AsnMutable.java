@@ -0,0 +1,7 @@
+package org.asn1gen.runtime.java;
+
+public abstract class AsnMutable {
+  public final TlvCursor cursor = new TlvCursor();
+  
+  public abstract AsnMutable reset();
+}
@@ -5,4 +5,14 @@ public class AsnNull implements AsnType {
   
   private AsnNull() {
   }
+  
+  @Override
+  public boolean equals(final Object that) {
+    return that instanceof AsnNull;
+  }
+  
+  @Override
+  public int hashCode() {
+    return 0x05;
+  }
 }
@@ -1,21 +1,95 @@
 package org.asn1gen.runtime.java;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
 
+/**
+ * An immutable octet string.  The octets are copied in and out, so the cached
+ * hash always matches the content.
+ */
 public class AsnOctetString implements AsnType {
-  public static final AsnOctetString EMPTY = new AsnOctetString(new byte[0]);
+  public static final AsnOctetString EMPTY = new AsnOctetString(new byte[0], false);
   
-  public final byte[] value;
+  public final int length;
+  
+  private final byte[] value;
+  
+  private int hash;
   
   public AsnOctetString(final String value) {
-    this.value = value.getBytes();
+    this(value.getBytes(), false);
   }
   
   public AsnOctetString(final byte[] value) {
-    this.value = value;
+    this(value, true);
+  }
+  
+  private AsnOctetString(final byte[] value, final boolean copy) {
+    this.value = copy ? value.clone() : value;
+    this.length = value.length;
+  }
+  
+  /**
+   * Takes ownership of value without copying it.  Callers must not keep or
+   * hand out any other reference to the array.
+   */
+  static AsnOctetString wrap(final byte[] value) {
+    return new AsnOctetString(value, false);
+  }
+  
+  /**
+   * The octets themselves, for encoders in this package only.  They must not
+   * be modified.
+   */
+  byte[] array() {
+    return value;
+  }
+  
+  public byte byteAt(final int index) {
+    return value[index];
+  }
+  
+  public void writeBytes(final byte[] array, final int offset) {
+    System.arraycopy(value, 0, array, offset, value.length);
+  }
+  
+  public byte[] toByteArray() {
+    return value.clone();
   }
   
   public String value(final Charset charset) {
     return new String(this.value, charset);
   }
+  
+  public boolean equals(final AsnOctetString that) {
+    assert that != null;
+    
+    return this == that || (this.hashCode() == that.hashCode() && Arrays.equals(this.value, that.value));
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnOctetString) {
+      return this.equals((AsnOctetString)that);
+    }
+    
+    return false;
+  }
+  
+  /**
+   * Hashes the content rather than the array identity.  The hash is computed
+   * once, which is safe because the octets never change.
+   */
+  @Override
+  public int hashCode() {
+    int h = hash;
+    
+    if (h == 0) {
+      h = Arrays.hashCode(this.value);
+      h = h == 0 ? 1 : h;
+      hash = h;
+    }
+    
+    return h;
+  }
 }
@@ -8,4 +8,26 @@ public class AsnReal implements AsnType {
   public AsnReal(final double value) {
     this.value = value;
   }
+  
+  public boolean equals(final AsnReal that) {
+    assert that != null;
+    
+    return Double.doubleToLongBits(this.value) == Double.doubleToLongBits(that.value);
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnReal) {
+      return this.equals((AsnReal)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    final long bits = Double.doubleToLongBits(this.value);
+    
+    return (int)(bits ^ (bits >>> 32));
+  }
 }
@@ -0,0 +1,35 @@
+package org.asn1gen.runtime.java;
+
+public class AsnResult extends ReturnInteger {
+  public AsnErrorCode code = AsnErrorCode.NONE;
+  public int offset = -1;
+  
+  public boolean ok() {
+    return code == AsnErrorCode.NONE;
+  }
+  
+  public boolean succeed() {
+    this.code = AsnErrorCode.NONE;
+    this.offset = -1;
+    
+    return true;
+  }
+  
+  public boolean fail(final AsnErrorCode code, final int offset) {
+    this.code = code;
+    this.offset = offset;
+    this.value = 0;
+    
+    return false;
+  }
+  
+  public boolean fail(final AsnException e, final ByteArrayWindow window) {
+    if (e instanceof AsnDecodeException) {
+      final AsnDecodeException decodeException = (AsnDecodeException)e;
+      
+      return fail(decodeException.code, decodeException.offset - window.start);
+    }
+    
+    return fail(AsnErrorCode.MALFORMED, 0);
+  }
+}
@@ -1,4 +1,22 @@
 package org.asn1gen.runtime.java;
 
 public class AsnSequence implements AsnType {
+  public static final AsnDescriptor<AsnSequence> DESCRIPTOR = new AsnDescriptor<AsnSequence>("AsnSequence");
+  
+  /**
+   * The member table of this value's type.  Generated sequences return their
+   * own DESCRIPTOR, whose getters accept values of that type.
+   */
+  public AsnDescriptor<? extends AsnSequence> descriptor() {
+    return DESCRIPTOR;
+  }
+  
+  /**
+   * Reads a field by index through the descriptor without the caller needing
+   * to know the concrete type.
+   */
+  @SuppressWarnings("unchecked")
+  public Object field(final int index) {
+    return ((AsnDescriptor<AsnSequence>)descriptor()).get(this, index);
+  }
 }
@@ -159,25 +159,89 @@ public class AsnToBer {
     return encodePart(value.value);
   }
   
-  private static BerWriter encodeBitStringBits(final long value, final int length) {
-    if (length <= 0) {
-      return EMPTY;
-    }
-    
-    return encodeBitStringBits(value >> 8, length - 1).lbyte(value & 0xff);
-  }
-
   public static BerWriter encodePart(final AsnBitString value) {
-    final int excess = (64 - value.length) % 8;
-    final int encodeLength = (value.length + excess) / 8;
-    return EMPTY.ibyte(excess).then(encodeBitStringBits(value.value << excess, encodeLength));
+    final byte[] bytes = new byte[value.byteLength() + 1];
+    bytes[0] = (byte)value.unusedBits();
+    value.writeBytes(bytes, 1);
+    return EMPTY.bbytes(bytes);
   }
 
   public static BerWriter encodePart(final AsnOctetString value) {
-    return EMPTY.bbytes(value.value);
+    return EMPTY.bbytes(value.array());
   }
 
   public static BerWriter encodePart(final AsnUtf8String value) {
     return EMPTY.bbytes(value.value.getBytes(Charset.forName("UTF-8")));
   }
+
+  public static int integerLength(final long value) {
+    int length = 1;
+    long remainder = value;
+    
+    while (length < 8 && (remainder >> 7) != 0 && (remainder >> 7) != -1) {
+      remainder >>= 8;
+      length += 1;
+    }
+    
+    return length;
+  }
+  
+  private static int writeInteger(final byte[] bytes, final int offset, final int tag, final long value) {
+    final int length = integerLength(value);
+    
+    bytes[offset] = (byte)tag;
+    bytes[offset + 1] = (byte)length;
+    
+    for (int i = 0; i < length; ++i) {
+      bytes[offset + 2 + i] = (byte)(value >> (8 * (length - 1 - i)));
+    }
+    
+    return offset + 2 + length;
+  }
+  
+  public static BerWriter encodePart(final ImmutableLongList value) {
+    int length = 0;
+    
+    for (int i = 0; i < value.size(); ++i) {
+      length += 2 + integerLength(value.get(i));
+    }
+    
+    final byte[] bytes = new byte[length];
+    int offset = 0;
+    
+    for (int i = 0; i < value.size(); ++i) {
+      offset = writeInteger(bytes, offset, 0x02, value.get(i));
+    }
+    
+    return EMPTY.write(bytes, 0, length);
+  }
+  
+  public static BerWriter encodePart(final ImmutableBooleanList value) {
+    final byte[] bytes = new byte[3 * value.size()];
+    
+    for (int i = 0; i < value.size(); ++i) {
+      bytes[3 * i] = 0x01;
+      bytes[3 * i + 1] = 0x01;
+      bytes[3 * i + 2] = value.get(i) ? (byte)0xff : 0x00;
+    }
+    
+    return EMPTY.write(bytes, 0, bytes.length);
+  }
+  
+  public static BerWriter encodePart(final ImmutableOrdinalList value) {
+    int length = 0;
+    
+    for (int i = 0; i < value.size(); ++i) {
+      length += 2 + integerLength(value.get(i));
+    }
+    
+    final byte[] bytes = new byte[length];
+    int offset = 0;
+    
+    for (int i = 0; i < value.size(); ++i) {
+      offset = writeInteger(bytes, offset, 0x0a, value.get(i));
+    }
+    
+    return EMPTY.write(bytes, 0, length);
+  }
 }
@@ -8,4 +8,24 @@ public class AsnUtf8String implements AsnType {
   public AsnUtf8String(final String value) {
     this.value = value;
   }
+  
+  public boolean equals(final AsnUtf8String that) {
+    assert that != null;
+    
+    return this.value.equals(that.value);
+  }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof AsnUtf8String) {
+      return this.equals((AsnUtf8String)that);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return this.value.hashCode();
+  }
 }
@@ -1,5 +1,7 @@
 package org.asn1gen.runtime.java;
 
+import java.nio.charset.Charset;
+
 public class BerToAsn {
   public static final BerWriter EMPTY = BerWriter.EMPTY;
   public static final BerWriter ASN_TRUE = BerWriter.EMPTY.ibyte(0x01).ibyte(0x01).ibyte(0xff);
@@ -9,6 +11,21 @@ public class BerToAsn {
   public static final BerWriter FALSE = BerWriter.EMPTY.ibyte(0x00);
   public static final BerWriter NULL = BerWriter.EMPTY;
   
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  
+  private static ByteArrayWindow primitiveValue(final ByteArrayWindow window, final long tagNo, final ReturnInteger consumed) throws AsnException {
+    final DetailedTlvFrame detailedFrame = TLV.readTlv(window);
+    final TlvFrame frame = detailedFrame.frame;
+    
+    if (frame.tagClass != TagClass.UNIVERSAL || frame.tagForm != TagForm.PRIMITIVE || frame.tagNo != tagNo) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, window.start);
+    }
+    
+    consumed.value = window.length - detailedFrame.remainder.length;
+    
+    return frame.value;
+  }
+  
   public static AsnBoolean decode(final AsnBoolean value, final ByteArrayWindow window, final ReturnInteger consumed) {
     return AsnBoolean.EMPTY;
   }
@@ -17,24 +34,52 @@ public class BerToAsn {
     return AsnNull.EMPTY;
   }
 
-  public static AsnInteger decode(final AsnInteger value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnInteger.EMPTY;
+  public static AsnInteger decode(final AsnInteger value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return AsnInteger.valueOf(TLV.longValue(primitiveValue(window, 2, consumed)));
   }
   
-  public static AsnReal decode(final AsnReal value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnReal.EMPTY;
+  public static AsnReal decode(final AsnReal value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final ByteArrayWindow valueWindow = primitiveValue(window, 9, consumed);
+    final int headerConsumed = consumed.value;
+    final AsnReal result = decodePart(value, valueWindow, consumed);
+    
+    consumed.value = headerConsumed;
+    
+    return result;
   }
   
-  public static AsnBitString decode(final AsnBitString value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnBitString.EMPTY;
+  public static AsnBitString decode(final AsnBitString value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final ByteArrayWindow valueWindow = primitiveValue(window, 3, consumed);
+    final int headerConsumed = consumed.value;
+    final AsnBitString result = decodePart(value, valueWindow, consumed);
+    
+    consumed.value = headerConsumed;
+    
+    return result;
+  }
+
+  public static AsnOctetString decode(final AsnOctetString value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final ByteArrayWindow valueWindow = primitiveValue(window, 4, consumed);
+    final int headerConsumed = consumed.value;
+    final AsnOctetString result = decodePart(value, valueWindow, consumed);
+    
+    consumed.value = headerConsumed;
+    
+    return result;
   }
 
-  public static AsnOctetString decode(final AsnOctetString value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnOctetString.EMPTY;
+  public static AsnUtf8String decode(final AsnUtf8String value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    return decode(value, window, consumed, null);
   }
 
-  public static AsnUtf8String decode(final AsnUtf8String value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnUtf8String.EMPTY;
+  public static AsnUtf8String decode(final AsnUtf8String value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) throws AsnException {
+    final ByteArrayWindow valueWindow = primitiveValue(window, 12, consumed);
+    final int headerConsumed = consumed.value;
+    final AsnUtf8String result = decodePart(value, valueWindow, consumed, interner);
+    
+    consumed.value = headerConsumed;
+    
+    return result;
   }
 
   public static AsnBoolean decodePart(final AsnBoolean value, final ByteArrayWindow window, final ReturnInteger consumed) {
@@ -46,22 +91,255 @@ public class BerToAsn {
   }
   
   public static AsnInteger decodePart(final AsnInteger value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnInteger.EMPTY;
+    consumed.value = window.length;
+    
+    return AsnInteger.valueOf(TLV.longValue(window));
+  }
+  
+  public static AsnReal decodePart(final AsnReal value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    consumed.value = window.length;
+    
+    return new AsnReal(doubleValue(window));
   }
   
-  public static AsnReal decodePart(final AsnReal value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnReal.EMPTY;
+  public static double doubleValue(final ByteArrayWindow window) throws AsnException {
+    if (window.length == 0) {
+      return 0.0;
+    }
+    
+    final byte[] array = window.array;
+    final int end = window.start + window.length;
+    final int descriptor = array[window.start] & 0xff;
+    
+    if ((descriptor & 0x80) == 0) {
+      switch (descriptor) {
+      case 0x40:
+        return Double.POSITIVE_INFINITY;
+      case 0x41:
+        return Double.NEGATIVE_INFINITY;
+      case 0x42:
+        return Double.NaN;
+      case 0x43:
+        return -0.0;
+      }
+      
+      if ((descriptor & 0xc0) != 0) {
+        throw new AsnDecodeException(AsnErrorCode.MALFORMED, window.start);
+      }
+      
+      try {
+        return Double.parseDouble(new String(array, window.start + 1, window.length - 1, UTF8).trim().replace(',', '.'));
+      } catch (final NumberFormatException e) {
+        throw new AsnDecodeException(AsnErrorCode.MALFORMED, window.start);
+      }
+    }
+    
+    int offset = window.start + 1;
+    int exponentLength = (descriptor & 0x03) + 1;
+    
+    if (exponentLength == 4) {
+      if (offset >= end) {
+        throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, offset);
+      }
+      
+      exponentLength = array[offset++] & 0xff;
+    }
+    
+    final int mantissaLength = end - offset - exponentLength;
+    
+    if (exponentLength < 1 || exponentLength > 4 || mantissaLength < 1 || mantissaLength > 8) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, window.start);
+    }
+    
+    final long exponent = BigEndian.readSigned(array, offset, exponentLength);
+    final long mantissa = BigEndian.readUnsigned(array, offset + exponentLength, mantissaLength);
+    final int baseShift;
+    
+    switch ((descriptor >> 4) & 0x03) {
+    case 0:
+      baseShift = 1;
+      break;
+    case 1:
+      baseShift = 3;
+      break;
+    case 2:
+      baseShift = 4;
+      break;
+    default:
+      throw new AsnDecodeException(AsnErrorCode.MALFORMED, window.start);
+    }
+    
+    final long scale = exponent * baseShift + ((descriptor >> 2) & 0x03);
+    final double magnitude = Math.scalb(mantissa < 0 ? (double)(mantissa >>> 1) * 2.0 : (double)mantissa, (int)Math.max(Math.min(scale, 4096), -4096));
+    
+    return (descriptor & 0x40) != 0 ? -magnitude : magnitude;
   }
   
-  public static AsnBitString decodePart(final AsnBitString value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnBitString.EMPTY;
+  public static AsnBitString decodePart(final AsnBitString value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    if (window.length == 0) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, window.start);
+    }
+    
+    final int unusedBits = window.array[window.start] & 0xff;
+    
+    if (unusedBits > 7 || (window.length == 1 && unusedBits != 0)) {
+      throw new AsnDecodeException(AsnErrorCode.MALFORMED, window.start);
+    }
+    
+    consumed.value = window.length;
+    
+    return AsnBitString.fromBytes(window.array, window.start + 1, window.length - 1, unusedBits);
   }
 
   public static AsnOctetString decodePart(final AsnOctetString value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnOctetString.EMPTY;
+    consumed.value = window.length;
+    
+    if (window.length == 0) {
+      return AsnOctetString.EMPTY;
+    }
+    
+    final byte[] bytes = new byte[window.length];
+    System.arraycopy(window.array, window.start, bytes, 0, window.length);
+    
+    return AsnOctetString.wrap(bytes);
   }
 
   public static AsnUtf8String decodePart(final AsnUtf8String value, final ByteArrayWindow window, final ReturnInteger consumed) {
-    return AsnUtf8String.EMPTY;
+    return decodePart(value, window, consumed, null);
+  }
+
+  public static AsnUtf8String decodePart(final AsnUtf8String value, final ByteArrayWindow window, final ReturnInteger consumed, final AsnInterner interner) {
+    consumed.value = window.length;
+    
+    if (window.length == 0) {
+      return AsnUtf8String.EMPTY;
+    }
+    
+    if (interner != null) {
+      return interner.utf8String(window);
+    }
+    
+    return new AsnUtf8String(new String(window.array, window.start, window.length, UTF8));
+  }
+
+  /**
+   * Reads the header of a primitive TLV with a single-byte tag and returns the
+   * offset of its contents, leaving the content length in length.  Short and
+   * long-form definite lengths are both accepted.
+   */
+  private static int primitiveContent(final byte[] array, final int offset, final int end, final int tag, final ReturnInteger length) throws AsnException {
+    if (offset + 2 > end || (array[offset] & 0xff) != tag) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, offset);
+    }
+    
+    final int firstLengthByte = array[offset + 1] & 0xff;
+    int index = offset + 2;
+    int contentLength = firstLengthByte;
+    
+    if ((firstLengthByte & 0x80) != 0) {
+      final int lengthLength = firstLengthByte & 0x7f;
+      
+      if (lengthLength == 0 || lengthLength > 4 || index + lengthLength > end) {
+        throw new AsnDecodeException(AsnErrorCode.UNSUPPORTED_LENGTH, offset);
+      }
+      
+      contentLength = (int)BigEndian.readUnsigned(array, index, lengthLength);
+      index += lengthLength;
+    }
+    
+    if (contentLength < 0 || contentLength > end - index) {
+      throw new AsnDecodeException(AsnErrorCode.LENGTH_OVERRUN, offset);
+    }
+    
+    length.value = contentLength;
+    
+    return index;
+  }
+  
+  /**
+   * Reads integral contents as a signed long.  Contents longer than 8 bytes
+   * are accepted as long as the extra leading bytes only extend the sign.
+   */
+  private static long signedValue(final byte[] array, final int start, final int length, final int offset) throws AsnException {
+    if (length < 1) {
+      throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, offset);
+    }
+    
+    if (length <= 8) {
+      return BigEndian.readSigned(array, start, length);
+    }
+    
+    final int valueStart = start + length - 8;
+    final byte extension = array[valueStart] < 0 ? (byte)0xff : 0x00;
+    
+    for (int i = start; i < valueStart; ++i) {
+      if (array[i] != extension) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, offset);
+      }
+    }
+    
+    return BigEndian.readSigned(array, valueStart, 8);
+  }
+  
+  public static ImmutableLongList decodePart(final ImmutableLongList value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final byte[] array = window.array;
+    final int end = window.start + window.length;
+    final ImmutableLongList.Builder builder = new ImmutableLongList.Builder(TLV.count(window));
+    final ReturnInteger length = new ReturnInteger();
+    
+    for (int offset = window.start; offset < end; ) {
+      final int start = primitiveContent(array, offset, end, 0x02, length);
+      builder.add(signedValue(array, start, length.value, offset));
+      offset = start + length.value;
+    }
+    
+    consumed.value = window.length;
+    
+    return builder.build();
+  }
+  
+  public static ImmutableBooleanList decodePart(final ImmutableBooleanList value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final byte[] array = window.array;
+    final int end = window.start + window.length;
+    final ImmutableBooleanList.Builder builder = new ImmutableBooleanList.Builder(window.length / 3);
+    final ReturnInteger length = new ReturnInteger();
+    
+    for (int offset = window.start; offset < end; ) {
+      final int start = primitiveContent(array, offset, end, 0x01, length);
+      
+      if (length.value != 1) {
+        throw new AsnDecodeException(AsnErrorCode.BAD_LENGTH, offset);
+      }
+      
+      builder.add(array[start] != 0);
+      offset = start + 1;
+    }
+    
+    consumed.value = window.length;
+    
+    return builder.build();
+  }
+  
+  public static ImmutableOrdinalList decodePart(final ImmutableOrdinalList value, final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+    final byte[] array = window.array;
+    final int end = window.start + window.length;
+    final ImmutableOrdinalList.Builder builder = value.builder(TLV.count(window));
+    final ReturnInteger length = new ReturnInteger();
+    
+    for (int offset = window.start; offset < end; ) {
+      final int start = primitiveContent(array, offset, end, 0x0a, length);
+      final long ordinal = signedValue(array, start, length.value, offset);
+      
+      if (!builder.accepts(ordinal)) {
+        throw new AsnDecodeException(AsnErrorCode.UNKNOWN_ENUMERATION, offset);
+      }
+      
+      builder.add(ordinal);
+      offset = start + length.value;
+    }
+    
+    consumed.value = window.length;
+    
+    return builder.build();
   }
 }
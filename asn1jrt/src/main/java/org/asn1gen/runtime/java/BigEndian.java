@@ -0,0 +1,91 @@
+package org.asn1gen.runtime.java;
+
+public final class BigEndian {
+  private BigEndian() {
+  }
+  
+  public static long readLong(final byte[] array, final int offset) {
+    return
+        ((long)array[offset] << 56) |
+        ((long)(array[offset + 1] & 0xff) << 48) |
+        ((long)(array[offset + 2] & 0xff) << 40) |
+        ((long)(array[offset + 3] & 0xff) << 32) |
+        ((long)(array[offset + 4] & 0xff) << 24) |
+        ((array[offset + 5] & 0xff) << 16) |
+        ((array[offset + 6] & 0xff) << 8) |
+        (array[offset + 7] & 0xff);
+  }
+  
+  public static long readSigned(final byte[] array, final int offset, final int length) {
+    checkBounds(array, offset, length);
+    
+    if (length == 0) {
+      return 0;
+    }
+    
+    if (offset + 8 <= array.length) {
+      return readLong(array, offset) >> ((8 - length) << 3);
+    }
+    
+    if (offset + length >= 8) {
+      return (readLong(array, offset + length - 8) << ((8 - length) << 3)) >> ((8 - length) << 3);
+    }
+    
+    long value = array[offset];
+    
+    for (int i = 1; i < length; ++i) {
+      value = (value << 8) | (array[offset + i] & 0xff);
+    }
+    
+    return value;
+  }
+  
+  public static long readUnsigned(final byte[] array, final int offset, final int length) {
+    checkBounds(array, offset, length);
+    
+    if (length == 0) {
+      return 0;
+    }
+    
+    if (offset + 8 <= array.length) {
+      return readLong(array, offset) >>> ((8 - length) << 3);
+    }
+    
+    if (offset + length >= 8) {
+      return (readLong(array, offset + length - 8) << ((8 - length) << 3)) >>> ((8 - length) << 3);
+    }
+    
+    long value = 0;
+    
+    for (int i = 0; i < length; ++i) {
+      value = (value << 8) | (array[offset + i] & 0xff);
+    }
+    
+    return value;
+  }
+  
+  public static void writeLong(final byte[] array, final int offset, final long value) {
+    array[offset] = (byte)(value >>> 56);
+    array[offset + 1] = (byte)(value >>> 48);
+    array[offset + 2] = (byte)(value >>> 40);
+    array[offset + 3] = (byte)(value >>> 32);
+    array[offset + 4] = (byte)(value >>> 24);
+    array[offset + 5] = (byte)(value >>> 16);
+    array[offset + 6] = (byte)(value >>> 8);
+    array[offset + 7] = (byte)value;
+  }
+  
+  public static void writeUnsigned(final byte[] array, final int offset, final int length, final long value) {
+    checkBounds(array, offset, length);
+    
+    for (int i = length - 1, shift = 0; i >= 0; --i, shift += 8) {
+      array[offset + i] = (byte)(value >>> shift);
+    }
+  }
+  
+  private static void checkBounds(final byte[] array, final int offset, final int length) {
+    if (length < 0 || length > 8 || offset < 0 || offset > array.length - length) {
+      throw new IllegalArgumentException("Bad big endian read: offset " + offset + ", length " + length);
+    }
+  }
+}
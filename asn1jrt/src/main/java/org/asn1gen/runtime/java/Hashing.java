@@ -0,0 +1,38 @@
+package org.asn1gen.runtime.java;
+
+/**
+ * Hash combining for generated models.  Each field hash is mixed in with a
+ * MurmurHash3 round and the result is finalised with its avalanche step, so
+ * equal field values no longer cancel and field order matters.  finish never
+ * returns zero, which lets callers use zero to mean "not yet computed".
+ */
+public final class Hashing {
+  public static final int SEED = 0x3c074a61;
+  
+  private Hashing() {
+  }
+  
+  public static int mix(final int hash, final int value) {
+    int k = value * 0xcc9e2d51;
+    k = Integer.rotateLeft(k, 15) * 0x1b873593;
+    
+    final int h = Integer.rotateLeft(hash ^ k, 13);
+    
+    return h * 5 + 0xe6546b64;
+  }
+  
+  public static int mix(final int hash, final Object value) {
+    return mix(hash, value == null ? 0 : value.hashCode());
+  }
+  
+  public static int finish(final int hash, final int count) {
+    int h = hash ^ count;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    
+    return h == 0 ? 1 : h;
+  }
+}
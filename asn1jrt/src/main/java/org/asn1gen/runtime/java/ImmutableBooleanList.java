@@ -0,0 +1,121 @@
+package org.asn1gen.runtime.java;
+
+import java.util.Arrays;
+
+public final class ImmutableBooleanList {
+  public static final ImmutableBooleanList EMPTY = new ImmutableBooleanList(new long[0], 0);
+
+  private final long[] words;
+  private final int size;
+
+  private ImmutableBooleanList(final long[] words, final int size) {
+    this.words = words;
+    this.size = size;
+  }
+
+  public static ImmutableBooleanList of(final boolean... values) {
+    final Builder builder = new Builder(values.length);
+
+    for (final boolean value: values) {
+      builder.add(value);
+    }
+
+    return builder.build();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean empty() {
+    return size == 0;
+  }
+
+  public boolean get(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    return (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  public int countTrue() {
+    int count = 0;
+
+    for (final long word: words) {
+      count += Long.bitCount(word);
+    }
+
+    return count;
+  }
+
+  public boolean equals(final ImmutableBooleanList that) {
+    assert that != null;
+
+    return this.size == that.size && Arrays.equals(this.words, that.words);
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof ImmutableBooleanList) {
+      return this.equals((ImmutableBooleanList)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(words) + size;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("[");
+
+    for (int i = 0; i < size; ++i) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+
+      sb.append(get(i));
+    }
+
+    return sb.append(']').toString();
+  }
+
+  public static final class Builder {
+    private long[] words;
+    private int size = 0;
+
+    public Builder(final int capacity) {
+      this.words = new long[(capacity + 63) >>> 6];
+    }
+
+    public Builder add(final boolean value) {
+      if ((size >>> 6) == words.length) {
+        words = Arrays.copyOf(words, Math.max(1, words.length * 2));
+      }
+
+      if (value) {
+        words[size >>> 6] |= 1L << size;
+      }
+
+      size += 1;
+
+      return this;
+    }
+
+    public ImmutableBooleanList build() {
+      if (size == 0) {
+        return EMPTY;
+      }
+
+      final int wordCount = (size + 63) >>> 6;
+      final long[] result = wordCount == words.length ? words : Arrays.copyOf(words, wordCount);
+      words = null;
+
+      return new ImmutableBooleanList(result, size);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package org.asn1gen.runtime.java;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class ImmutableList<T> implements Iterable<T> {
+  private static final ImmutableList<Object> empty = new ImmutableList<Object>(new Object[0]);
+
+  private final Object[] items;
+
+  private ImmutableList(final Object[] items) {
+    this.items = items;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> ImmutableList<T> nil() {
+    return (ImmutableList<T>)empty;
+  }
+
+  @SafeVarargs
+  public static <T> ImmutableList<T> of(final T... items) {
+    if (items.length == 0) {
+      return nil();
+    }
+
+    final Object[] copy = new Object[items.length];
+
+    for (int i = 0; i < items.length; ++i) {
+      copy[i] = items[i];
+    }
+
+    return new ImmutableList<T>(copy);
+  }
+
+  public static <T> ImmutableList<T> from(final Iterable<? extends T> items) {
+    final Builder<T> builder = new Builder<T>(16);
+
+    for (final T item: items) {
+      builder.add(item);
+    }
+
+    return builder.build();
+  }
+
+  public static <T> Builder<T> builder(final int capacity) {
+    return new Builder<T>(capacity);
+  }
+
+  public int size() {
+    return items.length;
+  }
+
+  public boolean empty() {
+    return items.length == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(final int index) {
+    return (T)items[index];
+  }
+
+  public ImmutableList<T> append(final T item) {
+    final Object[] newItems = Arrays.copyOf(items, items.length + 1);
+    newItems[items.length] = item;
+    return new ImmutableList<T>(newItems);
+  }
+
+  public ImmutableList<T> set(final int index, final T item) {
+    final Object[] newItems = items.clone();
+    newItems[index] = item;
+    return new ImmutableList<T>(newItems);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < items.length;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public T next() {
+        if (index >= items.length) {
+          throw new NoSuchElementException();
+        }
+
+        return (T)items[index++];
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  public boolean equals(final ImmutableList<?> that) {
+    assert that != null;
+
+    return Arrays.equals(this.items, that.items);
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof ImmutableList) {
+      return this.equals((ImmutableList<?>)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(items);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(items);
+  }
+
+  public static final class Builder<T> {
+    private Object[] items;
+    private int size = 0;
+
+    public Builder(final int capacity) {
+      this.items = new Object[capacity];
+    }
+
+    public Builder<T> add(final T item) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, Math.max(4, size * 2));
+      }
+
+      items[size++] = item;
+
+      return this;
+    }
+
+    public ImmutableList<T> build() {
+      if (size == 0) {
+        return nil();
+      }
+
+      final Object[] result = size == items.length ? items : Arrays.copyOf(items, size);
+      items = null;
+
+      return new ImmutableList<T>(result);
+    }
+  }
+}
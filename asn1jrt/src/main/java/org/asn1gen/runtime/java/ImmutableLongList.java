@@ -0,0 +1,98 @@
+package org.asn1gen.runtime.java;
+
+import java.util.Arrays;
+
+public final class ImmutableLongList {
+  public static final ImmutableLongList EMPTY = new ImmutableLongList(new long[0]);
+
+  private final long[] values;
+
+  private ImmutableLongList(final long[] values) {
+    this.values = values;
+  }
+
+  public static ImmutableLongList of(final long... values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+
+    return new ImmutableLongList(values.clone());
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean empty() {
+    return values.length == 0;
+  }
+
+  public long get(final int index) {
+    return values[index];
+  }
+
+  public long[] toArray() {
+    return values.clone();
+  }
+
+  public ImmutableLongList append(final long value) {
+    final long[] newValues = Arrays.copyOf(values, values.length + 1);
+    newValues[values.length] = value;
+    return new ImmutableLongList(newValues);
+  }
+
+  public boolean equals(final ImmutableLongList that) {
+    assert that != null;
+
+    return Arrays.equals(this.values, that.values);
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof ImmutableLongList) {
+      return this.equals((ImmutableLongList)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+
+  public static final class Builder {
+    private long[] values;
+    private int size = 0;
+
+    public Builder(final int capacity) {
+      this.values = new long[capacity];
+    }
+
+    public Builder add(final long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, Math.max(4, size * 2));
+      }
+
+      values[size++] = value;
+
+      return this;
+    }
+
+    public ImmutableLongList build() {
+      if (size == 0) {
+        return EMPTY;
+      }
+
+      final long[] result = size == values.length ? values : Arrays.copyOf(values, size);
+      values = null;
+
+      return new ImmutableLongList(result);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package org.asn1gen.runtime.java;
+
+import java.util.Arrays;
+
+public final class ImmutableOrdinalList {
+  public static final ImmutableOrdinalList EMPTY = new ImmutableOrdinalList(new byte[0], null, 0);
+  public static final ImmutableOrdinalList EMPTY_WIDE = new ImmutableOrdinalList(null, new short[0], 0);
+
+  private final byte[] bytes;
+  private final short[] shorts;
+  private final int size;
+
+  private ImmutableOrdinalList(final byte[] bytes, final short[] shorts, final int size) {
+    this.bytes = bytes;
+    this.shorts = shorts;
+    this.size = size;
+  }
+
+  public boolean wide() {
+    return shorts != null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean empty() {
+    return size == 0;
+  }
+
+  public int get(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    return shorts != null ? shorts[index] : bytes[index];
+  }
+
+  public Builder builder(final int capacity) {
+    return new Builder(capacity, wide());
+  }
+
+  public boolean equals(final ImmutableOrdinalList that) {
+    assert that != null;
+
+    if (this.size != that.size) {
+      return false;
+    }
+
+    for (int i = 0; i < size; ++i) {
+      if (this.get(i) != that.get(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof ImmutableOrdinalList) {
+      return this.equals((ImmutableOrdinalList)that);
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+
+    for (int i = 0; i < size; ++i) {
+      hashCode = 31 * hashCode + get(i);
+    }
+
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return shorts != null ? Arrays.toString(shorts) : Arrays.toString(bytes);
+  }
+
+  public static final class Builder {
+    private final boolean wide;
+    private byte[] bytes;
+    private short[] shorts;
+    private int size = 0;
+
+    public Builder(final int capacity, final boolean wide) {
+      this.wide = wide;
+
+      if (wide) {
+        this.shorts = new short[capacity];
+      } else {
+        this.bytes = new byte[capacity];
+      }
+    }
+
+    public boolean accepts(final long value) {
+      return wide
+          ? value >= Short.MIN_VALUE && value <= Short.MAX_VALUE
+          : value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE;
+    }
+
+    public Builder add(final long value) {
+      if (!accepts(value)) {
+        throw new IllegalArgumentException("Ordinal out of range: " + value);
+      }
+
+      if (wide) {
+        if (size == shorts.length) {
+          shorts = Arrays.copyOf(shorts, Math.max(4, size * 2));
+        }
+
+        shorts[size++] = (short)value;
+      } else {
+        if (size == bytes.length) {
+          bytes = Arrays.copyOf(bytes, Math.max(4, size * 2));
+        }
+
+        bytes[size++] = (byte)value;
+      }
+
+      return this;
+    }
+
+    public ImmutableOrdinalList build() {
+      if (size == 0) {
+        return wide ? EMPTY_WIDE : EMPTY;
+      }
+
+      final ImmutableOrdinalList result = wide
+          ? new ImmutableOrdinalList(null, size == shorts.length ? shorts : Arrays.copyOf(shorts, size), size)
+          : new ImmutableOrdinalList(size == bytes.length ? bytes : Arrays.copyOf(bytes, size), null, size);
+      bytes = null;
+      shorts = null;
+
+      return result;
+    }
+  }
+}
@@ -38,4 +38,14 @@ public class None<T> implements Option<T> {
       }
     };
   }
+  
+  @Override
+  public boolean equals(final Object that) {
+    return that instanceof None;
+  }
+  
+  @Override
+  public int hashCode() {
+    return 0;
+  }
 }
@@ -0,0 +1,91 @@
+package org.asn1gen.runtime.java;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+public class OctetBuffer {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+  
+  private byte[] bytes;
+  private int length = 0;
+  
+  public OctetBuffer(final int capacity) {
+    this.bytes = new byte[capacity];
+  }
+  
+  public OctetBuffer() {
+    this(32);
+  }
+  
+  public int length() {
+    return length;
+  }
+  
+  public byte get(final int index) {
+    assert index >= 0;
+    assert index < length;
+    
+    return bytes[index];
+  }
+  
+  public void clear() {
+    length = 0;
+  }
+  
+  public OctetBuffer set(final byte[] array, final int start, final int length) {
+    if (length > bytes.length) {
+      bytes = new byte[Math.max(length, bytes.length * 2)];
+    }
+    
+    System.arraycopy(array, start, bytes, 0, length);
+    this.length = length;
+    
+    return this;
+  }
+  
+  public OctetBuffer set(final ByteArrayWindow window) {
+    return set(window.array, window.start, window.length);
+  }
+  
+  public ByteArrayWindow window() {
+    return new ByteArrayWindow(bytes, 0, length);
+  }
+  
+  public String toString(final Charset charset) {
+    return new String(bytes, 0, length, charset);
+  }
+  
+  public AsnOctetString toAsnOctetString() {
+    return length == 0 ? AsnOctetString.EMPTY : AsnOctetString.wrap(Arrays.copyOf(bytes, length));
+  }
+  
+  public AsnUtf8String toAsnUtf8String() {
+    return length == 0 ? AsnUtf8String.EMPTY : new AsnUtf8String(toString(UTF8));
+  }
+  
+  /**
+   * As toAsnUtf8String(), but shares short values through interner when it is
+   * not null.
+   */
+  public AsnUtf8String toAsnUtf8String(final AsnInterner interner) {
+    if (interner == null || length == 0) {
+      return toAsnUtf8String();
+    }
+    
+    return interner.utf8String(bytes, 0, length);
+  }
+  
+  public boolean contentEquals(final byte[] that) {
+    if (that.length != length) {
+      return false;
+    }
+    
+    for (int i = 0; i < length; ++i) {
+      if (bytes[i] != that[i]) {
+        return false;
+      }
+    }
+    
+    return true;
+  }
+}
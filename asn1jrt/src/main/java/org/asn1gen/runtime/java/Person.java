@@ -10,6 +10,8 @@ public class Person {
   public final org.asn1gen.runtime.java.AsnUtf8String firstName;
   public final org.asn1gen.runtime.java.AsnUtf8String lastName;
 
+  private int _hash;
+
   public Person(
       final org.asn1gen.runtime.java.AsnUtf8String firstName,
       final org.asn1gen.runtime.java.AsnUtf8String lastName) {
@@ -33,18 +35,26 @@ public class Person {
 
   @Override
   public boolean equals(final Object that) {
-    if (that instanceof Book) {
-      return this.equals((Book)that);
+    if (that instanceof Person) {
+      return this.equals((Person)that);
     }
 
-    return true;
+    return false;
   }
 
   @Override
   public int hashCode() {
-    return (0
-      ^ this.firstName.hashCode()
-      ^ this.lastName.hashCode());
+    int hash = this._hash;
+
+    if (hash == 0) {
+      hash = org.asn1gen.runtime.java.Hashing.SEED;
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.firstName);
+      hash = org.asn1gen.runtime.java.Hashing.mix(hash, this.lastName);
+      hash = org.asn1gen.runtime.java.Hashing.finish(hash, 2);
+      this._hash = hash;
+    }
+
+    return hash;
   }
   
   public static BerWriter encode(final Person person) {
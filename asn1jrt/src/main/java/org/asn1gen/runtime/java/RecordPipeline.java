@@ -0,0 +1,310 @@
+package org.asn1gen.runtime.java;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+public class RecordPipeline<T> {
+  public static final int DEFAULT_MAX_RECORD_SIZE = 16 << 20;
+
+  public final TlvDecoder<T> decoder;
+  public final int recordsPerBatch;
+  public final int batchesInFlight;
+  public final int maxRecordSize;
+
+  private final ExecutorService workers;
+
+  public RecordPipeline(
+      final TlvDecoder<T> decoder,
+      final ExecutorService workers,
+      final int recordsPerBatch,
+      final int batchesInFlight,
+      final int maxRecordSize) {
+    if (recordsPerBatch <= 0) {
+      throw new IllegalArgumentException("recordsPerBatch must be positive: " + recordsPerBatch);
+    }
+
+    if (batchesInFlight <= 0) {
+      throw new IllegalArgumentException("batchesInFlight must be positive: " + batchesInFlight);
+    }
+
+    if (maxRecordSize <= 0) {
+      throw new IllegalArgumentException("maxRecordSize must be positive: " + maxRecordSize);
+    }
+
+    this.decoder = decoder;
+    this.workers = workers;
+    this.recordsPerBatch = recordsPerBatch;
+    this.batchesInFlight = batchesInFlight;
+    this.maxRecordSize = maxRecordSize;
+  }
+
+  public RecordPipeline(
+      final TlvDecoder<T> decoder,
+      final ExecutorService workers,
+      final int recordsPerBatch,
+      final int batchesInFlight) {
+    this(decoder, workers, recordsPerBatch, batchesInFlight, DEFAULT_MAX_RECORD_SIZE);
+  }
+
+  public RecordPipeline(final TlvDecoder<T> decoder, final ExecutorService workers) {
+    this(decoder, workers, 256, 4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  public long run(final InputStream is, final RecordSink<? super T> sink)
+      throws AsnException, IOException, InterruptedException {
+    final BlockingQueue<Future<Object[]>> ring = new ArrayBlockingQueue<Future<Object[]>>(batchesInFlight);
+    final Thread framer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        frame(is, ring);
+      }
+    }, "asn1gen-record-framer");
+
+    framer.setDaemon(true);
+    framer.start();
+
+    long index = 0;
+
+    try {
+      while (true) {
+        final Object[] results = await(ring.take());
+
+        if (results == null) {
+          return index;
+        }
+
+        for (final Object result : results) {
+          @SuppressWarnings("unchecked")
+          final T value = (T)result;
+          sink.onRecord(index++, value);
+        }
+      }
+    } finally {
+      framer.interrupt();
+
+      for (final Future<Object[]> pending : ring) {
+        pending.cancel(false);
+      }
+    }
+  }
+
+  private void frame(final InputStream is, final BlockingQueue<Future<Object[]>> ring) {
+    try {
+      int capacityHint = 1024;
+
+      while (true) {
+        final Batch batch = new Batch(capacityHint, recordsPerBatch, maxRecordSize);
+
+        while (batch.count < recordsPerBatch && batch.readRecord(is)) {
+        }
+
+        if (batch.count > 0) {
+          ring.put(workers.submit(decodeTask(batch)));
+          capacityHint = batch.size;
+        }
+
+        if (batch.count < recordsPerBatch) {
+          ring.put(completed(null));
+          return;
+        }
+      }
+    } catch (final InterruptedException e) {
+      return;
+    } catch (final Throwable e) {
+      try {
+        ring.put(completed(e));
+      } catch (final InterruptedException e2) {
+        return;
+      }
+    }
+  }
+
+  private Callable<Object[]> decodeTask(final Batch batch) {
+    return new Callable<Object[]>() {
+      @Override
+      public Object[] call() throws AsnException {
+        final Object[] results = new Object[batch.count];
+        final ReturnInteger consumed = new ReturnInteger();
+        int start = 0;
+
+        for (int i = 0; i < batch.count; ++i) {
+          final int end = batch.ends[i];
+          results[i] = decoder.decode(new ByteArrayWindow(batch.buffer, start, end - start), consumed);
+          start = end;
+        }
+
+        return results;
+      }
+    };
+  }
+
+  private static Future<Object[]> completed(final Throwable failure) {
+    final FutureTask<Object[]> future = new FutureTask<Object[]>(new Callable<Object[]>() {
+      @Override
+      public Object[] call() throws Exception {
+        if (failure instanceof Exception) {
+          throw (Exception)failure;
+        } else if (failure instanceof Error) {
+          throw (Error)failure;
+        } else if (failure != null) {
+          throw new AsnException(failure);
+        }
+
+        return null;
+      }
+    });
+
+    future.run();
+
+    return future;
+  }
+
+  private static Object[] await(final Future<Object[]> future)
+      throws AsnException, IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+
+      if (cause instanceof AsnException) {
+        throw (AsnException)cause;
+      } else if (cause instanceof IOException) {
+        throw (IOException)cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException)cause;
+      } else if (cause instanceof Error) {
+        throw (Error)cause;
+      } else {
+        throw new AsnException(cause);
+      }
+    }
+  }
+
+  private static class Batch {
+    byte[] buffer;
+    int size = 0;
+    final int[] ends;
+    int count = 0;
+    final int maxRecordSize;
+    int recordStart = 0;
+
+    Batch(final int capacity, final int records, final int maxRecordSize) {
+      this.buffer = new byte[capacity];
+      this.ends = new int[records];
+      this.maxRecordSize = maxRecordSize;
+    }
+
+    boolean readRecord(final InputStream is) throws IOException, AsnException {
+      final int firstTagByte = is.read();
+
+      if (firstTagByte == -1) {
+        return false;
+      }
+
+      recordStart = size;
+
+      append(firstTagByte);
+
+      if ((firstTagByte & 0x1f) == 0x1f) {
+        int tagByte;
+
+        do {
+          tagByte = readByte(is);
+          append(tagByte);
+        } while ((tagByte & 0x80) != 0);
+      }
+
+      final int firstLengthByte = readByte(is);
+      append(firstLengthByte);
+
+      int length = firstLengthByte;
+
+      if ((firstLengthByte & 0x80) != 0) {
+        final int lengthLength = firstLengthByte & 0x7f;
+
+        if (lengthLength == 0) {
+          throw new AsnException("Indefinite length records are not supported");
+        }
+
+        if (lengthLength > 4) {
+          throw new AsnException("Record length has too many octets: " + lengthLength);
+        }
+
+        length = 0;
+
+        for (int i = 0; i < lengthLength; ++i) {
+          final int lengthByte = readByte(is);
+          append(lengthByte);
+          length = (length << 8) | lengthByte;
+        }
+
+        if (length < 0) {
+          throw new AsnException("Record length out of range");
+        }
+      }
+
+      reserve(length);
+
+      for (int remaining = length; remaining > 0; ) {
+        final int read = is.read(buffer, size, remaining);
+
+        if (read == -1) {
+          throw new EOFException();
+        }
+
+        size += read;
+        remaining -= read;
+      }
+
+      ends[count++] = size;
+
+      return true;
+    }
+
+    private static int readByte(final InputStream is) throws IOException {
+      final int value = is.read();
+
+      if (value == -1) {
+        throw new EOFException();
+      }
+
+      return value;
+    }
+
+    private void append(final int value) throws AsnException {
+      reserve(1);
+      buffer[size++] = (byte)value;
+    }
+
+    /**
+     * Makes room for extra more bytes of the current record.  The limits are
+     * checked before anything is allocated, since extra may come straight
+     * from an untrusted length header.
+     */
+    private void reserve(final int extra) throws AsnException {
+      if (extra > maxRecordSize - (size - recordStart)) {
+        throw new AsnException("Record exceeds maximum size of " + maxRecordSize + " bytes");
+      }
+
+      if (extra > Integer.MAX_VALUE - size) {
+        throw new AsnException("Batch exceeds maximum size");
+      }
+
+      final int required = size + extra;
+
+      if (required > buffer.length) {
+        final byte[] newBuffer = new byte[(int)Math.max(required, Math.min(Integer.MAX_VALUE, buffer.length * 2L))];
+        System.arraycopy(buffer, 0, newBuffer, 0, size);
+        buffer = newBuffer;
+      }
+    }
+  }
+}
@@ -0,0 +1,5 @@
+package org.asn1gen.runtime.java;
+
+public interface RecordSink<T> {
+  public void onRecord(final long index, final T value) throws AsnException;
+}
@@ -46,4 +46,20 @@ public class Some<T> implements Option<T> {
       }
     };
   }
+  
+  @Override
+  public boolean equals(final Object that) {
+    if (that instanceof Some) {
+      final Object thatValue = ((Some<?>)that).value;
+      
+      return this.value == null ? thatValue == null : this.value.equals(thatValue);
+    }
+    
+    return false;
+  }
+  
+  @Override
+  public int hashCode() {
+    return Hashing.finish(Hashing.mix(Hashing.SEED, this.value), 1);
+  }
 }
@@ -3,13 +3,13 @@ package org.asn1gen.runtime.java;
 import java.io.PrintStream;
 
 public class TLV {
-  public static void dump(final PrintStream out, final ByteArrayWindow window) {
+  public static void dump(final PrintStream out, final ByteArrayWindow window) throws AsnException {
     try (final IndentWriter indentWriter = new IndentWriter(out)) {
       dump(indentWriter, window);
     }
   }
   
-  public static ByteArrayWindow dump(final IndentWriter out, final ByteArrayWindow window) {
+  public static ByteArrayWindow dump(final IndentWriter out, final ByteArrayWindow window) throws AsnException {
     final DetailedTlvFrame tlvResult = readTlv(window);
     final TlvFrame frame = tlvResult.frame;
     
@@ -67,24 +67,22 @@ public class TLV {
   }
   
   public static long longValue(final ByteArrayWindow window) {
-    if (window.length == 0) {
-      return 0;
-    } else {
-      long intValue = window.get(0);
-      
-      for (int i = 1; i < window.length; ++i) {
-        intValue = (intValue << 8) | (window.get(i) & 0xff);
-      }
-      
-      return intValue;
+    if (window.length > 8) {
+      return BigEndian.readLong(window.array, window.start + window.length - 8);
     }
+    
+    return BigEndian.readSigned(window.array, window.start, window.length);
   }
 
-  public static void main(final String[] args) {
+  public static void main(final String[] args) throws AsnException {
     dump(System.out, ByteArrayWindow.to(new byte[] { 0x31, 0x0c, 0x04, 0x00, 0x04, 0x00, 0x04, 0x00, 0x0a, 0x01, 0x00, 0x01, 0x01, 0x00 }));
   }
 
-  public static DetailedTlvFrame readTlv(final ByteArrayWindow window) {
+  public static DetailedTlvFrame readTlv(final ByteArrayWindow window) throws AsnException {
+    if (window.length == 0) {
+      throw new AsnDecodeException(AsnErrorCode.UNEXPECTED_END, window.start);
+    }
+    
     final int firstTagByte = window.get(0);
     
     final TagClass tagClass = TagClass.fromTagByte(firstTagByte);
@@ -94,6 +92,11 @@ public class TLV {
     final ByteArrayWindow windowPostTagNo = readTagNo(firstTagByte, windowPostTagFirst, tagNo);
     final int[] tagLength = new int[1];
     final ByteArrayWindow windowPostLength = readTagLength(windowPostTagNo, tagLength);
+    
+    if (tagLength[0] > windowPostLength.length) {
+      throw new AsnDecodeException(AsnErrorCode.LENGTH_OVERRUN, window.start);
+    }
+    
     final ByteArrayWindow childWindow = windowPostLength.until(tagLength[0]);
     final ByteArrayWindow tagWindow = window.until(windowPostTagNo.start - window.start);
     final ByteArrayWindow lengthWindow = window.until(childWindow.start - windowPostTagNo.start);
@@ -137,7 +140,15 @@ public class TLV {
     }
   }
   
-  public static ByteArrayWindow readTagLength(final ByteArrayWindow window, int[] length) {
+  /**
+   * Reads a definite length.  Lengths of more than four octets, or that do
+   * not fit in an int, are rejected rather than handed to BigEndian.
+   */
+  public static ByteArrayWindow readTagLength(final ByteArrayWindow window, int[] length) throws AsnException {
+    if (window.length == 0) {
+      throw new AsnDecodeException(AsnErrorCode.TRUNCATED_LENGTH, window.start);
+    }
+    
     final int firstLengthByte = window.get(0);
     
     if ((firstLengthByte & 0x80) == 0) {
@@ -147,15 +158,34 @@ public class TLV {
       ByteArrayWindow nextWindow = window.from(1);
       
       final int lengthLength = firstLengthByte & 0x7f;
-      int accumulatingLength = 0;
       
-      for (int i = 0; i < lengthLength; ++i) {
-        accumulatingLength = (accumulatingLength << 8) | (nextWindow.get(0) & 0xff);
-        nextWindow = nextWindow.from(1);
+      if (lengthLength == 0 || lengthLength > 4 || lengthLength > nextWindow.length) {
+        throw new AsnDecodeException(AsnErrorCode.UNSUPPORTED_LENGTH, window.start);
       }
       
-      length[0] = accumulatingLength;
-      return nextWindow;
+      final long value = BigEndian.readUnsigned(nextWindow.array, nextWindow.start, lengthLength);
+      
+      if (value > Integer.MAX_VALUE) {
+        throw new AsnDecodeException(AsnErrorCode.UNSUPPORTED_LENGTH, window.start);
+      }
+      
+      length[0] = (int)value;
+      return nextWindow.from(lengthLength);
+    }
+  }
+  
+  /**
+   * Counts the TLVs in the window, failing on a truncated tag or length and
+   * on a length that overruns the window.
+   */
+  public static int count(final ByteArrayWindow window) throws AsnException {
+    final TlvCursor cursor = new TlvCursor().reset(window);
+    int count = 0;
+    
+    while (cursor.next()) {
+      count += 1;
     }
+    
+    return count;
   }
 }
@@ -0,0 +1,169 @@
+package org.asn1gen.runtime.java;
+
+public class TlvCursor {
+  public byte[] array;
+  public int identifier;
+  public long tagNo;
+  public int tlvStart;
+  public int valueStart;
+  public int valueLength;
+  public AsnErrorCode errorCode = AsnErrorCode.NONE;
+  public int errorOffset = -1;
+  
+  private int start;
+  private int offset;
+  private int end;
+  
+  public TlvCursor reset(final byte[] array, final int start, final int length) {
+    this.array = array;
+    this.start = start;
+    this.offset = start;
+    this.end = start + length;
+    this.identifier = -1;
+    this.errorCode = AsnErrorCode.NONE;
+    this.errorOffset = -1;
+    
+    return this;
+  }
+  
+  public TlvCursor reset(final ByteArrayWindow window) {
+    return reset(window.array, window.start, window.length);
+  }
+  
+  public TlvCursor enter(final TlvCursor parent) {
+    return reset(parent.array, parent.valueStart, parent.valueLength);
+  }
+  
+  public boolean hasNext() {
+    return offset < end;
+  }
+  
+  public boolean next() throws AsnException {
+    if (tryNext()) {
+      return true;
+    }
+    
+    if (errorOffset >= 0) {
+      throw new AsnDecodeException(errorCode, errorOffset);
+    }
+    
+    return false;
+  }
+  
+  public boolean tryNext() {
+    if (offset >= end) {
+      identifier = -1;
+      tlvStart = offset;
+      return false;
+    }
+    
+    int index = offset;
+    
+    tlvStart = index;
+    identifier = array[index++] & 0xff;
+    tagNo = identifier & 0x1f;
+    
+    if (tagNo == 0x1f) {
+      tagNo = 0;
+      
+      int tagByte;
+      
+      do {
+        if (index >= end) {
+          return fail(AsnErrorCode.TRUNCATED_TAG);
+        }
+        
+        tagByte = array[index++] & 0xff;
+        tagNo = (tagNo << 7) | (tagByte & 0x7f);
+      } while ((tagByte & 0x80) != 0);
+    }
+    
+    if (index >= end) {
+      return fail(AsnErrorCode.TRUNCATED_LENGTH);
+    }
+    
+    final int firstLengthByte = array[index++] & 0xff;
+    int length = firstLengthByte;
+    
+    if ((firstLengthByte & 0x80) != 0) {
+      final int lengthLength = firstLengthByte & 0x7f;
+      
+      if (lengthLength == 0 || lengthLength > 4 || index + lengthLength > end) {
+        return fail(AsnErrorCode.UNSUPPORTED_LENGTH);
+      }
+      
+      length = (int)BigEndian.readUnsigned(array, index, lengthLength);
+      index += lengthLength;
+    }
+    
+    if (length < 0 || length > end - index) {
+      return fail(AsnErrorCode.LENGTH_OVERRUN);
+    }
+    
+    valueStart = index;
+    valueLength = length;
+    offset = index + length;
+    
+    return true;
+  }
+  
+  private boolean fail(final AsnErrorCode errorCode) {
+    this.identifier = -1;
+    this.errorCode = errorCode;
+    this.errorOffset = tlvStart;
+    
+    return false;
+  }
+  
+  public AsnDecodeException unexpected() {
+    if (errorOffset >= 0) {
+      return new AsnDecodeException(errorCode, errorOffset);
+    }
+    
+    if (identifier == -1) {
+      return new AsnDecodeException(AsnErrorCode.MISSING_COMPONENT, tlvStart);
+    }
+    
+    return new AsnDecodeException(AsnErrorCode.UNEXPECTED_TAG, tlvStart);
+  }
+  
+  public int consumed() {
+    return offset - start;
+  }
+  
+  public TagClass tagClass() {
+    return TagClass.fromTagByte(identifier);
+  }
+  
+  public TagForm tagForm() {
+    return TagForm.fromTagByte(identifier);
+  }
+  
+  public int tagKey() {
+    if (tagNo >= 0x20000000L) {
+      return -1;
+    }
+    
+    return ((identifier & 0xc0) << 23) | (int)tagNo;
+  }
+  
+  public long longValue() {
+    if (valueLength > 8) {
+      return BigEndian.readLong(array, valueStart + valueLength - 8);
+    }
+    
+    return BigEndian.readSigned(array, valueStart, valueLength);
+  }
+  
+  public boolean booleanValue() {
+    return valueLength > 0 && array[valueStart] != 0;
+  }
+  
+  public ByteArrayWindow window() {
+    return new ByteArrayWindow(array, tlvStart, offset - tlvStart);
+  }
+  
+  public ByteArrayWindow valueWindow() {
+    return new ByteArrayWindow(array, valueStart, valueLength);
+  }
+}
@@ -0,0 +1,5 @@
+package org.asn1gen.runtime.java;
+
+public interface TlvDecoder<T> {
+  public T decode(final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException;
+}
@@ -0,0 +1,310 @@
+package test.moo.codec.asnexamples;
+
+import static moo.codec.ASNEXAMPLES.BerToAsn.*;
+import static org.asn1gen.runtime.java.Statics.some;
+import moo.model.ASNEXAMPLES.Book;
+import moo.model.ASNEXAMPLES.BookCover;
+import moo.model.ASNEXAMPLES.BookPrice;
+import moo.model.ASNEXAMPLES.Covers;
+import moo.model.ASNEXAMPLES.Item;
+import moo.model.ASNEXAMPLES.Item_journal;
+import moo.model.ASNEXAMPLES.Journal;
+import moo.model.ASNEXAMPLES.Numbers;
+import moo.model.ASNEXAMPLES.Rack;
+import moo.model.ASNEXAMPLES.Shelf;
+import moo.model.ASNEXAMPLES.Tray;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnBoolean;
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnInteger;
+import org.asn1gen.runtime.java.AsnInterner;
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.AsnUtf8String;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ImmutableLongList;
+import org.asn1gen.runtime.java.None;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestBerToAsnDecodeInto {
+  private static final byte[] FULL_SHELF = {
+    0x30, 0x26,
+    (byte)0xa0, 0x03, 0x0c, 0x01, 'x',
+    (byte)0x81, 0x01, 0x05,
+    0x02, 0x01, 0x0a,
+    (byte)0x82, 0x01, 0x01,
+    0x04, 0x01, 'n',
+    (byte)0xa2, 0x08, 0x30, 0x06, 0x04, 0x01, 't', 0x04, 0x01, 'e',
+    (byte)0xa3, 0x06, 0x04, 0x01, 'i', 0x02, 0x01, 0x07,
+    0x01, 0x01, 0x00
+  };
+
+  private static final byte[] MINIMAL_SHELF = {
+    0x30, 0x08, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05
+  };
+
+  private static final byte[] RACK = {
+    0x30, 0x20,
+    0x31, 0x06, 0x02, 0x01, 0x05, 0x02, 0x01, 0x07,
+    (byte)0xa0, 0x03, 0x0a, 0x01, 0x01,
+    0x31, 0x11, 0x30, 0x0f, 0x04, 0x01, 'a', 0x04, 0x01, 'b', 0x04, 0x01, 'c', 0x0a, 0x01, 0x00, 0x01, 0x01, (byte)0xff
+  };
+
+  private static void assertDecodeFails(final byte[] data, final AsnErrorCode code, final int offset) throws AsnException {
+    try {
+      decodeInto(new Shelf.Mutable(), ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(code, e.code);
+      Assert.assertEquals(offset, e.offset);
+    }
+  }
+
+  @Test
+  public void test_shelf_all_members_01() throws AsnException {
+    final ReturnInteger consumed = new ReturnInteger();
+    final Shelf shelf = decodeInto(new Shelf.Mutable(), ByteArrayWindow.to(FULL_SHELF), consumed).toImmutable();
+
+    Assert.assertEquals(FULL_SHELF.length, consumed.value);
+    Assert.assertEquals(
+        new Shelf(
+            new AsnUtf8String("x"),
+            AsnInteger.valueOf(5),
+            some(AsnInteger.valueOf(10)),
+            BookCover.paperBack,
+            some(new AsnOctetString("n")),
+            some((Item)new Item_journal(new Journal(new AsnOctetString("t"), new AsnOctetString("e")))),
+            some(new BookPrice(new AsnOctetString("i"), AsnInteger.valueOf(7))),
+            AsnBoolean.FALSE),
+        shelf);
+  }
+
+  @Test
+  public void test_shelf_defaults_01() throws AsnException {
+    final Shelf.Mutable target = decodeInto(new Shelf.Mutable(), ByteArrayWindow.to(MINIMAL_SHELF), new ReturnInteger());
+
+    Assert.assertFalse(target.hasCapacity);
+    Assert.assertFalse(target.hasPrice);
+    Assert.assertEquals(BookCover.hardCover, target.cover);
+    Assert.assertTrue(target.open);
+    Assert.assertEquals(
+        new Shelf(
+            new AsnUtf8String("x"),
+            AsnInteger.valueOf(5),
+            None.<AsnInteger>instance(),
+            BookCover.hardCover,
+            None.<AsnOctetString>instance(),
+            None.<Item>instance(),
+            None.<BookPrice>instance(),
+            AsnBoolean.TRUE),
+        target.toImmutable());
+  }
+
+  @Test
+  public void test_shelf_reuse_01() throws AsnException {
+    final Shelf.Mutable target = new Shelf.Mutable();
+
+    decodeInto(target, ByteArrayWindow.to(FULL_SHELF), new ReturnInteger());
+    decodeInto(target, ByteArrayWindow.to(MINIMAL_SHELF), new ReturnInteger());
+
+    Assert.assertFalse(target.hasNote);
+    Assert.assertEquals(0, target.note.length());
+    Assert.assertEquals(BookCover.hardCover, target.cover);
+    Assert.assertTrue(target.open);
+  }
+
+  @Test
+  public void test_shelf_optional_not_consumed_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, 0x04, 0x01, 'n' };
+    final Shelf.Mutable target = decodeInto(new Shelf.Mutable(), ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertTrue(target.hasNote);
+    Assert.assertTrue(target.note.contentEquals(new byte[] { 'n' }));
+    Assert.assertEquals(BookCover.hardCover, target.cover);
+  }
+
+  @Test
+  public void test_shelf_missing_mandatory_01() throws AsnException {
+    final byte[] data = { 0x30, 0x05, (byte)0xa0, 0x03, 0x0c, 0x01, 'x' };
+
+    assertDecodeFails(data, AsnErrorCode.MISSING_COMPONENT, 7);
+  }
+
+  @Test
+  public void test_shelf_explicit_wrong_inner_01() throws AsnException {
+    final byte[] data = { 0x30, 0x08, (byte)0xa0, 0x03, 0x04, 0x01, 'x', (byte)0x81, 0x01, 0x05 };
+
+    assertDecodeFails(data, AsnErrorCode.UNEXPECTED_TAG, 4);
+  }
+
+  @Test
+  public void test_shelf_explicit_trailing_inner_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x06, 0x0c, 0x01, 'x', 0x0c, 0x01, 'y', (byte)0x81, 0x01, 0x05 };
+
+    assertDecodeFails(data, AsnErrorCode.UNEXPECTED_TAG, 7);
+  }
+
+  @Test
+  public void test_shelf_trailing_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0a, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, 0x05, 0x00 };
+
+    assertDecodeFails(data, AsnErrorCode.UNEXPECTED_TAG, 10);
+  }
+
+  @Test
+  public void test_book_default_cover_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0c, 0x04, 0x01, 'a', 0x04, 0x01, 'b', 0x04, 0x01, 'c', 0x01, 0x01, (byte)0xff };
+    final Book.Mutable target = new Book.Mutable();
+
+    target.cover = BookCover.hardCover;
+    decodeInto(target, ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertEquals(BookCover.paperBack, target.cover);
+    Assert.assertEquals(BookCover.paperBack, target.toImmutable().cover);
+  }
+
+  @Test
+  public void test_rack_set_of_members_01() throws AsnException {
+    final ReturnInteger consumed = new ReturnInteger();
+    final Rack rack = decodeInto(new Rack.Mutable(), ByteArrayWindow.to(RACK), consumed).toImmutable();
+
+    Assert.assertEquals(RACK.length, consumed.value);
+    Assert.assertEquals(new Numbers(ImmutableLongList.of(5, 7)), rack.numbers);
+    Assert.assertEquals(1, rack.covers.size());
+    Assert.assertEquals(BookCover.paperBack, rack.covers.get(0));
+    Assert.assertEquals(1, rack.books.value().items.size());
+    Assert.assertEquals(new AsnOctetString("a"), rack.books.value().items.get(0).isbn);
+  }
+
+  @Test
+  public void test_rack_defaults_01() throws AsnException {
+    final Rack rack = decodeInto(new Rack.Mutable(), ByteArrayWindow.to(RACK), new ReturnInteger()).toImmutable();
+
+    Assert.assertEquals(new AsnOctetString("rack"), rack.label);
+    Assert.assertEquals(new AsnUtf8String("untitled"), rack.title);
+  }
+
+  @Test
+  public void test_rack_defaults_reuse_01() throws AsnException {
+    final byte[] data = new byte[RACK.length + 6];
+    data[0] = 0x30;
+    data[1] = (byte)(RACK.length + 4);
+    data[2] = 0x04;
+    data[3] = 0x01;
+    data[4] = 'x';
+    data[5] = 0x0c;
+    data[6] = 0x01;
+    data[7] = 'y';
+    System.arraycopy(RACK, 2, data, 8, RACK.length - 2);
+    final Rack.Mutable target = new Rack.Mutable();
+
+    decodeInto(target, ByteArrayWindow.to(data), new ReturnInteger());
+    Assert.assertTrue(target.label.contentEquals(new byte[] { 'x' }));
+    Assert.assertTrue(target.title.contentEquals(new byte[] { 'y' }));
+
+    decodeInto(target, ByteArrayWindow.to(RACK), new ReturnInteger());
+    Assert.assertTrue(target.label.contentEquals(new byte[] { 'r', 'a', 'c', 'k' }));
+    Assert.assertEquals(new AsnUtf8String("untitled"), target.toImmutable().title);
+  }
+
+  @Test
+  public void test_shelf_interned_01() throws AsnException {
+    final AsnInterner interner = new AsnInterner();
+    final ReturnInteger consumed = new ReturnInteger();
+    final Shelf first = decode(Shelf.EMPTY, ByteArrayWindow.to(FULL_SHELF), consumed, interner);
+    final Shelf second = decode(Shelf.EMPTY, ByteArrayWindow.to(FULL_SHELF.clone()), consumed, interner);
+
+    Assert.assertEquals(FULL_SHELF.length, consumed.value);
+    Assert.assertEquals(decode(Shelf.EMPTY, ByteArrayWindow.to(FULL_SHELF), consumed), first);
+    Assert.assertSame(first.label, second.label);
+    Assert.assertNotSame(first.label, decode(Shelf.EMPTY, ByteArrayWindow.to(FULL_SHELF), consumed).label);
+  }
+
+  @Test
+  public void test_rack_interned_defaults_01() throws AsnException {
+    final AsnInterner interner = new AsnInterner();
+    final Rack.Mutable target = new Rack.Mutable();
+
+    decodeInto(target, ByteArrayWindow.to(RACK), new ReturnInteger());
+    final Rack first = target.toImmutable(interner);
+    decodeInto(target, ByteArrayWindow.to(RACK), new ReturnInteger());
+
+    Assert.assertSame(first.title, target.toImmutable(interner).title);
+    Assert.assertEquals(new AsnUtf8String("untitled"), first.title);
+  }
+
+  @Test
+  public void test_rack_mutable_defaults_01() {
+    final Rack.Mutable target = new Rack.Mutable();
+
+    Assert.assertTrue(target.label.contentEquals(new byte[] { 'r', 'a', 'c', 'k' }));
+    target.label.clear();
+    target.reset();
+    Assert.assertTrue(target.label.contentEquals(new byte[] { 'r', 'a', 'c', 'k' }));
+  }
+
+  @Test
+  public void test_rack_bad_set_of_element_01() throws AsnException {
+    final byte[] data = RACK.clone();
+    data[4] = 0x01;
+
+    try {
+      decodeInto(new Rack.Mutable(), ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNEXPECTED_TAG, e.code);
+      Assert.assertEquals(4, e.offset);
+    }
+  }
+
+  @Test
+  public void test_tray_unsupported_default_01() throws AsnException {
+    final byte[] data = { 0x30, 0x03, 0x04, 0x01, 'x' };
+
+    try {
+      decode(Tray.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNSUPPORTED_DEFAULT, e.code);
+    }
+  }
+
+  @Test
+  public void test_shelf_oversized_integer_01() throws AsnException {
+    final byte[] data = {
+      0x30, 0x12, (byte)0xa0, 0x03, 0x0c, 0x01, 'x',
+      (byte)0x81, 0x0b, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x05
+    };
+
+    assertDecodeFails(data, AsnErrorCode.BAD_LENGTH, 7);
+    Assert.assertEquals(7, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_empty_integer_01() throws AsnException {
+    final byte[] data = { 0x30, 0x07, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x00 };
+
+    assertDecodeFails(data, AsnErrorCode.BAD_LENGTH, 7);
+    Assert.assertEquals(7, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_empty_boolean_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0a, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, 0x01, 0x00 };
+
+    assertDecodeFails(data, AsnErrorCode.BAD_LENGTH, 10);
+    Assert.assertEquals(10, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_empty_enumeration_01() throws AsnException {
+    final byte[] data = { 0x30, 0x0a, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, (byte)0x82, 0x00 };
+
+    assertDecodeFails(data, AsnErrorCode.BAD_LENGTH, 10);
+    Assert.assertEquals(10, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+}
@@ -0,0 +1,164 @@
+package test.moo.codec.asnexamples;
+
+import static moo.codec.ASNEXAMPLES.BerToAsn.*;
+import static org.asn1gen.runtime.java.Statics.some;
+import moo.model.ASNEXAMPLES.Book;
+import moo.model.ASNEXAMPLES.BookCover;
+import moo.model.ASNEXAMPLES.BookPrice;
+import moo.model.ASNEXAMPLES.Catalogue;
+import moo.model.ASNEXAMPLES.Item;
+import moo.model.ASNEXAMPLES.Item_book;
+import moo.model.ASNEXAMPLES.Item_journal;
+import moo.model.ASNEXAMPLES.Journal;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnBoolean;
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnInteger;
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.AsnUtf8String;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestBerToAsnDispatch {
+  private static final Journal JOURNAL = new Journal(new AsnOctetString("t"), new AsnOctetString("e"));
+
+  private static final byte[] FULL_CATALOGUE = {
+    0x30, 0x37,
+    (byte)0xa0, 0x03, 0x0c, 0x01, 'c',
+    (byte)0x81, 0x01, 0x03,
+    (byte)0xa2, 0x03, 0x01, 0x01, (byte)0xff,
+    (byte)0x83, 0x01, 'k',
+    (byte)0xa4, 0x03, 0x0a, 0x01, 0x00,
+    (byte)0xa5, 0x06, 0x04, 0x01, 'i', 0x02, 0x01, 0x07,
+    (byte)0xa6, 0x0a, (byte)0xa2, 0x08, 0x30, 0x06, 0x04, 0x01, 't', 0x04, 0x01, 'e',
+    (byte)0x87, 0x01, 'z',
+    (byte)0xa8, 0x03, 0x02, 0x01, 0x09,
+    0x7f, 0x28, 0x03, 0x02, 0x01, 0x05
+  };
+
+  private static void assertCatalogueFails(final byte[] data, final AsnErrorCode code, final int offset) throws AsnException {
+    try {
+      decodeInto(new Catalogue.Mutable(), ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(code, e.code);
+      Assert.assertEquals(offset, e.offset);
+    }
+  }
+
+  @Test
+  public void test_choice_book_01() throws AsnException {
+    final byte[] data = {
+      (byte)0xa1, 0x11,
+      0x30, 0x0f, 0x04, 0x01, 'a', 0x04, 0x01, 'b', 0x04, 0x01, 'c', 0x0a, 0x01, 0x00, 0x01, 0x01, (byte)0xff
+    };
+    final ReturnInteger consumed = new ReturnInteger();
+
+    Assert.assertEquals(
+        new Item_book(new Book(new AsnOctetString("a"), new AsnOctetString("b"), new AsnOctetString("c"), BookCover.hardCover, AsnBoolean.TRUE)),
+        decode(Item.EMPTY, ByteArrayWindow.to(data), consumed));
+    Assert.assertEquals(data.length, consumed.value);
+  }
+
+  @Test
+  public void test_choice_journal_01() throws AsnException {
+    final byte[] data = { (byte)0xa2, 0x08, 0x30, 0x06, 0x04, 0x01, 't', 0x04, 0x01, 'e' };
+
+    Assert.assertEquals(new Item_journal(JOURNAL), decode(Item.EMPTY, ByteArrayWindow.to(data), new ReturnInteger()));
+  }
+
+  @Test
+  public void test_choice_unknown_alternative_01() throws AsnException {
+    final byte[] data = { (byte)0xa3, 0x00 };
+
+    try {
+      decode(Item.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNKNOWN_ALTERNATIVE, e.code);
+      Assert.assertEquals(0, e.offset);
+    }
+  }
+
+  @Test
+  public void test_catalogue_all_members_01() throws AsnException {
+    final Catalogue catalogue = decodeInto(new Catalogue.Mutable(), ByteArrayWindow.to(FULL_CATALOGUE), new ReturnInteger()).toImmutable();
+
+    Assert.assertEquals(
+        new Catalogue(
+            new AsnUtf8String("c"),
+            some(AsnInteger.valueOf(3)),
+            some(AsnBoolean.TRUE),
+            some(new AsnOctetString("k")),
+            BookCover.hardCover,
+            some(new BookPrice(new AsnOctetString("i"), AsnInteger.valueOf(7))),
+            some((Item)new Item_journal(JOURNAL)),
+            some(new AsnUtf8String("z")),
+            some(AsnInteger.valueOf(9)),
+            some(AsnInteger.valueOf(5))),
+        catalogue);
+  }
+
+  @Test
+  public void test_catalogue_defaults_01() throws AsnException {
+    final byte[] data = { 0x30, 0x05, (byte)0xa0, 0x03, 0x0c, 0x01, 'c' };
+    final Catalogue.Mutable target = decodeInto(new Catalogue.Mutable(), ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertFalse(target.hasCount);
+    Assert.assertFalse(target.hasSerial);
+    Assert.assertEquals(BookCover.paperBack, target.cover);
+    Assert.assertEquals(Catalogue.EMPTY.withName(new AsnUtf8String("c")).withCover(BookCover.paperBack), target.toImmutable());
+  }
+
+  @Test
+  public void test_catalogue_out_of_order_01() throws AsnException {
+    final byte[] data = { 0x30, 0x08, (byte)0x81, 0x01, 0x03, (byte)0xa0, 0x03, 0x0c, 0x01, 'c' };
+
+    assertCatalogueFails(data, AsnErrorCode.UNEXPECTED_TAG, 5);
+  }
+
+  @Test
+  public void test_catalogue_missing_mandatory_01() throws AsnException {
+    final byte[] data = { 0x30, 0x03, (byte)0x81, 0x01, 0x03 };
+
+    assertCatalogueFails(data, AsnErrorCode.MISSING_COMPONENT, 5);
+  }
+
+  @Test
+  public void test_catalogue_wrong_form_01() throws AsnException {
+    final byte[] data = { 0x30, 0x08, (byte)0xa0, 0x03, 0x0c, 0x01, 'c', (byte)0x82, 0x01, (byte)0xff };
+
+    assertCatalogueFails(data, AsnErrorCode.UNEXPECTED_TAG, 7);
+  }
+
+  @Test
+  public void test_catalogue_explicit_trailing_inner_01() throws AsnException {
+    final byte[] data = {
+      0x30, 0x0d, (byte)0xa0, 0x03, 0x0c, 0x01, 'c', (byte)0xa4, 0x06, 0x0a, 0x01, 0x00, 0x0a, 0x01, 0x01
+    };
+
+    assertCatalogueFails(data, AsnErrorCode.UNEXPECTED_TAG, 12);
+  }
+
+  @Test
+  public void test_catalogue_unknown_tag_01() throws AsnException {
+    final byte[] data = { 0x30, 0x07, (byte)0xa0, 0x03, 0x0c, 0x01, 'c', (byte)0x89, 0x00 };
+
+    assertCatalogueFails(data, AsnErrorCode.UNEXPECTED_TAG, 7);
+  }
+
+  @Test
+  public void test_catalogue_oversized_tag_number_01() throws AsnException {
+    final byte[] data = {
+      0x30, 0x0f, (byte)0xa0, 0x03, 0x0c, 0x01, 'c',
+      0x7f, (byte)0x82, (byte)0x80, (byte)0x80, (byte)0x80, 0x28, 0x03, 0x02, 0x01, 0x05
+    };
+
+    assertCatalogueFails(data, AsnErrorCode.UNEXPECTED_TAG, 7);
+  }
+}
@@ -0,0 +1,160 @@
+package test.moo.codec.asnexamples;
+
+import static moo.codec.ASNEXAMPLES.BerToAsn.*;
+import moo.model.ASNEXAMPLES.Book;
+import moo.model.ASNEXAMPLES.BookCover;
+import moo.model.ASNEXAMPLES.Books;
+import moo.model.ASNEXAMPLES.Covers;
+import moo.model.ASNEXAMPLES.Flags;
+import moo.model.ASNEXAMPLES.Numbers;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnBoolean;
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ImmutableBooleanList;
+import org.asn1gen.runtime.java.ImmutableLongList;
+import org.asn1gen.runtime.java.ImmutableOrdinalList;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestBerToAsnSetOf {
+  private static final byte[] TWO_BOOKS = {
+    0x30, 0x0f, 0x04, 0x01, 'a', 0x04, 0x01, 'b', 0x04, 0x01, 'c', 0x0a, 0x01, 0x00, 0x01, 0x01, (byte)0xff,
+    0x30, 0x0f, 0x04, 0x01, 'd', 0x04, 0x01, 'e', 0x04, 0x01, 'f', 0x0a, 0x01, 0x01, 0x01, 0x01, 0x00
+  };
+
+  @Test
+  public void test_decodePart_01() throws AsnException {
+    final Books books = decodePart(Books.EMPTY, ByteArrayWindow.to(TWO_BOOKS), new ReturnInteger());
+
+    Assert.assertEquals(2, books.items.size());
+    Assert.assertEquals(
+        new Book(new AsnOctetString("a"), new AsnOctetString("b"), new AsnOctetString("c"), BookCover.hardCover, AsnBoolean.TRUE),
+        books.items.get(0));
+    Assert.assertEquals(
+        new Book(new AsnOctetString("d"), new AsnOctetString("e"), new AsnOctetString("f"), BookCover.paperBack, AsnBoolean.FALSE),
+        books.items.get(1));
+  }
+
+  @Test
+  public void test_decodePart_empty_01() throws AsnException {
+    final Books books = decodePart(Books.EMPTY, new ByteArrayWindow(TWO_BOOKS, 0, 0), new ReturnInteger());
+
+    Assert.assertTrue(books.items.empty());
+  }
+
+  @Test
+  public void test_decodePart_overrun_01() throws AsnException {
+    final byte[] data = { 0x04, (byte)0x84, 0x7f, (byte)0xff, (byte)0xff, (byte)0xff };
+
+    try {
+      decodePart(Books.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.LENGTH_OVERRUN, e.code);
+    }
+  }
+
+  @Test
+  public void test_decodePart_truncated_01() throws AsnException {
+    final byte[] data = new byte[TWO_BOOKS.length - 1];
+    System.arraycopy(TWO_BOOKS, 0, data, 0, data.length);
+
+    try {
+      decodePart(Books.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.LENGTH_OVERRUN, e.code);
+      Assert.assertEquals(17, e.offset);
+    }
+  }
+
+  @Test
+  public void test_decode_books_01() throws AsnException {
+    final byte[] data = new byte[TWO_BOOKS.length + 3];
+    data[0] = 0x31;
+    data[1] = (byte)TWO_BOOKS.length;
+    System.arraycopy(TWO_BOOKS, 0, data, 2, TWO_BOOKS.length);
+    final ReturnInteger consumed = new ReturnInteger();
+
+    final Books books = decode(Books.EMPTY, ByteArrayWindow.to(data), consumed);
+
+    Assert.assertEquals(2, books.items.size());
+    Assert.assertEquals(TWO_BOOKS.length + 2, consumed.value);
+  }
+
+  @Test
+  public void test_decode_numbers_01() throws AsnException {
+    final Numbers numbers = new Numbers(ImmutableLongList.of(0, -1, 300, Long.MAX_VALUE, Long.MIN_VALUE));
+    final byte[] data = moo.codec.ASNEXAMPLES.AsnToBer.encode(numbers).toByteArray();
+    final ReturnInteger consumed = new ReturnInteger();
+
+    final Numbers result = decode(Numbers.EMPTY, ByteArrayWindow.to(data), consumed);
+
+    Assert.assertEquals(numbers, result);
+    Assert.assertEquals(5, result.size());
+    Assert.assertEquals(data.length, consumed.value);
+  }
+
+  @Test
+  public void test_decode_flags_01() throws AsnException {
+    final Flags flags = new Flags(ImmutableBooleanList.of(true, false, true));
+    final byte[] data = moo.codec.ASNEXAMPLES.AsnToBer.encode(flags).toByteArray();
+
+    final Flags result = decode(Flags.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertEquals(flags, result);
+  }
+
+  @Test
+  public void test_decode_covers_01() throws AsnException {
+    final Covers covers = new Covers(ImmutableOrdinalList.EMPTY.builder(3).add(1).add(0).add(1).build());
+    final byte[] data = moo.codec.ASNEXAMPLES.AsnToBer.encode(covers).toByteArray();
+
+    final Covers result = decode(Covers.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertEquals(covers, result);
+    Assert.assertEquals(BookCover.paperBack, result.get(0));
+    Assert.assertEquals(BookCover.hardCover, result.get(1));
+  }
+
+  @Test
+  public void test_decode_numbers_empty_01() throws AsnException {
+    final byte[] data = { 0x31, 0x00 };
+
+    final Numbers result = decode(Numbers.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+
+    Assert.assertEquals(0, result.size());
+  }
+
+  @Test
+  public void test_decode_numbers_tag_01() throws AsnException {
+    final byte[] data = { 0x30, 0x03, 0x02, 0x01, 0x05 };
+
+    try {
+      decode(Numbers.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNEXPECTED_TAG, e.code);
+      Assert.assertEquals(0, e.offset);
+    }
+  }
+
+  @Test
+  public void test_decode_numbers_bad_element_01() throws AsnException {
+    final byte[] data = { 0x31, 0x05, 0x02, 0x01, 0x05, 0x01, 0x00 };
+
+    try {
+      decode(Numbers.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNEXPECTED_TAG, e.code);
+      Assert.assertEquals(5, e.offset);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package test.moo.codec.asnexamples;
+
+import static moo.codec.ASNEXAMPLES.BerToAsn.*;
+import moo.model.ASNEXAMPLES.Catalogue;
+import moo.model.ASNEXAMPLES.Item;
+import moo.model.ASNEXAMPLES.Shelf;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.junit.Test;
+
+public class TestBerToAsnValidate {
+  private static final byte[] BOOK = {
+    0x30, 0x0f, 0x04, 0x01, 'a', 0x04, 0x01, 'b', 0x04, 0x01, 'c', 0x0a, 0x01, 0x00, 0x01, 0x01, (byte)0xff
+  };
+
+  @Test
+  public void test_shelf_mandatory_01() {
+    final byte[] data = { 0x30, 0x08, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05 };
+
+    Assert.assertEquals(-1, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_all_members_01() {
+    final byte[] data = {
+      0x30, 0x26,
+      (byte)0xa0, 0x03, 0x0c, 0x01, 'x',
+      (byte)0x81, 0x01, 0x05,
+      0x02, 0x01, 0x0a,
+      (byte)0x82, 0x01, 0x01,
+      0x04, 0x01, 'n',
+      (byte)0xa2, 0x08, 0x30, 0x06, 0x04, 0x01, 't', 0x04, 0x01, 'e',
+      (byte)0xa3, 0x06, 0x04, 0x01, 'i', 0x02, 0x01, 0x07,
+      0x01, 0x01, 0x00
+    };
+
+    Assert.assertEquals(-1, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_optional_not_consumed_01() {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, 0x04, 0x01, 'n' };
+
+    Assert.assertEquals(-1, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_missing_mandatory_01() {
+    final byte[] data = { 0x30, 0x05, (byte)0xa0, 0x03, 0x0c, 0x01, 'x' };
+
+    Assert.assertEquals(7, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_explicit_wrong_inner_01() {
+    final byte[] data = { 0x30, 0x08, (byte)0xa0, 0x03, 0x04, 0x01, 'x', (byte)0x81, 0x01, 0x05 };
+
+    Assert.assertEquals(4, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_explicit_trailing_inner_01() {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x06, 0x0c, 0x01, 'x', 0x0c, 0x01, 'y', (byte)0x81, 0x01, 0x05 };
+
+    Assert.assertEquals(7, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_implicit_integer_length_01() {
+    final byte[] data = { 0x30, 0x07, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x00 };
+
+    Assert.assertEquals(7, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_implicit_enumeration_01() {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, (byte)0x82, 0x01, 0x05 };
+
+    Assert.assertEquals(10, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_implicit_sequence_01() {
+    final byte[] data = { 0x30, 0x0d, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, (byte)0xa3, 0x03, 0x04, 0x01, 'i' };
+
+    Assert.assertEquals(15, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_trailing_01() {
+    final byte[] data = { 0x30, 0x0a, (byte)0xa0, 0x03, 0x0c, 0x01, 'x', (byte)0x81, 0x01, 0x05, 0x05, 0x00 };
+
+    Assert.assertEquals(10, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_shelf_not_sequence_01() {
+    final byte[] data = { 0x31, 0x00 };
+
+    Assert.assertEquals(0, validate(Shelf.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_catalogue_high_tag_01() {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x03, 0x0c, 0x01, 'c', 0x7f, 0x28, 0x03, 0x02, 0x01, 0x05 };
+
+    Assert.assertEquals(-1, validate(Catalogue.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_catalogue_high_tag_mismatch_01() {
+    final byte[] data = { 0x30, 0x0b, (byte)0xa0, 0x03, 0x0c, 0x01, 'c', 0x7f, 0x29, 0x03, 0x02, 0x01, 0x05 };
+
+    Assert.assertEquals(7, validate(Catalogue.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_item_book_01() {
+    final byte[] data = new byte[BOOK.length + 2];
+    data[0] = (byte)0xa1;
+    data[1] = (byte)BOOK.length;
+    System.arraycopy(BOOK, 0, data, 2, BOOK.length);
+
+    Assert.assertEquals(-1, validate(Item.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_item_primitive_01() {
+    final byte[] data = { (byte)0x81, 0x00 };
+
+    Assert.assertEquals(0, validate(Item.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_item_unknown_alternative_01() {
+    final byte[] data = { (byte)0xa3, 0x00 };
+
+    Assert.assertEquals(0, validate(Item.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_item_trailing_inner_01() {
+    final byte[] data = { (byte)0xa2, 0x0a, 0x30, 0x06, 0x04, 0x01, 't', 0x04, 0x01, 'e', 0x05, 0x00 };
+
+    Assert.assertEquals(10, validate(Item.EMPTY, ByteArrayWindow.to(data)));
+  }
+
+  @Test
+  public void test_item_truncated_01() {
+    final byte[] data = { (byte)0xa2, 0x08, 0x30, 0x06 };
+
+    Assert.assertEquals(0, validate(Item.EMPTY, ByteArrayWindow.to(data)));
+  }
+}
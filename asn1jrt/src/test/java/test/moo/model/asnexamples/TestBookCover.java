@@ -0,0 +1,26 @@
+package test.moo.model.asnexamples;
+
+import junit.framework.Assert;
+import moo.model.ASNEXAMPLES.BookCover;
+
+import org.junit.Test;
+
+public class TestBookCover {
+  @Test
+  public void test_lookup_01() {
+    Assert.assertSame(BookCover.hardCover, BookCover.lookup(0));
+    Assert.assertSame(BookCover.paperBack, BookCover.lookup(1));
+    Assert.assertNull(BookCover.lookup(2));
+    Assert.assertNull(BookCover.lookup(-1));
+    Assert.assertNull(BookCover.lookup(Long.MIN_VALUE));
+    Assert.assertNull(BookCover.lookup(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void test_of_01() {
+    Assert.assertSame(BookCover.paperBack, BookCover.of(1));
+    Assert.assertSame(BookCover.hardCover, BookCover.of("hardCover"));
+    Assert.assertEquals(7, BookCover.of(7).value);
+    Assert.assertEquals(new BookCover(7), BookCover.of(7));
+  }
+}
@@ -0,0 +1,23 @@
+package test.moo.model.asnexamples;
+
+import junit.framework.Assert;
+import moo.model.ASNEXAMPLES.Book;
+import moo.model.ASNEXAMPLES.Books;
+import moo.model.ASNEXAMPLES.Journals;
+
+import org.asn1gen.runtime.java.ImmutableList;
+import org.junit.Test;
+
+public class TestBooks {
+  @Test
+  public void test_equals_01() {
+    final Books books = new Books(ImmutableList.of(Book.EMPTY));
+
+    Assert.assertEquals(books, new Books(ImmutableList.of(Book.EMPTY)));
+    Assert.assertEquals(books.hashCode(), new Books(ImmutableList.of(Book.EMPTY)).hashCode());
+    Assert.assertFalse(books.equals((Object)Books.EMPTY));
+    Assert.assertFalse(Books.EMPTY.equals((Object)Journals.EMPTY));
+    Assert.assertFalse(Books.EMPTY.equals((Object)"Books"));
+    Assert.assertFalse(Books.EMPTY.equals((Object)null));
+  }
+}
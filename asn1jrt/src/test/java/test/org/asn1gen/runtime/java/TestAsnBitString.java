@@ -0,0 +1,87 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnBitString;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnToBer;
+import org.asn1gen.runtime.java.BerToAsn;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestAsnBitString {
+  private static AsnBitString roundTrip(final AsnBitString value) throws AsnException {
+    final byte[] encoded = AsnToBer.encode(value).toByteArray();
+    final ReturnInteger consumed = new ReturnInteger();
+    
+    return BerToAsn.decode(AsnBitString.EMPTY, new ByteArrayWindow(encoded, 0, encoded.length), consumed);
+  }
+  
+  @Test
+  public void test_longValue_01() {
+    Assert.assertEquals(0x7ffL, new AsnBitString(0x7ff, 11).longValue());
+    Assert.assertEquals(0xdeadbeefdeadbeefL, new AsnBitString(0xdeadbeefdeadbeefL, 64).longValue());
+    Assert.assertEquals(0L, AsnBitString.EMPTY.longValue());
+    Assert.assertTrue(new AsnBitString(0x4, 3).test(0));
+    Assert.assertFalse(new AsnBitString(0x4, 3).test(2));
+  }
+  
+  @Test
+  public void test_fromBytes_01() {
+    final byte[] data = new byte[19];
+    
+    for (int i = 0; i < data.length; ++i) {
+      data[i] = (byte)(0x11 * i);
+    }
+    
+    data[18] = (byte)0xff;
+    
+    final AsnBitString value = AsnBitString.fromBytes(data, 1, 18, 3);
+    
+    Assert.assertEquals(141, value.length);
+    Assert.assertEquals(3, value.wordCount());
+    Assert.assertEquals(0x1122334455667788L, value.word(0));
+    Assert.assertEquals(0x21f8L, value.word(2) >>> 48);
+    Assert.assertEquals(3, value.unusedBits());
+    
+    final byte[] bytes = value.toByteArray();
+    
+    Assert.assertEquals(18, bytes.length);
+    Assert.assertEquals((byte)0xf8, bytes[17]);
+    Assert.assertEquals((byte)0x11, bytes[0]);
+  }
+  
+  @Test
+  public void test_roundTrip_01() throws AsnException {
+    final long[] words = { 0xdeadbeefdeadbeefL, 0x0123456789abcdefL, -1L };
+    
+    for (int length = 0; length <= 192; ++length) {
+      final AsnBitString value = AsnBitString.fromWords(words, length);
+      final AsnBitString decoded = roundTrip(value);
+      
+      Assert.assertEquals(length, decoded.length);
+      Assert.assertEquals(value, decoded);
+      Assert.assertEquals(value.hashCode(), decoded.hashCode());
+    }
+  }
+  
+  @Test
+  public void test_bulk_01() {
+    final AsnBitString a = AsnBitString.fromWords(new long[] { 0xf0f0f0f0f0f0f0f0L, 0xffL << 56 }, 72);
+    final AsnBitString b = new AsnBitString(0xff, 8);
+    
+    Assert.assertEquals(40, a.cardinality());
+    Assert.assertEquals(8, b.cardinality());
+    Assert.assertEquals(AsnBitString.fromWords(new long[] { 0xf0L << 56 }, 72), a.and(b));
+    Assert.assertEquals(AsnBitString.fromWords(new long[] { 0xfff0f0f0f0f0f0f0L, 0xffL << 56 }, 72), b.or(a));
+    Assert.assertEquals(4, a.and(b).cardinality());
+    Assert.assertTrue(a.test(64));
+    Assert.assertFalse(a.test(4));
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void test_fromBytes_badUnused_01() {
+    AsnBitString.fromBytes(new byte[0], 0, 0, 1);
+  }
+}
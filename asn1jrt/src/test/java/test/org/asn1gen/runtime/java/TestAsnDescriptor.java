@@ -0,0 +1,47 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import moo.model.ASNEXAMPLES.Book;
+import moo.model.ASNEXAMPLES.BookCover;
+
+import org.asn1gen.runtime.java.AsnBoolean;
+import org.asn1gen.runtime.java.AsnDescriptor;
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.AsnSequence;
+import org.junit.Test;
+
+public class TestAsnDescriptor {
+  private static final Book BOOK = new Book(
+      new AsnOctetString("isbn"),
+      new AsnOctetString("title"),
+      new AsnOctetString("author"),
+      BookCover.paperBack,
+      AsnBoolean.TRUE);
+  
+  @Test
+  public void test_fields_01() {
+    final AsnDescriptor<Book> descriptor = Book.DESCRIPTOR;
+    
+    Assert.assertEquals("Book", descriptor.name);
+    Assert.assertEquals(5, descriptor.fieldCount());
+    Assert.assertEquals(3, descriptor.indexOf("cover"));
+    Assert.assertEquals(-1, descriptor.indexOf("price"));
+    Assert.assertEquals("title", descriptor.field(1).name);
+    Assert.assertSame(BOOK.author, descriptor.get(BOOK, 2));
+  }
+  
+  @Test
+  public void test_generic_01() {
+    final AsnSequence sequence = BOOK;
+    final AsnDescriptor<?> descriptor = sequence.descriptor();
+    
+    Assert.assertSame(Book.DESCRIPTOR, descriptor);
+    
+    for (int i = 0; i < descriptor.fieldCount(); ++i) {
+      Assert.assertNotNull(sequence.field(i));
+    }
+    
+    Assert.assertSame(BookCover.paperBack, sequence.field(3));
+  }
+}
@@ -1,9 +1,36 @@
 package test.org.asn1gen.runtime.java;
 
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnInteger;
 import org.junit.Test;
 
 public class TestAsnInteger {
   @Test
   public void test_01() {
+    Assert.assertSame(AsnInteger.EMPTY, AsnInteger.valueOf(0));
+    Assert.assertSame(AsnInteger.valueOf(-128), AsnInteger.valueOf(-128));
+    Assert.assertSame(AsnInteger.valueOf(1023), AsnInteger.valueOf(1023));
+    Assert.assertSame(AsnInteger.valueOf(5), AsnInteger.EMPTY.withValue(5));
+    Assert.assertEquals(-128, AsnInteger.valueOf(-128).value);
+    Assert.assertEquals(1023, AsnInteger.valueOf(1023).value);
+  }
+
+  @Test
+  public void test_uncached_01() {
+    Assert.assertNotSame(AsnInteger.valueOf(-129), AsnInteger.valueOf(-129));
+    Assert.assertNotSame(AsnInteger.valueOf(1024), AsnInteger.valueOf(1024));
+    Assert.assertEquals(-129, AsnInteger.valueOf(-129).value);
+    Assert.assertEquals(Long.MIN_VALUE, AsnInteger.valueOf(Long.MIN_VALUE).value);
+    Assert.assertEquals(Long.MAX_VALUE, AsnInteger.valueOf(Long.MAX_VALUE).value);
+  }
+
+  @Test
+  public void test_equals_01() {
+    Assert.assertEquals(AsnInteger.valueOf(1024), AsnInteger.valueOf(1024));
+    Assert.assertEquals(new AsnInteger(7), AsnInteger.valueOf(7));
+    Assert.assertEquals(AsnInteger.valueOf(1L << 40).hashCode(), new AsnInteger(1L << 40).hashCode());
+    Assert.assertFalse(AsnInteger.valueOf(1).equals(AsnInteger.valueOf(2)));
+    Assert.assertFalse(AsnInteger.valueOf(1).equals((Object)Long.valueOf(1)));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnInterner;
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.AsnUtf8String;
+import org.asn1gen.runtime.java.BerToAsn;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestAsnInterner {
+  private static ByteArrayWindow window(final String text) throws Exception {
+    final byte[] bytes = ("--" + text + "--").getBytes("UTF-8");
+
+    return new ByteArrayWindow(bytes, 2, bytes.length - 4);
+  }
+
+  @Test
+  public void test_utf8String_01() throws Exception {
+    final AsnInterner interner = new AsnInterner();
+    final AsnUtf8String first = interner.utf8String(window("caf\u00e9"));
+
+    Assert.assertEquals("caf\u00e9", first.value);
+    Assert.assertSame(first, interner.utf8String(window("caf\u00e9")));
+    Assert.assertNotSame(first, new AsnInterner().utf8String(window("caf\u00e9")));
+  }
+
+  @Test
+  public void test_utf8String_maxLength_01() throws Exception {
+    final AsnInterner interner = new AsnInterner(16, 1, 4);
+    final AsnUtf8String first = interner.utf8String(window("hello"));
+
+    Assert.assertEquals("hello", first.value);
+    Assert.assertNotSame(first, interner.utf8String(window("hello")));
+    Assert.assertSame(interner.utf8String(window("hell")), interner.utf8String(window("hell")));
+  }
+
+  @Test
+  public void test_utf8String_collision_01() throws Exception {
+    final AsnInterner interner = new AsnInterner(1, 1, 32);
+    final AsnUtf8String a = interner.utf8String(window("a"));
+    final AsnUtf8String b = interner.utf8String(window("b"));
+
+    Assert.assertEquals("a", a.value);
+    Assert.assertEquals("b", b.value);
+    Assert.assertSame(b, interner.utf8String(window("b")));
+    Assert.assertEquals("a", interner.utf8String(window("a")).value);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_capacity_01() {
+    new AsnInterner(0, 1, 32);
+  }
+
+  @Test
+  public void test_decodePart_01() throws Exception {
+    final AsnInterner interner = new AsnInterner();
+    final ReturnInteger consumed = new ReturnInteger();
+    final AsnUtf8String first = BerToAsn.decodePart(AsnUtf8String.EMPTY, window("abc"), consumed, interner);
+
+    Assert.assertEquals(3, consumed.value);
+    Assert.assertSame(first, BerToAsn.decodePart(AsnUtf8String.EMPTY, window("abc"), consumed, interner));
+    Assert.assertNotSame(first, BerToAsn.decodePart(AsnUtf8String.EMPTY, window("abc"), consumed));
+    Assert.assertSame(AsnUtf8String.EMPTY, BerToAsn.decodePart(AsnUtf8String.EMPTY, window(""), consumed, interner));
+  }
+
+  @Test
+  public void test_decodePart_octetString_01() throws Exception {
+    final ReturnInteger consumed = new ReturnInteger();
+    final byte[] bytes = "abc".getBytes("UTF-8");
+    final ByteArrayWindow window = ByteArrayWindow.to(bytes);
+    final AsnOctetString first = BerToAsn.decodePart(AsnOctetString.EMPTY, window, consumed);
+    final AsnOctetString second = BerToAsn.decodePart(AsnOctetString.EMPTY, window, consumed);
+
+    Assert.assertNotSame(first, second);
+
+    first.toByteArray()[0] = 'x';
+    bytes[1] = 'y';
+
+    Assert.assertEquals('a', first.byteAt(0));
+    Assert.assertEquals('b', second.byteAt(1));
+  }
+}
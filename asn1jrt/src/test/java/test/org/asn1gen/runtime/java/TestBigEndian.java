@@ -0,0 +1,84 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnReal;
+import org.asn1gen.runtime.java.AsnToBer;
+import org.asn1gen.runtime.java.BerToAsn;
+import org.asn1gen.runtime.java.BerWriter;
+import org.asn1gen.runtime.java.BigEndian;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.asn1gen.runtime.java.TLV;
+import org.junit.Test;
+
+public class TestBigEndian {
+  @Test
+  public void test_readSigned_01() {
+    final byte[] data = { (byte)0xff, 0x7f, 0x00, 0x01, (byte)0x80 };
+
+    Assert.assertEquals(0, BigEndian.readSigned(data, 0, 0));
+    Assert.assertEquals(-1, BigEndian.readSigned(data, 0, 1));
+    Assert.assertEquals(0x7f0001, BigEndian.readSigned(data, 1, 3));
+    Assert.assertEquals(-128, BigEndian.readSigned(data, 4, 1));
+    Assert.assertEquals(0xff7f000180L, BigEndian.readUnsigned(data, 0, 5));
+  }
+
+  @Test
+  public void test_readSigned_02() {
+    final byte[] data = { 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte)0xfe, 0x01, 0x02 };
+
+    Assert.assertEquals(0xfe0102L - 0x1000000L, BigEndian.readSigned(data, 8, 3));
+    Assert.assertEquals(0xfe0102L, BigEndian.readUnsigned(data, 8, 3));
+    Assert.assertEquals(0x00000000fe0102L, BigEndian.readSigned(data, 3, 8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_readSigned_overrun_01() {
+    BigEndian.readSigned(new byte[] { 0x01, 0x02 }, 1, 2);
+  }
+
+  @Test
+  public void test_real_roundTrip_01() throws AsnException {
+    final double[] values = { 0.0, 1.0, -1.5, 3.141592653589793, 0.001, -6.02e23, Double.POSITIVE_INFINITY };
+
+    for (final double value : values) {
+      final BerWriter writer = AsnToBer.encode(new AsnReal(value));
+      final byte[] data = writer.toByteArray();
+      final AsnReal result = BerToAsn.decode(AsnReal.EMPTY, ByteArrayWindow.to(data), new ReturnInteger());
+
+      Assert.assertEquals(value, result.value);
+    }
+  }
+
+  @Test
+  public void test_readTlv_length_01() throws AsnException {
+    final byte[] data = { 0x04, (byte)0x82, 0x00, 0x02, 0x41, 0x42 };
+
+    Assert.assertEquals(2, TLV.readTlv(ByteArrayWindow.to(data)).frame.length);
+  }
+
+  @Test
+  public void test_readTlv_malformed_01() throws AsnException {
+    assertReadTlvFails(AsnErrorCode.UNSUPPORTED_LENGTH, new byte[] { 0x04, (byte)0x89, 0, 0, 0, 0, 0, 0, 0, 0, 1 });
+    assertReadTlvFails(AsnErrorCode.UNSUPPORTED_LENGTH, new byte[] { 0x04, (byte)0xff, 0x00 });
+    assertReadTlvFails(AsnErrorCode.UNSUPPORTED_LENGTH, new byte[] { 0x04, (byte)0x85, 0, 0, 0, 0, 1 });
+    assertReadTlvFails(AsnErrorCode.UNSUPPORTED_LENGTH, new byte[] { 0x04, (byte)0x84, (byte)0x80, 0, 0, 0 });
+    assertReadTlvFails(AsnErrorCode.UNSUPPORTED_LENGTH, new byte[] { 0x04, (byte)0x82, 0x01 });
+    assertReadTlvFails(AsnErrorCode.TRUNCATED_LENGTH, new byte[] { 0x04 });
+    assertReadTlvFails(AsnErrorCode.LENGTH_OVERRUN, new byte[] { 0x04, 0x02, 0x41 });
+    assertReadTlvFails(AsnErrorCode.UNEXPECTED_END, new byte[] {});
+  }
+
+  private static void assertReadTlvFails(final AsnErrorCode code, final byte[] data) throws AsnException {
+    try {
+      TLV.readTlv(ByteArrayWindow.to(data));
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(code, e.code);
+    }
+  }
+}
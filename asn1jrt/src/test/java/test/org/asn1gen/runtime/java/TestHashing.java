@@ -0,0 +1,56 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnOctetString;
+import org.asn1gen.runtime.java.AsnUtf8String;
+import org.asn1gen.runtime.java.Hashing;
+import org.asn1gen.runtime.java.Person;
+import org.junit.Test;
+
+public class TestHashing {
+  @Test
+  public void test_octetString_01() {
+    final AsnOctetString a = new AsnOctetString(new byte[] { 1, 2, 3 });
+    final AsnOctetString b = new AsnOctetString(new byte[] { 1, 2, 3 });
+    
+    Assert.assertEquals(a, b);
+    Assert.assertEquals(a.hashCode(), b.hashCode());
+    Assert.assertFalse(a.equals(new AsnOctetString(new byte[] { 1, 2, 4 })));
+  }
+  
+  @Test
+  public void test_octetString_02() {
+    final byte[] bytes = { 1, 2, 3 };
+    final AsnOctetString a = new AsnOctetString(bytes);
+    final int hash = a.hashCode();
+    
+    bytes[0] = 9;
+    a.toByteArray()[1] = 9;
+    
+    Assert.assertEquals(hash, a.hashCode());
+    Assert.assertEquals(new AsnOctetString(new byte[] { 1, 2, 3 }), a);
+    Assert.assertEquals(3, a.length);
+  }
+  
+  @Test
+  public void test_sequence_01() {
+    final AsnUtf8String x = new AsnUtf8String("x");
+    final AsnUtf8String y = new AsnUtf8String("y");
+    final Person xx = new Person(x, x);
+    final Person yy = new Person(y, y);
+    
+    Assert.assertFalse(xx.hashCode() == yy.hashCode());
+    Assert.assertFalse(new Person(x, y).hashCode() == new Person(y, x).hashCode());
+    Assert.assertEquals(xx, new Person(new AsnUtf8String("x"), new AsnUtf8String("x")));
+    Assert.assertEquals(xx.hashCode(), new Person(new AsnUtf8String("x"), new AsnUtf8String("x")).hashCode());
+    Assert.assertFalse(xx.equals("x"));
+  }
+  
+  @Test
+  public void test_finish_01() {
+    for (int i = -1000; i < 1000; ++i) {
+      Assert.assertFalse(Hashing.finish(Hashing.mix(Hashing.SEED, i), 1) == 0);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package test.org.asn1gen.runtime.java;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ImmutableList;
+import org.asn1gen.runtime.java.TLV;
+import org.junit.Test;
+
+public class TestImmutableList {
+  @Test
+  public void test_of_01() {
+    final String[] items = { "a", "b", "c" };
+    final ImmutableList<String> list = ImmutableList.of(items);
+
+    items[0] = "z";
+
+    Assert.assertEquals(3, list.size());
+    Assert.assertEquals("a", list.get(0));
+    Assert.assertEquals("c", list.get(2));
+    Assert.assertSame(ImmutableList.nil(), ImmutableList.<String>of());
+    Assert.assertTrue(ImmutableList.<String>of().empty());
+  }
+
+  @Test
+  public void test_appendSet_01() {
+    final ImmutableList<String> list = ImmutableList.of("a", "b");
+    final ImmutableList<String> appended = list.append("c");
+    final ImmutableList<String> replaced = appended.set(0, "x");
+
+    Assert.assertEquals(2, list.size());
+    Assert.assertEquals(ImmutableList.of("a", "b", "c"), appended);
+    Assert.assertEquals(ImmutableList.of("x", "b", "c"), replaced);
+    Assert.assertEquals("a", appended.get(0));
+  }
+
+  @Test
+  public void test_builder_01() {
+    final ImmutableList.Builder<Integer> builder = ImmutableList.builder(1);
+
+    for (int i = 0; i < 10; ++i) {
+      builder.add(i);
+    }
+
+    final ImmutableList<Integer> list = builder.build();
+
+    Assert.assertEquals(10, list.size());
+    Assert.assertEquals(Integer.valueOf(9), list.get(9));
+    Assert.assertSame(ImmutableList.nil(), ImmutableList.<Integer>builder(4).build());
+    Assert.assertEquals(list, ImmutableList.from(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+  }
+
+  @Test
+  public void test_equalsHashCode_01() {
+    Assert.assertEquals(ImmutableList.of("a", "b"), ImmutableList.of("a", "b"));
+    Assert.assertEquals(ImmutableList.of("a", "b").hashCode(), ImmutableList.of("a", "b").hashCode());
+    Assert.assertFalse(ImmutableList.of("a", "b").equals(ImmutableList.of("b", "a")));
+    Assert.assertFalse(ImmutableList.of("a").equals((Object)"a"));
+  }
+
+  @Test
+  public void test_iterator_01() {
+    final Iterator<String> iterator = ImmutableList.of("a").iterator();
+
+    Assert.assertTrue(iterator.hasNext());
+    Assert.assertEquals("a", iterator.next());
+    Assert.assertFalse(iterator.hasNext());
+
+    try {
+      iterator.next();
+      Assert.fail();
+    } catch (final NoSuchElementException e) {
+    }
+  }
+
+  @Test
+  public void test_count_01() throws AsnException {
+    final byte[] data = { 0x02, 0x01, 0x05, 0x1f, (byte)0x81, 0x00, 0x00, 0x04, (byte)0x81, 0x01, 0x00 };
+
+    Assert.assertEquals(3, TLV.count(ByteArrayWindow.to(data)));
+    Assert.assertEquals(0, TLV.count(new ByteArrayWindow(data, 0, 0)));
+  }
+
+  @Test
+  public void test_count_overrun_01() throws AsnException {
+    assertCountFails(AsnErrorCode.LENGTH_OVERRUN, 0, new byte[] { 0x04, (byte)0x84, 0x7f, (byte)0xff, (byte)0xff, (byte)0xff });
+    assertCountFails(AsnErrorCode.LENGTH_OVERRUN, 0, new byte[] { 0x04, (byte)0x84, (byte)0xff, (byte)0xff, (byte)0xff, (byte)0xff });
+    assertCountFails(AsnErrorCode.LENGTH_OVERRUN, 3, new byte[] { 0x02, 0x01, 0x05, 0x04, 0x05, 0x01 });
+  }
+
+  @Test
+  public void test_count_truncated_01() throws AsnException {
+    assertCountFails(AsnErrorCode.TRUNCATED_TAG, 0, new byte[] { 0x1f, (byte)0x81 });
+    assertCountFails(AsnErrorCode.TRUNCATED_LENGTH, 0, new byte[] { 0x04 });
+    assertCountFails(AsnErrorCode.UNSUPPORTED_LENGTH, 0, new byte[] { 0x04, (byte)0x82, 0x01 });
+  }
+
+  private static void assertCountFails(final AsnErrorCode code, final int offset, final byte[] data) throws AsnException {
+    try {
+      TLV.count(ByteArrayWindow.to(data));
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(code, e.code);
+      Assert.assertEquals(offset, e.offset);
+    }
+  }
+}
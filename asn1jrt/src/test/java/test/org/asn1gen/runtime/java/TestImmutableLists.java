@@ -0,0 +1,165 @@
+package test.org.asn1gen.runtime.java;
+
+import java.io.IOException;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.AsnToBer;
+import org.asn1gen.runtime.java.BerToAsn;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.ImmutableBooleanList;
+import org.asn1gen.runtime.java.ImmutableLongList;
+import org.asn1gen.runtime.java.ImmutableOrdinalList;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.junit.Test;
+
+public class TestImmutableLists {
+  private static ByteArrayWindow window(final int ...values) {
+    return ByteArrayWindow.to(TestBerEncoder.ibytes(values));
+  }
+
+  @Test
+  public void test_longList_01() {
+    final ImmutableLongList list = ImmutableLongList.of(1, -2, 3).append(Long.MIN_VALUE);
+
+    Assert.assertEquals(4, list.size());
+    Assert.assertEquals(Long.MIN_VALUE, list.get(3));
+    Assert.assertEquals(ImmutableLongList.of(1, -2, 3, Long.MIN_VALUE), list);
+    Assert.assertEquals(ImmutableLongList.of(1, -2, 3, Long.MIN_VALUE).hashCode(), list.hashCode());
+    Assert.assertSame(ImmutableLongList.EMPTY, ImmutableLongList.of());
+  }
+
+  @Test
+  public void test_booleanList_01() {
+    final boolean[] values = new boolean[130];
+
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = i % 3 == 0;
+    }
+
+    final ImmutableBooleanList list = ImmutableBooleanList.of(values);
+
+    Assert.assertEquals(130, list.size());
+    Assert.assertEquals(44, list.countTrue());
+    Assert.assertTrue(list.get(129));
+    Assert.assertFalse(list.get(128));
+    Assert.assertEquals(ImmutableBooleanList.of(values), list);
+  }
+
+  @Test
+  public void test_ordinalList_01() {
+    final ImmutableOrdinalList narrow = ImmutableOrdinalList.EMPTY.builder(2).add(1).add(-128).build();
+    final ImmutableOrdinalList wide = ImmutableOrdinalList.EMPTY_WIDE.builder(1).add(1000).build();
+
+    Assert.assertFalse(narrow.wide());
+    Assert.assertEquals(-128, narrow.get(1));
+    Assert.assertTrue(wide.wide());
+    Assert.assertEquals(1000, wide.get(0));
+    Assert.assertFalse(ImmutableOrdinalList.EMPTY.builder(1).accepts(128));
+  }
+
+  @Test
+  public void test_longList_roundTrip_01() throws AsnException, IOException {
+    final ImmutableLongList list = ImmutableLongList.of(0, 127, 128, -129, Long.MAX_VALUE, Long.MIN_VALUE);
+    final byte[] bytes = TestBerEncoder.writeToByteArray(AsnToBer.encodePart(list));
+    final ReturnInteger consumed = new ReturnInteger();
+
+    Assert.assertEquals(list, BerToAsn.decodePart(ImmutableLongList.EMPTY, ByteArrayWindow.to(bytes), consumed));
+    Assert.assertEquals(bytes.length, consumed.value);
+  }
+
+  @Test
+  public void test_booleanList_roundTrip_01() throws AsnException, IOException {
+    final ImmutableBooleanList list = ImmutableBooleanList.of(true, false, false, true);
+    final byte[] bytes = TestBerEncoder.writeToByteArray(AsnToBer.encodePart(list));
+
+    Assert.assertEquals(12, bytes.length);
+    Assert.assertEquals(list, BerToAsn.decodePart(ImmutableBooleanList.EMPTY, ByteArrayWindow.to(bytes), new ReturnInteger()));
+  }
+
+  @Test
+  public void test_ordinalList_roundTrip_01() throws AsnException, IOException {
+    final ImmutableOrdinalList list = ImmutableOrdinalList.EMPTY_WIDE.builder(3).add(0).add(300).add(-5).build();
+    final byte[] bytes = TestBerEncoder.writeToByteArray(AsnToBer.encodePart(list));
+
+    Assert.assertEquals(list, BerToAsn.decodePart(ImmutableOrdinalList.EMPTY_WIDE, ByteArrayWindow.to(bytes), new ReturnInteger()));
+  }
+
+  @Test
+  public void test_longList_longForm_01() throws AsnException {
+    final byte[] bytes = new byte[3 + 130 + 3];
+    bytes[0] = 0x02;
+    bytes[1] = (byte)0x81;
+    bytes[2] = (byte)130;
+    bytes[132] = 0x05;
+    bytes[133] = 0x02;
+    bytes[134] = (byte)0x81;
+    bytes[135] = 0x01;
+
+    try {
+      BerToAsn.decodePart(ImmutableLongList.EMPTY, ByteArrayWindow.to(bytes), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.LENGTH_OVERRUN, e.code);
+      Assert.assertEquals(133, e.offset);
+    }
+
+    final ImmutableLongList list = BerToAsn.decodePart(ImmutableLongList.EMPTY, new ByteArrayWindow(bytes, 0, 133), new ReturnInteger());
+
+    Assert.assertEquals(ImmutableLongList.of(5), list);
+    Assert.assertEquals(
+        ImmutableLongList.of(-1, 7),
+        BerToAsn.decodePart(ImmutableLongList.EMPTY, window(0x02, 0x82, 0x00, 0x09, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0xff, 0x02, 0x81, 0x01, 0x07), new ReturnInteger()));
+  }
+
+  @Test
+  public void test_longList_malformed_01() throws AsnException {
+    assertLongListFails(AsnErrorCode.BAD_LENGTH, 0, window(0x02, 0x09, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00));
+    assertLongListFails(AsnErrorCode.BAD_LENGTH, 3, window(0x02, 0x01, 0x05, 0x02, 0x00));
+    assertLongListFails(AsnErrorCode.UNEXPECTED_TAG, 3, window(0x02, 0x01, 0x05, 0x01, 0x01, 0x00));
+    assertLongListFails(AsnErrorCode.LENGTH_OVERRUN, 0, window(0x02, 0x84, 0x7f, 0xff, 0xff, 0xff));
+    assertLongListFails(AsnErrorCode.TRUNCATED_LENGTH, 0, window(0x02));
+  }
+
+  @Test
+  public void test_booleanList_malformed_01() throws AsnException {
+    try {
+      BerToAsn.decodePart(ImmutableBooleanList.EMPTY, window(0x01, 0x01, 0xff, 0x01, 0x02, 0x00, 0x00), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.BAD_LENGTH, e.code);
+      Assert.assertEquals(3, e.offset);
+    }
+
+    try {
+      BerToAsn.decodePart(ImmutableBooleanList.EMPTY, window(0x01, 0x81, 0x02, 0x00), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.LENGTH_OVERRUN, e.code);
+    }
+  }
+
+  @Test
+  public void test_ordinalList_malformed_01() throws AsnException {
+    try {
+      BerToAsn.decodePart(ImmutableOrdinalList.EMPTY, window(0x0a, 0x01, 0x01, 0x0a, 0x02, 0x01, 0x00), new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.UNKNOWN_ENUMERATION, e.code);
+      Assert.assertEquals(3, e.offset);
+    }
+  }
+
+  private static void assertLongListFails(final AsnErrorCode code, final int offset, final ByteArrayWindow window) throws AsnException {
+    try {
+      BerToAsn.decodePart(ImmutableLongList.EMPTY, window, new ReturnInteger());
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(code, e.code);
+      Assert.assertEquals(offset, e.offset);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package test.org.asn1gen.runtime.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.ByteArrayWindow;
+import org.asn1gen.runtime.java.RecordPipeline;
+import org.asn1gen.runtime.java.RecordSink;
+import org.asn1gen.runtime.java.ReturnInteger;
+import org.asn1gen.runtime.java.TLV;
+import org.asn1gen.runtime.java.TlvDecoder;
+import org.junit.Test;
+
+public class TestRecordPipeline {
+  private static final TlvDecoder<Long> INTEGER_DECODER = new TlvDecoder<Long>() {
+    @Override
+    public Long decode(final ByteArrayWindow window, final ReturnInteger consumed) throws AsnException {
+      return TLV.longValue(TLV.readTlv(window).frame.value);
+    }
+  };
+
+  private static byte[] integers(final int count) {
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+    for (int i = 0; i < count; ++i) {
+      os.write(0x02);
+      os.write(0x82);
+      os.write(0x00);
+      os.write(0x03);
+      os.write(0x00);
+      os.write(i >> 8);
+      os.write(i);
+    }
+
+    return os.toByteArray();
+  }
+
+  @Test
+  public void run_00() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+    try {
+      final RecordPipeline<Long> pipeline = new RecordPipeline<Long>(INTEGER_DECODER, workers, 7, 3);
+      final long[] mismatches = new long[1];
+      final long count = pipeline.run(new ByteArrayInputStream(integers(5000)), new RecordSink<Long>() {
+        @Override
+        public void onRecord(final long index, final Long value) {
+          if (value != index) {
+            mismatches[0] += 1;
+          }
+        }
+      });
+
+      Assert.assertEquals("All records delivered", 5000, count);
+      Assert.assertEquals("Records delivered in order", 0, mismatches[0]);
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  @Test
+  public void run_01() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(2);
+
+    try {
+      final RecordPipeline<Long> pipeline = new RecordPipeline<Long>(INTEGER_DECODER, workers);
+      final long count = pipeline.run(new ByteArrayInputStream(new byte[0]), new RecordSink<Long>() {
+        @Override
+        public void onRecord(final long index, final Long value) {
+          Assert.fail();
+        }
+      });
+
+      Assert.assertEquals("No records delivered", 0, count);
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  @Test(expected = EOFException.class)
+  public void run_02() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(2);
+
+    try {
+      final RecordPipeline<Long> pipeline = new RecordPipeline<Long>(INTEGER_DECODER, workers);
+      pipeline.run(new ByteArrayInputStream(new byte[] { 0x02, 0x05, 0x01 }), new RecordSink<Long>() {
+        @Override
+        public void onRecord(final long index, final Long value) {
+        }
+      });
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  @Test(expected = AsnException.class)
+  public void run_04() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(2);
+    final byte[] header = { 0x04, (byte)0x84, 0x7f, (byte)0xff, (byte)0xff, (byte)0xff };
+
+    try {
+      final RecordPipeline<Long> pipeline = new RecordPipeline<Long>(INTEGER_DECODER, workers);
+      pipeline.run(new ByteArrayInputStream(header), new RecordSink<Long>() {
+        @Override
+        public void onRecord(final long index, final Long value) {
+          Assert.fail();
+        }
+      });
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  @Test
+  public void run_05() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(2);
+    final RecordSink<Long> sink = new RecordSink<Long>() {
+      @Override
+      public void onRecord(final long index, final Long value) {
+      }
+    };
+
+    try {
+      Assert.assertEquals(10, new RecordPipeline<Long>(INTEGER_DECODER, workers, 4, 2, 7).run(new ByteArrayInputStream(integers(10)), sink));
+
+      try {
+        new RecordPipeline<Long>(INTEGER_DECODER, workers, 4, 2, 6).run(new ByteArrayInputStream(integers(10)), sink);
+        Assert.fail();
+      } catch (final AsnException e) {
+      }
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  @Test(timeout = 10000, expected = RejectedExecutionException.class)
+  public void run_03() throws AsnException, IOException, InterruptedException {
+    final ExecutorService workers = Executors.newFixedThreadPool(2);
+    workers.shutdown();
+
+    final RecordPipeline<Long> pipeline = new RecordPipeline<Long>(INTEGER_DECODER, workers);
+    pipeline.run(new ByteArrayInputStream(integers(10)), new RecordSink<Long>() {
+      @Override
+      public void onRecord(final long index, final Long value) {
+        Assert.fail();
+      }
+    });
+  }
+}
@@ -0,0 +1,85 @@
+package test.org.asn1gen.runtime.java;
+
+import junit.framework.Assert;
+
+import org.asn1gen.runtime.java.AsnDecodeException;
+import org.asn1gen.runtime.java.AsnErrorCode;
+import org.asn1gen.runtime.java.AsnException;
+import org.asn1gen.runtime.java.TlvCursor;
+import org.junit.Test;
+
+public class TestTlvCursor {
+  @Test
+  public void test_walk_01() throws AsnException {
+    final byte[] data = { 0x30, 0x06, 0x02, 0x01, 0x05, 0x01, 0x01, (byte)0xff };
+    final TlvCursor outer = new TlvCursor().reset(data, 0, data.length);
+
+    Assert.assertTrue(outer.next());
+    Assert.assertEquals(0x30, outer.identifier);
+    Assert.assertEquals(8, outer.consumed());
+
+    final TlvCursor inner = new TlvCursor().enter(outer);
+
+    Assert.assertTrue(inner.next());
+    Assert.assertEquals(5, inner.longValue());
+    Assert.assertTrue(inner.next());
+    Assert.assertTrue(inner.booleanValue());
+    Assert.assertFalse(inner.next());
+    Assert.assertEquals(-1, inner.identifier);
+    Assert.assertFalse(outer.next());
+  }
+
+  @Test
+  public void test_tryNext_overrun_01() {
+    final byte[] data = { 0x02, 0x01, 0x05, 0x04, 0x05, 0x01 };
+    final TlvCursor cursor = new TlvCursor().reset(data, 0, data.length);
+
+    Assert.assertTrue(cursor.tryNext());
+    Assert.assertFalse(cursor.tryNext());
+    Assert.assertEquals(AsnErrorCode.LENGTH_OVERRUN, cursor.errorCode);
+    Assert.assertEquals(3, cursor.errorOffset);
+  }
+
+  @Test
+  public void test_next_stackless_01() {
+    final byte[] data = { 0x02 };
+    final TlvCursor cursor = new TlvCursor().reset(data, 0, data.length);
+
+    try {
+      cursor.next();
+      Assert.fail();
+    } catch (final AsnDecodeException e) {
+      Assert.assertEquals(AsnErrorCode.TRUNCATED_LENGTH, e.code);
+      Assert.assertEquals(0, e.offset);
+      Assert.assertEquals(AsnDecodeException.DEBUG, e.getStackTrace().length > 0);
+    } catch (final AsnException e) {
+      Assert.fail();
+    }
+  }
+
+  @Test
+  public void test_unexpected_01() throws AsnException {
+    final byte[] data = { 0x04, 0x00 };
+    final TlvCursor cursor = new TlvCursor().reset(data, 0, data.length);
+
+    Assert.assertTrue(cursor.next());
+    Assert.assertEquals(AsnErrorCode.UNEXPECTED_TAG, cursor.unexpected().code);
+    Assert.assertFalse(cursor.next());
+    Assert.assertEquals(AsnErrorCode.MISSING_COMPONENT, cursor.unexpected().code);
+    Assert.assertEquals(2, cursor.unexpected().offset);
+  }
+
+  @Test
+  public void test_tagKey_01() throws AsnException {
+    final byte[] data = { (byte)0xa3, 0x00, 0x7f, 0x28, 0x00, (byte)0x9f, (byte)0x82, (byte)0x80, (byte)0x80, (byte)0x80, 0x00, 0x00 };
+    final TlvCursor cursor = new TlvCursor().reset(data, 0, data.length);
+
+    Assert.assertTrue(cursor.next());
+    Assert.assertEquals(0x40000003, cursor.tagKey());
+    Assert.assertTrue(cursor.next());
+    Assert.assertEquals(0x20000028, cursor.tagKey());
+    Assert.assertTrue(cursor.next());
+    Assert.assertEquals(0x20000000L, cursor.tagNo);
+    Assert.assertEquals(-1, cursor.tagKey());
+  }
+}
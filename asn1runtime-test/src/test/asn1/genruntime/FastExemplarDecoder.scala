@@ -0,0 +1,40 @@
+package test.asn1.genruntime
+
+import org.asn1gen.runtime.codec._
+
+import scala.util.parsing.combinator.Parsers
+
+trait FastExemplarDecoder extends FastBerDecoder with Parsers {
+  type Elem = Byte
+  type MySequence
+  
+  def mySequence(in: BerCursor, length: Int): MySequence = {
+    val wall = in.offset + length
+    val field0 =
+      if (optional(in, wall, 0)) Some(asnInteger(in, in.length)) else None
+    val field1 = asnReal(in, expect(in, wall, 1))
+    val field2 = asnPrintableString(in, expect(in, wall, 2))
+    val field3 = myChoice(in, expect(in, wall, 3))
+    finish(in, wall)
+    mkMySequence(new ~(new ~(new ~(field0, field1), field2), field3))
+  }
+  
+  def mkMySequence(data: Option[AsnInteger] ~ AsnReal ~ AsnPrintableString ~ MyChoice): MySequence
+  
+  def myChoice(in: BerCursor, length: Int): MyChoice = {
+    val wall = in.offset + length
+    in.readHeader(wall)
+    val result = in.tagType match {
+      case 0 => mkMyChoice_choice0(asnNull(in, in.length))
+      case 1 => mkMyChoice_choice1(asnInteger(in, in.length))
+      case 2 => mkMyChoice_choice2(asnReal(in, in.length))
+      case tagType => throw new DecodingException("Unknown MyChoice alternative " + tagType)
+    }
+    finish(in, wall)
+    result
+  }
+
+  def mkMyChoice_choice0(data: AsnNull): MyChoice
+  def mkMyChoice_choice1(data: AsnInteger): MyChoice
+  def mkMyChoice_choice2(data: AsnReal): MyChoice
+}
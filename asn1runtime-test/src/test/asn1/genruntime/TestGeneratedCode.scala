@@ -98,9 +98,9 @@ package test.asn1.genruntime {
   
   trait BerDecoder extends org.asn1gen.runtime.codec.BerDecoderBase {
     def decodeTriplets(is: DecodingInputStream, length: Int)(f: RepeatingTripletDecoder => Unit): Unit = {
-      val newIndex = is.index + length
-      f(new RepeatingTripletDecoder(is, newIndex))
-      assert(is.index == newIndex)
+      val oldLimit = is.pushLimit(length)
+      f(new RepeatingTripletDecoder(is))
+      is.popLimit(oldLimit)
     }
   }
   
@@ -114,19 +114,38 @@ package test.asn1.genruntime {
       OnMySequence(this.field0, transform(this.field1))
     
     def decode(is: DecodingInputStream, length: Int): Unit = {
-      decodeTriplets(is, length) { tripletsDecoder =>
-        tripletsDecoder.decode {
-          case Some(triplet) if triplet.tagType == 0 =>
-            this.field0.decode(is, triplet.length)
-            Some(true)
-          case None => None
+      val oldLimit = is.pushLimit(length)
+      var state = 0
+      while (!is.atLimit) {
+        val header = readHeader(is)
+        val key = PackedTriplet.tagKey(header)
+        val index = state match {
+          case 0 =>
+            if (key == 0x20000000 /* [0] */) 0
+            else -1
+          case 1 =>
+            if (key == 0x20000001 /* [1] */) 1
+            else -1
+          case _ => -1
         }
-        tripletsDecoder.decode {
-          case Some(triplet) if triplet.tagType == 1 =>
-            this.field1.decode(is, triplet.length)
-            Some(true)
-          case None => None
+        val fieldLength = PackedTriplet.length(header)
+        val fieldLimit = is.pushLimit(fieldLength)
+        index match {
+          case 0 =>
+            this.field0.decode(is, fieldLength)
+          case 1 =>
+            this.field1.decode(is, fieldLength)
+          case _ =>
+            is.skipFully(fieldLength)
         }
+        is.popLimit(fieldLimit)
+        if (index >= 0) {
+          state = index + 1
+        }
+      }
+      is.popLimit(oldLimit)
+      if (state < 2) {
+        throw new DecodingException("Missing mandatory component of OnMySequence after state " + state)
       }
     }
   }
@@ -134,4 +153,110 @@ package test.asn1.genruntime {
   object OnMySequence extends OnMySequence(OnAsnInteger, OnAsnInteger)
   
   import org.asn1gen.runtime.codec.PackratBerDecoder
+  
+  object ModuleName {
+    case class MySequence(
+      field0: Option[AsnInteger],
+      field1: AsnReal,
+      field2: AsnPrintableString,
+      field3: MyChoice
+    ) extends AsnSequence
+    
+    abstract class MyChoice(val _element: Any) extends AsnChoice {
+      def _choice: Int
+    }
+    
+    case class MyChoice_choice0(override val _element: AsnNull) extends MyChoice(_element) {
+      def _choice: Int = 0
+      
+      def _choiceName: String = "choice0"
+    }
+    
+    case class MyChoice_choice1(override val _element: AsnInteger) extends MyChoice(_element) {
+      def _choice: Int = 1
+      
+      def _choiceName: String = "choice1"
+    }
+    
+    case class MyChoice_choice2(override val _element: AsnReal) extends MyChoice(_element) {
+      def _choice: Int = 2
+      
+      def _choiceName: String = "choice2"
+    }
+    
+    case class MyEnum(_value: Long) extends AsnEnumeration {
+      def _shortName: Option[String] = None
+    }
+  }
+}
+
+// Output of GenScalaBerEncoder for ModuleName, with package name
+// test.asn1.genruntime.
+package test.asn1.genruntime.codec.ber {
+  import org.asn1gen.{runtime => _rt_}
+  import org.asn1gen.runtime.{codec => _codec_}
+  import org.asn1gen.{io => _io_}
+  import test.asn1.genruntime.{ModuleName => _m_}
+  
+  trait ModuleName extends org.asn1gen.runtime.codec.BerEncoder {
+
+
+    // Enumerated type
+    def encode(out: _io_.ByteBuilder, value: _m_.MyEnum): Int =
+      encode(out, value: _rt_.AsnEnumeration)
+
+    def encodeData(out: _io_.ByteBuilder, value: _m_.MyEnum): Int =
+      encodeData(out, value: _rt_.AsnEnumeration)
+
+    def encode(value: _m_.MyEnum): _io_.ByteStreamer = {
+      val out = new _io_.ByteBuilder
+      encode(out, value)
+      out.toByteStreamer
+    }
+
+    // Sequence type
+    def encode(out: _io_.ByteBuilder, value: _m_.MySequence): Int =
+      encodeHeader(out, _codec_.TagClass.Universal, _codec_.TagConstructed, 16, encodeData(out, value))
+
+    def encodeData(out: _io_.ByteBuilder, value: _m_.MySequence): Int = {
+      var length = 0
+      length += encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 3, encode(out, value.field3))
+      length += encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 2, encodeString(out, value.field2.value, 19))
+      length += encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 1, encode(out, value.field1))
+      if (value.field0.isDefined) {
+        length += encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 0, encode(out, value.field0.get))
+      }
+      length
+    }
+
+    def encode(value: _m_.MySequence): _io_.ByteStreamer = {
+      val out = new _io_.ByteBuilder
+      encode(out, value)
+      out.toByteStreamer
+    }
+
+    // Choice type
+    def encode(out: _io_.ByteBuilder, value: _m_.MyChoice): Int = {
+      value match {
+        case choice: _m_.MyChoice_choice0 =>
+          encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 0, encode(out, choice._element))
+        case choice: _m_.MyChoice_choice1 =>
+          encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 1, encode(out, choice._element))
+        case choice: _m_.MyChoice_choice2 =>
+          encodeHeader(out, _codec_.TagClass.ContextSpecific, _codec_.TagConstructed, 2, encode(out, choice._element))
+        case _ =>
+          throw new _codec_.EncodingException("Unknown MyChoice alternative: " + value._choiceName)
+      }
+    }
+
+    def encodeData(out: _io_.ByteBuilder, value: _m_.MyChoice): Int =
+      encode(out, value)
+
+    def encode(value: _m_.MyChoice): _io_.ByteStreamer = {
+      val out = new _io_.ByteBuilder
+      encode(out, value)
+      out.toByteStreamer
+    }
+
+  }
 }
@@ -0,0 +1,64 @@
+package test.asn1.genruntime
+
+import org.junit._
+import org.junit.Assert._
+import org.asn1gen.io.ByteBuilder
+import org.asn1gen.runtime._
+import test.asn1.genruntime.{ModuleName => M}
+
+object ModuleNameEncoder extends test.asn1.genruntime.codec.ber.ModuleName
+
+class TestGeneratedEncoder {
+  import ModuleNameEncoder._
+  
+  def bytes(values: Int*): List[Byte] = values.map(_.toByte).toList
+  
+  val value = M.MySequence(
+      Some(AsnInteger(5)),
+      AsnReal(1.0),
+      AsnPrintableString("hi"),
+      M.MyChoice_choice1(AsnInteger(2)))
+  
+  @Test
+  def test_sequence_01(): Unit = {
+    val builder = new ByteBuilder(4)
+    assertEquals(27, encode(builder, value))
+    assertEquals(
+        bytes(
+            0x30, 0x19,
+            0xa0, 0x03, 0x02, 0x01, 0x05,
+            0xa1, 0x05, 0x09, 0x03, 0x80, 0x00, 0x01,
+            0xa2, 0x04, 0x13, 0x02, 0x68, 0x69,
+            0xa3, 0x05, 0xa1, 0x03, 0x02, 0x01, 0x02),
+        builder.toByteArray.toList)
+  }
+  
+  @Test
+  def test_sequence_02(): Unit = {
+    val builder = new ByteBuilder
+    assertEquals(21, encode(builder, value.copy(field0 = None, field3 = M.MyChoice_choice0(AsnNull))))
+    assertEquals(
+        bytes(
+            0x30, 0x13,
+            0xa1, 0x05, 0x09, 0x03, 0x80, 0x00, 0x01,
+            0xa2, 0x04, 0x13, 0x02, 0x68, 0x69,
+            0xa3, 0x04, 0xa0, 0x02, 0x05, 0x00),
+        builder.toByteArray.toList)
+  }
+  
+  @Test
+  def test_choice_01(): Unit = {
+    val builder = new ByteBuilder
+    builder.prepend(0xff)
+    assertEquals(5, encode(builder, M.MyChoice_choice1(AsnInteger(-1))))
+    assertEquals(5, encode(builder, M.MyChoice_choice2(AsnReal(Double.PositiveInfinity))))
+    assertEquals(
+        bytes(0xa2, 0x03, 0x09, 0x01, 0x40, 0xa1, 0x03, 0x02, 0x01, 0xff, 0xff),
+        builder.toByteArray.toList)
+  }
+  
+  @Test
+  def test_enum_01(): Unit = {
+    assertEquals(bytes(0x0a, 0x01, 0x02), encode(M.MyEnum(2)).toByteArray.toList)
+  }
+}
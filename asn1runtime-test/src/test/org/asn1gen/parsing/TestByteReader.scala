@@ -0,0 +1,81 @@
+package test.org.asn1gen.parsing
+
+import _root_.org.junit._
+import _root_.org.junit.Assert._
+import _root_.org.asn1gen.parsing._
+import _root_.scala.util.parsing.input.Reader
+
+class TestByteReader {
+  val bytes = Array[Byte](1, 2, 3, 4, 5)
+  
+  @Test
+  def test_view_01(): Unit = {
+    val reader = new ByteReader(bytes, 0)
+    val view = reader.drop(2)
+    assertEquals(2, view.offset)
+    assertEquals(3, view.length)
+    assertEquals(3.toByte, view.first)
+    assertEquals(List[Byte](3, 4), view.take(2).toList)
+    assertEquals(List[Byte](3, 4, 5), view.take(10).toList)
+    assertEquals(Nil, view.take(-1).toList)
+    assertEquals(List[Byte](2, 3), reader.rest.take(2).toList)
+  }
+  
+  @Test
+  def test_view_02(): Unit = {
+    val slice = new ByteReader(bytes, 0).drop(1).take(3)
+    assertEquals(3, slice.length)
+    assertEquals(4.toByte, slice(2))
+    assertEquals(List[Byte](2, 3, 4), slice.toArray.toList)
+    try {
+      slice(3)
+      fail()
+    } catch {
+      case e: IndexOutOfBoundsException =>
+    }
+  }
+  
+  @Test
+  def test_view_03(): Unit = {
+    val view = new ByteReader(bytes, 0).drop(3)
+    assertEquals(List[Byte](4, 5), new ByteReader(view: Reader[Byte]).bytes.toList)
+    assertEquals("\u0004\u0005", new ByteReader(Array[Byte](4, 5, -1), 0).source.subSequence(0, 2).toString)
+    assertEquals('\u00ff', new ByteReader(Array[Byte](-1), 0).source.charAt(0))
+  }
+  
+  @Test
+  def test_share_01(): Unit = {
+    val reader = new ByteReader(bytes, 0)
+    assertSame(bytes, reader.rest.bytes)
+    assertSame(bytes, reader.drop(3).bytes)
+    assertEquals(reader.drop(2).offset, reader.rest.rest.offset)
+    assertEquals(reader.drop(3).offset, reader.drop(1).drop(2).offset)
+  }
+  
+  @Test
+  def test_end_01(): Unit = {
+    val reader = new ByteReader(bytes, 0)
+    val end = reader.drop(5)
+    assertTrue(end.atEnd)
+    assertEquals(0, end.length)
+    assertSame(end, end.rest)
+    assertEquals(5, reader.drop(10).offset)
+    assertEquals(Nil, end.take(3).toList)
+    try {
+      end.first
+      fail()
+    } catch {
+      case e: EofException =>
+    }
+  }
+  
+  @Test
+  def test_end_02(): Unit = {
+    val reader = new ByteReader(bytes, 0, 3)
+    assertEquals(3, reader.length)
+    assertEquals(3, reader.drop(10).offset)
+    assertTrue(reader.drop(3).atEnd)
+    assertEquals(List[Byte](1, 2, 3), reader.take(5).toList)
+    assertEquals(3, reader.source.length)
+  }
+}
@@ -0,0 +1,41 @@
+package test.org.asn1gen.runtime
+
+import _root_.org.junit._
+import _root_.org.asn1gen.runtime._
+import _root_.org.junit.Assert._
+import scala.collection.immutable.BitSet
+
+class TestImmutableBits {
+  @Test
+  def test_fromBytes(): Unit = {
+    val bytes = Array[Byte](0, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, 0x88.toByte, 0xff.toByte)
+    val bits = ImmutableBits.fromBytes(bytes, 1, 9, 3)
+    assertEquals(69, bits.length)
+    assertEquals(2, bits.wordCount)
+    assertEquals(0x1122334455667788L, bits.word(0))
+    assertEquals(0xf8L << 56, bits.word(1))
+    assertEquals(3, bits.unusedBits)
+    assertEquals(List[Byte](0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, 0x88.toByte, 0xf8.toByte), bits.toArray.toList)
+  }
+  
+  @Test
+  def test_bulk(): Unit = {
+    val a = ImmutableBits.fromWords(Array(0xf0f0f0f0f0f0f0f0L, -1L), 72)
+    val b = ImmutableBits.fromLong(0xff, 8)
+    assertEquals(40, a.cardinality)
+    assertEquals(ImmutableBits.fromWords(Array(0xf0L << 56), 72), a & b)
+    assertEquals(ImmutableBits.fromWords(Array(0xfff0f0f0f0f0f0f0L, -1L), 72), b | a)
+    assertTrue(a(64))
+    assertFalse(a(4))
+  }
+  
+  @Test
+  def test_bitSet(): Unit = {
+    val bits = ImmutableBits(BitSet(0, 3, 70))
+    assertEquals(71, bits.length)
+    assertEquals(ImmutableBits(true, false, false, true), ImmutableBits.fromLong(9, 4))
+    assertEquals(BitSet(0, 3, 70), bits.toBitSet)
+    assertEquals(AsnBitString(BitSet(0, 3, 70)), AsnBitString(bits))
+    assertEquals("'1001'B", ImmutableBits.fromLong(9, 4).toString)
+  }
+}
@@ -0,0 +1,45 @@
+package test.org.asn1gen.runtime
+
+import _root_.org.junit._
+import _root_.org.asn1gen.runtime._
+import _root_.org.junit.Assert._
+
+class TestImmutableBytes {
+  @Test
+  def test_copiesInput(): Unit = {
+    val array = Array[Byte](1, 2, 3)
+    val bytes = ImmutableBytes(array)
+    array(0) = 9
+    assertEquals(1, bytes(0))
+    assertEquals(3, bytes.length)
+  }
+  
+  @Test
+  def test_equalsAndHashCode(): Unit = {
+    val a = AsnOctetString(List[Byte](65, 66, 67))
+    val b = AsnOctetString("ABC")
+    val c = AsnOctetString(ImmutableBytes(Array[Byte](0, 65, 66, 67, 0), 1, 3))
+    assertEquals(a, b)
+    assertEquals(a, c)
+    assertEquals(a.hashCode, c.hashCode)
+    assertFalse(a == AsnOctetString("ABD"))
+    assertEquals("ABC", c.string)
+  }
+  
+  @Test
+  def test_slice(): Unit = {
+    val bytes = ImmutableBytes(Array[Byte](1, 2, 3, 4))
+    assertEquals(ImmutableBytes(Array[Byte](2, 3)), bytes.slice(1, 3))
+    assertEquals(List[Byte](2, 3), bytes.slice(1, 3).toList)
+    assertTrue(bytes.slice(3, 1).isEmpty)
+  }
+  
+  @Test
+  def test_immutableSeq(): Unit = {
+    val seq = ImmutableSeq("a", "b", "c")
+    assertEquals(3, seq.length)
+    assertEquals("b", seq(1))
+    assertEquals(List("a", "b", "c"), seq.toList)
+    assertTrue(ImmutableSeq.empty.isEmpty)
+  }
+}
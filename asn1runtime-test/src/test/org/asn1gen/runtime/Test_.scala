@@ -6,6 +6,8 @@ import org.junit.runners.Suite;
 @RunWith(classOf[Suite])
 @Suite.SuiteClasses(Array
     ( classOf[codec.Test_]
+    , classOf[TestImmutableBits]
+    , classOf[TestImmutableBytes]
     )
 )
 class Test_ {
@@ -187,6 +187,67 @@ class TestBerDecoder {
     }
   }
   
+  @Test
+  def test_readTripleWindow_08(): Unit = {
+    val data = Array[Byte](0, 1, 100, 30, 2, 101, 102)
+    val is = new ByteArrayInputStream(data)
+    val decoder = new BerDecoderReader(is)
+    val window1 = decoder.readTripletWindow()
+    assertEquals(3, window1.length)
+    assertEquals(100, window1(2))
+    val window2 = decoder.readTripletWindow()
+    assertEquals(4, window2.length)
+    assertEquals(30, window2(0))
+    assertEquals(102, window2(3))
+    assertThrows(classOf[EOFException]) {
+      decoder.readTripletWindow()
+    }
+  }
+  
+  @Test
+  def test_readTripleWindow_09(): Unit = {
+    val data = Array[Byte](4, 0x81.toByte, 200.toByte) ++ (0 until 200).map(_.toByte) ++ Array[Byte](5, 0)
+    val is = new ByteArrayInputStream(data) {
+      override def read(buffer: Array[Byte], offset: Int, length: Int): Int =
+        super.read(buffer, offset, length min 7)
+    }
+    val reader = new TripletReader(is, 16)
+    val window = reader.readTripletWindow()
+    assertEquals(203, window.length)
+    assertEquals(199.toByte, window(202))
+    assertEquals(2, reader.readTripletWindow().length)
+    assertTrue(reader.atEnd)
+  }
+  
+  @Test
+  def test_readTripleWindow_10(): Unit = {
+    val data = Array[Byte](4, 0x84.toByte, 0x7f, 0xff.toByte, 0xff.toByte, 0xff.toByte)
+    val reader = new TripletReader(new ByteArrayInputStream(data), 16, 1024)
+    assertThrows(classOf[Exception]) {
+      reader.readTripletWindow()
+    }
+  }
+  
+  @Test
+  def test_readTag_after_readTripletWindow_01(): Unit = {
+    val data = Array[Byte](4, 1, 9, 2, 1, 5)
+    val decoder = new BerDecoderReader(new ByteArrayInputStream(data))
+    assertEquals(3, decoder.readTripletWindow().length)
+    assertEquals(Tag(TagClass.Universal, true, 2), decoder.readTag(new Array[Byte](1)))
+    assertEquals(1, decoder.readLength(new Array[Byte](1)))
+    val window = decoder.readOctetWindow(1)
+    assertEquals(1, window.length)
+    assertEquals(5, window(0))
+  }
+  
+  @Test
+  def test_readTag_01(): Unit = {
+    val data = Array[Byte](0xbf.toByte, 0x81.toByte, 0x00, 0x82.toByte, 0x01, 0x00)
+    val decoder = new BerDecoderReader(new ByteArrayInputStream(data))
+    assertEquals(Tag(TagClass.ContextSpecific, false, 128), decoder.readTag(new Array[Byte](1)))
+    assertEquals(256, decoder.readLength(new Array[Byte](1)))
+  }
+  
   def tag(tc: Int, c: Int, t: Int): Byte = {
     assert(tc < 4)
     assert(c < 2)
@@ -343,4 +404,108 @@ class TestBerDecoder {
       decoder.decode(is, data.length)
     }
   }
+  
+  @Test
+  def test_OnAsnInteger_negativeTrailingByte(): Unit = {
+    val data = Array[Byte](0x01, 0x80.toByte)
+    val is = new DecodingInputStream(new ByteArrayInputStream(data))
+    var recordedValue = -1L
+    OnAsnInteger.value { _ => { recordedValue = _ } }.decode(is, data.length)
+    assertEquals(384L, recordedValue)
+  }
+  
+  @Test
+  def test_OnAsnReal_binary(): Unit = {
+    val data = Array[Byte](0x80.toByte, 0xfe.toByte, 0x03)     // Real: 3 * 2^-2
+    val is = new DecodingInputStream(new ByteArrayInputStream(data))
+    var recordedValue = 0.0
+    OnAsnReal.value { _ => { recordedValue = _ } }.decode(is, data.length)
+    assertEquals(0.75, recordedValue, 0.0)
+  }
+  
+  @Test
+  def test_OnAsnReal_unsignedMantissa(): Unit = {
+    val data = Array[Byte](0xc0.toByte, 0x00) ++ Array.fill[Byte](8)(0xff.toByte)     // Real: -(2^64 - 1)
+    val is = new DecodingInputStream(new ByteArrayInputStream(data))
+    var recordedValue = 0.0
+    OnAsnReal.value { _ => { recordedValue = _ } }.decode(is, data.length)
+    assertEquals(-18446744073709551615.0, recordedValue, 0.0)
+    assertEquals(recordedValue, BerReal.decode(data, 0, data.length), 0.0)
+  }
+  
+  @Test
+  def test_BerReal_largeExponent(): Unit = {
+    val huge = Array[Byte](0xa3.toByte, 0x04, 0x7f, 0xff.toByte, 0xff.toByte, 0xff.toByte, 0x01)
+    assertEquals(Double.PositiveInfinity, BerReal.decode(huge, 0, huge.length), 0.0)
+    val tiny = Array[Byte](0xa3.toByte, 0x04, 0x80.toByte, 0x00, 0x00, 0x00, 0x01)
+    assertEquals(0.0, BerReal.decode(tiny, 0, tiny.length), 0.0)
+  }
+  
+  @Test
+  def test_ComponentReader_skipsUnclaimed(): Unit = {
+    val data = Array[Byte](
+        tag(2, 0, 0), 1, 7,          // Field#0#Integer: 7
+        tag(2, 0, 5), 2, 65, 66,     // Extension addition
+        tag(2, 0, 1), 1, 8)          // Unclaimed trailing component
+    val is = new DecodingInputStream(new ByteArrayInputStream(data))
+    var recordedValue = -1L
+    val decoder = OnAsnInteger.value { _ => { recordedValue = _ } }
+    new Decodable {
+      def decode(is: DecodingInputStream, length: Int): Unit = {
+        decodeComponents(is, length) { components =>
+          components.field(TagClass.ContextSpecific, 0, false) { decoder.decode(is, _) }
+          assertFalse(components.field(TagClass.ContextSpecific, 1, true) { decoder.decode(is, _) })
+        }
+      }
+    }.decode(is, data.length)
+    assertEquals(7L, recordedValue)
+    assertEquals(data.length, is.index)
+  }
+  
+  @Test
+  def test_DecodingInputStream_limits(): Unit = {
+    val data = (0 until 40).map(_.toByte).toArray
+    val is = new DecodingInputStream(new ByteArrayInputStream(data), 0, 16)
+    is.skipFully(14)
+    assertEquals(0x0e0f101112131415L, is.readLongBE(8))
+    val oldLimit = is.pushLimit(4)
+    assertEquals(0x16, is.read())
+    assertThrows(classOf[DecodingException]) {
+      is.readLongBE(4)
+    }
+    assertThrows(classOf[DecodingException]) {
+      is.popLimit(oldLimit)
+    }
+    is.skipFully(3)
+    is.popLimit(oldLimit)
+    assertEquals(26, is.index)
+    assertEquals(0x1a1b1cL, is.readSignedLongBE(3))
+    val negative = new DecodingInputStream(new ByteArrayInputStream(Array[Byte](0xff.toByte, 0x7f)))
+    assertEquals(-129L, negative.readSignedLongBE(2))
+  }
+  
+  @Test
+  def test_decodePackedTriplet(): Unit = {
+    val data = Array[Byte](0xbf.toByte, 0x81.toByte, 0x00, 0x82.toByte, 0x01, 0x00)
+    val is = new DecodingInputStream(new ByteArrayInputStream(data))
+    val header = BerDecoder.decodePackedTriplet(is)
+    assertEquals(TagClass.ContextSpecific, PackedTriplet.tagClass(header))
+    assertTrue(PackedTriplet.constructed(header))
+    assertEquals(128, PackedTriplet.tagType(header))
+    assertEquals(256, PackedTriplet.length(header))
+    assertEquals(Triplet(TagClass.ContextSpecific, true, 128, 256), PackedTriplet.toTriplet(header))
+    assertEquals(header, PackedTriplet.toTriplet(header).packed)
+  }
+  
+  @Test
+  def test_decodePackedTriplet_lengthTooLarge(): Unit = {
+    val unsigned = Array[Byte](0x30, 0x88.toByte) ++ Array.fill[Byte](8)(0xff.toByte)
+    assertThrows(classOf[DecodingException]) {
+      BerDecoder.decodePackedTriplet(new DecodingInputStream(new ByteArrayInputStream(unsigned)))
+    }
+    val wide = Array[Byte](0x30, 0x85.toByte, 0x01, 0x00, 0x00, 0x00, 0x00)
+    assertThrows(classOf[DecodingException]) {
+      BerDecoder.decodePackedTriplet(new DecodingInputStream(new ByteArrayInputStream(wide)))
+    }
+  }
 }
@@ -165,4 +165,49 @@ class  TestBerEncoder extends org.specs2.mutable.SpecificationWithJUnit {
       encoder(Nil) must_== List[Byte](5, 0)
     }
   }
+
+  "Encoder for a 200 byte octet string" >> {
+    val encoder = encode(AsnOctetString(List.fill(200)(0.toByte)))
+
+    "should use a long form length" >> {
+      encoder.toByteArray.toList.take(3) must_== List[Byte](4, 0x81.toByte, 200.toByte)
+    }
+  }
+
+  "Encoder for context tag 40" >> {
+    val encoder = encodeFixed(1).tag(TagClass.ContextSpecific, TagPrimitive, 40)
+
+    "should write to an OutputStream" >> {
+      val out = new ByteArrayOutputStream
+      encoder.writeTo(out)
+      out.toByteArray.toList must_== List[Byte](0x9f.toByte, 40, 1, 1)
+    }
+
+    "should prepend into a ByteBuilder" >> {
+      val builder = new ByteBuilder(4)
+      encodeFixed(2).tagInto(builder, TagClass.ContextSpecific, TagPrimitive, 40)
+      encodeFixed(1).tagInto(builder, TagClass.ContextSpecific, TagPrimitive, 40)
+      builder.toByteArray.toList must_== List[Byte](0x9f.toByte, 40, 1, 1, 0x9f.toByte, 40, 1, 2)
+    }
+  }
+
+  "Encoder for an 11 bit string" >> {
+    val value = AsnBitString(0x7ff, 11)
+
+    "should pad the last octet" >> {
+      val builder = new ByteBuilder(4)
+      encode(builder, value) must_== 5
+      builder.toByteArray.toList must_== List[Byte](3, 3, 5, -1, 0xe0.toByte)
+    }
+  }
+
+  "Encoder for a 72 bit string" >> {
+    val value = ImmutableBits.fromWords(Array(0xdeadbeefdeadbeefL, 0x81L << 56), 72)
+
+    "should encode whole words then the tail" >> {
+      encodeData(value).toByteArray.toList must_== List[Byte](
+          0, 0xde.toByte, 0xad.toByte, 0xbe.toByte, 0xef.toByte,
+          0xde.toByte, 0xad.toByte, 0xbe.toByte, 0xef.toByte, 0x81.toByte)
+    }
+  }
 }
@@ -0,0 +1,64 @@
+package test.org.asn1gen.runtime.codec
+
+import org.asn1gen.runtime._
+import org.asn1gen.runtime.codec._
+import org.junit._
+import org.junit.Assert._
+import test.asn1.genruntime.ExemplarRealiser
+import test.asn1.genruntime.FastExemplarDecoder
+
+class TestFastBerDecoder {
+  object TheDecoder extends FastExemplarDecoder with ExemplarRealiser
+  
+  import TheDecoder._
+  
+  def decode(data: Array[Byte]): MySequence = {
+    val in = new BerCursor(data)
+    mySequence(in, data.length)
+  }
+  
+  @Test
+  def test_mySequence_00(): Unit = {
+    val data = Array[Byte](
+      0x80.toByte, 1, 42,
+      0x81.toByte, 4, 0x83.toByte, 1, 1, 1,
+      0x82.toByte, 3, 'a'.toByte, 'b'.toByte, 'c'.toByte,
+      0x83.toByte, 2, 0x80.toByte, 0
+    )
+    assertEquals((Some(42), 2.0, "abc", test.asn1.genruntime.MyChoice_Choice0(AsnNull)), decode(data))
+  }
+  
+  @Test
+  def test_mySequence_01(): Unit = {
+    val data = Array[Byte](
+      0x80.toByte, 1, 42,
+      0x81.toByte, 4, 0x83.toByte, 1, 1, 1,
+      0x82.toByte, 3, 'a'.toByte, 'b'.toByte, 'c'.toByte,
+      0x83.toByte, 3, 0x81.toByte, 1, 43
+    )
+    assertEquals(
+        (Some(42), 2.0, "abc", test.asn1.genruntime.MyChoice_Choice1(AsnInteger(43))),
+        decode(data))
+  }
+  
+  @Test
+  def test_mySequence_03(): Unit = {
+    val data = Array[Byte](
+      0x81.toByte, 4, 0x83.toByte, 1, 1, 1,
+      0x82.toByte, 3, 'a'.toByte, 'b'.toByte, 'c'.toByte,
+      0x83.toByte, 5, 0x82.toByte, 3, 0x80.toByte, 2, 1
+    )
+    assertEquals(
+        (None, 2.0, "abc", test.asn1.genruntime.MyChoice_Choice2(AsnReal(4.0))),
+        decode(data))
+  }
+  
+  @Test(expected = classOf[DecodingException])
+  def test_mySequence_overrun_01(): Unit = {
+    val data = Array[Byte](
+      0x81.toByte, 4, 0x83.toByte, 1, 1, 1,
+      0x82.toByte, 9, 'a'.toByte, 'b'.toByte, 'c'.toByte
+    )
+    decode(data)
+  }
+}
@@ -0,0 +1,53 @@
+package test.org.asn1gen.scratch
+
+import org.asn1gen.parsing.ByteReader
+import org.asn1gen.runtime.codec._
+import org.junit._
+import test.asn1.genruntime.ExemplarDecoder
+import test.asn1.genruntime.ExemplarRealiser
+import test.asn1.genruntime.FastExemplarDecoder
+
+class TestDecoderPerformance {
+  object PackratDecoder extends ExemplarDecoder with ExemplarRealiser
+  
+  object FastDecoder extends FastExemplarDecoder with ExemplarRealiser
+  
+  val data = Array[Byte](
+    0x80.toByte, 1, 42,
+    0x81.toByte, 4, 0x83.toByte, 1, 1, 1,
+    0x82.toByte, 11, 'h'.toByte, 'e'.toByte, 'l'.toByte, 'l'.toByte, 'o'.toByte, ' '.toByte,
+    'w'.toByte, 'o'.toByte, 'r'.toByte, 'l'.toByte, 'd'.toByte,
+    0x83.toByte, 5, 0x82.toByte, 3, 0x80.toByte, 2, 1
+  )
+  
+  val iterations = 100000
+  
+  def measure(msg: String)(f: => Unit): Unit = {
+    val before = System.currentTimeMillis
+    f
+    val after = System.currentTimeMillis
+    println(msg + ": " + (after - before))
+  }
+  
+  //@Ignore("Don't run expensive test")
+  @Test
+  def test_packrat_01(): Unit = {
+    import PackratDecoder._
+    measure("packrat") {
+      0 until iterations foreach { i =>
+        phrase(mySequence(data.length))(new ByteReader(data))
+      }
+    }
+  }
+  
+  //@Ignore("Don't run expensive test")
+  @Test
+  def test_fast_01(): Unit = {
+    import FastDecoder._
+    measure("fast") {
+      0 until iterations foreach { i =>
+        mySequence(new BerCursor(data), data.length)
+      }
+    }
+  }
+}
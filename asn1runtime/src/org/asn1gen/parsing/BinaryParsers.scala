@@ -47,7 +47,7 @@ trait BinaryParsers extends Parsers with ParsersUtil {
   lazy val u8: Parser[Long] = bytes(8) ^^ toLong
   lazy val u8d: Parser[Double] = u8 ^^ longBitsToDouble
 
-  def bytes(n: Int): Parser[Seq[Byte]] = Parser { in =>
+  def bytes(n: Int): Parser[ByteSlice] = Parser { in =>
      if (n <= in.length) Success(in take n, in drop n)
      else Failure("Requested %d bytes but only %d remain".format(n, in.length), in)
   }
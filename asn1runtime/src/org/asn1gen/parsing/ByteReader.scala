@@ -4,29 +4,78 @@ import scala.util.parsing.combinator._
 import scala.util.parsing.input.{ Position, Reader }
 import scala.util.parsing.input.CharArrayReader.EofCh
 
-class ByteReader(val bytes: Array[Byte], override val offset: Int) extends Reader[Byte] {
-  def this(reader: Reader[_]) = this(reader.source.toString.getBytes, 0)
+class ByteReader(val bytes: Array[Byte], override val offset: Int, val end: Int) extends Reader[Byte] {
+  def this(bytes: Array[Byte], offset: Int) = this(bytes, offset, bytes.length)
+  def this(reader: Reader[_]) = this(ByteReader.bytesOf(reader), 0)
   def this(bytes: Seq[Byte]) = this(bytes.toArray, 0)
   def this(str: String) = this(str.getBytes, 0)
 
-  override def source = bytes map (_.toChar)
+  override lazy val source: java.lang.CharSequence = new ByteCharSequence(bytes, 0, end)
 
   def first: Byte = {
-    if (offset < bytes.length) {
+    if (offset < end) {
       bytes(offset)
     } else {
       throw EofException
     }
   }
-  def rest: ByteReader = if (offset < bytes.length) new ByteReader(bytes, offset + 1) else this
+  def rest: ByteReader = if (offset < end) new ByteReader(bytes, offset + 1, end) else this
   def pos: Position = ByteOffsetPosition(offset)
-  def atEnd = offset >= bytes.length
+  def atEnd = offset >= end
 
   def byteAt(n: Int) = bytes(n)
-  def length = bytes.length - offset
+  def length = end - offset
 
-  override def drop(n: Int): ByteReader = new ByteReader(bytes, offset + n)
-  def take(n: Int): Seq[Byte] = bytes drop offset take n
+  override def drop(n: Int): ByteReader = new ByteReader(bytes, (offset + n) min end, end)
+  def take(n: Int): ByteSlice = new ByteSlice(bytes, offset, (n min length) max 0)
 
-  override def toString = "ByteReader(%d / %d)".format(offset, bytes.length)
+  override def toString = "ByteReader(%d / %d)".format(offset, end)
+}
+
+object ByteReader {
+  def bytesOf(reader: Reader[_]): Array[Byte] = {
+    reader match {
+      case byteReader: ByteReader => {
+        byteReader.take(byteReader.length).toArray
+      }
+      case _ => {
+        val source = reader.source
+        val bytes = new Array[Byte](source.length - reader.offset)
+        var i = 0
+        while (i < bytes.length) {
+          bytes(i) = source.charAt(reader.offset + i).toByte
+          i += 1
+        }
+        bytes
+      }
+    }
+  }
+}
+
+class ByteSlice(val array: Array[Byte], val start: Int, val length: Int)
+    extends scala.collection.immutable.IndexedSeq[Byte] {
+  def apply(index: Int): Byte = {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index.toString)
+    }
+    array(start + index)
+  }
+
+  override def toArray[B >: Byte : ClassManifest]: Array[B] = {
+    val result = new Array[B](length)
+    var i = 0
+    while (i < length) {
+      result(i) = array(start + i)
+      i += 1
+    }
+    result
+  }
+}
+
+class ByteCharSequence(bytes: Array[Byte], start: Int, end: Int) extends java.lang.CharSequence {
+  def length: Int = end - start
+  def charAt(index: Int): Char = (bytes(start + index) & 0xff).toChar
+  def subSequence(from: Int, until: Int): java.lang.CharSequence =
+    new ByteCharSequence(bytes, start + from, start + until)
+  override def toString: String = new String(bytes, start, end - start, "ISO-8859-1")
 }
@@ -2,12 +2,39 @@ package org.asn1gen.runtime
 
 import scala.collection.immutable.BitSet
 
-class AsnBitString(value: BitSet) extends AsnType {
+class AsnBitString(val value: ImmutableBits) extends AsnType {
   override def _desc: meta.AsnBitString = meta.AsnBitString
   
   def _raw = value
+
+  def copy(value: ImmutableBits = this.value) = new AsnBitString(value)
+
+  override def equals(that: Any): Boolean = that match {
+    case that: AsnBitString => this.value == that.value
+    case _ => false
+  }
+
+  override def hashCode(): Int = this.value.hashCode
+
+  def value(f: (ImmutableBits => ImmutableBits)): AsnBitString = this.copy(value = f(this.value))
+
+  def apply(index: Int): Boolean = this.value(index)
+
+  def length: Int = this.value.length
+
+  def cardinality: Int = this.value.cardinality
+
+  def &(that: AsnBitString): AsnBitString = AsnBitString(this.value & that.value)
+
+  def |(that: AsnBitString): AsnBitString = AsnBitString(this.value | that.value)
 }
 
-object AsnBitString extends AsnBitString(BitSet.empty) {
-  def apply(value: BitSet) = if (value.isEmpty) this else new AsnBitString(value)
+object AsnBitString extends AsnBitString(ImmutableBits.empty) {
+  def apply(value: ImmutableBits): AsnBitString = if (value.isEmpty) this else new AsnBitString(value)
+  
+  def apply(value: BitSet): AsnBitString = AsnBitString(ImmutableBits(value))
+  
+  def apply(value: Long, length: Int): AsnBitString = AsnBitString(ImmutableBits.fromLong(value, length))
+
+  def unapply(value: AsnBitString) = Some(value.value)
 }
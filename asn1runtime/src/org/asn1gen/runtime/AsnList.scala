@@ -5,7 +5,7 @@ trait AsnList extends AsnType {
   
   def _raw: this.type = this
 
-  def items: List[Any]
+  def items: scala.collection.immutable.IndexedSeq[Any]
 }
 
 object AsnList {
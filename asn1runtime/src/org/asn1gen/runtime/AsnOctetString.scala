@@ -1,14 +1,11 @@
 package org.asn1gen.runtime
 
-import org.asn1gen.extra.ExtraListOfByte
-import org.asn1gen.extra.Extras._
-
-class AsnOctetString(val value: List[Byte]) extends AsnType {
+class AsnOctetString(val value: ImmutableBytes) extends AsnType {
   override def _desc: meta.AsnOctetString = meta.AsnOctetString
   
   def _raw = value
 
-  def copy(value: List[Byte] = this.value) = new AsnOctetString(value)
+  def copy(value: ImmutableBytes = this.value) = new AsnOctetString(value)
 
   override def equals(that: Any): Boolean = that match {
     case that: AsnOctetString => this.value == that.value
@@ -17,17 +14,21 @@ class AsnOctetString(val value: List[Byte]) extends AsnType {
 
   override def hashCode(): Int = this.value.hashCode
 
-  def value(f: (List[Byte] => List[Byte])): AsnOctetString = this.copy(value = f(this.value))
+  def value(f: (ImmutableBytes => ImmutableBytes)): AsnOctetString = this.copy(value = f(this.value))
 
   def string: String = this.value.string
   
   def length: Int = this.value.length
 }
 
-object AsnOctetString extends AsnOctetString(Nil) {
-  def apply(value: List[Byte]): AsnOctetString = new AsnOctetString(value)
+object AsnOctetString extends AsnOctetString(ImmutableBytes.empty) {
+  def apply(value: ImmutableBytes): AsnOctetString = new AsnOctetString(value)
+  
+  def apply(value: Array[Byte]): AsnOctetString = AsnOctetString(ImmutableBytes(value))
+  
+  def apply(value: List[Byte]): AsnOctetString = AsnOctetString(ImmutableBytes(value))
   
-  def apply(value: String): AsnOctetString = AsnOctetString(value.getBytes.toList)
+  def apply(value: String): AsnOctetString = AsnOctetString(ImmutableBytes.wrap(value.getBytes))
 
   def unapply(value: AsnOctetString) = Some(value.value)
 }
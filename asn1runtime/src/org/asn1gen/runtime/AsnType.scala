@@ -6,6 +6,10 @@ trait AsnType {
   def _child(name: String): Any = {
     throw new Exception("No such field '" + name + "'")
   }
+
+  def _child(index: Int): Any = {
+    throw new Exception("No such field index " + index)
+  }
 }
 
 object AsnType {
@@ -0,0 +1,29 @@
+package org.asn1gen.runtime
+
+/**
+ * Hash combining for generated models.  Each field hash is mixed in with a
+ * MurmurHash3 round and the result is finalised with its avalanche step, so
+ * equal field values no longer cancel and field order matters.  finish never
+ * returns zero, which lets callers use zero to mean "not yet computed".
+ */
+object Hashing {
+  final val Seed = 0x3c074a61
+  
+  def mix(hash: Int, value: Int): Int = {
+    var k = value * 0xcc9e2d51
+    k = Integer.rotateLeft(k, 15) * 0x1b873593
+    Integer.rotateLeft(hash ^ k, 13) * 5 + 0xe6546b64
+  }
+  
+  def mix(hash: Int, value: Any): Int = mix(hash, if (value == null) 0 else value.hashCode)
+  
+  def finish(hash: Int, count: Int): Int = {
+    var h = hash ^ count
+    h ^= h >>> 16
+    h *= 0x85ebca6b
+    h ^= h >>> 13
+    h *= 0xc2b2ae35
+    h ^= h >>> 16
+    if (h == 0) 1 else h
+  }
+}
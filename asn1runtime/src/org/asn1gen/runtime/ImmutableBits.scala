@@ -0,0 +1,219 @@
+package org.asn1gen.runtime
+
+import scala.collection.immutable.BitSet
+
+/**
+ * An immutable bit string of any length packed into 64-bit words in
+ * transmission order: bit 0 is the most significant bit of the first word,
+ * so each word maps directly onto eight encoded octets.  Bits past the end
+ * of the string are always zero, which lets equality, hashing and the bulk
+ * operations work a word at a time.
+ */
+final class ImmutableBits private (
+    private[runtime] val words: Array[Long],
+    val length: Int) {
+  def apply(index: Int): Boolean = {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index.toString)
+    }
+    (words(index >>> 6) << (index & 63)) < 0
+  }
+  
+  def isEmpty: Boolean = length == 0
+  
+  def wordCount: Int = words.length
+  
+  def word(index: Int): Long = words(index)
+  
+  def byteLength: Int = (length + 7) >>> 3
+  
+  def unusedBits: Int = (8 - (length & 7)) & 7
+  
+  def cardinality: Int = {
+    var result = 0
+    var i = 0
+    while (i < words.length) {
+      result += java.lang.Long.bitCount(words(i))
+      i += 1
+    }
+    result
+  }
+  
+  /**
+   * Intersects two bit strings.  The result is as long as the longer operand,
+   * with the shorter one treated as padded with zeros.
+   */
+  def &(that: ImmutableBits): ImmutableBits = {
+    val (longer, shorter) = if (this.length >= that.length) (this, that) else (that, this)
+    val result = new Array[Long](longer.words.length)
+    var i = 0
+    while (i < shorter.words.length) {
+      result(i) = longer.words(i) & shorter.words(i)
+      i += 1
+    }
+    new ImmutableBits(result, longer.length)
+  }
+  
+  /**
+   * Unites two bit strings.  The result is as long as the longer operand,
+   * with the shorter one treated as padded with zeros.
+   */
+  def |(that: ImmutableBits): ImmutableBits = {
+    val (longer, shorter) = if (this.length >= that.length) (this, that) else (that, this)
+    val result = longer.words.clone
+    var i = 0
+    while (i < shorter.words.length) {
+      result(i) |= shorter.words(i)
+      i += 1
+    }
+    new ImmutableBits(result, longer.length)
+  }
+  
+  /**
+   * Writes the byteLength encoded octets into target.
+   */
+  def copyTo(target: Array[Byte], targetOffset: Int): Unit = {
+    val end = targetOffset + byteLength
+    var offset = targetOffset
+    var i = 0
+    while (offset < end) {
+      val word = words(i)
+      var shift = 56
+      while (shift >= 0 && offset < end) {
+        target(offset) = (word >>> shift).toByte
+        offset += 1
+        shift -= 8
+      }
+      i += 1
+    }
+  }
+  
+  def toArray: Array[Byte] = {
+    val result = new Array[Byte](byteLength)
+    copyTo(result, 0)
+    result
+  }
+  
+  def toBitSet: BitSet = {
+    var result = BitSet.empty
+    var i = 0
+    while (i < words.length) {
+      var word = words(i)
+      while (word != 0) {
+        val bit = java.lang.Long.numberOfLeadingZeros(word)
+        result += (i << 6) + bit
+        word &= ~(Long.MinValue >>> bit)
+      }
+      i += 1
+    }
+    result
+  }
+  
+  override def equals(that: Any): Boolean = that match {
+    case that: ImmutableBits =>
+      this.length == that.length && java.util.Arrays.equals(this.words, that.words)
+    case _ => false
+  }
+  
+  override def hashCode: Int = 31 * java.util.Arrays.hashCode(words) + length
+  
+  override def toString: String = {
+    val sb = new StringBuilder(length + 3)
+    sb.append('\'')
+    var i = 0
+    while (i < length) {
+      sb.append(if (apply(i)) '1' else '0')
+      i += 1
+    }
+    sb.append("'B").toString
+  }
+}
+
+object ImmutableBits {
+  val empty: ImmutableBits = new ImmutableBits(new Array[Long](0), 0)
+  
+  private def wordCount(length: Int): Int = (length + 63) >>> 6
+  
+  private def clearTail(words: Array[Long], length: Int): Array[Long] = {
+    val tail = length & 63
+    if (tail != 0) {
+      words(words.length - 1) &= -1L << (64 - tail)
+    }
+    words
+  }
+  
+  /**
+   * Creates a bit string from words laid out in transmission order.  Words
+   * beyond those needed for length bits are ignored and missing words are
+   * taken as zero.
+   */
+  def fromWords(words: Array[Long], length: Int): ImmutableBits = {
+    require(length >= 0, {"Negative bit string length: " + length})
+    if (length == 0) {
+      empty
+    } else {
+      val result = new Array[Long](wordCount(length))
+      System.arraycopy(words, 0, result, 0, result.length min words.length)
+      new ImmutableBits(clearTail(result, length), length)
+    }
+  }
+  
+  /**
+   * Creates a bit string of at most 64 bits from the low length bits of
+   * value, the most significant of which is bit 0.
+   */
+  def fromLong(value: Long, length: Int): ImmutableBits = {
+    require(length >= 0 && length <= 64, {"Bad bit string length for a long: " + length})
+    if (length == 0) empty else new ImmutableBits(Array(value << (64 - length)), length)
+  }
+  
+  /**
+   * Creates a bit string from its encoded form: count octets holding the bits
+   * in transmission order, the last unusedBits of which are padding.
+   */
+  def fromBytes(values: Array[Byte], offset: Int, count: Int, unusedBits: Int): ImmutableBits = {
+    require(unusedBits >= 0 && unusedBits < 8 && (count > 0 || unusedBits == 0),
+        {"Bad unused bit count: " + unusedBits})
+    val length = count * 8 - unusedBits
+    if (length == 0) {
+      empty
+    } else {
+      val words = new Array[Long](wordCount(length))
+      var i = 0
+      while (i < count) {
+        words(i >>> 3) |= (values(offset + i) & 0xffL) << (56 - ((i & 7) << 3))
+        i += 1
+      }
+      new ImmutableBits(clearTail(words, length), length)
+    }
+  }
+  
+  def apply(values: Boolean*): ImmutableBits = {
+    val words = new Array[Long](wordCount(values.length))
+    var i = 0
+    values foreach { value =>
+      if (value) {
+        words(i >>> 6) |= Long.MinValue >>> (i & 63)
+      }
+      i += 1
+    }
+    new ImmutableBits(words, values.length)
+  }
+  
+  /**
+   * Converts a set of bit indices, taking the length to be one past the
+   * highest index.
+   */
+  def apply(value: BitSet): ImmutableBits = {
+    if (value.isEmpty) {
+      empty
+    } else {
+      val length = value.last + 1
+      val words = new Array[Long](wordCount(length))
+      value foreach { index =>
+        words(index >>> 6) |= Long.MinValue >>> (index & 63)
+      }
+      new ImmutableBits(words, length)
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package org.asn1gen.runtime
+
+/**
+ * An immutable run of bytes held in a single array.  The length is stored and
+ * the hash code is computed once, so both are cheap to ask for repeatedly.
+ * The array is never exposed for writing: factories copy their input unless
+ * the caller hands over ownership with wrap.
+ */
+final class ImmutableBytes private (
+    private[runtime] val array: Array[Byte],
+    private[runtime] val offset: Int,
+    val length: Int) {
+  private var hash = 0
+  
+  def apply(index: Int): Byte = {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index.toString)
+    }
+    array(offset + index)
+  }
+  
+  def isEmpty: Boolean = length == 0
+  
+  def foreach[U](f: Byte => U): Unit = {
+    var i = offset
+    val end = offset + length
+    while (i < end) {
+      f(array(i))
+      i += 1
+    }
+  }
+  
+  def slice(from: Int, until: Int): ImmutableBytes = {
+    val start = (from max 0) min length
+    val end = (until max start) min length
+    new ImmutableBytes(array, offset + start, end - start)
+  }
+  
+  def copyTo(target: Array[Byte], targetOffset: Int): Unit =
+    System.arraycopy(array, offset, target, targetOffset, length)
+  
+  def toArray: Array[Byte] = {
+    val result = new Array[Byte](length)
+    copyTo(result, 0)
+    result
+  }
+  
+  def toList: List[Byte] = {
+    var result: List[Byte] = Nil
+    var i = offset + length - 1
+    while (i >= offset) {
+      result = array(i) :: result
+      i -= 1
+    }
+    result
+  }
+  
+  def string: String = new String(array, offset, length)
+  
+  override def equals(that: Any): Boolean = that match {
+    case that: ImmutableBytes => {
+      if (this eq that) {
+        true
+      } else if (this.length != that.length || this.hashCode != that.hashCode) {
+        false
+      } else {
+        var i = 0
+        while (i < length && this.array(this.offset + i) == that.array(that.offset + i)) {
+          i += 1
+        }
+        i == length
+      }
+    }
+    case _ => false
+  }
+  
+  override def hashCode: Int = {
+    var h = hash
+    if (h == 0) {
+      h = 1
+      var i = offset
+      val end = offset + length
+      while (i < end) {
+        h = 31 * h + array(i)
+        i += 1
+      }
+      if (h == 0) {
+        h = 1
+      }
+      hash = h
+    }
+    h
+  }
+  
+  override def toString: String = toList.mkString("ImmutableBytes(", ", ", ")")
+}
+
+object ImmutableBytes {
+  val empty: ImmutableBytes = new ImmutableBytes(new Array[Byte](0), 0, 0)
+  
+  def apply(values: Array[Byte], offset: Int, length: Int): ImmutableBytes = {
+    if (length == 0) {
+      empty
+    } else {
+      val array = new Array[Byte](length)
+      System.arraycopy(values, offset, array, 0, length)
+      new ImmutableBytes(array, 0, length)
+    }
+  }
+  
+  def apply(values: Array[Byte]): ImmutableBytes = apply(values, 0, values.length)
+  
+  def apply(values: List[Byte]): ImmutableBytes = {
+    if (values.isEmpty) empty else wrap(values.toArray)
+  }
+  
+  def apply(values: Byte*): ImmutableBytes = wrap(values.toArray)
+  
+  /**
+   * Takes ownership of the array without copying it.  The caller must not
+   * modify the array afterwards.
+   */
+  def wrap(values: Array[Byte]): ImmutableBytes = new ImmutableBytes(values, 0, values.length)
+}
@@ -0,0 +1,30 @@
+package org.asn1gen.runtime
+
+import scala.collection.immutable
+
+/**
+ * An immutable indexed sequence held in a single array, for the items of
+ * SET OF and SEQUENCE OF values.  Indexing and length are constant time and
+ * each item costs one array slot rather than a list cell.
+ */
+final class ImmutableSeq[+A] private (private val items: Array[Any]) extends immutable.IndexedSeq[A] {
+  def apply(index: Int): A = items(index).asInstanceOf[A]
+  
+  def length: Int = items.length
+}
+
+object ImmutableSeq {
+  val empty: ImmutableSeq[Nothing] = new ImmutableSeq[Nothing](new Array[Any](0))
+  
+  def apply[A](items: A*): ImmutableSeq[A] = fromSeq(items)
+  
+  def fromSeq[A](items: Iterable[A]): ImmutableSeq[A] = {
+    if (items.isEmpty) {
+      empty
+    } else {
+      val array = new Array[Any](items.size)
+      items.copyToArray(array, 0)
+      new ImmutableSeq[A](array)
+    }
+  }
+}
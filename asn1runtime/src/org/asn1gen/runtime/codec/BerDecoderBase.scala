@@ -9,89 +9,89 @@ trait BerDecoderBase {
   import org.asn1gen.extra.Extras._
   
   def decode(is: DecodingInputStream, template: AsnBoolean): AsnBoolean = {
-    val triplet = decodeTriplet(is)
-    assert(triplet.describes(template))
-    is.span(triplet.length) {
-      val value = is.readByte
-      AsnBoolean(value != 0)
-    }
+    val header = decodePackedTriplet(is)
+    assert(PackedTriplet.describes(header, template))
+    val oldLimit = is.pushLimit(PackedTriplet.length(header))
+    val value = is.readByte
+    is.popLimit(oldLimit)
+    AsnBoolean(value != 0)
   }
   
   def decode(is: DecodingInputStream, template: AsnNull): AsnNull = {
-    val triplet = decodeTriplet(is)
-    assert(triplet.describes(template))
-    is.span(triplet.length) {
-      AsnNull
-    }
+    val header = decodePackedTriplet(is)
+    assert(PackedTriplet.describes(header, template))
+    is.popLimit(is.pushLimit(PackedTriplet.length(header)))
+    AsnNull
   }
   
   def decode(is: DecodingInputStream, template: AsnInteger): AsnInteger = {
-    val triplet = decodeTriplet(is)
-    assert(triplet.describes(template))
-    is.span(triplet.length) {
-      val buffer = new Array[Byte](triplet.length)
-      is.read(buffer)
-      var value: Long = if (buffer(0) > 0) 0 else -1
-      buffer foreach { byte =>
-        value = (value << 8) | byte
-      }
-      AsnInteger(value)
-    }
+    val header = decodePackedTriplet(is)
+    assert(PackedTriplet.describes(header, template))
+    val length = PackedTriplet.length(header)
+    val oldLimit = is.pushLimit(length)
+    val value = is.readSignedLongBE(length)
+    is.popLimit(oldLimit)
+    AsnInteger(value)
   }
   
   final def decodeSequence[T <: AsnSequence](is: DecodingInputStream, template: T)(f: Int => T): T = {
-    val triplet = decodeTriplet(is)
-    assert(triplet.describes(template))
+    val header = decodePackedTriplet(is)
+    assert(PackedTriplet.describes(header, template))
     f(0)
   }
   
   def decodeSequenceField[T](is: DecodingInputStream, tag: Int)(f: Int => T): T = {
-    val triplet = decodeTriplet(is)
+    decodePackedTriplet(is)
     return f(0)
   }
   
-  def decodeTriplet[T](is: DecodingInputStream): Triplet = {
+  def decodeTriplet[T](is: DecodingInputStream): Triplet =
+    PackedTriplet.toTriplet(decodePackedTriplet(is))
+  
+  /**
+   * Reads a triplet header without allocating.  See PackedTriplet for the
+   * layout of the result.
+   */
+  def decodePackedTriplet(is: DecodingInputStream): Long = {
     // Read tag bytes
-    var firstTagByte = is.readByte
-    val tagClass = ((firstTagByte >> 6) & 0x3) match {
-      case 0 => TagClass.Universal
-      case 1 => TagClass.Application
-      case 2 => TagClass.ContextSpecific
-      case 3 => TagClass.Private
-    }
+    val firstTagByte = is.read()
+    val tagClassValue = (firstTagByte >> 6) & 0x3
     val tagConstructed = (firstTagByte & 0x20) != 0
     var tagValue = firstTagByte & 0x1f
     
     if (tagValue == 31) {
-      var tagByte = is.readByte
-      while (tagByte definesBit 7) {
+      var tagByte = is.read()
+      tagValue = tagByte & 0x7f
+      while ((tagByte & 0x80) != 0) {
+        if (tagValue > (PackedTriplet.MaxTagType >> 7)) {
+          throw new DecodingException("Tag number too large at index " + is.index)
+        }
+        tagByte = is.read()
         tagValue = (tagValue << 7) | (tagByte & 0x7f)
-        tagByte = is.readByte
       }
     }
     
     // Read length bytes
-    val lengthByte = is.readByte
+    val lengthByte = is.read()
     val length = (
-      if (lengthByte definesBit 7) {
+      if ((lengthByte & 0x80) != 0) {
         val lengthSize = lengthByte & 0x7f
         if (lengthSize == 0) {
           throw new Exception("Indefinite length currently not supported")
         }
         
-        var partialLength = 0
-        (0 until lengthSize) foreach { i =>
-          partialLength = partialLength << 8
-          partialLength += is.readByte
+        val partialLength = is.readLongBE(lengthSize)
+        if (partialLength < 0 || partialLength > Int.MaxValue) {
+          throw new DecodingException("Length " + partialLength + " currently not supported")
         }
         
-        partialLength
+        partialLength.toInt
       } else {
         lengthByte
       }
     )
     
-    Triplet(tagClass, tagConstructed, tagValue, length)
+    PackedTriplet(tagClassValue, tagConstructed, tagValue, length)
   }
 }
 
@@ -7,34 +7,69 @@ import scala.collection.immutable._
 
 trait BerEncoder {
   class Tagger(val data: ByteStreamer) {
-    private def encodeTagLength(number: Long): ByteStreamer = {
-      import ByteStreamer._
-      if (number < 0x80) {
-        byte(number)
-      } else {
-        encodeTagLength(number >> 7) :::byte((number & 0x7f) | 0x80)
-      }
-    }
-    
     def tag(
         tagClass: TagClass,
         tagConstruction: TagConstruction,
         tagNumber: Long): ByteStreamer = {
-      import ByteStreamer._
-      assert(tagNumber >= 0)
-      val length = data.length
-      if (tagNumber < 31) {
-        val tagByte = tagClass.bits | tagConstruction.bits | tagNumber
-        byte(tagByte) ::: byte(length) ::: data
-      } else {
-        val tagByte = tagClass.bits | tagConstruction.bits | 31
-        byte(tagByte) ::: encodeTagLength(tagNumber) ::: byte(length) ::: data
-      }
+      val header = new ByteBuilder(16)
+      prependLength(header, data.length)
+      prependTag(header, tagClass, tagConstruction, tagNumber)
+      header.toByteStreamer ::: data
+    }
+    
+    def tagInto(
+        builder: ByteBuilder,
+        tagClass: TagClass,
+        tagConstruction: TagConstruction,
+        tagNumber: Long): ByteBuilder = {
+      builder.prepend(data)
+      prependLength(builder, data.length)
+      prependTag(builder, tagClass, tagConstruction, tagNumber)
     }
   }
 
   implicit def byteStreamer2Tagger(data: ByteStreamer): Tagger = new Tagger(data)
 
+  def prependTag(
+      builder: ByteBuilder,
+      tagClass: TagClass,
+      tagConstruction: TagConstruction,
+      tagNumber: Long): ByteBuilder = {
+    assert(tagNumber >= 0)
+    if (tagNumber < 31) {
+      builder.prepend((tagClass.bits | tagConstruction.bits | tagNumber).toInt)
+    } else {
+      var remainder = tagNumber >> 7
+      builder.prepend((tagNumber & 0x7f).toInt)
+      while (remainder != 0) {
+        builder.prepend(((remainder & 0x7f) | 0x80).toInt)
+        remainder >>= 7
+      }
+      builder.prepend(tagClass.bits | tagConstruction.bits | 31)
+    }
+  }
+  
+  def prependLength(builder: ByteBuilder, value: Int): ByteBuilder = {
+    if (value < 0) {
+      throw new EncodingException("length may not be negative")
+    } else if (value < 128) {
+      builder.prepend(value)
+    } else {
+      val lengthLength = (39 - java.lang.Integer.numberOfLeadingZeros(value)) / 8
+      builder.prependFixed(value, lengthLength).prepend(0x80 | lengthLength)
+    }
+  }
+  
+  private def signedLength(value: Long): Int = {
+    var count = 1
+    var remainder = value >> 7
+    while (remainder != 0 && remainder != -1) {
+      count += 1
+      remainder >>= 8
+    }
+    count
+  }
+
   def encodeTagType(tagType: Int): ByteStreamer = {
     if (tagType < 0x80) {
       ByteStreamer.byte(tagType)
@@ -57,27 +92,11 @@ trait BerEncoder {
   }
   
   def encodeFixedMore(value: Long): ByteStreamer = {
-    if (value == 0) {
-      ByteStreamer.byte(0x00)
-    } else if (value == -1) {
-      ByteStreamer.byte(0xff)
-    } else {
-      if ((value & 0xffffffffffffff80L) == 0) {
-        ByteStreamer.byte((value & 0xff).toInt)
-      } else if ((value & 0xffffffffffffff80L) == 0xffffffffffffff80L) {
-        ByteStreamer.byte((value & 0xff).toInt)
-      } else {
-        encodeFixedMore(value >> 8) ::: ByteStreamer.byte((value & 0xff).toInt)
-      }
-    }
+    ByteStreamer.fixed(value, signedLength(value))
   }
   
   def encodeFixed(value: Long): ByteStreamer = {
-    if (value == -1L) {
-      ByteStreamer.byte(0xff)
-    } else {
-      encodeFixedMore(value)
-    }
+    ByteStreamer.fixed(value, signedLength(value))
   }
   
   def encodeRaw(value: String): ByteStreamer = {
@@ -85,13 +104,7 @@ trait BerEncoder {
   }
   
   def encodeLengthMore(value: Int): ByteStreamer = {
-    if (value == 0) {
-      ByteStreamer.nil
-    } else if (value >= 256) {
-      encodeLengthMore(value >> 8) ::: ByteStreamer.byte(value & 0xff)
-    } else {
-      ByteStreamer.byte(value & 0xff)
-    }
+    ByteStreamer.fixed(value, (39 - java.lang.Integer.numberOfLeadingZeros(value)) / 8)
   }
   
   def encodeLength(value: Int): ByteStreamer = {
@@ -181,16 +194,7 @@ trait BerEncoder {
    *  The encoded data.
    */
   def encodeData(value: Long): ByteStreamer = {
-    val leader = value >> 7
-    if (leader == -1 || leader == 0) {
-      ByteStreamer.byte(value.toInt)
-    } else {
-      // The value is greater than a byte so must encode the last byte and
-      // the remainder separately.
-      val lastByte = ByteStreamer.byte((value & 0xff).toInt)
-      val remainder = encodeData(value >> 8)
-      remainder ::: lastByte
-    }
+    ByteStreamer.fixed(value, signedLength(value))
   }
 
   /**
@@ -203,7 +207,7 @@ trait BerEncoder {
   def encode(value: Long): ByteStreamer = {
     val tag = ByteStreamer.byte(2)
     val data = encodeData(value)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
   
@@ -245,7 +249,7 @@ trait BerEncoder {
   def encode(value: Double): ByteStreamer = {
     val tag = ByteStreamer.byte(9)
     val data = encodeData(value)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
   
@@ -256,18 +260,19 @@ trait BerEncoder {
    * @return
    *  The encoded data.
    */
-  def encodeData(value: BitSet): ByteStreamer = {
-    val hello = BigDecimal(0)
-    val buffer = new Array[Byte](((value.size - 1) / 8) + 1)
-    val padding = 8 - (value.size % 8)
-    value.foreach { index =>
-      val paddedIndex = index + padding
-      val bufferIndex = paddedIndex / 8
-      val byteIndex = paddedIndex % 8
-      val mask = 0x1 << paddedIndex % 8
-      buffer(bufferIndex) = (buffer(bufferIndex) | mask).toByte
+  def encodeData(value: BitSet): ByteStreamer = encodeData(ImmutableBits(value))
+  
+  /**
+   * Encode the data part of a bit string value.
+   * @param value
+   *  The value to encode.
+   * @return
+   *  The encoded data.
+   */
+  def encodeData(value: ImmutableBits): ByteStreamer = {
+    new ByteStreamer(value.byteLength + 1) {
+      def prependTo(builder: ByteBuilder): Unit = prependBits(builder, value)
     }
-    ByteStreamer.byte(padding) ::: ByteStreamer.bytes(buffer)
   }
   
   /**
@@ -280,7 +285,7 @@ trait BerEncoder {
   def encode(value: BitSet): ByteStreamer = {
     val tag = ByteStreamer.byte(3)
     val data = encodeData(value)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
   
@@ -307,7 +312,7 @@ trait BerEncoder {
   def encode(value: AsnUtf8String): ByteStreamer = {
     val tag = ByteStreamer.byte(12)
     val data = encodeData(value)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
   
@@ -319,9 +324,8 @@ trait BerEncoder {
    *  The encoded data.
    */
   def encodeData(value: AsnOctetString): ByteStreamer = {
-    val utf8CharSet = java.nio.charset.Charset.forName("UTF-8")
     val bytes = value.value
-    ByteStreamer.bytes(bytes)
+    ByteStreamer.bytes(bytes.array, bytes.offset, bytes.length)
   }
 
   /**
@@ -334,31 +338,185 @@ trait BerEncoder {
   def encode(value: AsnOctetString): ByteStreamer = {
     val tag = ByteStreamer.byte(4)
     val data = encodeData(value)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
   
-  def encodeData(value: AsnBoolean): ByteStreamer = encode(value.value)
+  def encodeData(value: AsnBoolean): ByteStreamer = encodeData(value.value)
 
   def encode(value: AsnBoolean): ByteStreamer = encode(value.value)
   
-  def encodeData(value: AsnInteger): ByteStreamer = encode(value.value)
+  def encodeData(value: AsnInteger): ByteStreamer = encodeData(value.value)
 
   def encode(value: AsnInteger): ByteStreamer = encode(value.value)
   
-  def encodeData(value: AsnReal): ByteStreamer = encode(value.value)
+  def encodeData(value: AsnReal): ByteStreamer = encodeData(value.value)
 
   def encode(value: AsnReal): ByteStreamer = encode(value.value)
   
-  def encodeData(value: AsnEnumeration): ByteStreamer = encode(value._value)
+  def encodeData(value: AsnEnumeration): ByteStreamer = encodeData(value._value)
 
-  def encode(value: AsnEnumeration): ByteStreamer = encode(value._value)
+  def encode(value: AsnEnumeration): ByteStreamer = {
+    val tag = ByteStreamer.byte(10)
+    val data = encodeData(value._value)
+    val length = encodeLength(data.length)
+    tag ::: length ::: data
+  }
   
   def encodeSequence(data: ByteStreamer) = {
     val tag = ByteStreamer.byte(0x20 | 0x10)
-    val length = ByteStreamer.byte(data.length)
+    val length = encodeLength(data.length)
     tag ::: length ::: data
   }
+  
+  ///////
+  // Sink encoders.  These prepend to a ByteBuilder, so constructed values
+  // are written last component first, and return the number of bytes
+  // written.
+  ///////
+  
+  def encodeHeader(
+      out: ByteBuilder,
+      tagClass: TagClass,
+      tagConstruction: TagConstruction,
+      tagNumber: Long,
+      length: Int): Int = {
+    val start = out.length - length
+    prependLength(out, length)
+    prependTag(out, tagClass, tagConstruction, tagNumber)
+    out.length - start
+  }
+  
+  private def encodeUniversal(out: ByteBuilder, tagNumber: Int, length: Int): Int =
+    encodeHeader(out, TagClass.Universal, TagPrimitive, tagNumber, length)
+  
+  def encodeData(out: ByteBuilder, value: Boolean): Int = {
+    out.prepend(if (value) 0xff else 0)
+    1
+  }
+  
+  def encode(out: ByteBuilder, value: Boolean): Int =
+    encodeUniversal(out, 1, encodeData(out, value))
+  
+  def encodeData(out: ByteBuilder, value: AsnBoolean): Int = encodeData(out, value.value)
+  
+  def encode(out: ByteBuilder, value: AsnBoolean): Int = encode(out, value.value)
+  
+  def encodeData(out: ByteBuilder, value: AsnNull): Int = 0
+  
+  def encode(out: ByteBuilder, value: AsnNull): Int = encodeUniversal(out, 5, 0)
+  
+  def encodeData(out: ByteBuilder, value: Long): Int = {
+    val length = signedLength(value)
+    out.prependFixed(value, length)
+    length
+  }
+  
+  def encode(out: ByteBuilder, value: Long): Int =
+    encodeUniversal(out, 2, encodeData(out, value))
+  
+  def encodeData(out: ByteBuilder, value: AsnInteger): Int = encodeData(out, value.value)
+  
+  def encode(out: ByteBuilder, value: AsnInteger): Int = encode(out, value.value)
+  
+  def encodeData(out: ByteBuilder, value: AsnEnumeration): Int = encodeData(out, value._value)
+  
+  def encode(out: ByteBuilder, value: AsnEnumeration): Int =
+    encodeUniversal(out, 10, encodeData(out, value._value))
+  
+  def encodeData(out: ByteBuilder, value: Double): Int = {
+    if (value.isPosInfinity) {
+      out.prepend(0x40)
+      1
+    } else if (value.isNegInfinity) {
+      out.prepend(0x41)
+      1
+    } else if (value.isNaN) {
+      out.prepend(0x42)
+      1
+    } else if (value == 0.0) {
+      if (1.0 / value < 0) {
+        out.prepend(0x43)
+        1
+      } else {
+        0
+      }
+    } else {
+      val rawValue = java.lang.Double.doubleToLongBits(value)
+      val biasedExponent = ((rawValue >> 52) & 0x7ff).toInt
+      val fraction = rawValue & 0x000fffffffffffffL
+      val significand = if (biasedExponent == 0) fraction else fraction | 0x0010000000000000L
+      val shift = java.lang.Long.numberOfTrailingZeros(significand)
+      val mantissa = significand >>> shift
+      val exponent = (biasedExponent max 1) - 1075 + shift
+      val mantissaLength = (71 - java.lang.Long.numberOfLeadingZeros(mantissa)) / 8
+      val exponentLength = signedLength(exponent)
+      out.prependFixed(mantissa, mantissaLength)
+      out.prependFixed(exponent, exponentLength)
+      out.prepend(0x80 | (if (rawValue < 0) 0x40 else 0) | (exponentLength - 1))
+      1 + exponentLength + mantissaLength
+    }
+  }
+  
+  def encode(out: ByteBuilder, value: Double): Int =
+    encodeUniversal(out, 9, encodeData(out, value))
+  
+  def encodeData(out: ByteBuilder, value: AsnReal): Int = encodeData(out, value.value)
+  
+  def encode(out: ByteBuilder, value: AsnReal): Int = encode(out, value.value)
+  
+  def encodeData(out: ByteBuilder, value: AsnBitString): Int = prependBits(out, value.value)
+  
+  /**
+   * Prepends the unused bit count and packed bits a whole word at a time,
+   * starting with the partial last word.
+   */
+  def prependBits(out: ByteBuilder, value: ImmutableBits): Int = {
+    val byteLength = value.byteLength
+    val wholeWords = byteLength >>> 3
+    val tailBytes = byteLength & 7
+    if (tailBytes != 0) {
+      out.prependFixed(value.word(wholeWords) >>> ((8 - tailBytes) << 3), tailBytes)
+    }
+    var i = wholeWords - 1
+    while (i >= 0) {
+      out.prependFixed(value.word(i), 8)
+      i -= 1
+    }
+    out.prepend(value.unusedBits)
+    byteLength + 1
+  }
+  
+  def encode(out: ByteBuilder, value: AsnBitString): Int =
+    encodeUniversal(out, 3, encodeData(out, value))
+  
+  def encodeData(out: ByteBuilder, value: AsnOctetString): Int = {
+    val bytes = value.value
+    out.prepend(bytes.array, bytes.offset, bytes.length)
+    bytes.length
+  }
+  
+  def encode(out: ByteBuilder, value: AsnOctetString): Int =
+    encodeUniversal(out, 4, encodeData(out, value))
+  
+  def encodeStringData(out: ByteBuilder, value: String, tagNumber: Int): Int = {
+    val charset = tagNumber match {
+      case 12 => "UTF-8"
+      case 28 => "UTF-32BE"
+      case 30 => "UTF-16BE"
+      case _ => "ISO-8859-1"
+    }
+    val bytes = value.getBytes(charset)
+    out.prepend(bytes)
+    bytes.length
+  }
+  
+  def encodeString(out: ByteBuilder, value: String, tagNumber: Int): Int =
+    encodeUniversal(out, tagNumber, encodeStringData(out, value, tagNumber))
+  
+  def encodeData(out: ByteBuilder, value: AsnUtf8String): Int = encodeStringData(out, value.value, 12)
+  
+  def encode(out: ByteBuilder, value: AsnUtf8String): Int = encodeString(out, value.value, 12)
 }
 
 object BerEncoder extends BerEncoder
@@ -0,0 +1,85 @@
+package org.asn1gen.runtime.codec
+
+/**
+ * Decodes the contents octets of a REAL.  FastBerDecoder and the async
+ * OnAsnReal handler both decode through here, so they accept the same
+ * encodings.  Offsets in error messages are relative to array.
+ */
+object BerReal {
+  def decode(array: Array[Byte], start: Int, length: Int): Double = {
+    if (length == 0) {
+      0.0
+    } else {
+      val spec = array(start) & 0xff
+      if ((spec & 0x80) != 0) {
+        binary(array, start, length, spec)
+      } else if ((spec & 0x40) != 0) {
+        if (length != 1) {
+          throw new DecodingException("Invalid special real value length at offset " + start)
+        }
+        spec match {
+          case 0x40 => Double.PositiveInfinity
+          case 0x41 => Double.NegativeInfinity
+          case 0x42 => Double.NaN
+          case 0x43 => -0.0
+          case _ => throw new DecodingException("Unknown special real value at offset " + start)
+        }
+      } else {
+        try {
+          java.lang.Double.parseDouble(new String(array, start + 1, length - 1, "ISO-8859-1").trim.replace(',', '.'))
+        } catch {
+          case e: NumberFormatException =>
+            throw new DecodingException("Not a valid NR encoding at offset " + start, e)
+        }
+      }
+    }
+  }
+
+  private def binary(array: Array[Byte], start: Int, length: Int, spec: Int): Double = {
+    val end = start + length
+    var offset = start + 1
+    var exponentLength = (spec & 0x3) + 1
+    if (exponentLength == 4) {
+      if (offset >= end) {
+        throw new DecodingException("Truncated real exponent at offset " + start)
+      }
+      exponentLength = array(offset) & 0xff
+      offset += 1
+    }
+    val mantissaLength = end - offset - exponentLength
+    if (exponentLength < 1 || exponentLength > 4 || mantissaLength < 1 || mantissaLength > 8) {
+      throw new DecodingException("Unsupported real encoding at offset " + start)
+    }
+    var exponent = array(offset).toInt
+    var i = 1
+    while (i < exponentLength) {
+      exponent = (exponent << 8) | (array(offset + i) & 0xff)
+      i += 1
+    }
+    offset += exponentLength
+    var mantissa = 0L
+    while (offset < end) {
+      mantissa = (mantissa << 8) | (array(offset) & 0xff)
+      offset += 1
+    }
+    val baseBits = ((spec >> 4) & 0x3) match {
+      case 0 => 1
+      case 1 => 3
+      case 2 => 4
+      case _ => throw new DecodingException("Reserved real base at offset " + start)
+    }
+    // A mantissa below 2^64 overflows or underflows well inside this range,
+    // so clamping keeps the scale in an Int without changing the result.
+    val scale = (exponent.toLong * baseBits + ((spec >> 2) & 0x3)) max -2200L min 2200L
+    val magnitude = java.lang.Math.scalb(unsignedToDouble(mantissa), scale.toInt)
+    if ((spec & 0x40) != 0) -magnitude else magnitude
+  }
+
+  /**
+   * Converts the eight octets of mantissa, read as unsigned, to the nearest
+   * Double.  Halving keeps the top bit clear of the sign, and folding in the
+   * dropped bit keeps the rounding of the full value.
+   */
+  def unsignedToDouble(mantissa: Long): Double =
+    if (mantissa >= 0) mantissa.toDouble else ((mantissa >>> 1) | (mantissa & 1)).toDouble * 2.0
+}
@@ -3,37 +3,188 @@ package org.asn1gen.runtime.codec
 import java.io.InputStream
 import java.io.EOFException
 
-class DecodingInputStream(private val _is: InputStream, private var _index: Int = 0) extends InputStream {
+/**
+ * Buffers the underlying stream and tracks the index of the next byte to be
+ * decoded.  Nested values are bounded with pushLimit and popLimit rather than
+ * closures; reading past the innermost limit is a decoding error.  Because
+ * bytes are read ahead in bulk, the underlying stream should not be read
+ * directly while this stream is in use.
+ */
+class DecodingInputStream(
+    private val _is: InputStream,
+    private var _index: Int = 0,
+    bufferSize: Int = 4096) extends InputStream {
+  private val buffer = new Array[Byte](bufferSize max 16)
+  private var position = 0
+  private var count = 0
+  private var _limit = Int.MaxValue
+
   def index: Int = _index
-  
+
+  def limit: Int = _limit
+
+  def remaining: Int = _limit - _index
+
+  def atLimit: Boolean = _index >= _limit
+
+  /**
+   * Bounds further reads to the next length bytes and returns the previous
+   * limit, which must be handed back to popLimit.
+   */
+  def pushLimit(length: Int): Int = {
+    if (length < 0 || length > remaining) {
+      throw new DecodingException("Length " + length + " overruns enclosing value at index " + _index)
+    }
+    val oldLimit = _limit
+    _limit = _index + length
+    oldLimit
+  }
+
+  def popLimit(oldLimit: Int): Unit = {
+    if (_index != _limit) {
+      throw new DecodingException("Value ended at index " + _index + " instead of " + _limit)
+    }
+    _limit = oldLimit
+  }
+
   def read(): Int = {
-    val result = _is.read
-    if (result == -1) {
+    if (_index >= _limit) {
+      throw new DecodingException("Read beyond end of value at index " + _index)
+    }
+    if (position >= count && !refill()) {
       throw new EOFException
     }
+    val result = buffer(position) & 0xff
+    position += 1
     _index += 1
     return result
   }
-  
+
   def readByte(): Byte = {
     read.toByte
   }
-  
-  def span[T](length: Int)(f: => T): T = {
-    val newIndex = _index + length
-    try {
-      f
-    } finally {
-      assert(_index == newIndex)
+
+  override def read(bytes: Array[Byte], offset: Int, length: Int): Int = {
+    val wanted = length min remaining
+    if (length == 0) {
+      0
+    } else if (wanted <= 0 || (position >= count && !refill())) {
+      -1
+    } else {
+      val copied = wanted min (count - position)
+      System.arraycopy(buffer, position, bytes, offset, copied)
+      position += copied
+      _index += copied
+      copied
     }
   }
-  
+
+  def readFully(bytes: Array[Byte], offset: Int, length: Int): Unit = {
+    var done = 0
+    while (done < length) {
+      val bytesRead = read(bytes, offset + done, length - done)
+      if (bytesRead == -1) {
+        if (atLimit) {
+          throw new DecodingException("Read beyond end of value at index " + _index)
+        }
+        throw new EOFException
+      }
+      done += bytesRead
+    }
+  }
+
+  def readFully(bytes: Array[Byte]): Unit = readFully(bytes, 0, bytes.length)
+
+  /**
+   * Reads length bytes, at most 8, as an unsigned big-endian number.
+   */
+  def readLongBE(length: Int): Long = {
+    if (length < 0 || length > 8) {
+      throw new DecodingException("Cannot read " + length + " bytes into a long")
+    }
+    if (length > remaining) {
+      throw new DecodingException("Read beyond end of value at index " + _index)
+    }
+    var value = 0L
+    if (count - position >= length) {
+      var i = position
+      val end = position + length
+      while (i < end) {
+        value = (value << 8) | (buffer(i) & 0xff)
+        i += 1
+      }
+      position = end
+      _index += length
+    } else {
+      var i = 0
+      while (i < length) {
+        value = (value << 8) | read()
+        i += 1
+      }
+    }
+    value
+  }
+
+  /**
+   * Reads length bytes, 1 to 8, as a signed two's complement big-endian number.
+   */
+  def readSignedLongBE(length: Int): Long = {
+    if (length < 1) {
+      throw new DecodingException("Cannot read " + length + " bytes into a signed long")
+    }
+    val shift = 64 - 8 * length
+    (readLongBE(length) << shift) >> shift
+  }
+
+  override def skip(length: Long): Long = {
+    val wanted = length min remaining.toLong
+    var skipped = 0L
+    while (skipped < wanted && (position < count || refill())) {
+      val step = (wanted - skipped) min (count - position).toLong
+      position += step.toInt
+      skipped += step
+    }
+    _index += skipped.toInt
+    skipped
+  }
+
+  def skipFully(length: Int): Unit = {
+    if (length > remaining) {
+      throw new DecodingException("Read beyond end of value at index " + _index)
+    }
+    if (skip(length) != length) {
+      throw new EOFException
+    }
+  }
+
+  override def available: Int = (count - position) min remaining
+
+  def span[T](length: Int)(f: => T): T = {
+    val oldLimit = pushLimit(length)
+    val result = f
+    popLimit(oldLimit)
+    result
+  }
+
   def spanComponent[T](length: Int)(f: (() => Boolean) => T): T = {
-    val newIndex = _index + length
-    try {
-      f(() => _index < newIndex)
-    } finally {
-      assert(_index == newIndex)
+    val oldLimit = pushLimit(length)
+    val result = f(() => _index < _limit)
+    popLimit(oldLimit)
+    result
+  }
+
+  private def refill(): Boolean = {
+    position = 0
+    count = 0
+    var bytesRead = 0
+    while (bytesRead == 0) {
+      bytesRead = _is.read(buffer, 0, buffer.length)
+    }
+    if (bytesRead > 0) {
+      count = bytesRead
+      true
+    } else {
+      false
     }
   }
 }
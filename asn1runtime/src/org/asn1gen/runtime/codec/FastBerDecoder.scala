@@ -0,0 +1,178 @@
+package org.asn1gen.runtime.codec
+
+final class BerCursor(val array: Array[Byte], var offset: Int, val end: Int) {
+  var headerStart: Int = offset
+  var tagClass: TagClass = TagClass.Universal
+  var tagConstructed: Boolean = false
+  var tagType: Int = -1
+  var length: Int = 0
+
+  def this(array: Array[Byte]) = this(array, 0, array.length)
+
+  def hasMore(limit: Int): Boolean = offset < limit
+
+  def unread(): Unit = offset = headerStart
+
+  def readHeader(limit: Int): Unit = {
+    headerStart = offset
+    if (offset >= limit) {
+      throw new DecodingException("Unexpected end of data at offset " + offset)
+    }
+    val firstTagByte = array(offset) & 0xff
+    offset += 1
+    tagClass = (firstTagByte >> 6) match {
+      case 0 => TagClass.Universal
+      case 1 => TagClass.Application
+      case 2 => TagClass.ContextSpecific
+      case 3 => TagClass.Private
+    }
+    tagConstructed = (firstTagByte & 0x20) != 0
+    if ((firstTagByte & 0x1f) != 0x1f) {
+      tagType = firstTagByte & 0x1f
+    } else {
+      var value = 0
+      var tagByte = 0x80
+      while ((tagByte & 0x80) != 0) {
+        if (offset >= limit || value > 0xffffff) {
+          throw new DecodingException("Bad tag number at offset " + headerStart)
+        }
+        tagByte = array(offset) & 0xff
+        offset += 1
+        value = (value << 7) | (tagByte & 0x7f)
+      }
+      tagType = value
+    }
+    if (offset >= limit) {
+      throw new DecodingException("Unexpected end of data at offset " + offset)
+    }
+    val firstLengthByte = array(offset) & 0xff
+    offset += 1
+    if (firstLengthByte < 0x80) {
+      length = firstLengthByte
+    } else {
+      val lengthLength = firstLengthByte & 0x7f
+      if (lengthLength == 0 || lengthLength > 4 || offset + lengthLength > limit) {
+        throw new DecodingException("Unsupported length encoding at offset " + headerStart)
+      }
+      var value = 0
+      var i = 0
+      while (i < lengthLength) {
+        value = (value << 8) | (array(offset) & 0xff)
+        offset += 1
+        i += 1
+      }
+      length = value
+    }
+    if (length < 0 || length > limit - offset) {
+      throw new DecodingException("Length overruns enclosing value at offset " + headerStart)
+    }
+  }
+}
+
+trait FastBerDecoder {
+  type AsnBoolean
+  type AsnInteger
+  type AsnNull
+  type AsnOctetString
+  type AsnPrintableString
+  type AsnReal
+
+  // Tag-Length Header
+
+  def expect(in: BerCursor, limit: Int, tagType: Int): Int = {
+    in.readHeader(limit)
+    if (in.tagType != tagType) {
+      throw new DecodingException(
+          "Expected tag " + tagType + " but found " + in.tagType + " at offset " + in.headerStart)
+    }
+    in.length
+  }
+
+  def optional(in: BerCursor, limit: Int, tagType: Int): Boolean = {
+    if (!in.hasMore(limit)) {
+      false
+    } else {
+      in.readHeader(limit)
+      if (in.tagType == tagType) {
+        true
+      } else {
+        in.unread()
+        false
+      }
+    }
+  }
+
+  def finish(in: BerCursor, limit: Int): Unit = {
+    if (in.offset != limit) {
+      throw new DecodingException("Unexpected trailing data at offset " + in.offset)
+    }
+  }
+
+  // Null
+  def rawNull(in: BerCursor, length: Int): Unit = {
+    if (length != 0) {
+      throw new DecodingException("Null value encoding must be zero length")
+    }
+  }
+
+  // Boolean
+  def rawBoolean(in: BerCursor, length: Int): Boolean = {
+    if (length != 1) {
+      throw new DecodingException("Boolean encoding must have length of 1 byte")
+    }
+    val value = in.array(in.offset) != 0
+    in.offset += 1
+    value
+  }
+
+  // Integer
+  def rawInteger(in: BerCursor, length: Int): Long = {
+    if (length < 1 || length > 8) {
+      throw new DecodingException("Integer encoding must have length of 1 to 8 bytes")
+    }
+    val array = in.array
+    val offset = in.offset
+    var value = array(offset).toLong
+    var i = 1
+    while (i < length) {
+      value = (value << 8) | (array(offset + i) & 0xff)
+      i += 1
+    }
+    in.offset += length
+    value
+  }
+
+  // Enumeration
+  def rawEnumeration(in: BerCursor, length: Int): Long = rawInteger(in, length)
+
+  // Real
+  def rawReal(in: BerCursor, length: Int): Double = {
+    val start = in.offset
+    in.offset = start + length
+    BerReal.decode(in.array, start, length)
+  }
+
+  def asnBoolean(in: BerCursor, length: Int): AsnBoolean = mkAsnBoolean(rawBoolean(in, length))
+  def asnInteger(in: BerCursor, length: Int): AsnInteger = mkAsnInteger(rawInteger(in, length))
+  def asnNull(in: BerCursor, length: Int): AsnNull = mkAsnNull(rawNull(in, length))
+  def asnReal(in: BerCursor, length: Int): AsnReal = mkAsnReal(rawReal(in, length))
+
+  def asnOctetString(in: BerCursor, length: Int): AsnOctetString = {
+    val value = mkAsnOctetString(in.array, in.offset, length)
+    in.offset += length
+    value
+  }
+
+  def asnPrintableString(in: BerCursor, length: Int): AsnPrintableString = {
+    val value = mkAsnPrintableString(in.array, in.offset, length)
+    in.offset += length
+    value
+  }
+
+  def mkAsnBoolean(value: Boolean): AsnBoolean
+  def mkAsnInteger(value: Long): AsnInteger
+  def mkAsnNull(value: Unit): AsnNull
+  def mkAsnOctetString(value: Array[Byte], offset: Int, length: Int): AsnOctetString
+  def mkAsnPrintableString(value: Array[Byte], offset: Int, length: Int): AsnPrintableString
+  def mkAsnReal(value: Double): AsnReal
+}
@@ -43,11 +43,21 @@ case class InputStreamBuffer(
     }
   }
   
+  /**
+   * Reads up to length bytes, looping over short reads.  Returns fewer than
+   * length bytes only at end of stream.
+   */
   def read(length: Int): Int = {
-    ensureRemainingCapacity(index + length)
-    val readLength = is.read(buffer, index, length)
-    val oldIndex = index
-    index += readLength
+    ensureRemainingCapacity(length)
+    var readLength = 0
+    while (readLength < length) {
+      val result = is.read(buffer, index, length - readLength)
+      if (result == -1) {
+        return readLength
+      }
+      index += result
+      readLength += result
+    }
     return readLength
   }
 }
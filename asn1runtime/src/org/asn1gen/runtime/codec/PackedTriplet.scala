@@ -0,0 +1,72 @@
+package org.asn1gen.runtime.codec
+
+import org.asn1gen.runtime._
+
+/**
+ * Packs a triplet header into a single Long so that decoders can pass headers
+ * around without allocating.  The low 32 bits hold the length, bits 32 to 59
+ * the tag number, bit 60 the constructed flag and bits 61 and 62 the tag
+ * class.  The sign bit is never set by apply, so Absent can mark the end of a
+ * value.
+ */
+object PackedTriplet {
+  final val Absent = -1L
+  
+  final val MaxTagType = 0x0fffffff
+  
+  def apply(tagClass: TagClass, constructed: Boolean, tagType: Int, length: Int): Long =
+    apply(tagClass.value, constructed, tagType, length)
+  
+  def apply(tagClassValue: Int, constructed: Boolean, tagType: Int, length: Int): Long = {
+    assert(tagType >= 0 && tagType <= MaxTagType && length >= 0)
+    ( (tagClassValue & 0x3).toLong << 61
+      | (if (constructed) 1L << 60 else 0L)
+      | tagType.toLong << 32
+      | length.toLong )
+  }
+  
+  @inline def isAbsent(header: Long): Boolean = header < 0
+  
+  @inline def tagClassValue(header: Long): Int = ((header >>> 61) & 0x3).toInt
+  
+  def tagClass(header: Long): TagClass = TagClass.fromValue(tagClassValue(header))
+  
+  @inline def constructed(header: Long): Boolean = (header & (1L << 60)) != 0
+  
+  @inline def primitive(header: Long): Boolean = !constructed(header)
+  
+  @inline def tagType(header: Long): Int = ((header >>> 32) & MaxTagType).toInt
+  
+  @inline def length(header: Long): Int = header.toInt
+  
+  @inline def contextSpecific(header: Long): Boolean = tagClassValue(header) == 2
+  
+  /**
+   * The tag class and number as one Int, so a header can be matched against
+   * an expected tag with a single comparison.
+   */
+  @inline def tagKey(header: Long): Int = (tagClassValue(header) << 28) | tagType(header)
+  
+  def tagKey(tagClass: TagClass, tagType: Int): Int = (tagClass.value << 28) | tagType
+  
+  @inline def hasTag(header: Long, tagClass: TagClass, tagType: Int): Boolean =
+    header >= 0 && tagClassValue(header) == tagClass.value && this.tagType(header) == tagType
+  
+  def describes(header: Long, template: AsnNull): Boolean =
+    primitive(header) && tagType(header) == 5 && length(header) == 0
+  
+  def describes(header: Long, template: AsnBoolean): Boolean =
+    primitive(header) && tagType(header) == 1 && length(header) == 1
+  
+  def describes(header: Long, template: AsnInteger): Boolean =
+    primitive(header) && tagType(header) == 2 && length(header) > 0
+  
+  def describes(header: Long, template: AsnSequence): Boolean =
+    constructed(header) && tagClassValue(header) == 0 && tagType(header) == 16
+  
+  def toTriplet(header: Long): Triplet =
+    Triplet(tagClass(header), constructed(header), tagType(header), length(header))
+  
+  def toTagHeader(header: Long): TagHeader =
+    TagHeader(tagClass(header), constructed(header), tagType(header))
+}
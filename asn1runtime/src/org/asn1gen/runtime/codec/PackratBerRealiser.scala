@@ -16,4 +16,9 @@ trait PackratBerRealiser {
   def mkAsnOctetString(value: List[Byte]): AsnOctetString = value
   def mkAsnPrintableString(value: List[Byte]): AsnPrintableString = new String(value.toArray[Byte])
   def mkAsnReal(value: Double): AsnReal = value
+  
+  def mkAsnOctetString(value: Array[Byte], offset: Int, length: Int): AsnOctetString =
+    value.slice(offset, offset + length).toList
+  def mkAsnPrintableString(value: Array[Byte], offset: Int, length: Int): AsnPrintableString =
+    new String(value, offset, length)
 }
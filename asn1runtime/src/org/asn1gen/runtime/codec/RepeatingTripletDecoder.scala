@@ -1,17 +1,34 @@
 package org.asn1gen.runtime.codec
 
 class RepeatingTripletDecoder(is: DecodingInputStream, endIndex: Int) extends BerDecoderBase {
-  var triplet: Option[Triplet] = None
+  private var header: Long = PackedTriplet.Absent
   
-  def decode(f: PartialFunction[Option[Triplet], Unit]) = {
+  def this(is: DecodingInputStream) = this(is, is.limit)
+  
+  def triplet: Option[Triplet] =
+    if (PackedTriplet.isAbsent(header)) None else Some(PackedTriplet.toTriplet(header))
+  
+  /**
+   * The pending header, read on demand, or PackedTriplet.Absent at the end of
+   * the enclosing value.
+   */
+  def peek: Long = {
     assert(is.index <= endIndex)
-    if (triplet == None && is.index < endIndex) {
-      triplet = Some(decodeTriplet(is))
+    if (PackedTriplet.isAbsent(header) && is.index < endIndex) {
+      header = decodePackedTriplet(is)
     }
+    header
+  }
+  
+  def consume(): Unit = {
+    header = PackedTriplet.Absent
+  }
+  
+  def decode(f: PartialFunction[Option[Triplet], Unit]) = {
+    peek
     val result = f.lift(triplet)
     if (result != None) {
-      triplet = None
+      consume()
     }
   }
 }
-
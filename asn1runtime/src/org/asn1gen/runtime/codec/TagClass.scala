@@ -9,4 +9,8 @@ object TagClass {
   object Application extends TagClass(1)
   object ContextSpecific extends TagClass(2)
   object Private extends TagClass(3)
+  
+  private val values = Array[TagClass](Universal, Application, ContextSpecific, Private)
+  
+  def fromValue(value: Int): TagClass = values(value & 0x3)
 }
@@ -9,6 +9,8 @@ case class Triplet(
     length: Int) {
   def primitive = !constructed
   
+  def packed: Long = PackedTriplet(tagClass, constructed, tagType, length)
+  
   def contextSpecific = tagClass == TagClass.ContextSpecific
   
   def describes(template: AsnNull): Boolean =
@@ -0,0 +1,143 @@
+package org.asn1gen.runtime.codec
+
+import java.io._
+
+/**
+ * Reads tag-length-value triplets from a stream through a single buffer that
+ * is reused for every triplet.  Bytes are read from the stream in bulk, so the
+ * reader may consume bytes beyond the current triplet.  The window returned by
+ * readTripletWindow refers into the shared buffer and is only valid until the
+ * next call.  Triplets longer than maxLength bytes are rejected before any
+ * buffer is grown to hold them.
+ */
+class TripletReader(is: InputStream, initialCapacity: Int = 256, maxLength: Int = TripletReader.DefaultMaxLength) {
+  private var buffer = new Array[Byte](initialCapacity max 16)
+  private var start = 0
+  private var limit = 0
+
+  def available: Int = limit - start
+
+  def atEnd: Boolean = !fill(1)
+
+  def readTripletWindow(): OctetWindow = {
+    // Read tag bytes
+    var offset = 0
+    val firstTagByte = byteAt(offset)
+    offset += 1
+    if ((firstTagByte & 0x1f) == 0x1f) {
+      while ((byteAt(offset) & 0x80) != 0) {
+        offset += 1
+      }
+      offset += 1
+    }
+
+    // Read length bytes
+    val lengthByte = byteAt(offset) & 0xff
+    offset += 1
+    val length = (
+      if ((lengthByte & 0x80) != 0) {
+        val lengthSize = lengthByte & 0x7f
+        if (lengthSize == 0) {
+          throw new Exception("Indefinite length currently not supported")
+        }
+        if (lengthSize > 4) {
+          throw new Exception("Length of " + lengthSize + " bytes currently not supported")
+        }
+
+        var partialLength = 0
+        var i = 0
+        while (i < lengthSize) {
+          partialLength = (partialLength << 8) | (byteAt(offset) & 0xff)
+          offset += 1
+          i += 1
+        }
+        if (partialLength < 0 || partialLength > Int.MaxValue - offset) {
+          throw new Exception("Length " + (partialLength & 0xffffffffL) + " currently not supported")
+        }
+
+        partialLength
+      } else {
+        lengthByte
+      }
+    )
+
+    // Read the value bytes
+    checkLength(offset + length)
+    if (!fill(offset + length)) {
+      throw new IndexOutOfBoundsException(
+          "(length = " + length + ") == (readLength == " + (available - offset) + ")")
+    }
+    val window = OctetWindow(buffer, start, offset + length)
+    start += offset + length
+    window
+  }
+
+  def readByte(): Byte = {
+    val octet = byteAt(0)
+    start += 1
+    octet
+  }
+
+  /**
+   * Reads the next length bytes into a new array that the caller may keep.
+   */
+  def readBytes(length: Int): Array[Byte] = {
+    checkLength(length)
+    if (!fill(length)) {
+      throw new EOFException()
+    }
+    val bytes = new Array[Byte](length)
+    System.arraycopy(buffer, start, bytes, 0, length)
+    start += length
+    bytes
+  }
+
+  private def checkLength(length: Int): Unit = {
+    if (length > maxLength) {
+      throw new Exception("Length " + length + " exceeds the maximum of " + maxLength)
+    }
+  }
+
+  private def byteAt(offset: Int): Byte = {
+    if (!fill(offset + 1)) {
+      throw new EOFException()
+    }
+    buffer(start + offset)
+  }
+
+  /**
+   * Ensures at least count unconsumed bytes are buffered, reading as many
+   * bytes as the stream offers per call.  Consumed bytes are only compacted
+   * away when the buffer runs out of room.  Returns false at end of stream.
+   */
+  private def fill(count: Int): Boolean = {
+    if (start + count > buffer.length) {
+      compact()
+      if (count > buffer.length) {
+        val newBuffer = new Array[Byte](count max (buffer.length * 2))
+        System.arraycopy(buffer, 0, newBuffer, 0, limit)
+        buffer = newBuffer
+      }
+    }
+    while (limit - start < count) {
+      val readLength = is.read(buffer, limit, buffer.length - limit)
+      if (readLength == -1) {
+        return false
+      }
+      limit += readLength
+    }
+    true
+  }
+
+  private def compact(): Unit = {
+    if (start > 0) {
+      System.arraycopy(buffer, start, buffer, 0, limit - start)
+      limit -= start
+      start = 0
+    }
+  }
+}
+
+object TripletReader {
+  val DefaultMaxLength: Int = 16 << 20
+}
@@ -0,0 +1,88 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec._
+
+/**
+ * Reads the components of a constructed value one triplet at a time so that
+ * generated handlers can dispatch each component to its callback as soon as
+ * its header has been read.  Components that are not claimed by the time
+ * finish is called, such as extension additions, are skipped.
+ */
+class ComponentReader(is: DecodingInputStream, endIndex: Int) extends BerDecoderBase {
+  private var pending: Long = PackedTriplet.Absent
+  
+  def hasNext: Boolean = !PackedTriplet.isAbsent(pending) || is.index < endIndex
+  
+  /**
+   * The header of the next component packed as by PackedTriplet, or
+   * PackedTriplet.Absent at the end of the enclosing value.
+   */
+  def peek: Long = {
+    if (PackedTriplet.isAbsent(pending) && is.index < endIndex) {
+      val header = decodePackedTriplet(is)
+      if (PackedTriplet.length(header) > endIndex - is.index) {
+        throw new DecodingException("Component overruns enclosing value at index " + is.index)
+      }
+      pending = header
+    }
+    pending
+  }
+  
+  def field(tagClass: TagClass, tagType: Int, optional: Boolean)(f: Int => Unit): Boolean = {
+    val header = peek
+    if (PackedTriplet.hasTag(header, tagClass, tagType)) {
+      consume(header) { f(PackedTriplet.length(header)) }
+      true
+    } else if (optional) {
+      false
+    } else {
+      throw new DecodingException(
+          "Expected component with tag " + tagType + " but found " + describe(header) + " at index " + is.index)
+    }
+  }
+  
+  def choice(optional: Boolean, accepts: Long => Boolean)(f: Long => Unit): Boolean = {
+    val header = peek
+    if (!PackedTriplet.isAbsent(header) && accepts(header)) {
+      consume(header) { f(header) }
+      true
+    } else if (optional) {
+      false
+    } else {
+      throw new DecodingException("Unexpected choice alternative " + describe(header) + " at index " + is.index)
+    }
+  }
+  
+  def any(optional: Boolean)(f: Long => Unit): Boolean = choice(optional, { _ => true })(f)
+  
+  def skip(): Unit = {
+    val header = peek
+    if (!PackedTriplet.isAbsent(header)) {
+      consume(header) { is.skipFully(PackedTriplet.length(header)) }
+    }
+  }
+  
+  def finish(): Unit = {
+    while (hasNext) {
+      skip()
+    }
+    if (is.index != endIndex) {
+      throw new DecodingException("Components overran enclosing value at index " + is.index)
+    }
+  }
+  
+  private def consume(header: Long)(f: => Unit): Unit = {
+    pending = PackedTriplet.Absent
+    val oldLimit = is.pushLimit(PackedTriplet.length(header))
+    f
+    is.popLimit(oldLimit)
+  }
+  
+  private def describe(header: Long): String = {
+    if (PackedTriplet.isAbsent(header)) {
+      "end of value"
+    } else {
+      "tag " + PackedTriplet.tagType(header) + " of class " + PackedTriplet.tagClassValue(header)
+    }
+  }
+}
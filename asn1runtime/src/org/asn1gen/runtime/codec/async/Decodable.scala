@@ -1,7 +1,9 @@
 package org.asn1gen.runtime.codec.async
 
+import org.asn1gen.runtime.codec.BerDecoderBase
 import org.asn1gen.runtime.codec.DecodingException
 import org.asn1gen.runtime.codec.DecodingInputStream
+import org.asn1gen.runtime.codec.PackedTriplet
 
 trait Decodable {
   def decode(is: DecodingInputStream, length: Int): Unit
@@ -14,4 +16,45 @@ trait Decodable {
       condition
     }
   }
+  
+  def readSigned(is: DecodingInputStream, length: Int): Long = {
+    require(length >= 1 && length <= 8, {"Signed encoding must have length of 1 to 8 bytes"})
+    is.readSignedLongBE(length)
+  }
+  
+  def readUnsigned(is: DecodingInputStream, length: Int): Long = {
+    require(length >= 0 && length <= 8, {"Unsigned encoding must have length of 0 to 8 bytes"})
+    is.readLongBE(length)
+  }
+  
+  def readBytes(is: DecodingInputStream, length: Int): Array[Byte] = {
+    val buffer = new Array[Byte](length)
+    is.readFully(buffer)
+    buffer
+  }
+  
+  def skip(is: DecodingInputStream, length: Int): Unit = {
+    is.skipFully(length)
+  }
+  
+  def readHeader(is: DecodingInputStream): Long = Decodable.decodePackedTriplet(is)
+  
+  def decodeComponents(is: DecodingInputStream, length: Int)(f: ComponentReader => Unit): Unit = {
+    val oldLimit = is.pushLimit(length)
+    val components = new ComponentReader(is, is.limit)
+    f(components)
+    components.finish()
+    is.popLimit(oldLimit)
+  }
+  
+  def decodeExplicit(is: DecodingInputStream, length: Int)(f: Int => Unit): Unit = {
+    val oldLimit = is.pushLimit(length)
+    val innerLength = PackedTriplet.length(readHeader(is))
+    val innerLimit = is.pushLimit(innerLength)
+    f(innerLength)
+    is.popLimit(innerLimit)
+    is.popLimit(oldLimit)
+  }
 }
+
+object Decodable extends BerDecoderBase
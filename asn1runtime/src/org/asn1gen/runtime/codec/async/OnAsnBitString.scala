@@ -0,0 +1,32 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.ImmutableBits
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnBitString(
+    decoder: (OnAsnBitString, DecodingInputStream, Int) => Unit,
+    value: ImmutableBits => Unit) extends Decodable {
+  type Decoder = (OnAsnBitString, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnBitString =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (ImmutableBits => Unit) => (ImmutableBits => Unit)): OnAsnBitString =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    require(length != 0, {"Zero length bit string found."})
+    val unusedBits = is.read()
+    require(unusedBits < 8 && (length > 1 || unusedBits == 0), {"Invalid AsnBitString unused bit count"})
+    val bytes = readBytes(is, length - 1)
+    val action: ImmutableBits => Unit = this.value
+    action(ImmutableBits.fromBytes(bytes, 0, bytes.length, unusedBits))
+  }
+}
+
+object OnAsnBitString extends OnAsnBitString({_.decodeToValue(_, _)}, {_=>}){
+}
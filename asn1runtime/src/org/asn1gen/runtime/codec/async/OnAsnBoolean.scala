@@ -20,12 +20,7 @@ case class OnAsnBoolean(
   
   def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
     require(length == 1, {"Invalid AsnBoolean encoding size"})
-    val intValue = {
-      val buffer = new Array[Byte](1)
-      val bytesRead = is.read(buffer)
-      assert(bytesRead == length)
-      buffer(0) != 0
-    }
+    val intValue = is.read() != 0
     val action: Boolean => Unit = this.value
     action(intValue)
   }
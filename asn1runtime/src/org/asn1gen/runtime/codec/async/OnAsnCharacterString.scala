@@ -0,0 +1,34 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnCharacterString(
+    decoder: (OnAsnCharacterString, DecodingInputStream, Int) => Unit,
+    value: String => Unit,
+    charset: String) extends Decodable {
+  type Decoder = (OnAsnCharacterString, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnCharacterString =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (String => Unit) => (String => Unit)): OnAsnCharacterString =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    val string = new String(readBytes(is, length), charset)
+    val action: String => Unit = this.value
+    action(string)
+  }
+}
+
+object OnAsnCharacterString extends OnAsnCharacterString({_.decodeToValue(_, _)}, {_=>}, "ISO-8859-1"){
+  val utf8: OnAsnCharacterString = this.copy(charset = "UTF-8")
+  
+  val bmp: OnAsnCharacterString = this.copy(charset = "UTF-16BE")
+  
+  val universal: OnAsnCharacterString = this.copy(charset = "UTF-32BE")
+}
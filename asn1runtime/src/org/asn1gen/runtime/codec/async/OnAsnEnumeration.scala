@@ -0,0 +1,29 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnEnumeration(
+    decoder: (OnAsnEnumeration, DecodingInputStream, Int) => Unit,
+    value: Long => Unit) extends Decodable {
+  type Decoder = (OnAsnEnumeration, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnEnumeration =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (Long => Unit) => (Long => Unit)): OnAsnEnumeration =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    require(length != 0, {"Zero length enumeration found."})
+    val longValue = readSigned(is, length)
+    val action: Long => Unit = this.value
+    action(longValue)
+  }
+}
+
+object OnAsnEnumeration extends OnAsnEnumeration({_.decodeToValue(_, _)}, {_=>}){
+}
@@ -19,16 +19,7 @@ case class OnAsnInteger(
   
   def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
     require(length != 0, {"Zero length integer found."})
-    val intValue = {
-      val buffer = new Array[Byte](length)
-      val bytesRead = is.read(buffer)
-      assert(bytesRead == length)
-      var acc = if (buffer(0) >= 0) 0L else -1L
-      buffer foreach { byte =>
-        acc = (acc << 8) | byte
-      }
-      acc
-    }
+    val intValue = readSigned(is, length)
     val action: Long => Unit = this.value
     action(intValue)
   }
@@ -0,0 +1,28 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnNull(
+    decoder: (OnAsnNull, DecodingInputStream, Int) => Unit,
+    value: Unit => Unit) extends Decodable {
+  type Decoder = (OnAsnNull, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnNull =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (Unit => Unit) => (Unit => Unit)): OnAsnNull =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    require(length == 0, {"Invalid AsnNull encoding size"})
+    val action: Unit => Unit = this.value
+    action(())
+  }
+}
+
+object OnAsnNull extends OnAsnNull({_.decodeToValue(_, _)}, {_=>}){
+}
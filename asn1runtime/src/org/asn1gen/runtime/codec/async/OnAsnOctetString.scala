@@ -0,0 +1,28 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnOctetString(
+    decoder: (OnAsnOctetString, DecodingInputStream, Int) => Unit,
+    value: Array[Byte] => Unit) extends Decodable {
+  type Decoder = (OnAsnOctetString, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnOctetString =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (Array[Byte] => Unit) => (Array[Byte] => Unit)): OnAsnOctetString =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    val bytes = readBytes(is, length)
+    val action: Array[Byte] => Unit = this.value
+    action(bytes)
+  }
+}
+
+object OnAsnOctetString extends OnAsnOctetString({_.decodeToValue(_, _)}, {_=>}){
+}
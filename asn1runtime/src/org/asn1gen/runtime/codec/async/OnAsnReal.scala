@@ -0,0 +1,29 @@
+package org.asn1gen.runtime.codec.async
+
+import org.asn1gen.runtime.codec.BerReal
+import org.asn1gen.runtime.codec.DecodingInputStream
+
+case class OnAsnReal(
+    decoder: (OnAsnReal, DecodingInputStream, Int) => Unit,
+    value: Double => Unit) extends Decodable {
+  type Decoder = (OnAsnReal, DecodingInputStream, Int) => Unit
+  
+  def decoder(transform: Decoder => Decoder): OnAsnReal =
+    this.copy(decoder = transform(this.decoder))
+  
+  def value(transform: (Double => Unit) => (Double => Unit)): OnAsnReal =
+    this.copy(value = transform(this.value))
+  
+  def decode(is: DecodingInputStream, length: Int): Unit = {
+    this.decoder(this, is, length)
+  }
+  
+  def decodeToValue(is: DecodingInputStream, length: Int): Unit = {
+    val doubleValue = BerReal.decode(readBytes(is, length), 0, length)
+    val action: Double => Unit = this.value
+    action(doubleValue)
+  }
+}
+
+object OnAsnReal extends OnAsnReal({_.decodeToValue(_, _)}, {_=>}){
+}
@@ -1,4 +1,5 @@
 package org.asn1gen.runtime.meta
 
 trait AsnMember {
+  def name: String
 }
@@ -3,5 +3,14 @@ package org.asn1gen.runtime.meta
 trait AsnMeta {
   def name: String
   
-  def children: Map[String, AsnMember] = Map.empty
+  /**
+   * The members in declaration order.  The position of a member is the index
+   * accepted by _child(index: Int) on values of the described type, so
+   * generic code can walk a value without looking anything up by name.
+   */
+  def members: IndexedSeq[AsnMember] = IndexedSeq.empty
+  
+  def children: Map[String, AsnMember] = Map(members.map { member => member.name -> member }: _*)
+  
+  def memberIndex(name: String): Int = members.indexWhere(_.name == name)
 }
@@ -63,9 +63,13 @@ object SimplePrinter extends Extras {
         val desc = asnSequence._desc
         out.print(desc.name)
         out.indent {
-          desc.children.foreach { case (name, _: _meta_.AsnSequenceMember) =>
+          val members = desc.members
+          var index = 0
+          while (index < members.length) {
+            val name = members(index).name
             out.break()
-            val child = asnSequence._child(name)
+            val child = asnSequence._child(index)
+            index += 1
             child match {
               case None =>
               case Some(subValue: _rt_.AsnSequence) => {